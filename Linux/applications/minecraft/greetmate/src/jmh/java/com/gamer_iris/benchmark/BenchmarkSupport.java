@@ -0,0 +1,149 @@
+/*
+######################################################################################################################################################
+# ファイル   : BenchmarkSupport.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.benchmark;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.cache.RoleRegistry;
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.model.RoleData;
+import com.gamer_iris.repository.PlayerRoleDao;
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.mockito.MockedStatic;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import static org.mockito.Mockito.*;
+
+/**
+ * ベンチマーク共通の準備処理（Bukkit・DAO層をスタブに置き換えて対象処理のみを計測する）
+ */
+public class BenchmarkSupport {
+
+    private static YamlConfiguration config;
+
+    /**
+     * config.yml を読み込み、モックの Main を通じて ConfigManager を初期化
+     * 
+     * @return 読み込んだ設定（ベンチマークごとに値を上書きする場合に使用）
+     */
+    public static synchronized YamlConfiguration initConfig() {
+        if (config != null) {
+            return config;
+        }
+
+        File dataFolder = new File("target/jmh");
+        dataFolder.mkdirs();
+
+        YamlConfiguration loaded = YamlConfiguration.loadConfiguration(new InputStreamReader(
+                BenchmarkSupport.class.getResourceAsStream("/config.yml"), StandardCharsets.UTF_8));
+        Main plugin = mock(Main.class);
+        when(plugin.getDataFolder()).thenReturn(dataFolder);
+        when(plugin.getConfig()).thenReturn(loaded);
+        setStatic(Main.class, "instance", plugin);
+
+        ConfigManager.init(plugin);
+        config = loaded;
+        return config;
+    }
+
+    /**
+     * DAOをスタブに置き換えて指定件数のロールを RoleRegistry へ読み込み
+     * 
+     * @param count ロール件数
+     */
+    public static synchronized void loadRoles(int count) {
+        initConfig();
+
+        List<RoleData> roles = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            roles.add(new RoleData(i + 1, i, "role" + i,
+                    "{role} の %s さんが {server} にログインしました！",
+                    "{role} の %s さんがログアウトしました！",
+                    "%s さんがキックされました！",
+                    "%s さんがBANされました！",
+                    new Date(0)));
+        }
+
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class)) {
+            daoMock.when(PlayerRoleDao::findRolesLastUpdated).thenReturn(new Date(0));
+            daoMock.when(PlayerRoleDao::getAllRoles).thenReturn(roles);
+            RoleRegistry.load();
+        }
+    }
+
+    /**
+     * 指定プレイヤーがオンラインであるとみなすサーバーを Bukkit に設定
+     * 
+     * @param players オンラインプレイヤー
+     */
+    public static void installServer(Collection<? extends Player> players) {
+        Server server = (Server) Proxy.newProxyInstance(Server.class.getClassLoader(), new Class<?>[] { Server.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getOnlinePlayers" -> players;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "BenchmarkServer";
+                    default -> null;
+                });
+        // Bukkit.setServer は二重設定を拒否し起動メッセージも出力するため、フィールドを直接差し替える
+        setStatic(Bukkit.class, "server", server);
+    }
+
+    /**
+     * 受信したメッセージ数を数えるだけのプレイヤーを生成
+     * 
+     * @param name     プレイヤー名
+     * @param received 受信数の加算先
+     * @return プレイヤー
+     */
+    public static Player player(String name, LongAdder received) {
+        return (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[] { Player.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "sendMessage" -> {
+                        received.increment();
+                        yield null;
+                    }
+                    case "getName" -> name;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> name;
+                    default -> null;
+                });
+    }
+
+    /**
+     * static フィールドへ値を設定
+     * 
+     * @param type  対象クラス
+     * @param name  フィールド名
+     * @param value 設定値
+     */
+    private static void setStatic(Class<?> type, String name, Object value) {
+        try {
+            Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(null, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(type.getSimpleName() + "." + name + " を設定できません", e);
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+######################################################################################################################################################
+# ファイル   : CacheExpiryBenchmark.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   従来方式の有効期限を参照のたびに設定ファイルから取得
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.cache;
+
+import com.gamer_iris.benchmark.BenchmarkSupport;
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.model.PlayerData;
+import com.gamer_iris.notification.GreetingTemplate;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.openjdk.jmh.annotations.*;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * キャッシュの有効期限判定を、従来方式（currentTimeMillis と config.yml の値の参照）と期限時刻方式（nanoTime との比較）で比較するベンチマーク
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-XX:+EnableDynamicAgentLoading")
+@State(Scope.Benchmark)
+public class CacheExpiryBenchmark {
+
+    private YamlConfiguration config;
+    private long timestampMillis;
+    private long deadlineNanos;
+    private UUID cachedUuid;
+
+    /**
+     * 判定対象の時刻とキャッシュ済みプレイヤーを準備
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.loadRoles(1);
+        config = BenchmarkSupport.initConfig();
+
+        timestampMillis = System.currentTimeMillis();
+        deadlineNanos = System.nanoTime() + ConfigManager.getCacheExpireNanos();
+        cachedUuid = UUID.randomUUID();
+        UserGreetingCacheManager.buildAndCache(new PlayerData(1, "Iris", 0, cachedUuid, new Date()));
+    }
+
+    /**
+     * 準備したキャッシュを削除
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        UserGreetingCacheManager.remove(cachedUuid);
+    }
+
+    /**
+     * 従来方式：経過秒数を算出し、参照のたびに config.yml の値を取得して比較
+     * 
+     * @return 期限切れならtrue
+     */
+    @Benchmark
+    public boolean legacyElapsedSeconds() {
+        long elapsed = (System.currentTimeMillis() - timestampMillis) / 1000;
+        return elapsed > config.getInt("cache.expireSeconds");
+    }
+
+    /**
+     * 期限時刻方式：登録時に算出した期限時刻と現在時刻を比較
+     * 
+     * @return 期限切れならtrue
+     */
+    @Benchmark
+    public boolean nanoDeadline() {
+        return System.nanoTime() - deadlineNanos > 0;
+    }
+
+    /**
+     * キャッシュ参照全体（期限時刻方式での判定を含む）
+     * 
+     * @return テンプレート
+     */
+    @Benchmark
+    public GreetingTemplate hitLookup() {
+        return UserGreetingCacheManager.getLoginTemplate(cachedUuid);
+    }
+
+}
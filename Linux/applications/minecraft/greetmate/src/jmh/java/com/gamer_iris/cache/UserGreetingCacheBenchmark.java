@@ -0,0 +1,141 @@
+/*
+######################################################################################################################################################
+# ファイル   : UserGreetingCacheBenchmark.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.cache;
+
+import com.gamer_iris.benchmark.BenchmarkSupport;
+import com.gamer_iris.model.PlayerData;
+import com.gamer_iris.notification.GreetingTemplate;
+import org.openjdk.jmh.annotations.*;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserGreetingCacheManager の参照性能を計測するベンチマーク（複数スレッドからの同時参照を含む）
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-XX:+EnableDynamicAgentLoading")
+@State(Scope.Benchmark)
+public class UserGreetingCacheBenchmark {
+
+    private static final int ROLE_COUNT = 8;
+
+    @Param({ "1000", "10000" })
+    public int playerCount;
+
+    private UUID[] cached;
+    private UUID[] missing;
+
+    /**
+     * スレッドごとの参照位置
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+
+        /**
+         * 次の参照位置を取得
+         * 
+         * @param length 配列長
+         * @return 添字
+         */
+        int next(int length) {
+            int current = index;
+            index = current + 1 == length ? 0 : current + 1;
+            return current;
+        }
+    }
+
+    /**
+     * ロールを読み込み、指定人数分のキャッシュを構築
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.loadRoles(ROLE_COUNT);
+
+        cached = new UUID[playerCount];
+        missing = new UUID[playerCount];
+        Date now = new Date();
+        for (int i = 0; i < playerCount; i++) {
+            cached[i] = UUID.randomUUID();
+            missing[i] = UUID.randomUUID();
+            UserGreetingCacheManager.buildAndCache(new PlayerData(i + 1, "Player" + i, i % ROLE_COUNT, cached[i], now));
+        }
+    }
+
+    /**
+     * 構築したキャッシュを削除
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (UUID uuid : cached) {
+            UserGreetingCacheManager.remove(uuid);
+        }
+    }
+
+    /**
+     * キャッシュ済みプレイヤーの参照（単一スレッド）
+     * 
+     * @param cursor 参照位置
+     * @return テンプレート
+     */
+    @Benchmark
+    @Threads(1)
+    public GreetingTemplate hit(Cursor cursor) {
+        return UserGreetingCacheManager.getLoginTemplate(cached[cursor.next(cached.length)]);
+    }
+
+    /**
+     * キャッシュ済みプレイヤーの参照（8スレッド同時）
+     * 
+     * @param cursor 参照位置
+     * @return テンプレート
+     */
+    @Benchmark
+    @Threads(8)
+    public GreetingTemplate hitContended(Cursor cursor) {
+        return UserGreetingCacheManager.getLoginTemplate(cached[cursor.next(cached.length)]);
+    }
+
+    /**
+     * 未登録プレイヤーの参照（8スレッド同時）
+     * 
+     * @param cursor 参照位置
+     * @return テンプレート（常にnull）
+     */
+    @Benchmark
+    @Threads(8)
+    public GreetingTemplate missContended(Cursor cursor) {
+        return UserGreetingCacheManager.getLoginTemplate(missing[cursor.next(missing.length)]);
+    }
+
+    /**
+     * 参照と登録・削除が混在する場合（8スレッド同時、8回に1回入れ替え）
+     * 
+     * @param cursor 参照位置
+     * @return テンプレート
+     */
+    @Benchmark
+    @Threads(8)
+    public GreetingTemplate mixedContended(Cursor cursor) {
+        int i = cursor.next(cached.length);
+        UUID uuid = cached[i];
+        if ((i & 7) == 0) {
+            UserGreetingCacheManager.remove(uuid);
+            UserGreetingCacheManager.buildAndCache(new PlayerData(i + 1, "Player" + i, i % ROLE_COUNT, uuid, new Date()));
+        }
+        return UserGreetingCacheManager.getLoginTemplate(uuid);
+    }
+
+}
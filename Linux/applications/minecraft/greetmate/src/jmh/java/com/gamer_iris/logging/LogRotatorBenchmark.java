@@ -0,0 +1,79 @@
+/*
+######################################################################################################################################################
+# ファイル   : LogRotatorBenchmark.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.logging;
+
+import com.gamer_iris.benchmark.BenchmarkSupport;
+import org.openjdk.jmh.annotations.*;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * LogRotator の古いログ削除処理を大量のファイルを含むディレクトリで計測するベンチマーク
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-XX:+EnableDynamicAgentLoading")
+@State(Scope.Benchmark)
+public class LogRotatorBenchmark {
+
+    private static final String[] PREFIXES = { "info", "warn", "error" };
+
+    @Param({ "1000", "5000" })
+    public int fileCount;
+
+    private File logDir;
+
+    /**
+     * 保持期間内のローテート済みログと対象外のファイルを半数ずつ作成
+     * 
+     * @throws IOException 作成失敗時
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        BenchmarkSupport.initConfig();
+
+        logDir = Files.createTempDirectory("greetmate-rotator").toFile();
+        for (int i = 0; i < fileCount; i++) {
+            String name = i % 2 == 0
+                    ? String.format("%s_20261018_%06d.log", PREFIXES[i % PREFIXES.length], i)
+                    : "other_" + i + ".txt";
+            Files.createFile(new File(logDir, name).toPath());
+        }
+    }
+
+    /**
+     * 作成したディレクトリを削除
+     * 
+     * @throws IOException 削除失敗時
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(logDir.toPath())) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * 削除対象が無い状態での走査（定期ローテーションの大半はこの経路）
+     */
+    @Benchmark
+    public void deleteOldLogs() {
+        LogRotator.deleteOldLogs(logDir);
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+######################################################################################################################################################
+# ファイル   : LogWriterBenchmark.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   設定値の上書きを再読み込みで反映
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.logging;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.benchmark.BenchmarkSupport;
+import com.gamer_iris.config.ConfigManager;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LogWriter の書き込みスループットを書き込みスレッド数ごとに計測するベンチマーク
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-XX:+EnableDynamicAgentLoading")
+@State(Scope.Benchmark)
+public class LogWriterBenchmark {
+
+    private static final String MESSAGE = "[Greetmate] ベンチマーク用のログメッセージです: uuid=00000000-0000-0000-0000-000000000000";
+
+    @Param({ "BLOCK", "DROP" })
+    public String overflowPolicy;
+
+    /**
+     * キューが満杯の場合の動作を設定して書き込みスレッドを開始
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.initConfig().set("log.overflowPolicy", overflowPolicy);
+        ConfigManager.reload(Main.getInstance());
+        LogWriter.start();
+    }
+
+    /**
+     * 書き込みスレッドを停止
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        LogWriter.shutdown();
+    }
+
+    /**
+     * 1スレッドからの書き込み
+     */
+    @Benchmark
+    @Threads(1)
+    public void write1() {
+        LogWriter.writeInfo(MESSAGE);
+    }
+
+    /**
+     * 4スレッドからの同時書き込み
+     */
+    @Benchmark
+    @Threads(4)
+    public void write4() {
+        LogWriter.writeInfo(MESSAGE);
+    }
+
+    /**
+     * 16スレッドからの同時書き込み
+     */
+    @Benchmark
+    @Threads(16)
+    public void write16() {
+        LogWriter.writeInfo(MESSAGE);
+    }
+
+}
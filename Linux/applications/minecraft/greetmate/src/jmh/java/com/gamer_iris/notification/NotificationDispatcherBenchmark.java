@@ -0,0 +1,108 @@
+/*
+######################################################################################################################################################
+# ファイル   : NotificationDispatcherBenchmark.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.notification;
+
+import com.gamer_iris.benchmark.BenchmarkSupport;
+import com.gamer_iris.cache.UserGreetingCacheManager;
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.model.PlayerData;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.*;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * NotificationDispatcher のメッセージ生成とオンラインプレイヤーへの配信を計測するベンチマーク
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-XX:+EnableDynamicAgentLoading")
+@State(Scope.Benchmark)
+public class NotificationDispatcherBenchmark {
+
+    @Param({ "1", "50", "500" })
+    public int onlinePlayers;
+
+    private final LongAdder received = new LongAdder();
+    private UUID cachedUuid;
+    private UUID unknownUuid;
+    private GreetingTemplate template;
+
+    /**
+     * ロールとキャッシュを準備し、指定人数のオンラインプレイヤーを設定
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.loadRoles(4);
+
+        cachedUuid = UUID.randomUUID();
+        unknownUuid = UUID.randomUUID();
+        UserGreetingCacheManager.buildAndCache(new PlayerData(1, "Iris", 1, cachedUuid, new Date()));
+        template = UserGreetingCacheManager.getLoginTemplate(cachedUuid);
+
+        List<Player> players = new ArrayList<>(onlinePlayers);
+        for (int i = 0; i < onlinePlayers; i++) {
+            players.add(BenchmarkSupport.player("Player" + i, received));
+        }
+        BenchmarkSupport.installServer(players);
+    }
+
+    /**
+     * 準備したキャッシュを削除
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        UserGreetingCacheManager.remove(cachedUuid);
+    }
+
+    /**
+     * ロール固有テンプレートからのメッセージ生成のみ
+     * 
+     * @return 生成したメッセージ
+     */
+    @Benchmark
+    public String render() {
+        return template.render("Iris");
+    }
+
+    /**
+     * デフォルトテンプレートからのメッセージ生成のみ
+     * 
+     * @return 生成したメッセージ
+     */
+    @Benchmark
+    public String renderDefault() {
+        return ConfigManager.getDefaultLoginTemplate().render("Iris");
+    }
+
+    /**
+     * キャッシュ済みプレイヤーのログイン通知（参照・生成・全員への配信）
+     */
+    @Benchmark
+    public void broadcastCached() {
+        NotificationDispatcher.broadcastLoginMessage(cachedUuid, "Iris");
+    }
+
+    /**
+     * キャッシュが無いプレイヤーのログイン通知（デフォルトテンプレートへのフォールバック）
+     */
+    @Benchmark
+    public void broadcastDefault() {
+        NotificationDispatcher.broadcastLoginMessage(unknownUuid, "Guest");
+    }
+
+}
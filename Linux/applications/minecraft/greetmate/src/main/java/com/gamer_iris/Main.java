@@ -5,17 +5,44 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   コネクションプール停止処理の追加
+# V-003      : 2026/10/18                 Gamer-Iris   ロール情報の事前読み込みを追加
+# V-004      : 2026/10/18                 Gamer-Iris   ログの非同期出力に対応
+# V-005      : 2026/10/18                 Gamer-Iris   greetmateコマンドの登録を追加
+# V-006      : 2026/10/18                 Gamer-Iris   メトリクス出力の起動・停止を追加
+# V-007      : 2026/10/18                 Gamer-Iris   挨拶メッセージキャッシュの定期掃除を開始
+# V-008      : 2026/10/18                 Gamer-Iris   UUID列の保存形式をDAOへ設定
+# V-009      : 2026/10/18                 Gamer-Iris   リーダー選出の開始・リース解放を追加
+# V-010      : 2026/10/18                 Gamer-Iris   キャッシュ無効化通知の開始・停止を追加
+# V-011      : 2026/10/18                 Gamer-Iris   管理コマンドの実行スレッドの開始・停止を追加
+# V-012      : 2026/10/18                 Gamer-Iris   プレイヤー名索引の読み込みを追加
+# V-013      : 2026/10/18                 Gamer-Iris   ログイン判定用BAN一覧の読み込みを追加
+# V-014      : 2026/10/18                 Gamer-Iris   管理コマンドによるプレイヤー情報の遅延書き込みの開始・停止を追加
+# V-015      : 2026/10/18                 Gamer-Iris   DB障害時のローカルスナップショットの読み込み・保存と接続の復旧確認の開始・停止を追加
+# V-016      : 2026/10/18                 Gamer-Iris   停止時の書き込み反映後の通知を、スケジューラを介さない処理に差し替え
 # 
 ######################################################################################################################################################
 */
 package com.gamer_iris;
 
+import com.gamer_iris.cache.BanRegistry;
+import com.gamer_iris.cache.CacheInvalidator;
+import com.gamer_iris.cache.PlayerNameIndex;
+import com.gamer_iris.cache.RoleRegistry;
+import com.gamer_iris.cache.UserGreetingCacheManager;
 import com.gamer_iris.command.AdminCommandHandler;
+import com.gamer_iris.command.CommandPipeline;
 import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.database.DatabaseProvider;
 import com.gamer_iris.listener.PlayerEventListener;
 import com.gamer_iris.logging.LogRotator;
 import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.maintenance.LeaderElection;
 import com.gamer_iris.maintenance.MaintenanceScheduler;
+import com.gamer_iris.metrics.MetricsExporter;
+import com.gamer_iris.repository.LocalSnapshotStore;
+import com.gamer_iris.repository.PlayerWriteBehind;
+import com.gamer_iris.repository.UuidColumn;
 import com.gamer_iris.exception.CriticalException;
 import com.gamer_iris.exception.ErrorHandler;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -43,8 +70,20 @@ public class Main extends JavaPlugin {
             return;
         }
 
+        LogWriter.start();
+        MetricsExporter.start();
+        UuidColumn.configure(ConfigManager.getUuidStorage());
+        LocalSnapshotStore.start(CacheInvalidator::resync);
+        RoleRegistry.start();
+        BanRegistry.start();
+        UserGreetingCacheManager.start();
+        PlayerNameIndex.start();
+        CacheInvalidator.start();
+        PlayerWriteBehind.start(CacheInvalidator::publish);
         LogRotator.start();
+        LeaderElection.start();
         MaintenanceScheduler.start();
+        CommandPipeline.start();
 
         registerListeners();
         registerCommands();
@@ -58,8 +97,16 @@ public class Main extends JavaPlugin {
      */
     @Override
     public void onDisable() {
+        CommandPipeline.shutdown();
+        PlayerWriteBehind.stop(CacheInvalidator::publishOnShutdown);
+        LocalSnapshotStore.stop();
+        MetricsExporter.stop();
+        LeaderElection.stop();
+        CacheInvalidator.stop();
+        DatabaseProvider.shutdown();
         getLogger().info("プラグインを無効化しました。");
         LogWriter.writeInfo("[Greetmate] プラグインを無効化しました。");
+        LogWriter.shutdown();
     }
 
     /**
@@ -85,6 +132,7 @@ public class Main extends JavaPlugin {
         getCommand("greetban").setExecutor(new AdminCommandHandler());
         getCommand("greetrole").setExecutor(new AdminCommandHandler());
         getCommand("greetunban").setExecutor(new AdminCommandHandler());
+        getCommand("greetmate").setExecutor(new AdminCommandHandler());
     }
 
 }
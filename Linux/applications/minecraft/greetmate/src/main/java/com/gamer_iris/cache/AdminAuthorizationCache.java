@@ -0,0 +1,169 @@
+/*
+######################################################################################################################################################
+# ファイル   : AdminAuthorizationCache.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   期限切れのエントリの掃除を追加
+# V-003      : 2026/10/18                 Gamer-Iris   DBの取得失敗時は記録せず、参照中に削除（無効化）された場合は参照結果を記録しないよう修正
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.cache;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.exception.CriticalException;
+import com.gamer_iris.exception.ErrorHandler;
+import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.model.PlayerData;
+import com.gamer_iris.repository.PlayerRoleDao;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 管理コマンドの実行可否（ロール3または4か）をプレイヤーごとに保持するキャッシュクラス
+ * （ログイン時の挨拶メッセージ取得に合わせて登録し、ロール変更時は CacheInvalidator から削除する。有効期限は取りこぼし対策）
+ */
+public class AdminAuthorizationCache {
+
+    private static final Map<UUID, Entry> cache = new ConcurrentHashMap<>();
+    private static final AtomicLong removals = new AtomicLong();
+
+    /**
+     * 管理コマンドを実行できるかを判定（キャッシュが無いか期限切れの場合のみDBを参照）
+     * （DBの取得に失敗した場合は記録せずに実行不可とし、参照中に削除が行われた場合は古い可能性のある参照結果を記録しない）
+     * 
+     * @param uuid 実行者のUUID
+     * @return 実行できる場合true
+     */
+    public static boolean isAuthorized(UUID uuid) {
+        Entry entry = cache.get(uuid);
+        if (entry != null && entry.expiresAt - System.nanoTime() > 0) {
+            return entry.authorized;
+        }
+
+        long observed = removals.get();
+        PlayerData data;
+        try {
+            data = PlayerRoleDao.selectPlayerByUUID(uuid);
+        } catch (CriticalException e) {
+            ErrorHandler.handleCriticalError(Main.getInstance(), e.getMessage(), e);
+            return false;
+        } catch (SQLException e) {
+            LogWriter.writeError("[Greetmate] 管理コマンドの実行可否の確認に失敗しました。", e);
+            return false;
+        }
+
+        Entry loaded = newEntry(data);
+        cache.put(uuid, loaded);
+        if (removals.get() != observed) {
+            cache.remove(uuid, loaded);
+        }
+        return loaded.authorized;
+    }
+
+    /**
+     * 取得済みのプレイヤー情報から実行可否を登録
+     * 
+     * @param uuid 対象プレイヤーのUUID
+     * @param data プレイヤー情報 未登録の場合null
+     * @return 実行できる場合true
+     */
+    public static boolean put(UUID uuid, PlayerData data) {
+        Entry entry = newEntry(data);
+        cache.put(uuid, entry);
+        return entry.authorized;
+    }
+
+    /**
+     * プレイヤー情報から実行可否と有効期限のエントリを生成
+     * 
+     * @param data プレイヤー情報 未登録の場合null
+     * @return エントリ
+     */
+    private static Entry newEntry(PlayerData data) {
+        boolean authorized = data != null && isAdminRole(data.getRole());
+        long ttl = TimeUnit.SECONDS.toNanos(ConfigManager.getCommandAuthorizationTtlSeconds());
+        return new Entry(authorized, System.nanoTime() + ttl);
+    }
+
+    /**
+     * 指定プレイヤーの実行可否を削除（参照中の結果が記録されないよう、削除回数も進める）
+     * 
+     * @param uuid 対象プレイヤーのUUID
+     * @return 削除した場合true
+     */
+    public static boolean remove(UUID uuid) {
+        removals.incrementAndGet();
+        return cache.remove(uuid) != null;
+    }
+
+    /**
+     * 期限切れのエントリを削除（UserGreetingCacheManager の定期掃除から呼び出す）
+     * 
+     * @return 削除した件数
+     */
+    public static int sweep() {
+        long now = System.nanoTime();
+        int removed = 0;
+        for (Map.Entry<UUID, Entry> e : cache.entrySet()) {
+            if (e.getValue().expiresAt - now <= 0 && cache.remove(e.getKey(), e.getValue())) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * 全エントリを破棄
+     */
+    public static void clear() {
+        removals.incrementAndGet();
+        cache.clear();
+    }
+
+    /**
+     * キャッシュの件数を取得（期限切れのエントリを含む）
+     * 
+     * @return 件数
+     */
+    public static int size() {
+        return cache.size();
+    }
+
+    /**
+     * 管理コマンドを実行できるロールかを判定
+     * 
+     * @param roleId ロールID
+     * @return ロール3または4ならtrue
+     */
+    static boolean isAdminRole(int roleId) {
+        return roleId == 3 || roleId == 4;
+    }
+
+    /**
+     * 実行可否と有効期限を保持する内部クラス
+     */
+    private static class Entry {
+        final boolean authorized;
+        final long expiresAt;
+
+        /**
+         * 実行可否と有効期限の時刻（System.nanoTime 基準）を保持
+         * 
+         * @param authorized 実行できる場合true
+         * @param expiresAt  有効期限
+         */
+        Entry(boolean authorized, long expiresAt) {
+            this.authorized = authorized;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+}
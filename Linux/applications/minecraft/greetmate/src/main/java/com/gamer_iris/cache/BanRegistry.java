@@ -0,0 +1,235 @@
+/*
+######################################################################################################################################################
+# ファイル   : BanRegistry.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   起動時にDBから読み込めない場合のローカルスナップショットからの読み込みを追加
+# V-003      : 2026/10/18                 Gamer-Iris   全件読み込みをID基準の取得に変更
+# V-004      : 2026/10/18                 Gamer-Iris   登録・解除・再確認・再構築に合わせてプレイヤー名索引のBAN中の名前を更新
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.cache;
+
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.maintenance.PeriodicTask;
+import com.gamer_iris.model.BanPlayerData;
+import com.gamer_iris.repository.BanPlayerDao;
+import com.gamer_iris.repository.LocalSnapshotStore;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * ログイン時のBAN判定に使う、ban_playersテーブルのUUIDと理由を保持するレジストリクラス
+ * （未BANのUUIDはブルームフィルタのみで判定し、DBは参照しない。BAN・解除・他のサーバーからの無効化通知で随時更新し、定期的に全件を再構築する。
+ * 補完用のBAN中の名前（PlayerNameIndex）もあわせて更新する）
+ */
+public class BanRegistry {
+
+    private static final int MIN_CAPACITY = 1024;
+    private static final Object rebuildLock = new Object();
+    private static final PeriodicTask rebuildTask = new PeriodicTask("BAN一覧の再構築", BanRegistry::rebuild,
+            () -> ConfigManager.getBanRebuildIntervalSeconds() * 20L);
+
+    private static volatile State state = new State(new ConcurrentHashMap<>(), new UuidBloomFilter(MIN_CAPACITY));
+    private static Map<UUID, String> pendingChanges;
+
+    /**
+     * BAN一覧を読み込み、再構築の定期実行を開始（DBから読み込めない場合はローカルスナップショットから読み込む）
+     */
+    public static void start() {
+        if (rebuild() < 0) {
+            rebuild(LocalSnapshotStore::getBans);
+        }
+        rebuildTask.start();
+    }
+
+    /**
+     * 設定の再読み込みで再構築間隔が変わっていれば再スケジュール
+     */
+    public static void reschedule() {
+        rebuildTask.reschedule();
+    }
+
+    /**
+     * 指定プレイヤーのBAN理由を取得（未BANの大半はブルームフィルタのビット参照のみで判定）
+     * 
+     * @param uuid プレイヤーのUUID
+     * @return BAN理由 BANされていなければnull
+     */
+    public static String findReason(UUID uuid) {
+        State current = state;
+        if (!current.filter.mightContain(uuid)) {
+            return null;
+        }
+        return current.bans.get(uuid);
+    }
+
+    /**
+     * 指定プレイヤーがBANされているかを判定
+     * 
+     * @param uuid プレイヤーのUUID
+     * @return BANされていればtrue
+     */
+    public static boolean isBanned(UUID uuid) {
+        return findReason(uuid) != null;
+    }
+
+    /**
+     * BANを登録
+     * 
+     * @param uuid   プレイヤーのUUID
+     * @param name   プレイヤー名（不明の場合はnull）
+     * @param reason BAN理由
+     */
+    public static synchronized void add(UUID uuid, String name, String reason) {
+        String value = reason != null ? reason : "";
+        State current = state;
+        current.filter.add(uuid);
+        current.bans.put(uuid, value);
+        if (pendingChanges != null) {
+            pendingChanges.put(uuid, value);
+        }
+        PlayerNameIndex.markBanned(uuid, name);
+    }
+
+    /**
+     * BANを解除（ブルームフィルタのビットは次回の再構築まで残る）
+     * 
+     * @param uuid プレイヤーのUUID
+     */
+    public static synchronized void remove(UUID uuid) {
+        state.bans.remove(uuid);
+        if (pendingChanges != null) {
+            pendingChanges.put(uuid, null);
+        }
+        PlayerNameIndex.unmarkBanned(uuid);
+    }
+
+    /**
+     * 指定プレイヤーのBAN状態をDBから再確認（他のサーバーでのBAN・解除の反映用）
+     * 
+     * @param uuid プレイヤーのUUID
+     */
+    public static void recheck(UUID uuid) {
+        List<BanPlayerData> rows = BanPlayerDao.findByUuid(uuid);
+        if (rows == null) {
+            return;
+        }
+        if (rows.isEmpty()) {
+            remove(uuid);
+        } else {
+            add(uuid, rows.get(0).getPlayerName(), rows.get(0).getReason());
+        }
+    }
+
+    /**
+     * ban_playersテーブルを全件読み込み、BAN一覧とブルームフィルタを作り直して差し替え
+     * （DBの参照中に登録・解除された内容は差し替え前に反映する。再構築どうしは同時に実行しない）
+     * 
+     * @return 読み込んだ件数 取得失敗時-1
+     */
+    public static int rebuild() {
+        return rebuild(() -> BanPlayerDao.getAddedSince(0));
+    }
+
+    /**
+     * 指定の取得元から全件を読み込み、BAN一覧とブルームフィルタを作り直して差し替え
+     * 
+     * @param source BAN一覧の取得元（取得失敗時はnullを返す）
+     * @return 読み込んだ件数 取得失敗時-1
+     */
+    private static int rebuild(Supplier<List<BanPlayerData>> source) {
+        synchronized (rebuildLock) {
+            synchronized (BanRegistry.class) {
+                pendingChanges = new HashMap<>();
+            }
+            return replace(source.get());
+        }
+    }
+
+    /**
+     * 読み込んだ内容と再構築中の変更からBAN一覧とブルームフィルタを作成して差し替え（BAN中の名前もあわせて差し替える）
+     * 
+     * @param rows ban_playersテーブルの全件 取得失敗時null
+     * @return 差し替え後の件数 取得失敗時-1
+     */
+    private static int replace(List<BanPlayerData> rows) {
+        synchronized (BanRegistry.class) {
+            Map<UUID, String> changes = pendingChanges;
+            pendingChanges = null;
+            if (rows == null) {
+                LogWriter.writeWarn("[Greetmate] BAN一覧を取得できなかったため、既存の内容を保持します。");
+                return -1;
+            }
+
+            Map<UUID, String> bans = new ConcurrentHashMap<>();
+            Map<UUID, String> names = new HashMap<>();
+            for (BanPlayerData row : rows) {
+                if (row.getUuid() != null) {
+                    bans.put(row.getUuid(), row.getReason() != null ? row.getReason() : "");
+                    names.put(row.getUuid(), row.getPlayerName());
+                }
+            }
+            changes.forEach((uuid, reason) -> {
+                if (reason == null) {
+                    bans.remove(uuid);
+                    names.remove(uuid);
+                } else {
+                    bans.put(uuid, reason);
+                    names.putIfAbsent(uuid, null);
+                }
+            });
+
+            UuidBloomFilter filter = new UuidBloomFilter(Math.max(bans.size() * 2, MIN_CAPACITY));
+            bans.keySet().forEach(filter::add);
+            state = new State(bans, filter);
+            PlayerNameIndex.replaceBanned(names);
+            LogWriter.writeInfo("[Greetmate] BAN一覧を読み込みました: " + bans.size() + "件");
+            return bans.size();
+        }
+    }
+
+    /**
+     * BAN中の件数を取得
+     * 
+     * @return 件数
+     */
+    public static int size() {
+        return state.bans.size();
+    }
+
+    /**
+     * 全件を破棄
+     */
+    public static synchronized void clear() {
+        state = new State(new ConcurrentHashMap<>(), new UuidBloomFilter(MIN_CAPACITY));
+    }
+
+    /**
+     * BAN一覧と対応するブルームフィルタを保持する内部クラス
+     */
+    private static class State {
+        final Map<UUID, String> bans;
+        final UuidBloomFilter filter;
+
+        /**
+         * BAN一覧とブルームフィルタを保持
+         * 
+         * @param bans   UUIDとBAN理由の対応
+         * @param filter bans の全UUIDを登録済みのブルームフィルタ
+         */
+        State(Map<UUID, String> bans, UuidBloomFilter filter) {
+            this.bans = bans;
+            this.filter = filter;
+        }
+    }
+
+}
@@ -0,0 +1,284 @@
+/*
+######################################################################################################################################################
+# ファイル   : CacheInvalidator.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   管理コマンドの実行可否キャッシュも無効化
+# V-003      : 2026/10/18                 Gamer-Iris   無効化時にログイン判定用のBAN状態を再確認
+# V-004      : 2026/10/18                 Gamer-Iris   DB接続の復旧時にロール・BAN一覧・プレイヤー名索引・オンラインプレイヤーのキャッシュを作り直す処理を追加
+# V-005      : 2026/10/18                 Gamer-Iris   プラグイン停止中に使う、スケジューラを介さない変更の通知を追加
+# V-006      : 2026/10/18                 Gamer-Iris   変更履歴の確認で確認済みの最大IDから遡って読み直し、遅れてコミットされた履歴の取りこぼしを防止
+# V-007      : 2026/10/18                 Gamer-Iris   1回の取得件数と読み直し件数を設定値から取得
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.cache;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.listener.InvalidationMessageListener;
+import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.maintenance.PeriodicTask;
+import com.gamer_iris.metrics.MetricsRegistry;
+import com.gamer_iris.model.InvalidationData;
+import com.gamer_iris.repository.InvalidationDao;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.messaging.Messenger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * 同じDBを共有するサーバー間で、ロール変更・BANによる挨拶メッセージキャッシュの無効化を伝えるクラス
+ * （DB上の変更履歴を定期的に確認し、任意でプロキシ経由のプラグインメッセージでも即時に通知する）
+ */
+public class CacheInvalidator {
+
+    static final String PROXY_CHANNEL = "BungeeCord";
+    static final String SUBCHANNEL = "GreetmateInvalidate";
+    static final String ORIGIN = UUID.randomUUID().toString();
+
+    private static final NavigableSet<Long> appliedIds = new TreeSet<>();
+    private static final PeriodicTask pollTask = new PeriodicTask("キャッシュ無効化通知の確認", CacheInvalidator::poll,
+            () -> ConfigManager.getInvalidationPollSeconds() * 20L);
+
+    private static volatile boolean tableEnabled;
+    private static volatile boolean proxyEnabled;
+    private static long lastSeenId;
+    private static long startId;
+
+    /**
+     * 設定に応じて変更履歴の定期確認とプラグインメッセージの送受信を開始
+     * （変更履歴は起動時点の最新位置から読み始める）
+     */
+    public static void start() {
+        if (ConfigManager.isInvalidationEnabled()) {
+            synchronized (CacheInvalidator.class) {
+                lastSeenId = Math.max(InvalidationDao.findLatestId(), 0L);
+                startId = lastSeenId;
+                appliedIds.clear();
+            }
+            tableEnabled = true;
+            pollTask.start();
+        }
+        if (ConfigManager.isProxyMessagingEnabled()) {
+            Messenger messenger = Bukkit.getMessenger();
+            messenger.registerOutgoingPluginChannel(Main.getInstance(), PROXY_CHANNEL);
+            messenger.registerIncomingPluginChannel(Main.getInstance(), PROXY_CHANNEL,
+                    new InvalidationMessageListener());
+            proxyEnabled = true;
+        }
+    }
+
+    /**
+     * 設定の再読み込みで確認間隔が変わっていれば再スケジュール
+     */
+    public static void reschedule() {
+        pollTask.reschedule();
+    }
+
+    /**
+     * 変更履歴の定期確認とプラグインメッセージの送受信を停止
+     */
+    public static void stop() {
+        pollTask.cancel();
+        tableEnabled = false;
+        if (proxyEnabled) {
+            Messenger messenger = Bukkit.getMessenger();
+            messenger.unregisterIncomingPluginChannel(Main.getInstance());
+            messenger.unregisterOutgoingPluginChannel(Main.getInstance());
+            proxyEnabled = false;
+        }
+    }
+
+    /**
+     * 指定プレイヤーのキャッシュを自サーバーで無効化し、他のサーバーへ通知（非同期で実行）
+     * 
+     * @param uuid 対象プレイヤーのUUID
+     */
+    public static void publish(UUID uuid) {
+        Bukkit.getScheduler().runTaskAsynchronously(Main.getInstance(), () -> {
+            invalidate(uuid);
+            if (tableEnabled) {
+                InvalidationDao.insert(uuid, ORIGIN);
+            }
+            if (proxyEnabled) {
+                forward(uuid);
+            }
+        });
+    }
+
+    /**
+     * プラグイン停止中に、指定プレイヤーの変更を呼び出し元のスレッドで通知
+     * （停止中はスケジューラへタスクを登録できないため、自サーバーのキャッシュ削除と変更履歴への登録のみ同期的に行う）
+     * 
+     * @param uuid 変更されたプレイヤーのUUID
+     */
+    public static void publishOnShutdown(UUID uuid) {
+        AdminAuthorizationCache.remove(uuid);
+        UserGreetingCacheManager.remove(uuid);
+        if (tableEnabled) {
+            InvalidationDao.insert(uuid, ORIGIN);
+        }
+    }
+
+    /**
+     * 指定プレイヤーのキャッシュ（挨拶メッセージ・管理コマンドの実行可否）を削除し、オンラインであればDBから再構築
+     * （BAN・解除も同じ通知で伝わるため、ログイン判定用のBAN状態もDBから再確認する）
+     * 
+     * @param uuid 対象プレイヤーのUUID
+     */
+    public static void invalidate(UUID uuid) {
+        AdminAuthorizationCache.remove(uuid);
+        BanRegistry.recheck(uuid);
+        if (!UserGreetingCacheManager.remove(uuid)) {
+            return;
+        }
+        MetricsRegistry.countCacheEviction("invalidated");
+        if (Bukkit.getPlayer(uuid) != null) {
+            UserGreetingCacheManager.buildAndCache(uuid);
+        }
+    }
+
+    /**
+     * DB接続の復旧後に、ロール・BAN一覧・プレイヤー名の索引と、オンラインプレイヤーのキャッシュをDBの内容から作り直す
+     * （縮退運転中にローカルスナップショットから読み込んだ内容を置き換える）
+     */
+    public static void resync() {
+        RoleRegistry.load();
+        BanRegistry.rebuild();
+        PlayerNameIndex.start();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    /**
+     * 保持期間を過ぎた変更履歴を削除（クラスタ共通のクリーンアップから呼び出す）
+     */
+    public static void prune() {
+        if (!tableEnabled) {
+            return;
+        }
+        int deleted = InvalidationDao.deleteOlderThan(ConfigManager.getInvalidationRetentionHours());
+        if (deleted > 0) {
+            LogWriter.writeInfo("[Greetmate] 古いキャッシュ無効化通知を削除しました。削除件数: " + deleted);
+        }
+    }
+
+    /**
+     * 前回確認以降に他のサーバーが登録した変更履歴を反映
+     * （IDの採番順とコミット順は一致しないため、確認済みの最大IDから設定件数遡って読み直し、反映済みのIDは読み飛ばす）
+     */
+    static synchronized void poll() {
+        int rescanWindow = ConfigManager.getInvalidationRescanWindow();
+        List<InvalidationData> changes = InvalidationDao.findSince(Math.max(lastSeenId - rescanWindow, startId),
+                ConfigManager.getInvalidationPollLimit());
+        if (changes == null) {
+            return;
+        }
+
+        for (InvalidationData change : changes) {
+            if (!appliedIds.add(change.getId())) {
+                continue;
+            }
+            lastSeenId = Math.max(lastSeenId, change.getId());
+            if (!ORIGIN.equals(change.getOrigin())) {
+                invalidate(change.getUuid());
+            }
+        }
+        appliedIds.headSet(lastSeenId - rescanWindow, true).clear();
+    }
+
+    /**
+     * プロキシの Forward 機能で他の全サーバーへ無効化を通知（送信にはオンラインのプレイヤーが1人以上必要）
+     * 
+     * @param uuid 対象プレイヤーのUUID
+     */
+    private static void forward(UUID uuid) {
+        Iterator<? extends Player> players = Bukkit.getOnlinePlayers().iterator();
+        if (players.hasNext()) {
+            players.next().sendPluginMessage(Main.getInstance(), PROXY_CHANNEL, encodeForward(uuid));
+        }
+    }
+
+    /**
+     * Forward 要求のメッセージを生成（UTF-8文字列は DataOutput#writeUTF と同じ長さ付き形式）
+     * 
+     * @param uuid 対象プレイヤーのUUID
+     * @return メッセージ
+     */
+    static byte[] encodeForward(UUID uuid) {
+        byte[] origin = ORIGIN.getBytes(StandardCharsets.UTF_8);
+        byte[] target = uuid.toString().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer payload = ByteBuffer.allocate(4 + origin.length + target.length);
+        putString(payload, origin);
+        putString(payload, target);
+
+        byte[][] header = { "Forward".getBytes(StandardCharsets.UTF_8), "ALL".getBytes(StandardCharsets.UTF_8),
+                SUBCHANNEL.getBytes(StandardCharsets.UTF_8) };
+        int size = 2 + payload.capacity();
+        for (byte[] part : header) {
+            size += 2 + part.length;
+        }
+        ByteBuffer message = ByteBuffer.allocate(size);
+        for (byte[] part : header) {
+            putString(message, part);
+        }
+        message.putShort((short) payload.capacity()).put(payload.array());
+        return message.array();
+    }
+
+    /**
+     * プロキシから転送されたメッセージを解析し、他のサーバーからの無効化通知であれば対象UUIDを返す
+     * 
+     * @param message 受信したメッセージ
+     * @return 対象プレイヤーのUUID 対象外・不正な形式・自サーバーからの通知であればnull
+     */
+    public static UUID decodeForward(byte[] message) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(message);
+            if (!SUBCHANNEL.equals(getString(buffer))) {
+                return null;
+            }
+            buffer.getShort();
+            String origin = getString(buffer);
+            UUID uuid = UUID.fromString(getString(buffer));
+            return ORIGIN.equals(origin) ? null : uuid;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            LogWriter.writeWarn("[Greetmate] 不正なキャッシュ無効化メッセージを受信しました: " + e);
+            return null;
+        }
+    }
+
+    /**
+     * 長さ（2バイト）付きで文字列を書き込み
+     * 
+     * @param buffer 書き込み先
+     * @param value  UTF-8でエンコード済みの文字列
+     */
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        buffer.putShort((short) value.length).put(value);
+    }
+
+    /**
+     * 長さ（2バイト）付きの文字列を読み込み
+     * 
+     * @param buffer 読み込み元
+     * @return 文字列
+     */
+    private static String getString(ByteBuffer buffer) {
+        byte[] value = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+}
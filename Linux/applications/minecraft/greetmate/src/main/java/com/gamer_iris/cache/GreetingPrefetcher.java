@@ -0,0 +1,108 @@
+/*
+######################################################################################################################################################
+# ファイル   : GreetingPrefetcher.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.cache;
+
+import com.gamer_iris.Main;
+import org.bukkit.Bukkit;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * ログイン前に挨拶メッセージのキャッシュを非同期で構築するクラス
+ */
+public class GreetingPrefetcher {
+
+    private static final long STALE_MILLIS = 60_000L;
+    private static final Map<UUID, Prefetch> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 挨拶メッセージのキャッシュを構築（非同期スレッドから呼び出すこと）
+     * 
+     * @param uuid 対象プレイヤーのUUID
+     */
+    public static void prefetch(UUID uuid) {
+        purgeStale();
+
+        Prefetch prefetch = new Prefetch();
+        pending.put(uuid, prefetch);
+        try {
+            load(uuid);
+        } finally {
+            prefetch.future.complete(null);
+        }
+    }
+
+    /**
+     * 挨拶メッセージのキャッシュ構築を非同期タスクとして登録
+     * 
+     * @param uuid 対象プレイヤーのUUID
+     */
+    public static void prefetchAsync(UUID uuid) {
+        Bukkit.getScheduler().runTaskAsynchronously(Main.getInstance(), () -> load(uuid));
+    }
+
+    /**
+     * 事前取得の完了を上限時間まで待機
+     * 
+     * @param uuid          対象プレイヤーのUUID
+     * @param timeoutMillis 最大待機時間（ミリ秒）
+     * @return 事前取得が完了済み、または有効なキャッシュがあればtrue
+     */
+    public static boolean awaitPrefetch(UUID uuid, long timeoutMillis) {
+        Prefetch prefetch = pending.remove(uuid);
+        if (prefetch == null) {
+            return UserGreetingCacheManager.contains(uuid);
+        }
+
+        try {
+            prefetch.future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 有効なキャッシュがなければDBから構築
+     * 
+     * @param uuid 対象プレイヤーのUUID
+     */
+    private static void load(UUID uuid) {
+        if (!UserGreetingCacheManager.contains(uuid)) {
+            UserGreetingCacheManager.buildAndCache(uuid);
+        }
+    }
+
+    /**
+     * 参加イベントに至らなかった事前取得の記録を破棄
+     */
+    private static void purgeStale() {
+        long cutoff = System.currentTimeMillis() - STALE_MILLIS;
+        pending.values().removeIf(p -> p.startedAt < cutoff);
+    }
+
+    /**
+     * 事前取得の完了通知と開始時刻を保持する内部クラス
+     */
+    private static class Prefetch {
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        final long startedAt = System.currentTimeMillis();
+    }
+
+}
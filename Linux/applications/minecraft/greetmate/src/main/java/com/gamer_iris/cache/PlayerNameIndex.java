@@ -0,0 +1,204 @@
+/*
+######################################################################################################################################################
+# ファイル   : PlayerNameIndex.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   補完用の前方一致索引（登録済みの名前・BAN中の名前）を追加
+# V-003      : 2026/10/18                 Gamer-Iris   BAN中の名前をUUID単位で保持し、BAN一覧の登録・解除・再構築に合わせて更新
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.cache;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.model.BanPlayerData;
+import com.gamer_iris.model.PlayerData;
+import com.gamer_iris.repository.BanPlayerDao;
+import com.gamer_iris.repository.PlayerRoleDao;
+import org.bukkit.Bukkit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * プレイヤー名（大文字小文字を区別しない）からUUIDを引く索引クラス
+ * （起動時に players・ban_players テーブルから読み込み、ログインのたびに最新の名前へ更新する。コマンドの補完用に前方一致の索引も保持し、
+ * BAN中の名前はBanRegistryの登録・解除・再構築に合わせて更新する）
+ */
+public class PlayerNameIndex {
+
+    private static final Map<String, UUID> byName = new ConcurrentHashMap<>();
+    private static final Map<UUID, String> byUuid = new ConcurrentHashMap<>();
+    private static final PrefixIndex knownNames = new PrefixIndex();
+    private static final PrefixIndex bannedNames = new PrefixIndex();
+    private static final Map<UUID, String> bannedByUuid = new ConcurrentHashMap<>();
+
+    /**
+     * DBからの読み込みを非同期で開始
+     */
+    public static void start() {
+        Bukkit.getScheduler().runTaskAsynchronously(Main.getInstance(), PlayerNameIndex::load);
+    }
+
+    /**
+     * players・ban_players テーブルの名前を索引へ登録
+     * （登録済みのUUID・名前は上書きしないため、読み込み中のログインと、ban_players より players の内容が優先される。
+     * DBの参照中はロックを持たず、ログイン時の登録を待たせない）
+     * 
+     * @return 登録後の件数
+     */
+    static int load() {
+        List<PlayerData> players = PlayerRoleDao.getAllPlayers();
+        List<BanPlayerData> bans = BanPlayerDao.getAll();
+
+        int size;
+        synchronized (PlayerNameIndex.class) {
+            players.forEach(player -> putIfAbsent(player.getUuid(), player.getPlayerName()));
+            bans.forEach(ban -> putIfAbsent(ban.getUuid(), ban.getPlayerName()));
+            size = byName.size();
+        }
+
+        LogWriter.writeInfo("[Greetmate] プレイヤー名の索引を読み込みました: " + size + "件");
+        return size;
+    }
+
+    /**
+     * UUID・名前のどちらも未登録の場合のみ対応を登録
+     * 
+     * @param uuid プレイヤーのUUID
+     * @param name プレイヤー名
+     */
+    private static void putIfAbsent(UUID uuid, String name) {
+        if (uuid == null || name == null || byUuid.containsKey(uuid) || byName.containsKey(PrefixIndex.key(name))) {
+            return;
+        }
+        put(uuid, name);
+    }
+
+    /**
+     * プレイヤー名とUUIDの対応を登録（同じUUIDの旧名と、同じ名前を使っていた別UUIDの対応は削除）
+     * 
+     * @param uuid プレイヤーのUUID
+     * @param name プレイヤー名
+     */
+    public static synchronized void put(UUID uuid, String name) {
+        String key = PrefixIndex.key(name);
+        String previous = byUuid.put(uuid, name);
+        if (previous != null && !PrefixIndex.key(previous).equals(key) && byName.remove(PrefixIndex.key(previous), uuid)) {
+            knownNames.remove(previous);
+        }
+
+        UUID displaced = byName.put(key, uuid);
+        if (displaced != null && !displaced.equals(uuid)) {
+            byUuid.remove(displaced);
+        }
+        knownNames.add(name);
+    }
+
+    /**
+     * BAN中のプレイヤー名として登録（同じUUIDで登録済みの名前は置き換える）
+     * 
+     * @param uuid プレイヤーのUUID
+     * @param name プレイヤー名（nullの場合は何もしない）
+     */
+    public static synchronized void markBanned(UUID uuid, String name) {
+        if (name == null) {
+            return;
+        }
+        String previous = bannedByUuid.put(uuid, name);
+        if (previous != null) {
+            bannedNames.remove(previous);
+        }
+        bannedNames.add(name);
+    }
+
+    /**
+     * BAN中のプレイヤー名から削除
+     * 
+     * @param uuid プレイヤーのUUID
+     */
+    public static synchronized void unmarkBanned(UUID uuid) {
+        String previous = bannedByUuid.remove(uuid);
+        if (previous != null) {
+            bannedNames.remove(previous);
+        }
+    }
+
+    /**
+     * BAN中のプレイヤー名を差し替え（BAN一覧の再構築結果の反映用）
+     * 
+     * @param banned BAN中の全UUIDと名前（名前がnullのUUIDは登録済みの名前を引き継ぐ）
+     */
+    public static synchronized void replaceBanned(Map<UUID, String> banned) {
+        Map<UUID, String> names = new HashMap<>();
+        banned.forEach((uuid, name) -> {
+            String resolved = name != null ? name : bannedByUuid.get(uuid);
+            if (resolved != null) {
+                names.put(uuid, resolved);
+            }
+        });
+
+        bannedByUuid.clear();
+        bannedByUuid.putAll(names);
+        bannedNames.clear();
+        names.values().forEach(bannedNames::add);
+    }
+
+    /**
+     * 前方一致するプレイヤー名を取得
+     * 
+     * @param prefix 入力中の文字列（大文字小文字は区別しない）
+     * @param limit  取得する最大件数
+     * @return プレイヤー名一覧
+     */
+    public static List<String> complete(String prefix, int limit) {
+        return knownNames.complete(prefix, limit);
+    }
+
+    /**
+     * 前方一致するBAN中のプレイヤー名を取得
+     * 
+     * @param prefix 入力中の文字列（大文字小文字は区別しない）
+     * @param limit  取得する最大件数
+     * @return プレイヤー名一覧
+     */
+    public static List<String> completeBanned(String prefix, int limit) {
+        return bannedNames.complete(prefix, limit);
+    }
+
+    /**
+     * プレイヤー名からUUIDを取得
+     * 
+     * @param name プレイヤー名（大文字小文字は区別しない）
+     * @return UUID 索引に無ければnull
+     */
+    public static UUID find(String name) {
+        return byName.get(PrefixIndex.key(name));
+    }
+
+    /**
+     * 索引の件数を取得
+     * 
+     * @return 件数
+     */
+    public static int size() {
+        return byName.size();
+    }
+
+    /**
+     * 全件を破棄
+     */
+    public static synchronized void clear() {
+        byName.clear();
+        byUuid.clear();
+        knownNames.clear();
+        bannedNames.clear();
+        bannedByUuid.clear();
+    }
+
+}
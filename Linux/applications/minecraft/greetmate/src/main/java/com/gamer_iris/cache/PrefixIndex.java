@@ -0,0 +1,90 @@
+/*
+######################################################################################################################################################
+# ファイル   : PrefixIndex.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 名前を大文字小文字を区別しない順序で保持し、前方一致で候補を取得する索引クラス
+ * （検索は先頭位置の二分探索と一致範囲の走査のみで、登録件数に比例した処理は行わない）
+ */
+public class PrefixIndex {
+
+    private final ConcurrentSkipListMap<String, String> entries = new ConcurrentSkipListMap<>();
+
+    /**
+     * 名前を登録（大文字小文字のみ異なる名前は後から登録した表記で上書き）
+     * 
+     * @param name 名前
+     */
+    public void add(String name) {
+        entries.put(key(name), name);
+    }
+
+    /**
+     * 名前を削除
+     * 
+     * @param name 名前（大文字小文字は区別しない）
+     */
+    public void remove(String name) {
+        entries.remove(key(name));
+    }
+
+    /**
+     * 前方一致する名前を昇順で取得
+     * 
+     * @param prefix 入力中の文字列（大文字小文字は区別しない）
+     * @param limit  取得する最大件数
+     * @return 登録時の表記の名前一覧
+     */
+    public List<String> complete(String prefix, int limit) {
+        String from = key(prefix);
+        List<String> result = new ArrayList<>();
+        for (Map.Entry<String, String> entry : entries.tailMap(from).entrySet()) {
+            if (result.size() >= limit || !entry.getKey().startsWith(from)) {
+                break;
+            }
+            result.add(entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * 登録件数を取得
+     * 
+     * @return 件数
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 全件を破棄
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * 索引のキーへ変換
+     * 
+     * @param name 名前
+     * @return 小文字に揃えた名前
+     */
+    static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+######################################################################################################################################################
+# ファイル   : RoleGreeting.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.cache;
+
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.model.RoleData;
+import com.gamer_iris.notification.GreetingTemplate;
+
+/**
+ * ロール情報と、そのロールの挨拶メッセージを解析済みテンプレートとして保持するクラス
+ */
+public class RoleGreeting {
+
+    private final RoleData role;
+    private final GreetingTemplate loginTemplate;
+    private final GreetingTemplate logoutTemplate;
+    private final GreetingTemplate kickTemplate;
+    private final GreetingTemplate banTemplate;
+
+    /**
+     * ロール情報の各メッセージを解析して保持（未設定・不正なメッセージはデフォルトで代替）
+     * 
+     * @param role ロール情報
+     */
+    public RoleGreeting(RoleData role) {
+        this.role = role;
+        this.loginTemplate = compile("login_text", role.getLoginText(), ConfigManager.getDefaultLoginMessage());
+        this.logoutTemplate = compile("logout_text", role.getLogoutText(), ConfigManager.getDefaultLogoutMessage());
+        this.kickTemplate = compile("kick_text", role.getKickText(), ConfigManager.getDefaultKickMessage());
+        this.banTemplate = compile("ban_text", role.getBanText(), ConfigManager.getDefaultBanMessage());
+    }
+
+    /**
+     * ロール情報を取得
+     * 
+     * @return RoleData 実体
+     */
+    public RoleData getRoleData() {
+        return role;
+    }
+
+    /**
+     * ログイン時のテンプレートを取得
+     * 
+     * @return テンプレート
+     */
+    public GreetingTemplate getLoginTemplate() {
+        return loginTemplate;
+    }
+
+    /**
+     * ログアウト時のテンプレートを取得
+     * 
+     * @return テンプレート
+     */
+    public GreetingTemplate getLogoutTemplate() {
+        return logoutTemplate;
+    }
+
+    /**
+     * キック時のテンプレートを取得
+     * 
+     * @return テンプレート
+     */
+    public GreetingTemplate getKickTemplate() {
+        return kickTemplate;
+    }
+
+    /**
+     * BAN時のテンプレートを取得
+     * 
+     * @return テンプレート
+     */
+    public GreetingTemplate getBanTemplate() {
+        return banTemplate;
+    }
+
+    /**
+     * メッセージを解析し、未設定または不正な場合はデフォルトのメッセージを解析
+     * 
+     * @param column      rolesテーブルの列名
+     * @param text        ロールのメッセージ
+     * @param defaultText デフォルトのメッセージ
+     * @return テンプレート
+     */
+    private GreetingTemplate compile(String column, String text, String defaultText) {
+        String roleName = role.getRoleDetails();
+        String serverName = ConfigManager.getServerName();
+        if (text != null) {
+            try {
+                return GreetingTemplate.compile(text, roleName, serverName);
+            } catch (IllegalArgumentException e) {
+                LogWriter.writeWarn("[Greetmate] 不正なメッセージのためデフォルトを使用します: role=" + role.getRole()
+                        + " " + column + " " + e.getMessage());
+            }
+        }
+        return GreetingTemplate.compile(defaultText, roleName, serverName);
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+######################################################################################################################################################
+# ファイル   : RoleRegistry.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   挨拶メッセージをロード時に解析
+# V-003      : 2026/10/18                 Gamer-Iris   設定の再読み込み時に実行間隔の変更へ追従
+# V-004      : 2026/10/18                 Gamer-Iris   コマンド補完用にロールID一覧を保持
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.cache;
+
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.maintenance.PeriodicTask;
+import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.model.RoleData;
+import com.gamer_iris.repository.PlayerRoleDao;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * rolesテーブルをメモリ上に保持するレジストリクラス
+ */
+public class RoleRegistry {
+
+    private static volatile RoleGreeting[] roles = new RoleGreeting[0];
+    private static volatile List<String> roleIds = List.of();
+    private static volatile Date version;
+    private static final PeriodicTask refreshTask = new PeriodicTask("ロール更新確認", RoleRegistry::refreshIfChanged,
+            () -> ConfigManager.getRoleRefreshIntervalSeconds() * 20L);
+
+    /**
+     * ロール情報を読み込み、更新確認の定期実行を開始
+     */
+    public static void start() {
+        load();
+        refreshTask.start();
+    }
+
+    /**
+     * 設定の再読み込みで更新確認間隔が変わっていれば再スケジュール
+     */
+    public static void reschedule() {
+        refreshTask.reschedule();
+    }
+
+    /**
+     * rolesテーブルの最終更新日時が変わっていれば再読み込み
+     * 
+     * @return 再読み込みした場合true
+     */
+    public static synchronized boolean refreshIfChanged() {
+        Date latest = PlayerRoleDao.findRolesLastUpdated();
+        if (latest == null || latest.equals(version)) {
+            return false;
+        }
+
+        LogWriter.writeInfo("[Greetmate] rolesテーブルの更新を検知しました: " + latest);
+        return load();
+    }
+
+    /**
+     * rolesテーブルを全件読み込み、挨拶メッセージを解析したうえでロールID添字の配列へ差し替え
+     * 
+     * @return 読み込みに成功した場合true
+     */
+    public static synchronized boolean load() {
+        Date latest = PlayerRoleDao.findRolesLastUpdated();
+        List<RoleData> list = PlayerRoleDao.getAllRoles();
+        if (list.isEmpty()) {
+            LogWriter.writeWarn("[Greetmate] ロール情報を取得できなかったため、既存の内容を保持します。");
+            return false;
+        }
+
+        int maxRole = list.stream().mapToInt(RoleData::getRole).max().getAsInt();
+        RoleGreeting[] table = new RoleGreeting[Math.max(maxRole + 1, 0)];
+        for (RoleData role : list) {
+            if (role.getRole() < 0) {
+                LogWriter.writeWarn("[Greetmate] 負のロールIDは無視します: role=" + role.getRole());
+                continue;
+            }
+            table[role.getRole()] = new RoleGreeting(role);
+        }
+
+        List<String> ids = new ArrayList<>();
+        for (int roleId = 0; roleId < table.length; roleId++) {
+            if (table[roleId] != null) {
+                ids.add(String.valueOf(roleId));
+            }
+        }
+
+        roles = table;
+        roleIds = List.copyOf(ids);
+        version = latest;
+        LogWriter.writeInfo("[Greetmate] ロール情報を読み込みました: " + list.size() + "件");
+        return true;
+    }
+
+    /**
+     * ロールIDからロール情報を取得
+     * 
+     * @param roleId ロールID
+     * @return RoleData 実体 存在しなければnull
+     */
+    public static RoleData get(int roleId) {
+        RoleGreeting greeting = getGreeting(roleId);
+        return greeting != null ? greeting.getRoleData() : null;
+    }
+
+    /**
+     * ロールIDから解析済みの挨拶メッセージを取得
+     * 
+     * @param roleId ロールID
+     * @return RoleGreeting 実体 存在しなければnull
+     */
+    public static RoleGreeting getGreeting(int roleId) {
+        RoleGreeting[] table = roles;
+        return roleId >= 0 && roleId < table.length ? table[roleId] : null;
+    }
+
+    /**
+     * 存在するロールIDをコマンド補完用の文字列として取得
+     * 
+     * @return ロールIDの昇順一覧
+     */
+    public static List<String> getRoleIds() {
+        return roleIds;
+    }
+
+    /**
+     * ロールIDが存在するかを判定
+     * 
+     * @param roleId ロールID
+     * @return 存在すればtrue
+     */
+    public static boolean isValid(int roleId) {
+        return get(roleId) != null;
+    }
+
+}
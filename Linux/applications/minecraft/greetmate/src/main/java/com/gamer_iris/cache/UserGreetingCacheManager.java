@@ -5,19 +5,40 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   ロール情報をRoleRegistryから取得
+# V-003      : 2026/10/18                 Gamer-Iris   取得済みPlayerDataからのキャッシュ構築を追加
+# V-004      : 2026/10/18                 Gamer-Iris   解析済みテンプレートを保持
+# V-005      : 2026/10/18                 Gamer-Iris   参照結果の計測を追加
+# V-006      : 2026/10/18                 Gamer-Iris   同一UUIDの同時読み込みを1回に集約
+# V-007      : 2026/10/18                 Gamer-Iris   キャッシュ件数の上限と期限切れ・ログアウト済みエントリの定期掃除を追加
+# V-008      : 2026/10/18                 Gamer-Iris   有効期限をSystem.nanoTime基準の期限時刻で判定
+# V-009      : 2026/10/18                 Gamer-Iris   設定の再読み込み時に実行間隔の変更へ追従
+# V-010      : 2026/10/18                 Gamer-Iris   エントリはロールIDのみを保持し、挨拶メッセージはRoleRegistryの共有インスタンスを参照
+# V-011      : 2026/10/18                 Gamer-Iris   エントリ削除の有無を返却
+# V-012      : 2026/10/18                 Gamer-Iris   管理コマンドの実行可否キャッシュへの登録を追加
+# V-013      : 2026/10/18                 Gamer-Iris   削除対象の走査位置を保持し、前回の続きから走査するよう修正
+# V-014      : 2026/10/18                 Gamer-Iris   定期掃除で管理コマンドの実行可否キャッシュの期限切れエントリも削除
+# V-015      : 2026/10/18                 Gamer-Iris   playersテーブルに登録が無かった結果を一定時間保持し、DBの再参照を抑止
 # 
 ######################################################################################################################################################
 */
 package com.gamer_iris.cache;
 
 import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.maintenance.PeriodicTask;
 import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.metrics.MetricsRegistry;
 import com.gamer_iris.model.PlayerData;
-import com.gamer_iris.model.RoleData;
+import com.gamer_iris.notification.GreetingTemplate;
 import com.gamer_iris.repository.PlayerRoleDao;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * プレイヤーごとの挨拶メッセージをキャッシュするマネージャークラス
@@ -25,6 +46,27 @@ import java.util.concurrent.ConcurrentHashMap;
 public class UserGreetingCacheManager {
 
     private static final Map<UUID, CacheEntry> cache = new ConcurrentHashMap<>();
+    private static final Map<UUID, CompletableFuture<Void>> loading = new ConcurrentHashMap<>();
+    private static final Map<UUID, Long> notFound = new ConcurrentHashMap<>();
+    private static final AtomicBoolean evicting = new AtomicBoolean();
+    private static final PeriodicTask sweepTask = new PeriodicTask("キャッシュ掃除", UserGreetingCacheManager::sweep,
+            () -> ConfigManager.getCacheSweepIntervalSeconds() * 20L);
+
+    private static Iterator<Map.Entry<UUID, CacheEntry>> hand = Collections.emptyIterator(); // evicting を取得したスレッドのみが参照
+
+    /**
+     * 期限切れ・ログアウト済みエントリの定期掃除を開始
+     */
+    public static void start() {
+        sweepTask.start();
+    }
+
+    /**
+     * 設定の再読み込みで掃除間隔が変わっていれば再スケジュール
+     */
+    public static void reschedule() {
+        sweepTask.reschedule();
+    }
 
     /**
      * 有効なキャッシュが存在するかを確認
@@ -33,128 +75,346 @@ public class UserGreetingCacheManager {
      * @return trueならキャッシュが有効
      */
     public static boolean contains(UUID uuid) {
-        CacheEntry entry = cache.get(uuid);
-        return entry != null && !entry.isExpired();
+        return lookup(uuid) != null;
     }
 
     /**
      * プレイヤーとロール情報を元に挨拶メッセージを構築しキャッシュへ登録
+     * （同じUUIDの読み込みが進行中であれば新たにDBを参照せず、その完了を待つ。直前に未登録と判明したプレイヤーはDBを参照しない）
      * 
      * @param uuid 対象プレイヤーのUUID
      */
     public static void buildAndCache(UUID uuid) {
+        CompletableFuture<Void> flight = new CompletableFuture<>();
+        CompletableFuture<Void> inFlight = loading.putIfAbsent(uuid, flight);
+        if (inFlight != null) {
+            inFlight.join();
+            return;
+        }
+
+        try {
+            long now = System.nanoTime();
+            CacheEntry entry = cache.get(uuid);
+            if ((entry == null || entry.isExpired(now)) && !isKnownNotFound(uuid, now)) {
+                load(uuid);
+            }
+        } finally {
+            loading.remove(uuid, flight);
+            flight.complete(null);
+        }
+    }
+
+    /**
+     * DBからプレイヤー情報を取得し、挨拶メッセージをキャッシュへ登録
+     * 
+     * @param uuid 対象プレイヤーのUUID
+     */
+    private static void load(UUID uuid) {
         PlayerData player = PlayerRoleDao.findPlayerByUUID(uuid);
+        AdminAuthorizationCache.put(uuid, player);
         if (player == null) {
+            notFound.put(uuid, System.nanoTime() + TimeUnit.SECONDS.toNanos(ConfigManager.getCacheNotFoundTtlSeconds()));
             LogWriter.writeWarn("[Greetmate] UUIDからプレイヤーが見つかりませんでした: " + uuid);
             return;
         }
 
-        RoleData role = PlayerRoleDao.findRoleByRoleId(player.getRole());
-        if (role == null) {
-            LogWriter.writeWarn("[Greetmate] ロール情報が見つかりませんでした: role=" + player.getRole());
-            return;
+        cacheRoleMessages(uuid, player.getRole());
+    }
+
+    /**
+     * 直前の参照でplayersテーブルに登録が無かったプレイヤーかを判定（期限切れの記録は削除）
+     * 
+     * @param uuid 対象プレイヤーのUUID
+     * @param now  現在時刻（System.nanoTime 基準）
+     * @return 未登録として扱う期間内であればtrue
+     */
+    private static boolean isKnownNotFound(UUID uuid, long now) {
+        Long until = notFound.get(uuid);
+        if (until == null) {
+            return false;
         }
+        if (until - now > 0) {
+            return true;
+        }
+        notFound.remove(uuid, until);
+        return false;
+    }
 
-        cache.put(uuid,
-                new CacheEntry(role.getLoginText(), role.getLogoutText(), role.getKickText(),
-                        role.getBanText()));
+    /**
+     * 取得済みのプレイヤー情報とロール情報を元に挨拶メッセージを構築しキャッシュへ登録
+     * 
+     * @param player 対象プレイヤーの情報
+     * @return 登録できた場合true
+     */
+    public static boolean buildAndCache(PlayerData player) {
+        AdminAuthorizationCache.put(player.getUuid(), player);
+        return cacheRoleMessages(player.getUuid(), player.getRole());
     }
 
     /**
      * キャッシュから指定UUIDのエントリを削除
      * 
      * @param uuid 対象プレイヤーのUUID
+     * @return 削除した場合true
      */
-    public static void remove(UUID uuid) {
-        cache.remove(uuid);
+    public static boolean remove(UUID uuid) {
+        notFound.remove(uuid);
+        return cache.remove(uuid) != null;
     }
 
     /**
-     * ログインメッセージを取得
+     * ログインしたプレイヤーのエントリを掃除対象から外す
      * 
      * @param uuid 対象プレイヤーのUUID
-     * @return キャッシュが有効な場合はメッセージ 無効ならnull
      */
-    public static String getLoginText(UUID uuid) {
+    public static void markOnline(UUID uuid) {
         CacheEntry entry = cache.get(uuid);
-        return entry != null && !entry.isExpired()
-                ? entry.loginText
-                : null;
+        if (entry != null) {
+            entry.offlineSince = 0L;
+        }
     }
 
     /**
-     * ログアウトメッセージを取得
+     * ログアウトしたプレイヤーのエントリに時刻を記録し、保持時間の経過後に掃除対象とする
      * 
      * @param uuid 対象プレイヤーのUUID
-     * @return キャッシュが有効な場合はメッセージ 無効ならnull
      */
-    public static String getLogoutText(UUID uuid) {
+    public static void markOffline(UUID uuid) {
         CacheEntry entry = cache.get(uuid);
-        return entry != null && !entry.isExpired()
-                ? entry.logoutText
-                : null;
+        if (entry != null) {
+            entry.offlineSince = System.currentTimeMillis();
+        }
     }
 
     /**
-     * キックメッセージを取得
+     * 全エントリを破棄し、削除対象の走査位置を先頭に戻す
+     */
+    public static void clear() {
+        cache.clear();
+        notFound.clear();
+        hand = Collections.emptyIterator();
+    }
+
+    /**
+     * キャッシュの件数を取得（期限切れのエントリを含む）
+     * 
+     * @return 件数
+     */
+    public static int size() {
+        return cache.size();
+    }
+
+    /**
+     * 期限切れのエントリと、ログアウト後の保持時間を過ぎたエントリを削除（未登録として扱う期間を過ぎた記録と、管理コマンドの実行可否キャッシュの期限切れエントリもあわせて削除）
+     * 
+     * @return 削除した件数（管理コマンドの実行可否キャッシュの分は含まない）
+     */
+    public static int sweep() {
+        AdminAuthorizationCache.sweep();
+        long offlineCutoff = System.currentTimeMillis() - ConfigManager.getCacheOfflineRetentionSeconds() * 1000L;
+        long now = System.nanoTime();
+        notFound.values().removeIf(until -> until - now <= 0);
+        int removed = 0;
+        for (Map.Entry<UUID, CacheEntry> e : cache.entrySet()) {
+            CacheEntry entry = e.getValue();
+            String cause = entry.isExpired(now) ? "expired" : entry.isOfflineSince(offlineCutoff) ? "offline" : null;
+            if (cause != null && cache.remove(e.getKey(), entry)) {
+                MetricsRegistry.countCacheEviction(cause);
+                removed++;
+            }
+        }
+
+        if (removed > 0) {
+            LogWriter.writeInfo("[Greetmate] キャッシュを掃除しました: " + removed + "件削除 (残り" + cache.size() + "件)");
+        }
+        return removed;
+    }
+
+    /**
+     * ログインメッセージのテンプレートを取得
      * 
      * @param uuid 対象プレイヤーのUUID
-     * @return キャッシュが有効な場合はメッセージ 無効ならnull
+     * @return キャッシュが有効な場合はテンプレート 無効ならnull
      */
-    public static String getKickText(UUID uuid) {
-        CacheEntry entry = cache.get(uuid);
-        return entry != null && !entry.isExpired()
-                ? entry.kickText
-                : null;
+    public static GreetingTemplate getLoginTemplate(UUID uuid) {
+        RoleGreeting greeting = lookupGreeting(uuid);
+        return greeting != null ? greeting.getLoginTemplate() : null;
     }
 
     /**
-     * BANメッセージを取得
+     * ログアウトメッセージのテンプレートを取得
      * 
      * @param uuid 対象プレイヤーのUUID
-     * @return キャッシュが有効な場合はメッセージ 無効ならnull
+     * @return キャッシュが有効な場合はテンプレート 無効ならnull
      */
-    public static String getBanText(UUID uuid) {
+    public static GreetingTemplate getLogoutTemplate(UUID uuid) {
+        RoleGreeting greeting = lookupGreeting(uuid);
+        return greeting != null ? greeting.getLogoutTemplate() : null;
+    }
+
+    /**
+     * キックメッセージのテンプレートを取得
+     * 
+     * @param uuid 対象プレイヤーのUUID
+     * @return キャッシュが有効な場合はテンプレート 無効ならnull
+     */
+    public static GreetingTemplate getKickTemplate(UUID uuid) {
+        RoleGreeting greeting = lookupGreeting(uuid);
+        return greeting != null ? greeting.getKickTemplate() : null;
+    }
+
+    /**
+     * BANメッセージのテンプレートを取得
+     * 
+     * @param uuid 対象プレイヤーのUUID
+     * @return キャッシュが有効な場合はテンプレート 無効ならnull
+     */
+    public static GreetingTemplate getBanTemplate(UUID uuid) {
+        RoleGreeting greeting = lookupGreeting(uuid);
+        return greeting != null ? greeting.getBanTemplate() : null;
+    }
+
+    /**
+     * 有効なキャッシュエントリのロールIDから、現在のロールの挨拶メッセージを取得
+     * 
+     * @param uuid 対象プレイヤーのUUID
+     * @return 挨拶メッセージ キャッシュが無効か、ロールが削除済みならnull
+     */
+    private static RoleGreeting lookupGreeting(UUID uuid) {
+        CacheEntry entry = lookup(uuid);
+        return entry != null ? RoleRegistry.getGreeting(entry.roleId) : null;
+    }
+
+    /**
+     * 有効なキャッシュエントリを取得し、参照結果を計上
+     * 
+     * @param uuid 対象プレイヤーのUUID
+     * @return 有効なエントリ 存在しないか期限切れならnull
+     */
+    private static CacheEntry lookup(UUID uuid) {
         CacheEntry entry = cache.get(uuid);
-        return entry != null && !entry.isExpired()
-                ? entry.banText
-                : null;
+        if (entry == null) {
+            MetricsRegistry.countCacheLookup("miss");
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            MetricsRegistry.countCacheLookup("expired");
+            return null;
+        }
+        MetricsRegistry.countCacheLookup("hit");
+        entry.recordAccess();
+        return entry;
     }
 
     /**
-     * 挨拶メッセージとキャッシュ時刻を保持する内部クラス
+     * プレイヤーのロールIDをキャッシュへ登録
+     * （挨拶メッセージは RoleRegistry が保持する1ロール1インスタンスを参照時に引くため、ロールの文言変更は即時に反映される）
+     * 
+     * @param uuid   対象プレイヤーのUUID
+     * @param roleId ロールID
+     * @return 登録できた場合true
+     */
+    private static boolean cacheRoleMessages(UUID uuid, int roleId) {
+        if (RoleRegistry.getGreeting(roleId) == null) {
+            LogWriter.writeWarn("[Greetmate] ロール情報が見つかりませんでした: role=" + roleId);
+            return false;
+        }
+
+        notFound.remove(uuid);
+        cache.put(uuid, new CacheEntry(roleId));
+        evictIfNeeded();
+        return true;
+    }
+
+    /**
+     * 最大件数を超えていれば、ログアウト済みまたは参照頻度の低いエントリから削除
+     * （参照のたびに加算し走査のたびに減衰させる頻度を使った CLOCK 方式。走査位置は前回の続きから再開し、末尾に達したら先頭へ戻る。
+     * 走査は同時に1スレッドのみで、全エントリの頻度が0になるまでの周回数を上限とする）
+     */
+    private static void evictIfNeeded() {
+        int maximumSize = ConfigManager.getCacheMaximumSize();
+        if (cache.size() <= maximumSize || !evicting.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            long budget = (CacheEntry.MAX_FREQUENCY + 1L) * (cache.size() + 1L);
+            for (long step = 0; step < budget && cache.size() > maximumSize; step++) {
+                if (!hand.hasNext()) {
+                    hand = cache.entrySet().iterator();
+                    continue;
+                }
+                Map.Entry<UUID, CacheEntry> e = hand.next();
+                CacheEntry entry = e.getValue();
+                if ((entry.offlineSince != 0L || entry.frequency == 0) && cache.remove(e.getKey(), entry)) {
+                    MetricsRegistry.countCacheEviction("size");
+                } else {
+                    entry.decay();
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * ロールIDと有効期限、参照頻度、ログアウト時刻を保持する内部クラス
      */
     private static class CacheEntry {
-        final String loginText;
-        final String logoutText;
-        final String kickText;
-        final String banText;
-        final long timestamp;
+        static final int MAX_FREQUENCY = 3;
+
+        final int roleId;
+        final long deadline;
+        int frequency = 1; // 削除順の目安にのみ使う近似値のため volatile にしない
+        volatile long offlineSince;
 
         /**
-         * 各種メッセージとタイムスタンプを保持
+         * ロールIDと有効期限の時刻（System.nanoTime 基準）を保持
          * 
-         * @param loginText  ログイン時メッセージ
-         * @param logoutText ログアウト時メッセージ
-         * @param kickText   キック時メッセージ
-         * @param banText    BAN時メッセージ
+         * @param roleId ロールID
          */
-        CacheEntry(String loginText, String logoutText, String kickText, String banText) {
-            this.loginText = loginText;
-            this.logoutText = logoutText;
-            this.kickText = kickText;
-            this.banText = banText;
-            this.timestamp = System.currentTimeMillis();
+        CacheEntry(int roleId) {
+            this.roleId = roleId;
+            this.deadline = System.nanoTime() + ConfigManager.getCacheExpireNanos();
         }
 
         /**
          * キャッシュが有効期限を超えているか判定
          * 
+         * @param now 現在時刻（System.nanoTime）
          * @return trueなら期限切れ
          */
-        boolean isExpired() {
-            long elapsed = (System.currentTimeMillis() - timestamp) / 1000;
-            return elapsed > ConfigManager.getCacheExpireSeconds();
+        boolean isExpired(long now) {
+            return now - deadline > 0;
+        }
+
+        /**
+         * 指定時刻以前からログアウト状態か判定
+         * 
+         * @param cutoff 基準時刻（ミリ秒）
+         * @return trueなら基準時刻以前にログアウト済み
+         */
+        boolean isOfflineSince(long cutoff) {
+            long since = offlineSince;
+            return since != 0L && since <= cutoff;
+        }
+
+        /**
+         * 参照頻度を加算（上限到達後は書き込まない）
+         */
+        void recordAccess() {
+            if (frequency < MAX_FREQUENCY) {
+                frequency++;
+            }
+        }
+
+        /**
+         * 参照頻度を減衰
+         */
+        void decay() {
+            if (frequency > 0) {
+                frequency--;
+            }
         }
     }
 
@@ -0,0 +1,98 @@
+/*
+######################################################################################################################################################
+# ファイル   : UuidBloomFilter.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.cache;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * UUIDの登録有無を判定するブルームフィルタクラス
+ * （未登録のUUIDはビット参照のみで確実に判定でき、登録済みと判定された場合のみ呼び出し側で実データを確認する。削除には対応しない）
+ */
+public class UuidBloomFilter {
+
+    private static final int BITS_PER_ENTRY = 10;
+    private static final int HASH_COUNT = 7;
+    private static final long MAX_BITS = 1L << 30;
+
+    private final AtomicLongArray words;
+    private final long mask;
+
+    /**
+     * 想定件数から誤判定率が約1%となるビット数（2のべき乗に切り上げ）で生成
+     * 
+     * @param expectedEntries 想定件数
+     */
+    public UuidBloomFilter(int expectedEntries) {
+        long bits = Math.clamp((long) expectedEntries * BITS_PER_ENTRY, Long.SIZE, MAX_BITS);
+        bits = Long.highestOneBit(bits - 1) << 1;
+        words = new AtomicLongArray((int) (bits >>> 6));
+        mask = bits - 1;
+    }
+
+    /**
+     * UUIDを登録
+     * 
+     * @param uuid 登録するUUID
+     */
+    public void add(UUID uuid) {
+        long h1 = mix(uuid.getMostSignificantBits());
+        long h2 = mix(uuid.getLeastSignificantBits()) | 1L;
+        for (int i = 0; i < HASH_COUNT; i++) {
+            long bit = (h1 + i * h2) & mask;
+            long flag = 1L << bit;
+            int word = (int) (bit >>> 6);
+            if ((words.get(word) & flag) == 0) {
+                words.getAndAccumulate(word, flag, (current, value) -> current | value);
+            }
+        }
+    }
+
+    /**
+     * UUIDが登録されている可能性があるかを判定
+     * 
+     * @param uuid 判定するUUID
+     * @return 登録されている可能性がある場合true falseの場合は確実に未登録
+     */
+    public boolean mightContain(UUID uuid) {
+        long h1 = mix(uuid.getMostSignificantBits());
+        long h2 = mix(uuid.getLeastSignificantBits()) | 1L;
+        for (int i = 0; i < HASH_COUNT; i++) {
+            long bit = (h1 + i * h2) & mask;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * ビット数を取得
+     * 
+     * @return ビット数
+     */
+    public long bitSize() {
+        return mask + 1;
+    }
+
+    /**
+     * 64ビット値を攪拌（MurmurHash3 の最終処理）
+     * 
+     * @param value 値
+     * @return 攪拌後の値
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+
+}
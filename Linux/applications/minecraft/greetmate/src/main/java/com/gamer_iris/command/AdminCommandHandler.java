@@ -5,36 +5,74 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   ロール検証をRoleRegistryで実施
+# V-003      : 2026/10/18                 Gamer-Iris   greetmateコマンド（BAN情報の全件再同期）を追加
+# V-004      : 2026/10/18                 Gamer-Iris   greetmateコマンドに設定の再読み込みを追加
+# V-005      : 2026/10/18                 Gamer-Iris   BAN情報の全件再同期をリーダーのサーバーに限定
+# V-006      : 2026/10/18                 Gamer-Iris   ロール変更・BAN時にキャッシュを無効化し他のサーバーへ通知
+# V-007      : 2026/10/18                 Gamer-Iris   コマンドのDB処理を専用スレッドで実行し、実行者ごとの同時実行数を制限
+# V-008      : 2026/10/18                 Gamer-Iris   実行者のロール確認を実行可否キャッシュで実施
+# V-009      : 2026/10/18                 Gamer-Iris   BAN対象のUUIDをプレイヤー名索引から解決
+# V-010      : 2026/10/18                 Gamer-Iris   プレイヤー名・BAN中の名前・ロールIDのタブ補完を追加
+# V-011      : 2026/10/18                 Gamer-Iris   BAN・解除をログイン判定用のBAN一覧へ即時反映
+# V-012      : 2026/10/18                 Gamer-Iris   プレイヤー情報の登録・ロール変更・削除をジャーナル付きの遅延書き込みで反映
+# V-013      : 2026/10/18                 Gamer-Iris   DB障害時のローカルスナップショットの再スケジュールを追加
+# V-014      : 2026/10/18                 Gamer-Iris   BANのDB登録に失敗した場合はログイン判定・キャッシュへ反映せず中断
+# V-015      : 2026/10/18                 Gamer-Iris   補完用のBAN中の名前の更新をBanRegistryへ集約
+# V-016      : 2026/10/18                 Gamer-Iris   ロール確認前に送っていた対象プレイヤー・ロールIDの検証成功メッセージを削除
 # 
 ######################################################################################################################################################
 */
 package com.gamer_iris.command;
 
+import com.gamer_iris.Main;
+import com.gamer_iris.cache.AdminAuthorizationCache;
+import com.gamer_iris.cache.BanRegistry;
+import com.gamer_iris.cache.CacheInvalidator;
+import com.gamer_iris.cache.PlayerNameIndex;
+import com.gamer_iris.cache.RoleRegistry;
+import com.gamer_iris.cache.UserGreetingCacheManager;
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.exception.CriticalException;
+import com.gamer_iris.logging.LogRotator;
 import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.maintenance.LeaderElection;
+import com.gamer_iris.maintenance.MaintenanceScheduler;
 import com.gamer_iris.model.BanPlayerData;
 import com.gamer_iris.model.PlayerData;
 import com.gamer_iris.repository.BanPlayerDao;
+import com.gamer_iris.repository.LocalSnapshotStore;
 import com.gamer_iris.repository.PlayerRoleDao;
+import com.gamer_iris.repository.PlayerWriteBehind;
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.command.Command;
-import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabExecutor;
 import org.bukkit.entity.Player;
 import java.util.Date;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 
 /**
- * プレイヤー向け管理系コマンドを処理するハンドラークラス
+ * プレイヤー向け管理系コマンドを処理するハンドラークラス（Bukkitの状態を使う検証はメインスレッドで行い、DB処理は CommandPipeline へ委譲する）
+ * （タブ補完はメモリ上の索引のみを参照し、DBやオフラインプレイヤーの一覧は参照しない）
  */
-public class AdminCommandHandler implements CommandExecutor {
+public class AdminCommandHandler implements TabExecutor {
+
+    private static final int MAX_COMPLETIONS = 50;
+    private static final List<String> ROLE_SUBCOMMANDS = List.of("set", "register", "del");
+    private static final List<String> ADMIN_SUBCOMMANDS = List.of("resyncbans", "reload");
 
     private final Map<String, BiFunction<CommandSender, String[], Boolean>> commandHandlers = Map.of(
             "greetban", this::handleBan,
             "greetunban", this::handleUnban,
-            "greetrole", this::handleRoleCommand);
+            "greetrole", this::handleRoleCommand,
+            "greetmate", this::handleAdminCommand);
 
     /**
      * 有効なコマンド名に対応した処理を分岐
@@ -51,6 +89,63 @@ public class AdminCommandHandler implements CommandExecutor {
         return commandHandlers.getOrDefault(cmd, (_, _) -> false).apply(sender, args);
     }
 
+    /**
+     * 入力中の引数の補完候補を取得
+     * 
+     * @param sender  コマンド実行者
+     * @param command 実行中のコマンド
+     * @param alias   入力されたラベル
+     * @param args    入力中の引数
+     * @return 補完候補 nullの場合はBukkit既定のオンラインプレイヤー名で補完
+     */
+    @Override
+    public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
+        String cmd = command.getName().toLowerCase();
+        if (!commandHandlers.containsKey(cmd) || !sender.hasPermission("greetmate.command." + cmd) || args.length == 0)
+            return List.of();
+
+        String input = args[args.length - 1];
+        return switch (cmd) {
+            case "greetban" -> args.length == 1 ? PlayerNameIndex.complete(input, MAX_COMPLETIONS) : List.of();
+            case "greetunban" -> args.length == 1 ? PlayerNameIndex.completeBanned(input, MAX_COMPLETIONS) : List.of();
+            case "greetrole" -> completeRoleCommand(args, input);
+            default -> args.length == 1 ? filterByPrefix(ADMIN_SUBCOMMANDS, input) : List.of();
+        };
+    }
+
+    /**
+     * greetroleコマンドの補完候補を取得（対象プレイヤーはオンラインである必要があるため、Bukkit既定の補完に任せる）
+     * 
+     * @param args  入力中の引数
+     * @param input 入力中の文字列
+     * @return 補完候補 nullの場合はBukkit既定のオンラインプレイヤー名で補完
+     */
+    private List<String> completeRoleCommand(String[] args, String input) {
+        if (args.length == 1)
+            return filterByPrefix(ROLE_SUBCOMMANDS, input);
+
+        String subCommand = args[0].toLowerCase();
+        if (!ROLE_SUBCOMMANDS.contains(subCommand))
+            return List.of();
+        if (args.length == 2)
+            return null;
+        if (args.length == 3 && !subCommand.equals("del"))
+            return filterByPrefix(RoleRegistry.getRoleIds(), input);
+        return List.of();
+    }
+
+    /**
+     * 候補一覧から前方一致するものを取得
+     * 
+     * @param candidates 候補一覧
+     * @param input      入力中の文字列（大文字小文字は区別しない）
+     * @return 前方一致した候補
+     */
+    private List<String> filterByPrefix(List<String> candidates, String input) {
+        String prefix = input.toLowerCase(Locale.ROOT);
+        return candidates.stream().filter(candidate -> candidate.startsWith(prefix)).toList();
+    }
+
     /**
      * 指定したプレイヤーをBAN登録
      * 
@@ -60,26 +155,34 @@ public class AdminCommandHandler implements CommandExecutor {
      */
     private boolean handleBan(CommandSender sender, String[] args) {
         Player playerSender = validatePlayerSender(sender);
-        if ((playerSender == null || !hasPermission(sender, "greetmate.command.greetban")
-                || !hasRequiredRole(playerSender))
+        if (playerSender == null || !hasPermission(sender, "greetmate.command.greetban")
                 || !validateArgsLength(sender, args, 2, "§e[Greetmate] 使用法: /greetban <player> <reason>"))
             return true;
 
         String playerName = args[0];
         String reason = String.join(" ", args).substring(playerName.length()).trim();
 
-        OfflinePlayer target = Bukkit.getOfflinePlayer(playerName);
-        UUID uuid = target.getUniqueId();
-
-        PlayerData targetData = PlayerRoleDao.findPlayerByUUID(uuid);
-        int roleId = targetData != null ? targetData.getRole() : 0;
+        CommandPipeline.submit(playerSender, reply -> {
+            if (!hasRequiredRole(playerSender, reply))
+                return;
 
-        BanPlayerData ban = new BanPlayerData(0, playerName, roleId, uuid, reason, new Date());
-        BanPlayerDao.insert(ban);
-        PlayerRoleDao.deletePlayerByUUID(uuid);
+            UUID uuid = resolveUuid(playerName);
+            PlayerData targetData = PlayerRoleDao.findPlayerByUUID(uuid);
+            int roleId = targetData != null ? targetData.getRole() : 0;
 
-        sender.sendMessage("§a[Greetmate] " + playerName + " をBAN登録しました。");
-        LogWriter.writeInfo("[Greetmate] BAN登録: " + playerName + " 理由: " + reason);
+            BanPlayerData ban = new BanPlayerData(0, playerName, roleId, uuid, reason, new Date());
+            if (!BanPlayerDao.insert(ban)) {
+                reply.accept("§c[Greetmate] BAN登録に失敗しました。");
+                return;
+            }
+            PlayerNameIndex.put(uuid, playerName);
+            BanRegistry.add(uuid, playerName, reason);
+            PlayerWriteBehind.delete(uuid);
+            CacheInvalidator.publish(uuid);
+
+            reply.accept("§a[Greetmate] " + playerName + " をBAN登録しました。");
+            LogWriter.writeInfo("[Greetmate] BAN登録: " + playerName + " 理由: " + reason);
+        });
         return true;
     }
 
@@ -92,23 +195,26 @@ public class AdminCommandHandler implements CommandExecutor {
      */
     private boolean handleUnban(CommandSender sender, String[] args) {
         Player playerSender = validatePlayerSender(sender);
-        if ((playerSender == null || !hasPermission(sender, "greetmate.command.greetunban")
-                || !hasRequiredRole(playerSender))
+        if (playerSender == null || !hasPermission(sender, "greetmate.command.greetunban")
                 || !validateArgsLength(sender, args, 1, "§e[Greetmate] 使用法: /greetunban <player>"))
             return true;
 
         String playerName = args[0];
-        OfflinePlayer target = Bukkit.getOfflinePlayer(playerName);
-        UUID uuid = target.getUniqueId();
-
-        boolean deleted = BanPlayerDao.delete(uuid);
-        if (deleted) {
-            sender.sendMessage("§a[Greetmate] " + playerName + " のBANを解除しました。");
-            LogWriter.writeInfo("[Greetmate] BAN解除: " + playerName);
-        } else {
-            sender.sendMessage("§c[Greetmate] BAN解除に失敗しました。該当プレイヤーは登録されていない可能性があります。");
-        }
-
+        CommandPipeline.submit(playerSender, reply -> {
+            if (!hasRequiredRole(playerSender, reply))
+                return;
+
+            UUID uuid = resolveUuid(playerName);
+            boolean deleted = BanPlayerDao.delete(uuid);
+            if (deleted) {
+                BanRegistry.remove(uuid);
+                CacheInvalidator.publish(uuid);
+                reply.accept("§a[Greetmate] " + playerName + " のBANを解除しました。");
+                LogWriter.writeInfo("[Greetmate] BAN解除: " + playerName);
+            } else {
+                reply.accept("§c[Greetmate] BAN解除に失敗しました。該当プレイヤーは登録されていない可能性があります。");
+            }
+        });
         return true;
     }
 
@@ -122,8 +228,7 @@ public class AdminCommandHandler implements CommandExecutor {
     private boolean handleRoleCommand(CommandSender sender, String[] args) {
         Player playerSender = validatePlayerSender(sender);
         if (playerSender == null
-                || !hasPermission(sender, "greetmate.command.greetrole")
-                || !hasRequiredRole(playerSender)) {
+                || !hasPermission(sender, "greetmate.command.greetrole")) {
             return true;
         }
 
@@ -132,13 +237,13 @@ public class AdminCommandHandler implements CommandExecutor {
 
         switch (args[0].toLowerCase()) {
             case "set":
-                handleSet(sender, args);
+                handleSet(playerSender, args);
                 break;
             case "register":
-                handleRegister(sender, args);
+                handleRegister(playerSender, args);
                 break;
             case "del":
-                handleDelete(sender, args);
+                handleDelete(playerSender, args);
                 break;
             default:
                 sender.sendMessage("§e[Greetmate] 使用法: /greetrole <set|register|del>");
@@ -148,48 +253,126 @@ public class AdminCommandHandler implements CommandExecutor {
     }
 
     /**
-     * 登録済プレイヤーのロールIDを更新
+     * greetmateコマンドを処理分岐
      * 
      * @param sender 実行者
      * @param args   引数
+     * @return trueを返す
      */
-    private boolean handleSet(CommandSender sender, String[] args) {
-        if (!validateArgsLength(sender, args, 3, "§e使用法: /greetrole set <player> <role>"))
+    private boolean handleAdminCommand(CommandSender sender, String[] args) {
+        Player playerSender = validatePlayerSender(sender);
+        if (playerSender == null
+                || !hasPermission(sender, "greetmate.command.greetmate")) {
             return true;
+        }
+
+        if (!validateArgsLength(sender, args, 1, "§e[Greetmate] 使用法: /greetmate <resyncbans|reload>"))
+            return true;
+
+        String subCommand = args[0].toLowerCase();
+        CommandPipeline.submit(playerSender, reply -> {
+            if (!hasRequiredRole(playerSender, reply))
+                return;
+
+            switch (subCommand) {
+                case "resyncbans":
+                    if (!MaintenanceScheduler.requestFullBanResync()) {
+                        reply.accept("§c[Greetmate] このサーバーはメンテナンスのリーダーではないため実行できません。");
+                        break;
+                    }
+                    reply.accept("§a[Greetmate] BAN情報の全件再同期を開始しました。");
+                    LogWriter.writeInfo("[Greetmate] BAN情報の全件再同期を要求: " + playerSender.getName());
+                    break;
+                case "reload":
+                    LogWriter.writeInfo("[Greetmate] 設定の再読み込みを要求: " + playerSender.getName());
+                    reloadSettings(reply);
+                    break;
+                default:
+                    reply.accept("§e[Greetmate] 使用法: /greetmate <resyncbans|reload>");
+            }
+        });
+        return true;
+    }
+
+    /**
+     * config.yml を再読み込みし、テンプレートの再構築と定期処理の再スケジュールを実行
+     * 
+     * @param reply 実行者への返信
+     */
+    private void reloadSettings(Consumer<String> reply) {
+        List<String> restartRequired;
+        try {
+            restartRequired = ConfigManager.reload(Main.getInstance());
+        } catch (CriticalException e) {
+            LogWriter.writeWarn("[Greetmate] 設定の再読み込みに失敗しました: " + e.getMessage());
+            reply.accept("§c[Greetmate] config.yml に不正な値があるため、再読み込みを中止しました。");
+            return;
+        }
+
+        RoleRegistry.load();
+        RoleRegistry.reschedule();
+        UserGreetingCacheManager.reschedule();
+        LogRotator.reschedule();
+        MaintenanceScheduler.reschedule();
+        LeaderElection.reschedule();
+        CacheInvalidator.reschedule();
+        BanRegistry.reschedule();
+        PlayerWriteBehind.reschedule();
+        LocalSnapshotStore.reschedule();
+
+        reply.accept("§a[Greetmate] 設定を再読み込みしました。");
+        LogWriter.writeInfo("[Greetmate] 設定を再読み込みしました。");
+        if (!restartRequired.isEmpty()) {
+            reply.accept("§e[Greetmate] 次の設定は再起動後に反映されます: " + String.join(", ", restartRequired));
+        }
+    }
+
+    /**
+     * 登録済プレイヤーのロールIDを更新（DBへの反映とキャッシュの無効化は遅延書き込みの反映後に実施）
+     * 
+     * @param sender 実行者
+     * @param args   引数
+     */
+    private void handleSet(Player sender, String[] args) {
+        if (!validateArgsLength(sender, args, 3, "§e使用法: /greetrole set <player> <role>"))
+            return;
 
         String playerName = args[1];
         Integer roleId = getValidRoleIdOrAbort(sender, args[2]);
         if (roleId == null)
-            return true;
+            return;
 
         Player target = getPlayerOrAbort(sender, playerName);
         if (target == null)
-            return true;
+            return;
 
         UUID uuid = target.getUniqueId();
-        PlayerData data = PlayerRoleDao.findPlayerByUUID(uuid);
-        if (data == null) {
-            sender.sendMessage("§c[Greetmate] 指定されたプレイヤーは登録されていません。/greetrole register を使ってください。");
-            return true;
-        }
+        CommandPipeline.submit(sender, reply -> {
+            if (!hasRequiredRole(sender, reply))
+                return;
 
-        boolean updated = PlayerRoleDao.updatePlayerRoleByUUID(uuid, roleId);
-        if (updated) {
-            sender.sendMessage("§a[Greetmate] ロールを更新しました: " + playerName + " → " + roleId);
-            LogWriter.writeInfo("[Greetmate] ロール更新: " + playerName + " → " + roleId);
-        } else {
-            sender.sendMessage("§c[Greetmate] ロールの更新に失敗しました。");
-        }
-        return true;
+            if (!PlayerWriteBehind.isRegistered(uuid)) {
+                reply.accept("§c[Greetmate] 指定されたプレイヤーは登録されていません。/greetrole register を使ってください。");
+                return;
+            }
+
+            boolean updated = PlayerWriteBehind.updateRole(uuid, roleId);
+            if (updated) {
+                reply.accept("§a[Greetmate] ロールを更新しました: " + playerName + " → " + roleId);
+                LogWriter.writeInfo("[Greetmate] ロール更新: " + playerName + " → " + roleId);
+            } else {
+                reply.accept("§c[Greetmate] ロールの更新に失敗しました。");
+            }
+        });
     }
 
     /**
-     * プレイヤー情報を新規登録
+     * プレイヤー情報を新規登録（DBへの反映とキャッシュの無効化は遅延書き込みの反映後に実施）
      * 
      * @param sender 実行者
      * @param args   引数
      */
-    private void handleRegister(CommandSender sender, String[] args) {
+    private void handleRegister(Player sender, String[] args) {
         if (!validateArgsLength(sender, args, 3, "§e使用法: /greetrole register <player> <role>"))
             return;
 
@@ -203,29 +386,32 @@ public class AdminCommandHandler implements CommandExecutor {
             return;
 
         UUID uuid = target.getUniqueId();
-        PlayerData existing = PlayerRoleDao.findPlayerByUUID(uuid);
+        CommandPipeline.submit(sender, reply -> {
+            if (!hasRequiredRole(sender, reply))
+                return;
 
-        if (existing != null) {
-            sender.sendMessage("§c[Greetmate] 既に登録されています。/greetrole set を使ってください。");
-            return;
-        }
+            if (PlayerWriteBehind.isRegistered(uuid)) {
+                reply.accept("§c[Greetmate] 既に登録されています。/greetrole set を使ってください。");
+                return;
+            }
 
-        boolean inserted = PlayerRoleDao.insertPlayer(uuid, playerName, roleId);
-        if (inserted) {
-            sender.sendMessage("§a[Greetmate] プレイヤーを登録しました: " + playerName + "（ロール: " + roleId + "）");
-            LogWriter.writeInfo("[Greetmate] 新規プレイヤー登録: " + playerName + "（ロール: " + roleId + "）");
-        } else {
-            sender.sendMessage("§c[Greetmate] プレイヤー登録に失敗しました。");
-        }
+            boolean inserted = PlayerWriteBehind.upsert(uuid, playerName, roleId);
+            if (inserted) {
+                reply.accept("§a[Greetmate] プレイヤーを登録しました: " + playerName + "（ロール: " + roleId + "）");
+                LogWriter.writeInfo("[Greetmate] 新規プレイヤー登録: " + playerName + "（ロール: " + roleId + "）");
+            } else {
+                reply.accept("§c[Greetmate] プレイヤー登録に失敗しました。");
+            }
+        });
     }
 
     /**
-     * 登録済プレイヤー情報を削除
+     * 登録済プレイヤー情報を削除（DBへの反映とキャッシュの無効化は遅延書き込みの反映後に実施）
      * 
      * @param sender 実行者
      * @param args   引数
      */
-    private void handleDelete(CommandSender sender, String[] args) {
+    private void handleDelete(Player sender, String[] args) {
         boolean isValid = validateArgsLength(sender, args, 2, "§e使用法: /greetrole del <player>");
         String playerName = args.length > 1 ? args[1] : "";
 
@@ -237,13 +423,18 @@ public class AdminCommandHandler implements CommandExecutor {
                 sender.sendMessage("§c[Greetmate] プレイヤーの取得に失敗しました。");
             } else {
                 UUID uuid = target.getUniqueId();
-                boolean deleted = PlayerRoleDao.deletePlayerByUUID(uuid);
-                if (deleted) {
-                    sender.sendMessage("§a[Greetmate] プレイヤー情報を削除しました: " + playerName);
-                    LogWriter.writeInfo("[Greetmate] プレイヤー情報削除: " + playerName);
-                } else {
-                    sender.sendMessage("§c[Greetmate] 削除に失敗しました。");
-                }
+                CommandPipeline.submit(sender, reply -> {
+                    if (!hasRequiredRole(sender, reply))
+                        return;
+
+                    boolean deleted = PlayerWriteBehind.isRegistered(uuid) && PlayerWriteBehind.delete(uuid);
+                    if (deleted) {
+                        reply.accept("§a[Greetmate] プレイヤー情報を削除しました: " + playerName);
+                        LogWriter.writeInfo("[Greetmate] プレイヤー情報削除: " + playerName);
+                    } else {
+                        reply.accept("§c[Greetmate] 削除に失敗しました。");
+                    }
+                });
             }
         }
     }
@@ -278,15 +469,15 @@ public class AdminCommandHandler implements CommandExecutor {
     }
 
     /**
-     * 必要なロールを持っているかを確認
+     * 必要なロールを持っているかを確認（キャッシュが無い場合はDBを参照するため CommandPipeline のスレッドで呼び出す）
      * 
      * @param player プレイヤー
+     * @param reply  実行者への返信
      * @return 持っていればtrue
      */
-    private boolean hasRequiredRole(Player player) {
-        PlayerData data = PlayerRoleDao.findPlayerByUUID(player.getUniqueId());
-        if (data == null || (data.getRole() != 3 && data.getRole() != 4)) {
-            player.sendMessage("§c[Greetmate] ロール3または4のユーザーのみ実行可能です。");
+    private boolean hasRequiredRole(Player player, Consumer<String> reply) {
+        if (!AdminAuthorizationCache.isAuthorized(player.getUniqueId())) {
+            reply.accept("§c[Greetmate] ロール3または4のユーザーのみ実行可能です。");
             return false;
         }
         return true;
@@ -319,11 +510,10 @@ public class AdminCommandHandler implements CommandExecutor {
     private Integer getValidRoleIdOrAbort(CommandSender sender, String input) {
         try {
             int roleId = Integer.parseInt(input);
-            if (!PlayerRoleDao.isValidRole(roleId)) {
+            if (!RoleRegistry.isValid(roleId)) {
                 sender.sendMessage("§c[Greetmate] 指定されたロールIDは存在しません。");
                 return null;
             }
-            sender.sendMessage("§a[Greetmate] ロールIDの検証に成功しました。");
             return roleId;
         } catch (NumberFormatException e) {
             sender.sendMessage("§c[Greetmate] ロールは数値で指定してください。");
@@ -331,6 +521,21 @@ public class AdminCommandHandler implements CommandExecutor {
         }
     }
 
+    /**
+     * プレイヤー名からUUIDを解決（索引に無い名前のみ、プロフィール検索を伴う Bukkit の解決を CommandPipeline のスレッドで行う）
+     * 
+     * @param name プレイヤー名
+     * @return UUID
+     */
+    private UUID resolveUuid(String name) {
+        UUID uuid = PlayerNameIndex.find(name);
+        if (uuid != null) {
+            return uuid;
+        }
+        OfflinePlayer target = Bukkit.getOfflinePlayer(name);
+        return target.getUniqueId();
+    }
+
     /**
      * オンラインプレイヤーの検証
      * 
@@ -344,7 +549,6 @@ public class AdminCommandHandler implements CommandExecutor {
             sender.sendMessage("§c[Greetmate] プレイヤーが見つかりません（オンラインである必要があります）。");
             return null;
         }
-        sender.sendMessage("§a[Greetmate] プレイヤーの検証に成功しました。");
         return player;
     }
 
@@ -0,0 +1,183 @@
+/*
+######################################################################################################################################################
+# ファイル   : CommandPipeline.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   プラグインの停止中でメインスレッドへ返信を戻せない場合は返信を破棄してログを出力
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.command;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.logging.LogWriter;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.IllegalPluginAccessException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 管理コマンドのDB処理を専用スレッドで実行し、実行者への返信をメインスレッドへ戻すクラス（実行者ごとに処理中のコマンド数を制限する）
+ */
+public class CommandPipeline {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private static final Map<UUID, Integer> inFlight = new ConcurrentHashMap<>();
+
+    private static ExecutorService service;
+    private static volatile Executor worker;
+    private static volatile Executor mainThread;
+    private static volatile int maxInFlightPerSender;
+
+    /**
+     * 専用スレッドで実行するコマンド処理
+     */
+    @FunctionalInterface
+    public interface Task {
+
+        /**
+         * コマンド処理を実行
+         * 
+         * @param reply 実行者への返信（処理完了後にメインスレッドでまとめて送信）
+         */
+        void run(Consumer<String> reply);
+    }
+
+    /**
+     * 設定されたスレッド数でコマンド処理用のスレッドを開始
+     */
+    public static synchronized void start() {
+        if (service != null) {
+            return;
+        }
+        service = Executors.newFixedThreadPool(ConfigManager.getCommandWorkerThreads(),
+                Thread.ofPlatform().daemon().name("Greetmate-Command-", 1).factory());
+        start(service, task -> Bukkit.getScheduler().runTask(Main.getInstance(), task),
+                ConfigManager.getCommandMaxInFlightPerSender());
+    }
+
+    /**
+     * 実行先と同時実行数の上限を指定して開始
+     * 
+     * @param workerExecutor     コマンド処理の実行先
+     * @param mainThreadExecutor 返信の実行先
+     * @param maxInFlight        実行者ごとの処理中コマンド数の上限
+     */
+    static synchronized void start(Executor workerExecutor, Executor mainThreadExecutor, int maxInFlight) {
+        worker = workerExecutor;
+        mainThread = mainThreadExecutor;
+        maxInFlightPerSender = maxInFlight;
+    }
+
+    /**
+     * 新しいコマンドの受付を停止し、処理中のコマンドの完了を一定時間待機（超えた場合は中断）
+     */
+    public static synchronized void shutdown() {
+        worker = null;
+        if (service == null) {
+            return;
+        }
+
+        service.shutdown();
+        try {
+            service.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        service.shutdownNow();
+        service = null;
+    }
+
+    /**
+     * コマンド処理を受け付け、専用スレッドで実行
+     * 
+     * @param sender 実行者
+     * @param task   コマンド処理
+     * @return 受け付けた場合true 処理中のコマンド数が上限に達している場合や停止中はfalse
+     */
+    public static boolean submit(Player sender, Task task) {
+        Executor executor = worker;
+        if (executor == null) {
+            sender.sendMessage("§c[Greetmate] プラグインの停止中のため実行できません。");
+            return false;
+        }
+
+        UUID key = sender.getUniqueId();
+        if (inFlight.merge(key, 1, Integer::sum) > maxInFlightPerSender) {
+            release(key);
+            sender.sendMessage("§c[Greetmate] 処理中のコマンドがあります。完了してから再度実行してください。");
+            return false;
+        }
+
+        try {
+            executor.execute(() -> run(sender, key, task));
+        } catch (RejectedExecutionException e) {
+            release(key);
+            sender.sendMessage("§c[Greetmate] プラグインの停止中のため実行できません。");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * コマンド処理を実行し、溜めた返信をメインスレッドで送信（プラグインの停止中でスケジュールできない場合は返信を破棄）
+     * 
+     * @param sender 実行者
+     * @param key    実行者のUUID
+     * @param task   コマンド処理
+     */
+    private static void run(Player sender, UUID key, Task task) {
+        List<String> replies = new ArrayList<>();
+        try {
+            task.run(replies::add);
+        } catch (RuntimeException e) {
+            LogWriter.writeError("[Greetmate] 管理コマンドの実行中にエラーが発生しました。", e);
+            replies.add("§c[Greetmate] コマンドの実行中にエラーが発生しました。");
+        } finally {
+            release(key);
+        }
+
+        if (replies.isEmpty()) {
+            return;
+        }
+        try {
+            mainThread.execute(() -> replies.forEach(sender::sendMessage));
+        } catch (IllegalPluginAccessException e) {
+            LogWriter.writeWarn("[Greetmate] プラグインの停止中のため、管理コマンドの返信を破棄しました: " + sender.getName());
+        }
+    }
+
+    /**
+     * 実行者の処理中コマンド数を1減らす（0になれば記録を削除）
+     * 
+     * @param key 実行者のUUID
+     */
+    private static void release(UUID key) {
+        inFlight.computeIfPresent(key, (_, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * 実行者の処理中コマンド数を取得
+     * 
+     * @param key 実行者のUUID
+     * @return 処理中のコマンド数
+     */
+    static int inFlightCount(UUID key) {
+        return inFlight.getOrDefault(key, 0);
+    }
+
+}
@@ -5,6 +5,28 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   コネクションプール設定の追加
+# V-003      : 2026/10/18                 Gamer-Iris   ログイン時の事前取得待機時間の追加
+# V-004      : 2026/10/18                 Gamer-Iris   ロール更新確認間隔の追加
+# V-005      : 2026/10/18                 Gamer-Iris   非同期ログ出力設定の追加
+# V-006      : 2026/10/18                 Gamer-Iris   プレイヤー同期のバッチサイズ設定の追加
+# V-007      : 2026/10/18                 Gamer-Iris   挨拶メッセージの事前解析とサーバー名設定の追加
+# V-008      : 2026/10/18                 Gamer-Iris   メトリクス出力設定の追加
+# V-009      : 2026/10/18                 Gamer-Iris   キャッシュの上限件数と掃除設定の追加
+# V-010      : 2026/10/18                 Gamer-Iris   キャッシュ有効期限のナノ秒換算値を初期化時に保持
+# V-011      : 2026/10/18                 Gamer-Iris   設定値を不変のスナップショットとして保持し、再読み込みに対応
+# V-012      : 2026/10/18                 Gamer-Iris   UUID列の保存形式の設定を追加
+# V-013      : 2026/10/18                 Gamer-Iris   クリーンアップの分割削除設定の追加
+# V-014      : 2026/10/18                 Gamer-Iris   リーダー選出設定の追加
+# V-015      : 2026/10/18                 Gamer-Iris   キャッシュ無効化通知の設定を追加
+# V-016      : 2026/10/18                 Gamer-Iris   管理コマンドの実行スレッド設定を追加
+# V-017      : 2026/10/18                 Gamer-Iris   管理コマンドの実行可否キャッシュの有効期限設定を追加
+# V-018      : 2026/10/18                 Gamer-Iris   ログイン判定用BAN一覧の再構築間隔設定を追加
+# V-019      : 2026/10/18                 Gamer-Iris   管理コマンドによるプレイヤー情報の書き込み設定を追加
+# V-020      : 2026/10/18                 Gamer-Iris   DB障害時のローカルスナップショット設定を追加
+# V-021      : 2026/10/18                 Gamer-Iris   BAN情報の差分反映の再走査幅と、全件確認の1回あたりの件数設定を追加
+# V-022      : 2026/10/18                 Gamer-Iris   プレイヤーが見つからなかった結果を保持する時間の設定を追加
+# V-023      : 2026/10/18                 Gamer-Iris   キャッシュ無効化通知の1回の取得件数と読み直し件数の設定を追加
 # 
 ######################################################################################################################################################
 */
@@ -12,14 +34,17 @@ package com.gamer_iris.config;
 
 import com.gamer_iris.Main;
 import com.gamer_iris.exception.CriticalException;
-import org.bukkit.configuration.file.FileConfiguration;
+import com.gamer_iris.logging.AsyncLogWorker.OverflowPolicy;
+import com.gamer_iris.notification.GreetingTemplate;
+import com.gamer_iris.repository.UuidColumn.Storage;
+import java.util.List;
 
 /**
- * config.yml を読み込み設定を取得するマネージャークラス
+ * config.yml を読み込み設定を取得するマネージャークラス（各取得処理は解析済みの設定値を参照し、configを都度検索しない）
  */
 public class ConfigManager {
 
-    private static FileConfiguration config;
+    private static volatile ConfigSnapshot snapshot;
 
     /**
      * config.yml を読み込み初期化を行う
@@ -32,11 +57,21 @@ public class ConfigManager {
         }
 
         plugin.saveDefaultConfig();
-        config = plugin.getConfig();
+        snapshot = ConfigSnapshot.load(plugin.getConfig());
+    }
 
-        if (!isValid()) {
-            throw new CriticalException("config.yml に不整値があります。");
-        }
+    /**
+     * config.yml を読み直して検証し、問題がなければ設定値をまとめて差し替え（不正な場合は現在の設定を維持）
+     * 
+     * @param plugin プラグイン実体
+     * @return 再起動しないと反映されない設定のうち、変更された項目のキー
+     */
+    public static synchronized List<String> reload(Main plugin) {
+        plugin.reloadConfig();
+        ConfigSnapshot loaded = ConfigSnapshot.load(plugin.getConfig());
+        ConfigSnapshot previous = snapshot;
+        snapshot = loaded;
+        return loaded.restartRequiredChanges(previous);
     }
 
     /**
@@ -45,7 +80,70 @@ public class ConfigManager {
      * @return 秒数
      */
     public static int getCacheExpireSeconds() {
-        return config.getInt("cache.expireSeconds");
+        return snapshot.cacheExpireSeconds;
+    }
+
+    /**
+     * キャッシュの有効期限をナノ秒単位で取得（読み込み時に換算済み）
+     * 
+     * @return ナノ秒数
+     */
+    public static long getCacheExpireNanos() {
+        return snapshot.cacheExpireNanos;
+    }
+
+    /**
+     * ログイン時に事前取得の完了を待機する上限をミリ秒単位で取得
+     * 
+     * @return ミリ秒数
+     */
+    public static int getPrefetchWaitMillis() {
+        return snapshot.prefetchWaitMillis;
+    }
+
+    /**
+     * rolesテーブルの更新確認間隔を秒単位で取得
+     * 
+     * @return 秒数
+     */
+    public static int getRoleRefreshIntervalSeconds() {
+        return snapshot.roleRefreshIntervalSeconds;
+    }
+
+    /**
+     * キャッシュの最大件数を取得
+     * 
+     * @return 件数
+     */
+    public static int getCacheMaximumSize() {
+        return snapshot.cacheMaximumSize;
+    }
+
+    /**
+     * 期限切れキャッシュの掃除間隔を秒単位で取得
+     * 
+     * @return 秒数
+     */
+    public static int getCacheSweepIntervalSeconds() {
+        return snapshot.cacheSweepIntervalSeconds;
+    }
+
+    /**
+     * ログアウト後にキャッシュを保持する時間を秒単位で取得
+     * 
+     * @return 秒数
+     */
+    public static int getCacheOfflineRetentionSeconds() {
+        return snapshot.cacheOfflineRetentionSeconds;
+    }
+
+    /**
+     * playersテーブルに登録が無かったプレイヤーを、DBを再参照せずに未登録として扱う時間を秒単位で取得
+     * 
+     * @return 秒数
+     */
+    public static int getCacheNotFoundTtlSeconds() {
+        return snapshot.cacheNotFoundTtlSeconds;
     }
 
     /**
@@ -54,7 +152,7 @@ public class ConfigManager {
      * @return 時数
      */
     public static int getLogRotationHours() {
-        return config.getInt("log.rotationIntervalHours");
+        return snapshot.logRotationHours;
     }
 
     /**
@@ -63,7 +161,43 @@ public class ConfigManager {
      * @return 日数
      */
     public static int getLogRetentionDays() {
-        return config.getInt("log.retentionDays");
+        return snapshot.logRetentionDays;
+    }
+
+    /**
+     * ログキューの容量を取得
+     * 
+     * @return 件数
+     */
+    public static int getLogQueueCapacity() {
+        return snapshot.logQueueCapacity;
+    }
+
+    /**
+     * ログキューが満杯の場合の動作を取得
+     * 
+     * @return 動作 不正な値の場合null
+     */
+    public static OverflowPolicy getLogOverflowPolicy() {
+        return snapshot.logOverflowPolicy;
+    }
+
+    /**
+     * ログをファイルへ書き出す最大間隔をミリ秒単位で取得
+     * 
+     * @return ミリ秒数
+     */
+    public static int getLogFlushIntervalMillis() {
+        return snapshot.logFlushIntervalMillis;
+    }
+
+    /**
+     * ログをファイルへ書き出すバッファサイズをバイト単位で取得
+     * 
+     * @return バイト数
+     */
+    public static int getLogFlushThresholdBytes() {
+        return snapshot.logFlushThresholdBytes;
     }
 
     /**
@@ -72,7 +206,7 @@ public class ConfigManager {
      * @return 時数
      */
     public static int getCleanupIntervalHours() {
-        return config.getInt("maintenance.cleanupIntervalHours");
+        return snapshot.cleanupIntervalHours;
     }
 
     /**
@@ -81,7 +215,34 @@ public class ConfigManager {
      * @return 日数
      */
     public static int getCleanupThresholdDays() {
-        return config.getInt("maintenance.cleanupThresholdDays");
+        return snapshot.cleanupThresholdDays;
+    }
+
+    /**
+     * クリーンアップ時に1回のDELETEで削除する件数を取得
+     * 
+     * @return 件数
+     */
+    public static int getCleanupBatchSize() {
+        return snapshot.cleanupBatchSize;
+    }
+
+    /**
+     * クリーンアップの分割削除の間に待機する時間をミリ秒単位で取得
+     * 
+     * @return ミリ秒数
+     */
+    public static int getCleanupPauseMillis() {
+        return snapshot.cleanupPauseMillis;
+    }
+
+    /**
+     * クリーンアップ1回あたりの実行時間の上限を秒単位で取得
+     * 
+     * @return 秒数
+     */
+    public static int getCleanupMaxRuntimeSeconds() {
+        return snapshot.cleanupMaxRuntimeSeconds;
     }
 
     /**
@@ -90,7 +251,259 @@ public class ConfigManager {
      * @return 秒数
      */
     public static int getSyncIntervalSeconds() {
-        return config.getInt("maintenance.syncIntervalSeconds");
+        return snapshot.syncIntervalSeconds;
+    }
+
+    /**
+     * プレイヤー同期時に1回のSQLで扱う件数を取得
+     * 
+     * @return 件数
+     */
+    public static int getSyncBatchSize() {
+        return snapshot.syncBatchSize;
+    }
+
+    /**
+     * BAN情報の差分反映時に、反映済みの最大IDから遡って再走査するID数を取得
+     * 
+     * @return ID数
+     */
+    public static int getBanRescanWindow() {
+        return snapshot.banRescanWindow;
+    }
+
+    /**
+     * BAN登録済みプレイヤーの全件確認で、定期メンテナンス1回あたりに確認するBAN情報の件数を取得
+     * 
+     * @return 件数
+     */
+    public static int getBanSweepBatchSize() {
+        return snapshot.banSweepBatchSize;
+    }
+
+    /**
+     * リーダー選出が有効かを取得
+     * 
+     * @return 有効ならtrue
+     */
+    public static boolean isLeaderElectionEnabled() {
+        return snapshot.leaderElection;
+    }
+
+    /**
+     * リーダーのリース有効期間を秒単位で取得
+     * 
+     * @return 秒数
+     */
+    public static int getLeaseTtlSeconds() {
+        return snapshot.leaseTtlSeconds;
+    }
+
+    /**
+     * リーダーのリース更新間隔を秒単位で取得
+     * 
+     * @return 秒数
+     */
+    public static int getLeaseRenewSeconds() {
+        return snapshot.leaseRenewSeconds;
+    }
+
+    /**
+     * DB上の変更履歴によるキャッシュ無効化通知が有効かを取得
+     * 
+     * @return 有効ならtrue
+     */
+    public static boolean isInvalidationEnabled() {
+        return snapshot.invalidationEnabled;
+    }
+
+    /**
+     * キャッシュ無効化通知の確認間隔を秒単位で取得
+     * 
+     * @return 秒数
+     */
+    public static int getInvalidationPollSeconds() {
+        return snapshot.invalidationPollSeconds;
+    }
+
+    /**
+     * キャッシュ無効化通知の保持期間を時間単位で取得
+     * 
+     * @return 時間数
+     */
+    public static int getInvalidationRetentionHours() {
+        return snapshot.invalidationRetentionHours;
+    }
+
+    /**
+     * キャッシュ無効化通知の1回の確認で取得する最大件数を取得
+     * 
+     * @return 件数
+     */
+    public static int getInvalidationPollLimit() {
+        return snapshot.invalidationPollLimit;
+    }
+
+    /**
+     * キャッシュ無効化通知の確認時に、確認済みの最大IDから遡って読み直すID数を取得
+     * 
+     * @return ID数
+     */
+    public static int getInvalidationRescanWindow() {
+        return snapshot.invalidationRescanWindow;
+    }
+
+    /**
+     * プロキシ経由のプラグインメッセージによる無効化通知が有効かを取得
+     * 
+     * @return 有効ならtrue
+     */
+    public static boolean isProxyMessagingEnabled() {
+        return snapshot.proxyMessaging;
+    }
+
+    /**
+     * 管理コマンドのDB処理を実行するスレッド数を取得
+     * 
+     * @return スレッド数
+     */
+    public static int getCommandWorkerThreads() {
+        return snapshot.commandWorkerThreads;
+    }
+
+    /**
+     * 1人の実行者が同時に処理中にできる管理コマンド数を取得
+     * 
+     * @return コマンド数
+     */
+    public static int getCommandMaxInFlightPerSender() {
+        return snapshot.commandMaxInFlightPerSender;
+    }
+
+    /**
+     * 管理コマンドの実行可否キャッシュの有効期限を取得
+     * 
+     * @return 有効期限（秒）
+     */
+    public static int getCommandAuthorizationTtlSeconds() {
+        return snapshot.commandAuthorizationTtlSeconds;
+    }
+
+    /**
+     * ログイン判定用BAN一覧の再構築間隔を取得
+     * 
+     * @return 再構築間隔（秒）
+     */
+    public static int getBanRebuildIntervalSeconds() {
+        return snapshot.banRebuildIntervalSeconds;
+    }
+
+    /**
+     * プレイヤー情報の書き込みをDBへ反映する間隔を取得
+     * 
+     * @return 反映間隔（ミリ秒）
+     */
+    public static int getPlayerWriteFlushIntervalMillis() {
+        return snapshot.playerWriteFlushIntervalMillis;
+    }
+
+    /**
+     * プレイヤー情報の書き込みを1回に反映する上限件数を取得
+     * 
+     * @return 上限件数
+     */
+    public static int getPlayerWriteMaxBatchSize() {
+        return snapshot.playerWriteMaxBatchSize;
+    }
+
+    /**
+     * プレイヤー情報の書き込み失敗時の最初の再試行までの待機時間を取得
+     * 
+     * @return 待機時間（ミリ秒）
+     */
+    public static int getPlayerWriteRetryInitialMillis() {
+        return snapshot.playerWriteRetryInitialMillis;
+    }
+
+    /**
+     * プレイヤー情報の書き込み失敗時の再試行までの待機時間の上限を取得
+     * 
+     * @return 待機時間の上限（ミリ秒）
+     */
+    public static int getPlayerWriteRetryMaxMillis() {
+        return snapshot.playerWriteRetryMaxMillis;
+    }
+
+    /**
+     * 未反映のプレイヤー情報の書き込みを保存するジャーナルファイルを取得
+     * 
+     * @return プラグインのデータフォルダからの相対パス
+     */
+    public static String getPlayerWriteJournalFile() {
+        return snapshot.playerWriteJournalFile;
+    }
+
+    /**
+     * DBの内容をローカルスナップショットへ保存する間隔を取得
+     * 
+     * @return 保存間隔（秒）
+     */
+    public static int getLocalSnapshotSaveIntervalSeconds() {
+        return snapshot.localSnapshotSaveIntervalSeconds;
+    }
+
+    /**
+     * DBに接続できない間、接続の復旧を確認する間隔を取得
+     * 
+     * @return 確認間隔（秒）
+     */
+    public static int getLocalSnapshotProbeIntervalSeconds() {
+        return snapshot.localSnapshotProbeIntervalSeconds;
+    }
+
+    /**
+     * ローカルスナップショットを保存するファイルを取得
+     * 
+     * @return プラグインのデータフォルダからの相対パス
+     */
+    public static String getLocalSnapshotFile() {
+        return snapshot.localSnapshotFile;
+    }
+
+    /**
+     * メトリクス出力が有効かを取得
+     * 
+     * @return 有効ならtrue
+     */
+    public static boolean isMetricsEnabled() {
+        return snapshot.metricsEnabled;
+    }
+
+    /**
+     * メトリクス出力の待ち受けアドレスを取得
+     * 
+     * @return アドレス
+     */
+    public static String getMetricsBindAddress() {
+        return snapshot.metricsBindAddress;
+    }
+
+    /**
+     * メトリクス出力の待ち受けポートを取得
+     * 
+     * @return ポート番号
+     */
+    public static int getMetricsPort() {
+        return snapshot.metricsPort;
+    }
+
+    /**
+     * 挨拶メッセージに埋め込むサーバー名を取得
+     * 
+     * @return サーバー名
+     */
+    public static String getServerName() {
+        return snapshot.serverName;
     }
 
     /**
@@ -99,7 +512,7 @@ public class ConfigManager {
      * @return メッセージ文字列
      */
     public static String getDefaultLoginMessage() {
-        return config.getString("default.loginMessage");
+        return snapshot.defaultLoginMessage;
     }
 
     /**
@@ -108,7 +521,7 @@ public class ConfigManager {
      * @return メッセージ文字列
      */
     public static String getDefaultLogoutMessage() {
-        return config.getString("default.logoutMessage");
+        return snapshot.defaultLogoutMessage;
     }
 
     /**
@@ -117,7 +530,7 @@ public class ConfigManager {
      * @return メッセージ文字列
      */
     public static String getDefaultKickMessage() {
-        return config.getString("default.kickMessage");
+        return snapshot.defaultKickMessage;
     }
 
     /**
@@ -126,25 +539,88 @@ public class ConfigManager {
      * @return メッセージ文字列
      */
     public static String getDefaultBanMessage() {
-        return config.getString("default.banMessage");
+        return snapshot.defaultBanMessage;
+    }
+
+    /**
+     * 解析済みのデフォルトのログインメッセージを取得
+     * 
+     * @return テンプレート
+     */
+    public static GreetingTemplate getDefaultLoginTemplate() {
+        return snapshot.defaultLoginTemplate;
+    }
+
+    /**
+     * 解析済みのデフォルトのログアウトメッセージを取得
+     * 
+     * @return テンプレート
+     */
+    public static GreetingTemplate getDefaultLogoutTemplate() {
+        return snapshot.defaultLogoutTemplate;
+    }
+
+    /**
+     * 解析済みのデフォルトのキック時メッセージを取得
+     * 
+     * @return テンプレート
+     */
+    public static GreetingTemplate getDefaultKickTemplate() {
+        return snapshot.defaultKickTemplate;
+    }
+
+    /**
+     * 解析済みのデフォルトのBAN時メッセージを取得
+     * 
+     * @return テンプレート
+     */
+    public static GreetingTemplate getDefaultBanTemplate() {
+        return snapshot.defaultBanTemplate;
+    }
+
+    /**
+     * コネクションプールの最大接続数を取得
+     * 
+     * @return 接続数
+     */
+    public static int getPoolMaximumSize() {
+        return snapshot.poolMaximumSize;
+    }
+
+    /**
+     * コネクションプールの接続取得待機時間をミリ秒単位で取得
+     * 
+     * @return ミリ秒数
+     */
+    public static int getPoolConnectionTimeoutMillis() {
+        return snapshot.poolConnectionTimeoutMillis;
+    }
+
+    /**
+     * プール接続の最大生存時間を秒単位で取得
+     * 
+     * @return 秒数
+     */
+    public static int getPoolMaxLifetimeSeconds() {
+        return snapshot.poolMaxLifetimeSeconds;
+    }
+
+    /**
+     * 再利用前に接続検証を行うアイドル時間を秒単位で取得
+     * 
+     * @return 秒数
+     */
+    public static int getPoolValidationIntervalSeconds() {
+        return snapshot.poolValidationIntervalSeconds;
     }
 
     /**
-     * config.yml に不正な値が含まれていないかを検証
+     * players・ban_players テーブルのUUID列の保存形式を取得
      * 
-     * @return trueなら有効
+     * @return 保存形式
      */
-    private static boolean isValid() {
-        return getCacheExpireSeconds() > 0
-                && getLogRotationHours() > 0 && getLogRotationHours() <= 24
-                && getLogRetentionDays() >= 1
-                && getCleanupIntervalHours() > 0 && getCleanupIntervalHours() <= 24
-                && getCleanupThresholdDays() >= 1
-                && getSyncIntervalSeconds() > 0
-                && getDefaultLoginMessage() != null && !getDefaultLoginMessage().trim().isEmpty()
-                && getDefaultLogoutMessage() != null && !getDefaultLogoutMessage().trim().isEmpty()
-                && getDefaultKickMessage() != null && !getDefaultKickMessage().trim().isEmpty()
-                && getDefaultBanMessage() != null && !getDefaultBanMessage().trim().isEmpty();
+    public static Storage getUuidStorage() {
+        return snapshot.uuidStorage;
     }
 
 }
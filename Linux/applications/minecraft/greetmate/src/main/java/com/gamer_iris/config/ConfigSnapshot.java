@@ -0,0 +1,323 @@
+/*
+######################################################################################################################################################
+# ファイル   : ConfigSnapshot.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   UUID列の保存形式の設定を追加
+# V-003      : 2026/10/18                 Gamer-Iris   クリーンアップの分割削除設定の追加
+# V-004      : 2026/10/18                 Gamer-Iris   リーダー選出設定の追加
+# V-005      : 2026/10/18                 Gamer-Iris   キャッシュ無効化通知の設定を追加
+# V-006      : 2026/10/18                 Gamer-Iris   管理コマンドの実行スレッド設定を追加
+# V-007      : 2026/10/18                 Gamer-Iris   管理コマンドの実行可否キャッシュの有効期限設定を追加
+# V-008      : 2026/10/18                 Gamer-Iris   ログイン判定用BAN一覧の再構築間隔設定を追加
+# V-009      : 2026/10/18                 Gamer-Iris   管理コマンドによるプレイヤー情報の書き込み設定を追加
+# V-010      : 2026/10/18                 Gamer-Iris   DB障害時のローカルスナップショット設定を追加
+# V-011      : 2026/10/18                 Gamer-Iris   BAN情報の差分反映の再走査幅と、全件確認の1回あたりの件数設定を追加
+# V-012      : 2026/10/18                 Gamer-Iris   プレイヤーが見つからなかった結果を保持する時間の設定を追加
+# V-013      : 2026/10/18                 Gamer-Iris   キャッシュ無効化通知の1回の取得件数と読み直し件数の設定を追加
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.config;
+
+import com.gamer_iris.exception.CriticalException;
+import com.gamer_iris.logging.AsyncLogWorker.OverflowPolicy;
+import com.gamer_iris.notification.GreetingTemplate;
+import com.gamer_iris.repository.UuidColumn.Storage;
+import org.bukkit.configuration.file.FileConfiguration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * config.yml の内容を型付きで保持する不変の設定値クラス（読み込み時に一度だけ解析・検証する）
+ */
+final class ConfigSnapshot {
+
+    final int cacheExpireSeconds;
+    final long cacheExpireNanos;
+    final int prefetchWaitMillis;
+    final int roleRefreshIntervalSeconds;
+    final int cacheMaximumSize;
+    final int cacheSweepIntervalSeconds;
+    final int cacheOfflineRetentionSeconds;
+    final int cacheNotFoundTtlSeconds;
+
+    final int logRotationHours;
+    final int logRetentionDays;
+    final int logQueueCapacity;
+    final OverflowPolicy logOverflowPolicy;
+    final int logFlushIntervalMillis;
+    final int logFlushThresholdBytes;
+
+    final int cleanupIntervalHours;
+    final int cleanupThresholdDays;
+    final int cleanupBatchSize;
+    final int cleanupPauseMillis;
+    final int cleanupMaxRuntimeSeconds;
+    final int syncIntervalSeconds;
+    final int syncBatchSize;
+    final int banRescanWindow;
+    final int banSweepBatchSize;
+
+    final int poolMaximumSize;
+    final int poolConnectionTimeoutMillis;
+    final int poolMaxLifetimeSeconds;
+    final int poolValidationIntervalSeconds;
+    final Storage uuidStorage;
+
+    final boolean leaderElection;
+    final int leaseTtlSeconds;
+    final int leaseRenewSeconds;
+    final boolean invalidationEnabled;
+    final int invalidationPollSeconds;
+    final int invalidationRetentionHours;
+    final int invalidationPollLimit;
+    final int invalidationRescanWindow;
+    final boolean proxyMessaging;
+
+    final int commandWorkerThreads;
+    final int commandMaxInFlightPerSender;
+    final int commandAuthorizationTtlSeconds;
+
+    final int banRebuildIntervalSeconds;
+
+    final int playerWriteFlushIntervalMillis;
+    final int playerWriteMaxBatchSize;
+    final int playerWriteRetryInitialMillis;
+    final int playerWriteRetryMaxMillis;
+    final String playerWriteJournalFile;
+
+    final int localSnapshotSaveIntervalSeconds;
+    final int localSnapshotProbeIntervalSeconds;
+    final String localSnapshotFile;
+
+    final boolean metricsEnabled;
+    final String metricsBindAddress;
+    final int metricsPort;
+
+    final String serverName;
+    final String defaultLoginMessage;
+    final String defaultLogoutMessage;
+    final String defaultKickMessage;
+    final String defaultBanMessage;
+    final GreetingTemplate defaultLoginTemplate;
+    final GreetingTemplate defaultLogoutTemplate;
+    final GreetingTemplate defaultKickTemplate;
+    final GreetingTemplate defaultBanTemplate;
+
+    /**
+     * 設定ファイルの各値を読み取り保持
+     * 
+     * @param config 読み込み済みの設定
+     */
+    private ConfigSnapshot(FileConfiguration config) {
+        cacheExpireSeconds = config.getInt("cache.expireSeconds");
+        cacheExpireNanos = TimeUnit.SECONDS.toNanos(cacheExpireSeconds);
+        prefetchWaitMillis = config.getInt("cache.prefetchWaitMillis");
+        roleRefreshIntervalSeconds = config.getInt("cache.roleRefreshIntervalSeconds");
+        cacheMaximumSize = config.getInt("cache.maximumSize");
+        cacheSweepIntervalSeconds = config.getInt("cache.sweepIntervalSeconds");
+        cacheOfflineRetentionSeconds = config.getInt("cache.offlineRetentionSeconds");
+        cacheNotFoundTtlSeconds = config.getInt("cache.notFoundTtlSeconds");
+
+        logRotationHours = config.getInt("log.rotationIntervalHours");
+        logRetentionDays = config.getInt("log.retentionDays");
+        logQueueCapacity = config.getInt("log.queueCapacity");
+        logOverflowPolicy = OverflowPolicy.fromName(config.getString("log.overflowPolicy"));
+        logFlushIntervalMillis = config.getInt("log.flushIntervalMillis");
+        logFlushThresholdBytes = config.getInt("log.flushThresholdBytes");
+
+        cleanupIntervalHours = config.getInt("maintenance.cleanupIntervalHours");
+        cleanupThresholdDays = config.getInt("maintenance.cleanupThresholdDays");
+        cleanupBatchSize = config.getInt("maintenance.cleanupBatchSize");
+        cleanupPauseMillis = config.getInt("maintenance.cleanupPauseMillis");
+        cleanupMaxRuntimeSeconds = config.getInt("maintenance.cleanupMaxRuntimeSeconds");
+        syncIntervalSeconds = config.getInt("maintenance.syncIntervalSeconds");
+        syncBatchSize = config.getInt("maintenance.syncBatchSize");
+        banRescanWindow = config.getInt("maintenance.banRescanWindow");
+        banSweepBatchSize = config.getInt("maintenance.banSweepBatchSize");
+
+        poolMaximumSize = config.getInt("database.pool.maximumPoolSize");
+        poolConnectionTimeoutMillis = config.getInt("database.pool.connectionTimeoutMillis");
+        poolMaxLifetimeSeconds = config.getInt("database.pool.maxLifetimeSeconds");
+        poolValidationIntervalSeconds = config.getInt("database.pool.validationIntervalSeconds");
+        uuidStorage = Storage.fromName(config.getString("database.uuidStorage"));
+
+        leaderElection = config.getBoolean("cluster.leaderElection");
+        leaseTtlSeconds = config.getInt("cluster.leaseTtlSeconds");
+        leaseRenewSeconds = config.getInt("cluster.leaseRenewSeconds");
+        invalidationEnabled = config.getBoolean("cluster.invalidationEnabled");
+        invalidationPollSeconds = config.getInt("cluster.invalidationPollSeconds");
+        invalidationRetentionHours = config.getInt("cluster.invalidationRetentionHours");
+        invalidationPollLimit = config.getInt("cluster.invalidationPollLimit");
+        invalidationRescanWindow = config.getInt("cluster.invalidationRescanWindow");
+        proxyMessaging = config.getBoolean("cluster.proxyMessaging");
+
+        commandWorkerThreads = config.getInt("command.workerThreads");
+        commandMaxInFlightPerSender = config.getInt("command.maxInFlightPerSender");
+        commandAuthorizationTtlSeconds = config.getInt("command.authorizationTtlSeconds");
+
+        banRebuildIntervalSeconds = config.getInt("ban.rebuildIntervalSeconds");
+
+        playerWriteFlushIntervalMillis = config.getInt("playerWrite.flushIntervalMillis");
+        playerWriteMaxBatchSize = config.getInt("playerWrite.maxBatchSize");
+        playerWriteRetryInitialMillis = config.getInt("playerWrite.retryInitialMillis");
+        playerWriteRetryMaxMillis = config.getInt("playerWrite.retryMaxMillis");
+        playerWriteJournalFile = config.getString("playerWrite.journalFile");
+
+        localSnapshotSaveIntervalSeconds = config.getInt("localSnapshot.saveIntervalSeconds");
+        localSnapshotProbeIntervalSeconds = config.getInt("localSnapshot.probeIntervalSeconds");
+        localSnapshotFile = config.getString("localSnapshot.file");
+
+        metricsEnabled = config.getBoolean("metrics.enabled");
+        metricsBindAddress = config.getString("metrics.bindAddress");
+        metricsPort = config.getInt("metrics.port");
+
+        serverName = config.getString("server.name");
+        defaultLoginMessage = config.getString("default.loginMessage");
+        defaultLogoutMessage = config.getString("default.logoutMessage");
+        defaultKickMessage = config.getString("default.kickMessage");
+        defaultBanMessage = config.getString("default.banMessage");
+        defaultLoginTemplate = compileIfValid(defaultLoginMessage);
+        defaultLogoutTemplate = compileIfValid(defaultLogoutMessage);
+        defaultKickTemplate = compileIfValid(defaultKickMessage);
+        defaultBanTemplate = compileIfValid(defaultBanMessage);
+    }
+
+    /**
+     * 設定ファイルを解析し、検証済みの設定値を生成
+     * 
+     * @param config 読み込み済みの設定
+     * @return 設定値
+     */
+    static ConfigSnapshot load(FileConfiguration config) {
+        ConfigSnapshot snapshot = new ConfigSnapshot(config);
+        if (!snapshot.isValid()) {
+            throw new CriticalException("config.yml に不整値があります。");
+        }
+        return snapshot;
+    }
+
+    /**
+     * 再起動しないと反映されない設定のうち、直前の設定から変更された項目を列挙
+     * 
+     * @param previous 直前の設定値
+     * @return 変更された設定のキー
+     */
+    List<String> restartRequiredChanges(ConfigSnapshot previous) {
+        List<String> changed = new ArrayList<>();
+        addIfChanged(changed, "log.queueCapacity", logQueueCapacity, previous.logQueueCapacity);
+        addIfChanged(changed, "log.overflowPolicy", logOverflowPolicy, previous.logOverflowPolicy);
+        addIfChanged(changed, "log.flushIntervalMillis", logFlushIntervalMillis, previous.logFlushIntervalMillis);
+        addIfChanged(changed, "log.flushThresholdBytes", logFlushThresholdBytes, previous.logFlushThresholdBytes);
+        addIfChanged(changed, "database.pool.maximumPoolSize", poolMaximumSize, previous.poolMaximumSize);
+        addIfChanged(changed, "database.pool.connectionTimeoutMillis", poolConnectionTimeoutMillis,
+                previous.poolConnectionTimeoutMillis);
+        addIfChanged(changed, "database.pool.maxLifetimeSeconds", poolMaxLifetimeSeconds,
+                previous.poolMaxLifetimeSeconds);
+        addIfChanged(changed, "database.pool.validationIntervalSeconds", poolValidationIntervalSeconds,
+                previous.poolValidationIntervalSeconds);
+        addIfChanged(changed, "database.uuidStorage", uuidStorage, previous.uuidStorage);
+        addIfChanged(changed, "cluster.leaderElection", leaderElection, previous.leaderElection);
+        addIfChanged(changed, "cluster.invalidationEnabled", invalidationEnabled, previous.invalidationEnabled);
+        addIfChanged(changed, "cluster.proxyMessaging", proxyMessaging, previous.proxyMessaging);
+        addIfChanged(changed, "command.workerThreads", commandWorkerThreads, previous.commandWorkerThreads);
+        addIfChanged(changed, "command.maxInFlightPerSender", commandMaxInFlightPerSender,
+                previous.commandMaxInFlightPerSender);
+        addIfChanged(changed, "playerWrite.journalFile", playerWriteJournalFile, previous.playerWriteJournalFile);
+        addIfChanged(changed, "metrics.enabled", metricsEnabled, previous.metricsEnabled);
+        addIfChanged(changed, "metrics.bindAddress", metricsBindAddress, previous.metricsBindAddress);
+        addIfChanged(changed, "metrics.port", metricsPort, previous.metricsPort);
+        return changed;
+    }
+
+    /**
+     * 不正な値が含まれていないかを検証
+     * 
+     * @return trueなら有効
+     */
+    boolean isValid() {
+        return cacheExpireSeconds > 0
+                && prefetchWaitMillis >= 0
+                && roleRefreshIntervalSeconds > 0
+                && cacheMaximumSize > 0
+                && cacheSweepIntervalSeconds > 0
+                && cacheOfflineRetentionSeconds >= 0
+                && cacheNotFoundTtlSeconds >= 0
+                && logRotationHours > 0 && logRotationHours <= 24
+                && logRetentionDays >= 1
+                && logQueueCapacity > 0
+                && logOverflowPolicy != null
+                && logFlushIntervalMillis > 0
+                && logFlushThresholdBytes > 0
+                && cleanupIntervalHours > 0 && cleanupIntervalHours <= 24
+                && cleanupThresholdDays >= 1
+                && cleanupBatchSize > 0
+                && cleanupPauseMillis >= 0
+                && cleanupMaxRuntimeSeconds > 0
+                && syncIntervalSeconds > 0
+                && syncBatchSize > 0
+                && banRescanWindow >= 0
+                && banSweepBatchSize > 0
+                && poolMaximumSize > 0
+                && poolConnectionTimeoutMillis > 0
+                && poolMaxLifetimeSeconds > 0
+                && poolValidationIntervalSeconds >= 0
+                && uuidStorage != null
+                && leaseRenewSeconds > 0 && leaseTtlSeconds > leaseRenewSeconds
+                && invalidationPollSeconds > 0
+                && invalidationRetentionHours > 0
+                && invalidationRescanWindow >= 0 && invalidationPollLimit > invalidationRescanWindow
+                && commandWorkerThreads > 0
+                && commandMaxInFlightPerSender > 0
+                && commandAuthorizationTtlSeconds > 0
+                && banRebuildIntervalSeconds > 0
+                && playerWriteFlushIntervalMillis > 0
+                && playerWriteMaxBatchSize > 0
+                && playerWriteRetryInitialMillis > 0
+                && playerWriteRetryMaxMillis >= playerWriteRetryInitialMillis
+                && playerWriteJournalFile != null && !playerWriteJournalFile.isBlank()
+                && localSnapshotSaveIntervalSeconds > 0
+                && localSnapshotProbeIntervalSeconds > 0
+                && localSnapshotFile != null && !localSnapshotFile.isBlank()
+                && metricsBindAddress != null
+                && metricsPort > 0 && metricsPort <= 65535
+                && serverName != null
+                && defaultLoginTemplate != null
+                && defaultLogoutTemplate != null
+                && defaultKickTemplate != null
+                && defaultBanTemplate != null;
+    }
+
+    /**
+     * デフォルトの挨拶メッセージが空でなく解析できる場合のみテンプレートへ変換
+     * 
+     * @param message 挨拶メッセージ
+     * @return テンプレート 不正な場合null
+     */
+    private GreetingTemplate compileIfValid(String message) {
+        if (message == null || message.trim().isEmpty() || !GreetingTemplate.isValid(message)) {
+            return null;
+        }
+        return GreetingTemplate.compile(message, null, serverName);
+    }
+
+    /**
+     * 値が変わっていればキーを追加
+     * 
+     * @param changed  追加先
+     * @param key      設定のキー
+     * @param current  新しい値
+     * @param previous 直前の値
+     */
+    private static void addIfChanged(List<String> changed, String key, Object current, Object previous) {
+        if (!Objects.equals(current, previous)) {
+            changed.add(key);
+        }
+    }
+
+}
@@ -0,0 +1,412 @@
+/*
+######################################################################################################################################################
+# ファイル   : ConnectionPool.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 上限付きでJDBC接続を再利用するコネクションプールクラス
+ */
+public class ConnectionPool {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 3;
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int maximumPoolSize;
+    private final long connectionTimeoutMillis;
+    private final long maxLifetimeMillis;
+    private final long validationIntervalMillis;
+
+    private final Semaphore permits;
+    private final Deque<PooledConnection> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicInteger waitingCount = new AtomicInteger();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong closedCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private volatile boolean shutdown;
+
+    /**
+     * 接続情報とプール設定を保持
+     * 
+     * @param url                       JDBC URL
+     * @param user                      ユーザー名
+     * @param password                  パスワード
+     * @param maximumPoolSize           最大接続数
+     * @param connectionTimeoutMillis   接続取得の最大待機時間（ミリ秒）
+     * @param maxLifetimeSeconds        接続の最大生存時間（秒）
+     * @param validationIntervalSeconds 再利用前に検証を行うアイドル時間（秒）
+     */
+    public ConnectionPool(String url, String user, String password, int maximumPoolSize,
+            long connectionTimeoutMillis, long maxLifetimeSeconds, long validationIntervalSeconds) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.maximumPoolSize = maximumPoolSize;
+        this.connectionTimeoutMillis = connectionTimeoutMillis;
+        this.maxLifetimeMillis = maxLifetimeSeconds * 1000L;
+        this.validationIntervalMillis = validationIntervalSeconds * 1000L;
+        this.permits = new Semaphore(maximumPoolSize, true);
+    }
+
+    /**
+     * プールから接続を借用（close() でプールへ返却される）
+     * 
+     * @return プール管理下のConnection
+     * @throws SQLException 接続生成失敗時、または待機時間超過時
+     */
+    public Connection borrow() throws SQLException {
+        if (shutdown) {
+            throw new SQLException("コネクションプールは停止済みです。");
+        }
+
+        acquirePermit();
+        try {
+            PooledConnection pooled;
+            while ((pooled = idle.pollFirst()) != null) {
+                if (isUsable(pooled)) {
+                    break;
+                }
+                discard(pooled);
+            }
+            if (pooled == null) {
+                pooled = create();
+            }
+            activeCount.incrementAndGet();
+            return pooled.newHandle();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * プールを停止し、アイドル接続をすべて破棄
+     */
+    public void shutdown() {
+        shutdown = true;
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            discard(pooled);
+        }
+    }
+
+    /**
+     * 現在のプール統計を取得
+     * 
+     * @return 統計スナップショット
+     */
+    public Stats getStats() {
+        return new Stats(activeCount.get(), idle.size(), waitingCount.get(), maximumPoolSize,
+                createdCount.get(), closedCount.get(), timeoutCount.get());
+    }
+
+    /**
+     * 上限内で接続枠を確保（上限到達時は設定時間まで待機）
+     * 
+     * @throws SQLException 待機時間超過時、または割り込み発生時
+     */
+    private void acquirePermit() throws SQLException {
+        waitingCount.incrementAndGet();
+        try {
+            if (!permits.tryAcquire(connectionTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                timeoutCount.incrementAndGet();
+                throw new SQLTimeoutException(
+                        "DB接続の取得がタイムアウトしました（" + connectionTimeoutMillis + "ms）。");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("DB接続の取得待機中に割り込みが発生しました。", e);
+        } finally {
+            waitingCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * 新規の物理接続を生成
+     * 
+     * @return プール管理用の接続
+     * @throws SQLException JDBC接続失敗時
+     */
+    private PooledConnection create() throws SQLException {
+        Connection raw = DriverManager.getConnection(url, user, password);
+        createdCount.incrementAndGet();
+        return new PooledConnection(raw);
+    }
+
+    /**
+     * アイドル接続が再利用可能かを判定
+     * 
+     * @param pooled 判定対象
+     * @return 再利用可能ならtrue
+     */
+    private boolean isUsable(PooledConnection pooled) {
+        long now = System.currentTimeMillis();
+        if (now - pooled.createdAt >= maxLifetimeMillis) {
+            return false;
+        }
+        if (now - pooled.lastUsedAt < validationIntervalMillis) {
+            return true;
+        }
+        try {
+            return pooled.raw.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 借用中の接続をプールへ返却
+     * 
+     * @param pooled 返却対象
+     */
+    private void release(PooledConnection pooled) {
+        activeCount.decrementAndGet();
+        try {
+            if (shutdown || pooled.raw.isClosed()
+                    || System.currentTimeMillis() - pooled.createdAt >= maxLifetimeMillis) {
+                discard(pooled);
+                return;
+            }
+            if (!pooled.raw.getAutoCommit()) {
+                pooled.raw.rollback();
+                pooled.raw.setAutoCommit(true);
+            }
+            pooled.lastUsedAt = System.currentTimeMillis();
+            idle.offerFirst(pooled);
+            if (shutdown && idle.remove(pooled)) {
+                discard(pooled);
+            }
+        } catch (SQLException e) {
+            discard(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 物理接続を破棄
+     * 
+     * @param pooled 破棄対象
+     */
+    private void discard(PooledConnection pooled) {
+        closedCount.incrementAndGet();
+        try {
+            pooled.raw.close();
+        } catch (SQLException e) {
+            // 破棄対象のため無視
+        }
+    }
+
+    /**
+     * 物理接続と生成・利用時刻を保持する内部クラス
+     */
+    private class PooledConnection {
+        final Connection raw;
+        final long createdAt;
+        volatile long lastUsedAt;
+
+        /**
+         * 物理接続を保持
+         * 
+         * @param raw 物理接続
+         */
+        PooledConnection(Connection raw) {
+            this.raw = raw;
+            this.createdAt = System.currentTimeMillis();
+            this.lastUsedAt = createdAt;
+        }
+
+        /**
+         * 借用者に渡すハンドルを生成
+         * 
+         * @return close() で返却されるConnection
+         */
+        Connection newHandle() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class }, new Handle(this));
+        }
+    }
+
+    /**
+     * close() をプールへの返却に置き換える接続ハンドル
+     */
+    private class Handle implements InvocationHandler {
+        private final PooledConnection pooled;
+        private boolean returned;
+
+        /**
+         * 対象の接続を保持
+         * 
+         * @param pooled プール管理用の接続
+         */
+        Handle(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        /**
+         * Connectionの呼び出しを物理接続へ委譲
+         */
+        @Override
+        public synchronized Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(pooled);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || pooled.raw.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + pooled.raw + "]";
+                default:
+                    break;
+            }
+            if (returned) {
+                throw new SQLException("返却済みの接続は使用できません。");
+            }
+            try {
+                return method.invoke(pooled.raw, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * プール統計のスナップショットを保持する内部クラス
+     */
+    public static class Stats {
+        private final int active;
+        private final int idle;
+        private final int waiting;
+        private final int maximumPoolSize;
+        private final long created;
+        private final long closed;
+        private final long timeouts;
+
+        /**
+         * 各統計値を保持
+         * 
+         * @param active          借用中の接続数
+         * @param idle            アイドル接続数
+         * @param waiting         取得待ちのスレッド数
+         * @param maximumPoolSize 最大接続数
+         * @param created         累計生成数
+         * @param closed          累計破棄数
+         * @param timeouts        累計取得タイムアウト数
+         */
+        Stats(int active, int idle, int waiting, int maximumPoolSize, long created, long closed, long timeouts) {
+            this.active = active;
+            this.idle = idle;
+            this.waiting = waiting;
+            this.maximumPoolSize = maximumPoolSize;
+            this.created = created;
+            this.closed = closed;
+            this.timeouts = timeouts;
+        }
+
+        /**
+         * 借用中の接続数を取得
+         * 
+         * @return 接続数
+         */
+        public int getActive() {
+            return active;
+        }
+
+        /**
+         * アイドル接続数を取得
+         * 
+         * @return 接続数
+         */
+        public int getIdle() {
+            return idle;
+        }
+
+        /**
+         * 取得待ちのスレッド数を取得
+         * 
+         * @return スレッド数
+         */
+        public int getWaiting() {
+            return waiting;
+        }
+
+        /**
+         * 最大接続数を取得
+         * 
+         * @return 接続数
+         */
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        /**
+         * 累計生成数を取得
+         * 
+         * @return 件数
+         */
+        public long getCreated() {
+            return created;
+        }
+
+        /**
+         * 累計破棄数を取得
+         * 
+         * @return 件数
+         */
+        public long getClosed() {
+            return closed;
+        }
+
+        /**
+         * 累計取得タイムアウト数を取得
+         * 
+         * @return 件数
+         */
+        public long getTimeouts() {
+            return timeouts;
+        }
+
+        /**
+         * ログ出力用の文字列表現を取得
+         * 
+         * @return 統計文字列
+         */
+        @Override
+        public String toString() {
+            return "active=" + active + ", idle=" + idle + ", waiting=" + waiting + ", max=" + maximumPoolSize
+                    + ", created=" + created + ", closed=" + closed + ", timeouts=" + timeouts;
+        }
+    }
+
+}
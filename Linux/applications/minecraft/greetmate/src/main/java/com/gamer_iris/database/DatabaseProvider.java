@@ -5,14 +5,15 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   コネクションプール対応
 # 
 ######################################################################################################################################################
 */
 package com.gamer_iris.database;
 
+import com.gamer_iris.config.ConfigManager;
 import com.gamer_iris.exception.CriticalException;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
 /**
@@ -20,6 +21,8 @@ import java.sql.SQLException;
  */
 public class DatabaseProvider {
 
+    private static volatile ConnectionPool pool;
+
     /**
      * クラス初期化時にJDBCドライバをロード
      */
@@ -28,12 +31,49 @@ public class DatabaseProvider {
     }
 
     /**
-     * DB接続用のConnectionを取得
+     * DB接続用のConnectionをプールから取得（close() でプールへ返却）
      * 
      * @return JDBC Connection実体
      * @throws SQLException JDBC接続失敗時
      */
     public static Connection getConnection() throws SQLException {
+        ConnectionPool current = pool;
+        if (current == null) {
+            current = initPool();
+        }
+        return current.borrow();
+    }
+
+    /**
+     * コネクションプールの統計を取得
+     * 
+     * @return 統計スナップショット 未初期化ならnull
+     */
+    public static ConnectionPool.Stats getPoolStats() {
+        ConnectionPool current = pool;
+        return current != null ? current.getStats() : null;
+    }
+
+    /**
+     * コネクションプールを停止し、保持している接続をすべて破棄
+     */
+    public static synchronized void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    /**
+     * 環境変数と config.yml の設定からコネクションプールを生成
+     * 
+     * @return 生成済みのプール
+     */
+    private static synchronized ConnectionPool initPool() {
+        if (pool != null) {
+            return pool;
+        }
+
         String url = System.getenv("MINECRAFT_DB_URL");
         String user = System.getenv("MINECRAFT_DB_USER");
         String pass = System.getenv("MINECRAFT_DB_PASSWORD");
@@ -42,7 +82,12 @@ public class DatabaseProvider {
             throw new CriticalException("DB接続情報（URL/USER/PASSWORD）が環境変数に設定されていません。");
         }
 
-        return DriverManager.getConnection(url, user, pass);
+        pool = new ConnectionPool(url, user, pass,
+                ConfigManager.getPoolMaximumSize(),
+                ConfigManager.getPoolConnectionTimeoutMillis(),
+                ConfigManager.getPoolMaxLifetimeSeconds(),
+                ConfigManager.getPoolValidationIntervalSeconds());
+        return pool;
     }
 
     /**
@@ -0,0 +1,40 @@
+/*
+######################################################################################################################################################
+# ファイル   : InvalidationMessageListener.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.listener;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.cache.CacheInvalidator;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.messaging.PluginMessageListener;
+import java.util.UUID;
+
+/**
+ * プロキシ経由で他のサーバーから届いたキャッシュ無効化通知を受信するリスナークラス
+ */
+public class InvalidationMessageListener implements PluginMessageListener {
+
+    /**
+     * 無効化通知であれば、対象プレイヤーのキャッシュの無効化を非同期で実行（再構築時のDBアクセスをメインスレッドで行わない）
+     * 
+     * @param channel チャンネル名
+     * @param player  受信に使われたプレイヤー
+     * @param message 受信したメッセージ
+     */
+    @Override
+    public void onPluginMessageReceived(String channel, Player player, byte[] message) {
+        UUID uuid = CacheInvalidator.decodeForward(message);
+        if (uuid != null) {
+            Bukkit.getScheduler().runTaskAsynchronously(Main.getInstance(), () -> CacheInvalidator.invalidate(uuid));
+        }
+    }
+
+}
@@ -5,17 +5,31 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   ログイン前の非同期事前取得に対応
+# V-003      : 2026/10/18                 Gamer-Iris   メインスレッド処理時間の計測を追加
+# V-004      : 2026/10/18                 Gamer-Iris   ログイン・ログアウト状態をキャッシュへ通知
+# V-005      : 2026/10/18                 Gamer-Iris   ログアウト時に管理コマンドの実行可否キャッシュを削除
+# V-006      : 2026/10/18                 Gamer-Iris   ログイン時にプレイヤー名索引を更新
+# V-007      : 2026/10/18                 Gamer-Iris   ログイン前にBAN中のプレイヤーを拒否
 # 
 ######################################################################################################################################################
 */
 package com.gamer_iris.listener;
 
+import com.gamer_iris.cache.AdminAuthorizationCache;
+import com.gamer_iris.cache.BanRegistry;
+import com.gamer_iris.cache.GreetingPrefetcher;
+import com.gamer_iris.cache.PlayerNameIndex;
 import com.gamer_iris.cache.UserGreetingCacheManager;
+import com.gamer_iris.config.ConfigManager;
 import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.metrics.MetricsRegistry;
 import com.gamer_iris.notification.NotificationDispatcher;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerKickEvent;
@@ -26,6 +40,38 @@ import java.util.UUID;
  */
 public class PlayerEventListener implements Listener {
 
+    /**
+     * ログイン確定前（非同期スレッド）にBAN中のプレイヤーを拒否（メモリ上のBAN一覧のみを参照）
+     * 
+     * @param event ログイン前イベント
+     */
+    @EventHandler(priority = EventPriority.LOW)
+    public void onAsyncPlayerPreLoginBanCheck(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+        String reason = BanRegistry.findReason(event.getUniqueId());
+        if (reason == null) {
+            return;
+        }
+        event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_BANNED, "§cこのサーバーからBANされています。\n§7理由: " + reason);
+        LogWriter.writeInfo("[Greetmate] BAN中のプレイヤーのログインを拒否しました: " + event.getName() + " ("
+                + event.getUniqueId() + ")");
+    }
+
+    /**
+     * ログイン確定前（非同期スレッド）に挨拶メッセージを事前取得
+     * 
+     * @param event ログイン前イベント
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPlayerPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+        GreetingPrefetcher.prefetch(event.getUniqueId());
+    }
+
     /**
      * プレイヤーがサーバーにログインした際の処理
      * 
@@ -33,16 +79,20 @@ public class PlayerEventListener implements Listener {
      */
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
-        Player player = event.getPlayer();
-        UUID uuid = player.getUniqueId();
-        String name = player.getName();
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeListener("join")) {
+            Player player = event.getPlayer();
+            UUID uuid = player.getUniqueId();
+            String name = player.getName();
 
-        if (!UserGreetingCacheManager.contains(uuid)) {
-            UserGreetingCacheManager.buildAndCache(uuid);
-            LogWriter.writeInfo("[Greetmate] ログイン時にキャッシュ構築: " + name);
-        }
+            if (!GreetingPrefetcher.awaitPrefetch(uuid, ConfigManager.getPrefetchWaitMillis())) {
+                GreetingPrefetcher.prefetchAsync(uuid);
+                LogWriter.writeInfo("[Greetmate] 事前取得が未完了のためキャッシュを非同期構築: " + name);
+            }
 
-        NotificationDispatcher.broadcastLoginMessage(uuid, name);
+            UserGreetingCacheManager.markOnline(uuid);
+            PlayerNameIndex.put(uuid, name);
+            NotificationDispatcher.broadcastLoginMessage(uuid, name);
+        }
     }
 
     /**
@@ -52,11 +102,15 @@ public class PlayerEventListener implements Listener {
      */
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
-        Player player = event.getPlayer();
-        UUID uuid = player.getUniqueId();
-        String name = player.getName();
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeListener("quit")) {
+            Player player = event.getPlayer();
+            UUID uuid = player.getUniqueId();
+            String name = player.getName();
 
-        NotificationDispatcher.broadcastLogoutMessage(uuid, name);
+            NotificationDispatcher.broadcastLogoutMessage(uuid, name);
+            UserGreetingCacheManager.markOffline(uuid);
+            AdminAuthorizationCache.remove(uuid);
+        }
     }
 
     /**
@@ -66,12 +120,14 @@ public class PlayerEventListener implements Listener {
      */
     @EventHandler
     public void onPlayerKick(PlayerKickEvent event) {
-        Player player = event.getPlayer();
-        UUID uuid = player.getUniqueId();
-        String name = player.getName();
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeListener("kick")) {
+            Player player = event.getPlayer();
+            UUID uuid = player.getUniqueId();
+            String name = player.getName();
 
-        NotificationDispatcher.broadcastKickMessage(uuid, name);
-        LogWriter.writeInfo("[Greetmate] プレイヤーがキックされました: " + name + " (" + uuid + ")");
+            NotificationDispatcher.broadcastKickMessage(uuid, name);
+            LogWriter.writeInfo("[Greetmate] プレイヤーがキックされました: " + name + " (" + uuid + ")");
+        }
     }
 
 }
@@ -0,0 +1,298 @@
+/*
+######################################################################################################################################################
+# ファイル   : AsyncLogWorker.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   キュー滞留件数の取得を追加
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.logging;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * キューに積まれたログを単一の書き込みスレッドでファイルへ出力するクラス
+ */
+public class AsyncLogWorker {
+
+    /**
+     * キューが満杯の場合の動作
+     */
+    public enum OverflowPolicy {
+        /** 新しいログを破棄し、破棄件数を後でWARNへ出力 */
+        DROP,
+        /** 空きができるまで呼び出し元を待機 */
+        BLOCK,
+        /** 呼び出し元のスレッドで直接書き込み */
+        CALLER_RUNS;
+
+        /**
+         * 設定値の文字列から動作を取得
+         * 
+         * @param name 設定値
+         * @return 該当する動作 不正な値の場合null
+         */
+        public static OverflowPolicy fromName(String name) {
+            for (OverflowPolicy policy : values()) {
+                if (policy.name().equalsIgnoreCase(name)) {
+                    return policy;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final int MAX_BATCH = 256;
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long STOP_TIMEOUT_MILLIS = 5_000L;
+
+    private final Path logDir;
+    private final LogRingBuffer<LogWriter.Entry> queue;
+    private final OverflowPolicy policy;
+    private final long flushIntervalNanos;
+    private final int flushThresholdBytes;
+    private final int wakeThreshold;
+    private final Map<LogWriter.Level, FileChannel> channels = new EnumMap<>(LogWriter.Level.class);
+    private final Map<LogWriter.Level, ByteArrayOutputStream> pending = new EnumMap<>(LogWriter.Level.class);
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread thread;
+    private volatile boolean running;
+    private volatile boolean stopped;
+    private volatile boolean reopenRequested;
+
+    /**
+     * 出力先と各閾値を保持（書き込みスレッドは start() で開始）
+     * 
+     * @param logDir              ログ出力ディレクトリ
+     * @param queueCapacity       キュー容量
+     * @param policy              キュー満杯時の動作
+     * @param flushIntervalMillis ファイルへ書き出す最大間隔（ミリ秒）
+     * @param flushThresholdBytes ファイルへ書き出すバッファサイズ（バイト）
+     */
+    public AsyncLogWorker(Path logDir, int queueCapacity, OverflowPolicy policy, long flushIntervalMillis,
+            int flushThresholdBytes) {
+        this.logDir = logDir;
+        this.queue = new LogRingBuffer<>(queueCapacity);
+        this.policy = policy;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.flushThresholdBytes = flushThresholdBytes;
+        this.wakeThreshold = queue.capacity() / 2;
+        this.thread = Thread.ofPlatform().daemon().name("Greetmate-LogWriter").unstarted(this::run);
+    }
+
+    /**
+     * 書き込みスレッドを開始
+     */
+    public void start() {
+        running = true;
+        thread.start();
+    }
+
+    /**
+     * ログをキューへ登録
+     * 
+     * @param entry ログ1件
+     * @return 呼び出し元で直接書き込む必要がある場合false
+     */
+    public boolean submit(LogWriter.Entry entry) {
+        if (stopped) {
+            return false;
+        }
+        if (queue.offer(entry)) {
+            if (queue.size() >= wakeThreshold) {
+                LockSupport.unpark(thread);
+            }
+            return true;
+        }
+
+        switch (policy) {
+            case BLOCK:
+                while (!queue.offer(entry)) {
+                    if (stopped) {
+                        return false;
+                    }
+                    LockSupport.unpark(thread);
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                }
+                return true;
+            case CALLER_RUNS:
+                return false;
+            default:
+                dropped.incrementAndGet();
+                return true;
+        }
+    }
+
+    /**
+     * キューに滞留しているログの件数を取得
+     * 
+     * @return 件数
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * ローテーション後にファイルを開き直すよう要求
+     */
+    public void requestReopen() {
+        reopenRequested = true;
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * 書き込みスレッドを停止し、残りのログをすべて書き出し
+     */
+    public void stop() {
+        stopped = true;
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            return;
+        }
+
+        while (drain() > 0) {
+            // キューが空になるまで取り出し
+        }
+        flushAll();
+        closeChannels();
+    }
+
+    /**
+     * 書き込みスレッドの処理
+     */
+    private void run() {
+        long lastFlush = System.nanoTime();
+        while (running) {
+            int drained = drain();
+            if (reopenRequested) {
+                reopenRequested = false;
+                flushAll();
+                closeChannels();
+                lastFlush = System.nanoTime();
+            } else if (System.nanoTime() - lastFlush >= flushIntervalNanos) {
+                flushAll();
+                lastFlush = System.nanoTime();
+            }
+            if (drained == 0 && running) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+    }
+
+    /**
+     * キューから最大 MAX_BATCH 件を取り出しバッファへ追加
+     * 
+     * @return 取り出した件数
+     */
+    private int drain() {
+        int count = 0;
+        LogWriter.Entry entry;
+        while (count < MAX_BATCH && (entry = queue.poll()) != null) {
+            append(entry);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * レベル別のバッファへ追加し、閾値を超えたら書き出し
+     * 
+     * @param entry ログ1件
+     */
+    private void append(LogWriter.Entry entry) {
+        ByteArrayOutputStream out = pending.computeIfAbsent(entry.level, _ -> new ByteArrayOutputStream());
+        out.writeBytes(entry.format());
+        if (out.size() >= flushThresholdBytes) {
+            flush(entry.level, out);
+        }
+    }
+
+    /**
+     * 破棄件数を記録したうえで全レベルのバッファを書き出し
+     */
+    private void flushAll() {
+        long count = dropped.getAndSet(0);
+        if (count > 0) {
+            append(new LogWriter.Entry(LogWriter.Level.WARN,
+                    "[Greetmate] ログキューが満杯のため " + count + " 件のログを破棄しました。", null));
+        }
+        pending.forEach(this::flush);
+    }
+
+    /**
+     * バッファの内容をファイルへ書き出し
+     * 
+     * @param level 対象レベル
+     * @param out   書き出すバッファ
+     */
+    private void flush(LogWriter.Level level, ByteArrayOutputStream out) {
+        if (out.size() == 0) {
+            return;
+        }
+        try {
+            FileChannel channel = channels.get(level);
+            if (channel == null) {
+                Files.createDirectories(logDir);
+                channel = FileChannel.open(logDir.resolve(level.fileName),
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                channels.put(level, channel);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            LogWriter.reportFailure(e);
+            closeChannel(level);
+        } finally {
+            out.reset();
+        }
+    }
+
+    /**
+     * すべてのファイルを閉じる
+     */
+    private void closeChannels() {
+        for (LogWriter.Level level : LogWriter.Level.values()) {
+            closeChannel(level);
+        }
+    }
+
+    /**
+     * 指定レベルのファイルを閉じる
+     * 
+     * @param level 対象レベル
+     */
+    private void closeChannel(LogWriter.Level level) {
+        FileChannel channel = channels.remove(level);
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // 破棄対象のため無視
+        }
+    }
+
+}
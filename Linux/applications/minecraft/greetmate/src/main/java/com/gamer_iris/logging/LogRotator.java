@@ -5,6 +5,9 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   ローテーション後のログファイル再オープンを追加
+# V-003      : 2026/10/18                 Gamer-Iris   ベンチマークから呼び出せるよう古いログの削除処理をパッケージ内公開に変更
+# V-004      : 2026/10/18                 Gamer-Iris   設定の再読み込み時に実行間隔の変更へ追従
 # 
 ######################################################################################################################################################
 */
@@ -12,6 +15,7 @@ package com.gamer_iris.logging;
 
 import com.gamer_iris.Main;
 import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.maintenance.PeriodicTask;
 import org.bukkit.Bukkit;
 import java.io.File;
 import java.io.IOException;
@@ -27,14 +31,21 @@ public class LogRotator {
 
     private static final SimpleDateFormat suffixFormat = new SimpleDateFormat("yyyyMMdd_HHmmss");
     private static final String[] TARGET_FILES = { "info.log", "warn.log", "error.log" };
+    private static final PeriodicTask rotationTask = new PeriodicTask("ログローテーション", LogRotator::rotateLogs,
+            () -> ConfigManager.getLogRotationHours() * 60L * 60L * 20L);
 
     /**
      * ローテーションの定期実行を開始
      */
     public static void start() {
-        long intervalTicks = ConfigManager.getLogRotationHours() * 60L * 60L * 20L;
-        Bukkit.getScheduler().runTaskTimerAsynchronously(Main.getInstance(), LogRotator::rotateLogs, intervalTicks,
-                intervalTicks);
+        rotationTask.start();
+    }
+
+    /**
+     * 設定の再読み込みでローテーション間隔が変わっていれば再スケジュール
+     */
+    public static void reschedule() {
+        rotationTask.reschedule();
     }
 
     /**
@@ -61,6 +72,7 @@ public class LogRotator {
             }
         }
 
+        LogWriter.reopen();
         deleteOldLogs(logDir);
     }
 
@@ -69,7 +81,7 @@ public class LogRotator {
      * 
      * @param logDir ログディレクトリ
      */
-    private static void deleteOldLogs(File logDir) {
+    static void deleteOldLogs(File logDir) {
         String patternPrefix = Arrays.stream(TARGET_FILES)
             .map(name -> name.replace(".log", ""))
             .reduce((a, b) -> a + "|" + b)
@@ -5,24 +5,36 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   書き込みスレッドによる非同期出力に対応
+# V-003      : 2026/10/18                 Gamer-Iris   書き込み待ちログ件数の取得を追加
 # 
 ######################################################################################################################################################
 */
 package com.gamer_iris.logging;
 
 import com.gamer_iris.Main;
+import com.gamer_iris.config.ConfigManager;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 
 /**
  * プラグイン状態をログファイルに出力するログ書き込みユーティリティクラス
  */
 public class LogWriter {
 
-    private static final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
+            .withZone(ZoneId.systemDefault());
+
+    private static volatile AsyncLogWorker worker;
 
     /**
      * ログ出力用ディレクトリを取得
@@ -37,13 +49,63 @@ public class LogWriter {
         }
     }
 
+    /**
+     * 書き込みスレッドを開始（開始前および停止後は呼び出し元で直接書き込む）
+     */
+    public static synchronized void start() {
+        if (worker != null) {
+            return;
+        }
+
+        AsyncLogWorker created = new AsyncLogWorker(getLogDir().toPath(),
+                ConfigManager.getLogQueueCapacity(),
+                ConfigManager.getLogOverflowPolicy(),
+                ConfigManager.getLogFlushIntervalMillis(),
+                ConfigManager.getLogFlushThresholdBytes());
+        created.start();
+        worker = created;
+    }
+
+    /**
+     * 書き込みスレッドを停止し、未出力のログをすべて書き出し
+     */
+    public static synchronized void shutdown() {
+        AsyncLogWorker current = worker;
+        if (current == null) {
+            return;
+        }
+
+        worker = null;
+        current.stop();
+    }
+
+    /**
+     * ローテーション後にログファイルを開き直す
+     */
+    public static void reopen() {
+        AsyncLogWorker current = worker;
+        if (current != null) {
+            current.requestReopen();
+        }
+    }
+
+    /**
+     * 書き込み待ちのログ件数を取得
+     * 
+     * @return 件数 書き込みスレッド停止中は0
+     */
+    public static int getQueueDepth() {
+        AsyncLogWorker current = worker;
+        return current != null ? current.getQueueSize() : 0;
+    }
+
     /**
      * INFOレベルのログを出力
      * 
      * @param message ログメッセージ
      */
     public static void writeInfo(String message) {
-        write("info.log", "[INFO] ", message, null);
+        write(Level.INFO, message, null);
     }
 
     /**
@@ -52,7 +114,7 @@ public class LogWriter {
      * @param message ログメッセージ
      */
     public static void writeWarn(String message) {
-        write("warn.log", "[WARN] ", message, null);
+        write(Level.WARN, message, null);
     }
 
     /**
@@ -62,40 +124,121 @@ public class LogWriter {
      * @param throwable 原因例外
      */
     public static void writeError(String message, Throwable throwable) {
-        write("error.log", "[ERROR] ", message, throwable);
+        write(Level.ERROR, message, throwable);
     }
 
     /**
-     * 指定ファイルへログを書き込み
+     * ログを書き込みスレッドへ渡し、受け付けられなければ直接書き込み
      * 
-     * @param fileName  ファイル名
-     * @param level     レベル文字列
+     * @param level     レベル
      * @param message   ログメッセージ
      * @param throwable 例外あれば null可
      */
-    private static void write(String fileName, String level, String message, Throwable throwable) {
-        File logDir = getLogDir();
+    private static void write(Level level, String message, Throwable throwable) {
+        Entry entry = new Entry(level, message, throwable);
+        AsyncLogWorker current = worker;
+        if (current == null || !current.submit(entry)) {
+            writeDirect(entry);
+        }
+    }
 
-        if (!logDir.exists()) {
-            logDir.mkdirs();
+    /**
+     * 指定ファイルへログを直接書き込み
+     * 
+     * @param entry ログ1件
+     */
+    private static void writeDirect(Entry entry) {
+        Path logDir = getLogDir().toPath();
+        try {
+            Files.createDirectories(logDir);
+            try (FileChannel channel = FileChannel.open(logDir.resolve(entry.level.fileName),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(entry.format());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        } catch (IOException e) {
+            reportFailure(e);
+        }
+    }
+
+    /**
+     * 書き込み失敗をサーバーログへ通知
+     * 
+     * @param e 発生した例外
+     */
+    static void reportFailure(IOException e) {
+        if (Main.getInstance() != null) {
+            Main.getInstance().getLogger().severe("ログの書き込みに失敗しました: " + e.getMessage());
+        } else {
+            System.err.println("[Greetmate] ログの書き込みに失敗しました（テスト環境など）: " + e.getMessage());
+        }
+    }
+
+    /**
+     * ログレベルと出力先ファイル
+     */
+    enum Level {
+        INFO("info.log", "[INFO] "),
+        WARN("warn.log", "[WARN] "),
+        ERROR("error.log", "[ERROR] ");
+
+        final String fileName;
+        final String prefix;
+
+        /**
+         * 出力先ファイル名と接頭辞を保持
+         * 
+         * @param fileName ファイル名
+         * @param prefix   レベル文字列
+         */
+        Level(String fileName, String prefix) {
+            this.fileName = fileName;
+            this.prefix = prefix;
         }
+    }
 
-        File file = new File(logDir, fileName);
-        try (FileWriter writer = new FileWriter(file, true)) {
-            String timestamp = dateFormat.format(new Date());
-            writer.write(timestamp + " " + level + message + System.lineSeparator());
+    /**
+     * 出力待ちのログ1件を保持する内部クラス
+     */
+    static class Entry {
+        final long timestamp;
+        final Level level;
+        final String message;
+        final Throwable throwable;
+
+        /**
+         * 呼び出し時刻とともにログ内容を保持
+         * 
+         * @param level     レベル
+         * @param message   ログメッセージ
+         * @param throwable 例外あれば null可
+         */
+        Entry(Level level, String message, Throwable throwable) {
+            this.timestamp = System.currentTimeMillis();
+            this.level = level;
+            this.message = message;
+            this.throwable = throwable;
+        }
+
+        /**
+         * ファイルへ出力する形式に整形
+         * 
+         * @return UTF-8のバイト列
+         */
+        byte[] format() {
+            String newline = System.lineSeparator();
+            StringBuilder sb = new StringBuilder(128);
+            sb.append(dateFormat.format(Instant.ofEpochMilli(timestamp))).append(' ')
+                    .append(level.prefix).append(message).append(newline);
             if (throwable != null) {
-                writer.write("Caused by: " + throwable.toString() + System.lineSeparator());
+                sb.append("Caused by: ").append(throwable).append(newline);
                 for (StackTraceElement elem : throwable.getStackTrace()) {
-                    writer.write("\tat " + elem.toString() + System.lineSeparator());
+                    sb.append("\tat ").append(elem).append(newline);
                 }
             }
-        } catch (IOException e) {
-            if (Main.getInstance() != null) {
-                Main.getInstance().getLogger().severe("ログの書き込みに失敗しました: " + e.getMessage());
-            } else {
-                System.err.println("[Greetmate] ログの書き込みに失敗しました（テスト環境など）: " + e.getMessage());
-            }
+            return sb.toString().getBytes(StandardCharsets.UTF_8);
         }
     }
 
@@ -0,0 +1,99 @@
+/*
+######################################################################################################################################################
+# ファイル   : LeaderElection.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.maintenance;
+
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.repository.LeaseDao;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB上のリースにより、クラスタ共通のメンテナンスを実行するサーバー（リーダー）を1台に絞るクラス
+ * （リーダーが停止してリースが期限切れになると、他のサーバーが次回の更新時に引き継ぐ）
+ */
+public class LeaderElection {
+
+    static final String LEASE_NAME = "maintenance";
+
+    private static final PeriodicTask renewTask = new PeriodicTask("リーダーのリース更新", LeaderElection::renew,
+            () -> ConfigManager.getLeaseRenewSeconds() * 20L);
+
+    private static volatile boolean enabled;
+    private static volatile boolean leader;
+    private static volatile long leaseDeadline;
+    private static String owner;
+
+    /**
+     * リーダー選出が有効な場合、リースを取得してから定期更新を開始
+     */
+    public static void start() {
+        if (!ConfigManager.isLeaderElectionEnabled()) {
+            return;
+        }
+        owner = ConfigManager.getServerName() + "/" + UUID.randomUUID();
+        enabled = true;
+        renew();
+        renewTask.start();
+    }
+
+    /**
+     * 設定の再読み込みで更新間隔が変わっていれば再スケジュール
+     */
+    public static void reschedule() {
+        renewTask.reschedule();
+    }
+
+    /**
+     * 定期更新を停止し、保持しているリースを解放（他のサーバーが期限切れを待たずに引き継げるようにする）
+     */
+    public static synchronized void stop() {
+        if (!enabled) {
+            return;
+        }
+        renewTask.cancel();
+        if (leader) {
+            LeaseDao.release(LEASE_NAME, owner);
+        }
+        enabled = false;
+        leader = false;
+    }
+
+    /**
+     * クラスタ共通のメンテナンスを実行してよいかを判定
+     * （リーダー選出が無効なら常にtrue。更新が遅れてリースの期限を過ぎた場合はfalse）
+     * 
+     * @return リーダーであればtrue
+     */
+    public static boolean isLeader() {
+        return !enabled || (leader && System.nanoTime() - leaseDeadline < 0);
+    }
+
+    /**
+     * リースを取得・更新し、リーダーの交代をログへ出力
+     */
+    static synchronized void renew() {
+        int ttlSeconds = ConfigManager.getLeaseTtlSeconds();
+        // DBへの問い合わせ前の時刻を起点とし、DB側の期限より先に失効させる
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(ttlSeconds);
+        boolean acquired = LeaseDao.tryAcquire(LEASE_NAME, owner, ttlSeconds);
+        if (acquired) {
+            leaseDeadline = deadline;
+        }
+        if (acquired != leader) {
+            leader = acquired;
+            LogWriter.writeInfo(acquired
+                    ? "[Greetmate] メンテナンスのリーダーになりました: " + owner
+                    : "[Greetmate] メンテナンスのリーダーではなくなりました: " + owner);
+        }
+    }
+
+}
@@ -5,15 +5,30 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   コネクションプール統計の出力
+# V-003      : 2026/10/18                 Gamer-Iris   オンラインプレイヤー同期の一括処理化
+# V-004      : 2026/10/18                 Gamer-Iris   BAN情報の差分反映と全件再同期を追加
+# V-005      : 2026/10/18                 Gamer-Iris   実行時間の計測を追加
+# V-006      : 2026/10/18                 Gamer-Iris   設定の再読み込み時に実行間隔の変更へ追従
+# V-007      : 2026/10/18                 Gamer-Iris   クリーンアップを件数上限付きの分割削除とし、実行時間の上限を追加
+# V-008      : 2026/10/18                 Gamer-Iris   BAN処理とクリーンアップをリーダーのサーバーのみで実行
+# V-009      : 2026/10/18                 Gamer-Iris   BAN・クリーンアップ時にキャッシュ無効化を他のサーバーへ通知
+# V-010      : 2026/10/18                 Gamer-Iris   BAN情報の反映済み位置をIDのみとして再走査幅を設け、再登録されたBANプレイヤーの巡回削除を追加
+# V-011      : 2026/10/18                 Gamer-Iris   削除したBANプレイヤーの名前を補完用のBAN中の名前へ登録
 # 
 ######################################################################################################################################################
 */
 package com.gamer_iris.maintenance;
 
 import com.gamer_iris.Main;
+import com.gamer_iris.cache.CacheInvalidator;
+import com.gamer_iris.cache.PlayerNameIndex;
 import com.gamer_iris.cache.UserGreetingCacheManager;
 import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.database.ConnectionPool;
+import com.gamer_iris.database.DatabaseProvider;
 import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.metrics.MetricsRegistry;
 import com.gamer_iris.model.BanPlayerData;
 import com.gamer_iris.model.PlayerData;
 import com.gamer_iris.notification.NotificationDispatcher;
@@ -21,29 +36,40 @@ import com.gamer_iris.repository.BanPlayerDao;
 import com.gamer_iris.repository.PlayerRoleDao;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-import org.bukkit.plugin.Plugin;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 定期メンテナンス処理を実行するスケジューラークラス
  */
 public class MaintenanceScheduler {
 
+    private static final PeriodicTask maintenanceTask = new PeriodicTask("定期メンテナンス",
+            MaintenanceScheduler::performMaintenance, () -> ConfigManager.getSyncIntervalSeconds() * 20L);
+    private static final PeriodicTask cleanupTask = new PeriodicTask("クリーンアップ",
+            MaintenanceScheduler::performCleanup, () -> ConfigManager.getCleanupIntervalHours() * 60L * 60L * 20L);
+
+    private static int banWatermarkId = 0;
+    private static int banSweepId = 0;
+
     /**
      * 定期メンテナンス、クリーンアップの定期実行を設定
      */
     public static void start() {
-        Plugin plugin = Main.getInstance();
-
-        long syncIntervalTicks = ConfigManager.getSyncIntervalSeconds() * 20L;
-        long cleanupIntervalTicks = ConfigManager.getCleanupIntervalHours() * 60L * 60L * 20L;
-
-        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, MaintenanceScheduler::performMaintenance, 0L,
-                syncIntervalTicks);
+        maintenanceTask.start(0L);
+        cleanupTask.start(0L);
+    }
 
-        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, MaintenanceScheduler::performCleanup, 0L,
-                cleanupIntervalTicks);
+    /**
+     * 設定の再読み込みで実行間隔が変わっていれば再スケジュール
+     */
+    public static void reschedule() {
+        maintenanceTask.reschedule();
+        cleanupTask.reschedule();
     }
 
     /**
@@ -52,75 +78,188 @@ public class MaintenanceScheduler {
     private static void performMaintenance() {
         LogWriter.writeInfo("[Greetmate] 定期メンテナンス処理を開始します...");
 
-        syncOnlinePlayersToDatabase();
-        handleBanPlayers();
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeMaintenance("maintenance")) {
+            syncOnlinePlayersToDatabase();
+            handleBanPlayers();
+        }
+
+        ConnectionPool.Stats stats = DatabaseProvider.getPoolStats();
+        if (stats != null) {
+            LogWriter.writeInfo("[Greetmate] コネクションプール状態: " + stats);
+        }
 
         LogWriter.writeInfo("[Greetmate] 定期メンテナンス処理が完了しました。");
     }
 
     /**
-     * オンラインプレイヤーの情報をDBに更新し、キャッシュを作成
+     * オンラインプレイヤーの情報をDBに一括で更新し、取得結果からキャッシュを作成
      */
     private static void syncOnlinePlayersToDatabase() {
+        Map<UUID, String> online = new LinkedHashMap<>();
         for (Player player : Bukkit.getOnlinePlayers()) {
-            UUID uuid = player.getUniqueId();
-            String name = player.getName();
+            online.put(player.getUniqueId(), player.getName());
+        }
+        if (online.isEmpty()) {
+            return;
+        }
 
-            PlayerData data = PlayerRoleDao.findPlayerByUUID(uuid);
-            if (data == null) {
-                PlayerRoleDao.insertPlayer(uuid, name, 0);
+        int batchSize = ConfigManager.getSyncBatchSize();
+        Map<UUID, PlayerData> registered = PlayerRoleDao.findPlayersByUUIDs(online.keySet(), batchSize);
+        if (registered == null) {
+            return;
+        }
+
+        Map<UUID, String> missing = new LinkedHashMap<>(online);
+        missing.keySet().removeAll(registered.keySet());
+        if (!missing.isEmpty() && PlayerRoleDao.upsertPlayers(missing, 0, batchSize)) {
+            Date now = new Date();
+            missing.forEach((uuid, name) -> {
+                registered.put(uuid, new PlayerData(0, name, 0, uuid, now));
                 LogWriter.writeInfo("[Greetmate] " + name + " をDBに新規登録しました。");
-            }
+            });
+        }
 
-            if (!UserGreetingCacheManager.contains(uuid)) {
-                UserGreetingCacheManager.buildAndCache(uuid);
-                LogWriter.writeInfo("[Greetmate] " + name + " のキャッシュ情報を投入しました。");
+        for (PlayerData data : registered.values()) {
+            if (!UserGreetingCacheManager.contains(data.getUuid()) && UserGreetingCacheManager.buildAndCache(data)) {
+                LogWriter.writeInfo("[Greetmate] " + data.getPlayerName() + " のキャッシュ情報を投入しました。");
             }
         }
     }
 
     /**
-     * BAN登録されたプレイヤーの情報を削除、通知を実行
+     * BAN情報の反映済み位置を初期化し、全件の再同期を非同期で実行
+     * 
+     * @return 再同期を開始した場合true リーダーではない場合false
      */
-    private static void handleBanPlayers() {
-        List<BanPlayerData> bannedList = BanPlayerDao.getAll();
+    public static boolean requestFullBanResync() {
+        if (!LeaderElection.isLeader()) {
+            return false;
+        }
+        resetBanWatermark();
+        LogWriter.writeInfo("[Greetmate] BAN情報の全件再同期を開始します。");
+        Bukkit.getScheduler().runTaskAsynchronously(Main.getInstance(), MaintenanceScheduler::handleBanPlayers);
+        return true;
+    }
 
-        for (BanPlayerData ban : bannedList) {
-            UUID uuid = ban.getUuid();
-            String name = ban.getPlayerName();
+    /**
+     * BAN情報の反映済み位置と巡回位置を先頭に戻す
+     */
+    static synchronized void resetBanWatermark() {
+        banWatermarkId = 0;
+        banSweepId = 0;
+    }
 
-            boolean wasInDb = deleteFromDatabase(uuid);
-            if (wasInDb) {
-                LogWriter.writeInfo("[Greetmate] BANプレイヤーをDBとキャッシュから削除: " + name + " (" + uuid + ")");
-                NotificationDispatcher.broadcastBanMessage(uuid, name);
+    /**
+     * 前回反映以降に追加されたBAN登録のプレイヤー情報を削除、通知を実行（リーダーのサーバーのみ）
+     * （IDの採番順とコミット順は一致しないため、反映済みの最大IDから設定のID数だけ遡って再確認する）
+     */
+    private static synchronized void handleBanPlayers() {
+        if (!LeaderElection.isLeader()) {
+            return;
+        }
+
+        int from = Math.max(banWatermarkId - ConfigManager.getBanRescanWindow(), 0);
+        List<BanPlayerData> bans = BanPlayerDao.getAddedSince(from);
+        if (bans == null) {
+            return;
+        }
+
+        if (!bans.isEmpty()) {
+            int latest = bans.get(bans.size() - 1).getId();
+            Map<UUID, String> deleted = PlayerRoleDao.deleteBannedPlayers(from, latest);
+            if (deleted == null) {
+                return;
             }
+            banWatermarkId = Math.max(banWatermarkId, latest);
+            notifyBanned(deleted);
+        }
+        sweepBannedPlayers();
+    }
+
+    /**
+     * BAN登録済みのまま再登録されたプレイヤーを削除するため、BAN情報を設定件数分ずつID順に巡回
+     * （反映済みの最大IDまで達したら次回は先頭から確認する）
+     */
+    private static void sweepBannedPlayers() {
+        if (banWatermarkId == 0) {
+            return;
         }
+
+        int until = Math.min(banSweepId + ConfigManager.getBanSweepBatchSize(), banWatermarkId);
+        Map<UUID, String> deleted = PlayerRoleDao.deleteBannedPlayers(banSweepId, until);
+        if (deleted == null) {
+            return;
+        }
+
+        banSweepId = until < banWatermarkId ? until : 0;
+        notifyBanned(deleted);
     }
 
     /**
-     * DBとキャッシュから指定プレイヤーを削除
+     * 削除したBANプレイヤーのキャッシュを無効化し、補完用のBAN中の名前へ登録してBANを通知
      * 
-     * @param uuid プレイヤーUUID
-     * @return DBから削除された場合true
+     * @param deleted 削除したプレイヤーのUUIDとプレイヤー名
      */
-    private static boolean deleteFromDatabase(UUID uuid) {
-        boolean deleted = PlayerRoleDao.deletePlayerByUUID(uuid);
-        if (deleted) {
+    private static void notifyBanned(Map<UUID, String> deleted) {
+        deleted.forEach((uuid, name) -> {
             UserGreetingCacheManager.remove(uuid);
-        }
-        return deleted;
+            CacheInvalidator.publish(uuid);
+            PlayerNameIndex.markBanned(uuid, name);
+            LogWriter.writeInfo("[Greetmate] BANプレイヤーをDBとキャッシュから削除: " + name + " (" + uuid + ")");
+            NotificationDispatcher.broadcastBanMessage(uuid, name);
+        });
     }
 
     /**
      * 使用履歴に基づくデータのクリーンアップを実行
+     * （リーダーのサーバーのみ。設定件数ずつ間隔を空けて削除し、実行時間の上限に達した場合は残りを次回へ持ち越す）
      */
     private static void performCleanup() {
+        if (!LeaderElection.isLeader()) {
+            LogWriter.writeInfo("[Greetmate] メンテナンスのリーダーではないため、クリーンアップをスキップします。");
+            return;
+        }
+        CacheInvalidator.prune();
+
         LogWriter.writeInfo("[Greetmate] プレイヤーデータのクリーンアップを開始します...");
 
         int thresholdDays = ConfigManager.getCleanupThresholdDays();
-        int deletedCount = PlayerRoleDao.deleteInactivePlayers(thresholdDays);
+        int batchSize = ConfigManager.getCleanupBatchSize();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(ConfigManager.getCleanupMaxRuntimeSeconds());
+        int deletedCount = 0;
+        boolean remaining;
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeMaintenance("cleanup")) {
+            do {
+                int deleted = PlayerRoleDao.deleteInactivePlayers(thresholdDays, batchSize);
+                deletedCount += deleted;
+                remaining = deleted == batchSize;
+                if (remaining) {
+                    LogWriter.writeInfo("[Greetmate] クリーンアップ実行中。削除件数: " + deletedCount);
+                }
+            } while (remaining && System.nanoTime() - deadline < 0 && pause(ConfigManager.getCleanupPauseMillis()));
+        }
 
+        if (remaining) {
+            LogWriter.writeWarn("[Greetmate] クリーンアップを中断しました。残りは次回に削除します。削除件数: " + deletedCount);
+            return;
+        }
         LogWriter.writeInfo("[Greetmate] クリーンアップ完了。削除件数: " + deletedCount);
     }
 
+    /**
+     * 分割削除の間に待機
+     * 
+     * @param millis 待機時間（ミリ秒）
+     * @return 待機できた場合true 割り込まれた場合false
+     */
+    private static boolean pause(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
 }
@@ -0,0 +1,87 @@
+/*
+######################################################################################################################################################
+# ファイル   : PeriodicTask.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.maintenance;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.logging.LogWriter;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+import java.util.function.LongSupplier;
+
+/**
+ * 設定値から実行間隔を求める非同期の定期タスク（設定の再読み込みで間隔が変わった場合に再スケジュールする）
+ */
+public class PeriodicTask {
+
+    private final String name;
+    private final Runnable action;
+    private final LongSupplier intervalTicks;
+
+    private BukkitTask task;
+    private long scheduledIntervalTicks;
+
+    /**
+     * 実行処理と実行間隔の取得方法を保持
+     * 
+     * @param name          処理名（ログ出力用）
+     * @param action        実行処理
+     * @param intervalTicks 実行間隔（tick）を設定から求める処理
+     */
+    public PeriodicTask(String name, Runnable action, LongSupplier intervalTicks) {
+        this.name = name;
+        this.action = action;
+        this.intervalTicks = intervalTicks;
+    }
+
+    /**
+     * 定期実行を開始（開始済みの場合は停止してから開始）
+     * 
+     * @param delayTicks 初回実行までの待機時間（tick）
+     */
+    public synchronized void start(long delayTicks) {
+        cancel();
+        scheduledIntervalTicks = intervalTicks.getAsLong();
+        task = Bukkit.getScheduler().runTaskTimerAsynchronously(Main.getInstance(), action, delayTicks,
+                scheduledIntervalTicks);
+    }
+
+    /**
+     * 定期実行を開始（初回は実行間隔の経過後）
+     */
+    public void start() {
+        start(intervalTicks.getAsLong());
+    }
+
+    /**
+     * 設定上の実行間隔が変わっていれば、新しい間隔で定期実行をやり直す
+     * 
+     * @return 再スケジュールした場合true
+     */
+    public synchronized boolean reschedule() {
+        if (task == null || intervalTicks.getAsLong() == scheduledIntervalTicks) {
+            return false;
+        }
+        start();
+        LogWriter.writeInfo("[Greetmate] " + name + "の実行間隔を変更しました: " + scheduledIntervalTicks + " tick");
+        return true;
+    }
+
+    /**
+     * 定期実行を停止
+     */
+    public synchronized void cancel() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+}
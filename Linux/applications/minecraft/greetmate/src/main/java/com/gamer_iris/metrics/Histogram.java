@@ -0,0 +1,89 @@
+/*
+######################################################################################################################################################
+# ファイル   : Histogram.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 処理時間を固定のバケットに集計するヒストグラムクラス（Prometheus形式で出力）
+ */
+public class Histogram {
+
+    private static final double[] BUCKET_SECONDS = {
+            0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10 };
+    private static final long[] BUCKET_NANOS = new long[BUCKET_SECONDS.length];
+
+    static {
+        for (int i = 0; i < BUCKET_SECONDS.length; i++) {
+            BUCKET_NANOS[i] = (long) (BUCKET_SECONDS[i] * 1_000_000_000L);
+        }
+    }
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_NANOS.length + 1];
+    private final LongAdder sumNanos = new LongAdder();
+
+    /**
+     * 各バケットの集計領域を生成
+     */
+    public Histogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 処理時間を1件記録
+     * 
+     * @param nanos 処理時間（ナノ秒）
+     */
+    public void observe(long nanos) {
+        int i = 0;
+        while (i < BUCKET_NANOS.length && nanos > BUCKET_NANOS[i]) {
+            i++;
+        }
+        buckets[i].increment();
+        sumNanos.add(nanos);
+    }
+
+    /**
+     * 記録件数を取得
+     * 
+     * @return 件数
+     */
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Prometheus のテキスト形式でバケット・合計・件数を出力
+     * 
+     * @param sb    出力先
+     * @param name  メトリクス名
+     * @param label ラベル（例: method="findPlayerByUUID"）
+     */
+    void writeTo(StringBuilder sb, String name, String label) {
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_SECONDS.length; i++) {
+            cumulative += buckets[i].sum();
+            sb.append(name).append("_bucket{").append(label).append(",le=\"").append(BUCKET_SECONDS[i])
+                    .append("\"} ").append(cumulative).append('\n');
+        }
+        cumulative += buckets[BUCKET_SECONDS.length].sum();
+        sb.append(name).append("_bucket{").append(label).append(",le=\"+Inf\"} ").append(cumulative).append('\n');
+        sb.append(name).append("_sum{").append(label).append("} ").append(sumNanos.sum() / 1e9).append('\n');
+        sb.append(name).append("_count{").append(label).append("} ").append(cumulative).append('\n');
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+######################################################################################################################################################
+# ファイル   : MetricsExporter.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.metrics;
+
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.logging.LogWriter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * JDK組み込みのHTTPサーバーで /metrics を公開するエクスポータークラス（config.yml で有効化した場合のみ起動）
+ */
+public class MetricsExporter {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static HttpServer server;
+    private static ExecutorService executor;
+
+    /**
+     * 設定が有効な場合にHTTPサーバーを起動し、計測を開始
+     */
+    public static synchronized void start() {
+        if (server != null || !ConfigManager.isMetricsEnabled()) {
+            return;
+        }
+
+        String address = ConfigManager.getMetricsBindAddress();
+        int port = ConfigManager.getMetricsPort();
+        try {
+            HttpServer created = HttpServer.create(new InetSocketAddress(address, port), 0);
+            created.createContext("/metrics", MetricsExporter::handle);
+            executor = Executors.newSingleThreadExecutor(
+                    Thread.ofPlatform().daemon().name("Greetmate-Metrics").factory());
+            created.setExecutor(executor);
+            created.start();
+            server = created;
+        } catch (IOException e) {
+            LogWriter.writeError("[Greetmate] メトリクス出力の開始に失敗しました: " + address + ":" + port, e);
+            return;
+        }
+
+        MetricsRegistry.setEnabled(true);
+        LogWriter.writeInfo("[Greetmate] メトリクス出力を開始しました: http://" + address + ":" + getPort() + "/metrics");
+    }
+
+    /**
+     * 計測を終了し、HTTPサーバーを停止
+     */
+    public static synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+
+        MetricsRegistry.setEnabled(false);
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        executor = null;
+    }
+
+    /**
+     * 待ち受け中のポート番号を取得
+     * 
+     * @return ポート番号 停止中は-1
+     */
+    static synchronized int getPort() {
+        return server != null ? server.getAddress().getPort() : -1;
+    }
+
+    /**
+     * /metrics へのリクエストに集計値を返却
+     * 
+     * @param exchange HTTPリクエスト・レスポンス
+     * @throws IOException レスポンスの書き込みに失敗した場合
+     */
+    private static void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            byte[] body = MetricsRegistry.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,237 @@
+/*
+######################################################################################################################################################
+# ファイル   : MetricsRegistry.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   キャッシュの削除件数と件数の出力を追加
+# V-003      : 2026/10/18                 Gamer-Iris   メンテナンスのリーダー状態の出力を追加
+# V-004      : 2026/10/18                 Gamer-Iris   プレイヤー情報の未反映の書き込み件数の出力を追加
+# V-005      : 2026/10/18                 Gamer-Iris   DB障害による縮退運転中かの出力を追加
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.metrics;
+
+import com.gamer_iris.cache.UserGreetingCacheManager;
+import com.gamer_iris.database.ConnectionPool;
+import com.gamer_iris.database.DatabaseProvider;
+import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.maintenance.LeaderElection;
+import com.gamer_iris.repository.LocalSnapshotStore;
+import com.gamer_iris.repository.PlayerWriteBehind;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 各処理の計測値を集計し、Prometheus のテキスト形式で出力するクラス（無効時は計測しない）
+ */
+public class MetricsRegistry {
+
+    private static final Map<String, Histogram> daoDurations = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> maintenanceDurations = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> listenerDurations = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> cacheLookups = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> cacheEvictions = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled;
+
+    /**
+     * 計測の有効・無効を切り替え
+     * 
+     * @param value 有効にする場合true
+     */
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    /**
+     * 計測が有効かを判定
+     * 
+     * @return 有効ならtrue
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * DAOメソッドの実行時間の計測を開始
+     * 
+     * @param method メソッド名（例: PlayerRoleDao.findPlayerByUUID）
+     * @return close() で計測を終了するタイマー
+     */
+    public static Timer timeDao(String method) {
+        return start(daoDurations, method);
+    }
+
+    /**
+     * 定期メンテナンス処理の実行時間の計測を開始
+     * 
+     * @param task 処理名
+     * @return close() で計測を終了するタイマー
+     */
+    public static Timer timeMaintenance(String task) {
+        return start(maintenanceDurations, task);
+    }
+
+    /**
+     * イベントリスナ（メインスレッド）の処理時間の計測を開始
+     * 
+     * @param event イベント名
+     * @return close() で計測を終了するタイマー
+     */
+    public static Timer timeListener(String event) {
+        return start(listenerDurations, event);
+    }
+
+    /**
+     * 挨拶メッセージキャッシュの参照結果を計上
+     * 
+     * @param result 参照結果（hit / miss / expired）
+     */
+    public static void countCacheLookup(String result) {
+        if (!enabled) {
+            return;
+        }
+        cacheLookups.computeIfAbsent(result, _ -> new LongAdder()).increment();
+    }
+
+    /**
+     * 挨拶メッセージキャッシュから削除したエントリを計上
+     * 
+     * @param cause 削除理由（size / expired / offline）
+     */
+    public static void countCacheEviction(String cause) {
+        if (!enabled) {
+            return;
+        }
+        cacheEvictions.computeIfAbsent(cause, _ -> new LongAdder()).increment();
+    }
+
+    /**
+     * 集計値を Prometheus のテキスト形式で出力
+     * 
+     * @return 出力文字列
+     */
+    public static String scrape() {
+        StringBuilder sb = new StringBuilder(8192);
+
+        writeHistograms(sb, "greetmate_dao_duration_seconds", "DAOメソッドの実行時間（秒）", "method", daoDurations);
+        writeHistograms(sb, "greetmate_maintenance_duration_seconds", "定期メンテナンス処理の実行時間（秒）", "task",
+                maintenanceDurations);
+        writeHistograms(sb, "greetmate_listener_duration_seconds", "イベントリスナのメインスレッド処理時間（秒）", "event",
+                listenerDurations);
+
+        writeHeader(sb, "greetmate_cache_lookups_total", "挨拶メッセージキャッシュの参照回数", "counter");
+        new TreeMap<>(cacheLookups).forEach((result, count) -> sb.append("greetmate_cache_lookups_total{result=\"")
+                .append(result).append("\"} ").append(count.sum()).append('\n'));
+
+        writeHeader(sb, "greetmate_cache_evictions_total", "挨拶メッセージキャッシュから削除したエントリ数", "counter");
+        new TreeMap<>(cacheEvictions).forEach((cause, count) -> sb.append("greetmate_cache_evictions_total{cause=\"")
+                .append(cause).append("\"} ").append(count.sum()).append('\n'));
+
+        writeHeader(sb, "greetmate_cache_size", "挨拶メッセージキャッシュの件数", "gauge");
+        sb.append("greetmate_cache_size ").append(UserGreetingCacheManager.size()).append('\n');
+
+        writeHeader(sb, "greetmate_maintenance_leader", "クラスタ共通のメンテナンスを実行するリーダーか（1: リーダー）", "gauge");
+        sb.append("greetmate_maintenance_leader ").append(LeaderElection.isLeader() ? 1 : 0).append('\n');
+
+        writeHeader(sb, "greetmate_log_queue_depth", "書き込み待ちログの件数", "gauge");
+        sb.append("greetmate_log_queue_depth ").append(LogWriter.getQueueDepth()).append('\n');
+
+        writeHeader(sb, "greetmate_player_write_pending", "DBへ未反映のプレイヤー情報の書き込み件数", "gauge");
+        sb.append("greetmate_player_write_pending ").append(PlayerWriteBehind.size()).append('\n');
+
+        writeHeader(sb, "greetmate_db_degraded", "DBに接続できずローカルスナップショットで動作しているか（1: 縮退運転中）", "gauge");
+        sb.append("greetmate_db_degraded ").append(LocalSnapshotStore.isDegraded() ? 1 : 0).append('\n');
+
+        ConnectionPool.Stats stats = DatabaseProvider.getPoolStats();
+        if (stats != null) {
+            writeHeader(sb, "greetmate_db_pool_connections", "コネクションプールの接続数", "gauge");
+            sb.append("greetmate_db_pool_connections{state=\"active\"} ").append(stats.getActive()).append('\n');
+            sb.append("greetmate_db_pool_connections{state=\"idle\"} ").append(stats.getIdle()).append('\n');
+            writeHeader(sb, "greetmate_db_pool_waiting", "接続の取得待ちスレッド数", "gauge");
+            sb.append("greetmate_db_pool_waiting ").append(stats.getWaiting()).append('\n');
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * 計測が有効な場合のみタイマーを開始
+     * 
+     * @param family 記録先のヒストグラム群
+     * @param label  ラベル値
+     * @return タイマー
+     */
+    private static Timer start(Map<String, Histogram> family, String label) {
+        if (!enabled) {
+            return Timer.NOOP;
+        }
+        return new Timer(family.computeIfAbsent(label, _ -> new Histogram()), System.nanoTime());
+    }
+
+    /**
+     * ラベル値ごとのヒストグラムを出力
+     * 
+     * @param sb        出力先
+     * @param name      メトリクス名
+     * @param help      説明
+     * @param labelName ラベル名
+     * @param family    ラベル値ごとのヒストグラム
+     */
+    private static void writeHistograms(StringBuilder sb, String name, String help, String labelName,
+            Map<String, Histogram> family) {
+        writeHeader(sb, name, help, "histogram");
+        new TreeMap<>(family).forEach(
+                (label, histogram) -> histogram.writeTo(sb, name, labelName + "=\"" + label + "\""));
+    }
+
+    /**
+     * HELP・TYPE 行を出力
+     * 
+     * @param sb   出力先
+     * @param name メトリクス名
+     * @param help 説明
+     * @param type 種別
+     */
+    private static void writeHeader(StringBuilder sb, String name, String help, String type) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    /**
+     * try-with-resources で処理時間を計測するタイマークラス
+     */
+    public static class Timer implements AutoCloseable {
+        static final Timer NOOP = new Timer(null, 0L);
+
+        private final Histogram histogram;
+        private final long startNanos;
+
+        /**
+         * 記録先と開始時刻を保持
+         * 
+         * @param histogram  記録先 計測しない場合null
+         * @param startNanos 開始時刻（System.nanoTime）
+         */
+        Timer(Histogram histogram, long startNanos) {
+            this.histogram = histogram;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * 計測を終了し経過時間を記録
+         */
+        @Override
+        public void close() {
+            if (histogram != null) {
+                histogram.observe(System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+}
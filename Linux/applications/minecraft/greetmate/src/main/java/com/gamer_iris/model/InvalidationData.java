@@ -0,0 +1,64 @@
+/*
+######################################################################################################################################################
+# ファイル   : InvalidationData.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.model;
+
+import java.util.UUID;
+
+/**
+ * キャッシュの無効化通知（変更履歴）の情報を持つデータクラス
+ */
+public class InvalidationData {
+
+    private final long id;
+    private final UUID uuid;
+    private final String origin;
+
+    /**
+     * 無効化通知のコンストラクタ
+     * 
+     * @param id     レコードID
+     * @param uuid   対象プレイヤーのUUID
+     * @param origin 通知元サーバーの識別子
+     */
+    public InvalidationData(long id, UUID uuid, String origin) {
+        this.id = id;
+        this.uuid = uuid;
+        this.origin = origin;
+    }
+
+    /**
+     * レコードIDを取得
+     * 
+     * @return ID
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * 対象プレイヤーのUUIDを取得
+     * 
+     * @return UUID
+     */
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    /**
+     * 通知元サーバーの識別子を取得
+     * 
+     * @return 識別子
+     */
+    public String getOrigin() {
+        return origin;
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+######################################################################################################################################################
+# ファイル   : GreetingTemplate.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   定義済み以外の波括弧はエラーとせず文字列としてそのまま出力
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.notification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 挨拶メッセージを事前に解析し、固定文字列とプレイヤー名の差し込み位置に分割して保持するクラス
+ * （%s・{player}: プレイヤー名 / {role}: ロール名 / {server}: サーバー名 / %%・{{: 記号そのもの。それ以外の波括弧は文字列としてそのまま出力）
+ */
+public class GreetingTemplate {
+
+    private final String[] literals;
+    private final int literalLength;
+
+    /**
+     * 解析済みの固定文字列を保持
+     * 
+     * @param literals プレイヤー名の差し込み位置で区切った固定文字列
+     */
+    private GreetingTemplate(String[] literals) {
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literals = literals;
+        this.literalLength = length;
+    }
+
+    /**
+     * 挨拶メッセージを解析してテンプレートを生成
+     * 
+     * @param text       挨拶メッセージ
+     * @param roleName   {role} に展開するロール名
+     * @param serverName {server} に展開するサーバー名
+     * @return 解析済みテンプレート
+     * @throws IllegalArgumentException メッセージが未設定、または不正な書式指定子を含む場合
+     */
+    public static GreetingTemplate compile(String text, String roleName, String serverName) {
+        if (text == null) {
+            throw new IllegalArgumentException("メッセージが設定されていません。");
+        }
+
+        List<String> literals = new ArrayList<>();
+        StringBuilder current = new StringBuilder(text.length());
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c == '%') {
+                char next = i + 1 < text.length() ? text.charAt(i + 1) : '\0';
+                if (next == 's') {
+                    literals.add(current.toString());
+                    current.setLength(0);
+                } else if (next == '%') {
+                    current.append('%');
+                } else {
+                    throw new IllegalArgumentException("不正な書式指定子です: 位置=" + i);
+                }
+                i += 2;
+            } else if (text.startsWith("{{", i)) {
+                current.append('{');
+                i += 2;
+            } else if (text.startsWith("{player}", i)) {
+                literals.add(current.toString());
+                current.setLength(0);
+                i += "{player}".length();
+            } else if (text.startsWith("{role}", i)) {
+                current.append(roleName != null ? roleName : "");
+                i += "{role}".length();
+            } else if (text.startsWith("{server}", i)) {
+                current.append(serverName != null ? serverName : "");
+                i += "{server}".length();
+            } else {
+                current.append(c);
+                i++;
+            }
+        }
+        literals.add(current.toString());
+
+        return new GreetingTemplate(literals.toArray(new String[0]));
+    }
+
+    /**
+     * メッセージとして解析できるかを判定
+     * 
+     * @param text 挨拶メッセージ
+     * @return 解析できる場合true
+     */
+    public static boolean isValid(String text) {
+        try {
+            compile(text, null, null);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * プレイヤー名を差し込んでメッセージを生成
+     * 
+     * @param playerName プレイヤー名
+     * @return 通知するメッセージ
+     */
+    public String render(String playerName) {
+        if (literals.length == 1) {
+            return literals[0];
+        }
+
+        String player = String.valueOf(playerName);
+        StringBuilder sb = new StringBuilder(literalLength + player.length() * (literals.length - 1));
+        sb.append(literals[0]);
+        for (int i = 1; i < literals.length; i++) {
+            sb.append(player).append(literals[i]);
+        }
+        return sb.toString();
+    }
+
+}
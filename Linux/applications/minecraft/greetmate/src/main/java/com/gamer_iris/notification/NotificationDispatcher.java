@@ -5,11 +5,15 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   ログイン通知をメモリ参照のみに変更
+# V-003      : 2026/10/18                 Gamer-Iris   解析済みテンプレートによるメッセージ生成に変更
+# V-004      : 2026/10/18                 Gamer-Iris   ログアウト・キック・BAN通知をメモリ参照のみとし、キャッシュが無い場合は非同期で読み込むよう変更
 # 
 ######################################################################################################################################################
 */
 package com.gamer_iris.notification;
 
+import com.gamer_iris.cache.GreetingPrefetcher;
 import com.gamer_iris.cache.UserGreetingCacheManager;
 import com.gamer_iris.config.ConfigManager;
 import org.bukkit.Bukkit;
@@ -22,79 +26,62 @@ import java.util.UUID;
 public class NotificationDispatcher {
 
     /**
-     * ログイン時の通知を発射
+     * ログイン時の通知を発射（メインスレッドで呼ばれるためDBは参照しない）
      * 
      * @param uuid       プレイヤーUUID
      * @param playerName プレイヤー名
      */
     public static void broadcastLoginMessage(UUID uuid, String playerName) {
-        String msg = UserGreetingCacheManager.getLoginText(uuid);
-        if (msg == null) {
-            UserGreetingCacheManager.buildAndCache(uuid);
-            String cached = UserGreetingCacheManager.getLoginText(uuid);
-            if (cached == null)
-                msg = ConfigManager.getDefaultLoginMessage();
-            else
-                msg = cached;
+        GreetingTemplate template = UserGreetingCacheManager.getLoginTemplate(uuid);
+        if (template == null) {
+            template = ConfigManager.getDefaultLoginTemplate();
         }
-        broadcastMessage(String.format(msg, playerName));
+        broadcastMessage(template.render(playerName));
     }
 
     /**
-     * ログアウト時の通知を発射
+     * ログアウト時の通知を発射（メインスレッドで呼ばれるためDBは参照せず、キャッシュが無ければデフォルトを使い非同期で読み込む）
      * 
      * @param uuid       プレイヤーUUID
      * @param playerName プレイヤー名
      */
     public static void broadcastLogoutMessage(UUID uuid, String playerName) {
-        String msg = UserGreetingCacheManager.getLogoutText(uuid);
-        if (msg == null) {
-            UserGreetingCacheManager.buildAndCache(uuid);
-            String cached = UserGreetingCacheManager.getLogoutText(uuid);
-            if (cached == null)
-                msg = ConfigManager.getDefaultLogoutMessage();
-            else
-                msg = cached;
+        GreetingTemplate template = UserGreetingCacheManager.getLogoutTemplate(uuid);
+        if (template == null) {
+            template = ConfigManager.getDefaultLogoutTemplate();
+            GreetingPrefetcher.prefetchAsync(uuid);
         }
-        broadcastMessage(String.format(msg, playerName));
+        broadcastMessage(template.render(playerName));
     }
 
     /**
-     * キック時の通知を発射
+     * キック時の通知を発射（メインスレッドで呼ばれるためDBは参照せず、キャッシュが無ければデフォルトを使い非同期で読み込む）
      * 
      * @param uuid       プレイヤーUUID
      * @param playerName プレイヤー名
      */
     public static void broadcastKickMessage(UUID uuid, String playerName) {
-        String msg = UserGreetingCacheManager.getKickText(uuid);
-        if (msg == null) {
-            UserGreetingCacheManager.buildAndCache(uuid);
-            String cached = UserGreetingCacheManager.getKickText(uuid);
-            if (cached == null)
-                msg = ConfigManager.getDefaultKickMessage();
-            else
-                msg = cached;
+        GreetingTemplate template = UserGreetingCacheManager.getKickTemplate(uuid);
+        if (template == null) {
+            template = ConfigManager.getDefaultKickTemplate();
+            GreetingPrefetcher.prefetchAsync(uuid);
         }
-        broadcastMessage(String.format(msg, playerName));
+        broadcastMessage(template.render(playerName));
     }
 
     /**
-     * BAN時の通知を発射
+     * BAN時の通知を発射（メインスレッドで呼ばれるためDBは参照せず、キャッシュが無ければデフォルトを使い非同期で読み込む）
      * 
      * @param uuid       プレイヤーUUID
      * @param playerName プレイヤー名
      */
     public static void broadcastBanMessage(UUID uuid, String playerName) {
-        String msg = UserGreetingCacheManager.getBanText(uuid);
-        if (msg == null) {
-            UserGreetingCacheManager.buildAndCache(uuid);
-            String cached = UserGreetingCacheManager.getBanText(uuid);
-            if (cached == null)
-                msg = ConfigManager.getDefaultBanMessage();
-            else
-                msg = cached;
+        GreetingTemplate template = UserGreetingCacheManager.getBanTemplate(uuid);
+        if (template == null) {
+            template = ConfigManager.getDefaultBanTemplate();
+            GreetingPrefetcher.prefetchAsync(uuid);
         }
-        broadcastMessage(String.format(msg, playerName));
+        broadcastMessage(template.render(playerName));
     }
 
     /**
@@ -5,6 +5,13 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   更新日時・ID基準の差分取得を追加
+# V-003      : 2026/10/18                 Gamer-Iris   各メソッドの実行時間の計測を追加
+# V-004      : 2026/10/18                 Gamer-Iris   UUID列の保存形式（VARCHAR(36)・BINARY(16)・移行期間の併用）に対応
+# V-005      : 2026/10/18                 Gamer-Iris   UUID指定のBAN情報取得を追加
+# V-006      : 2026/10/18                 Gamer-Iris   DBに接続できない場合のローカルスナップショットからの参照を追加
+# V-007      : 2026/10/18                 Gamer-Iris   差分取得の基準点を更新日時を含まないIDのみに変更
+# V-008      : 2026/10/18                 Gamer-Iris   登録の成否を返却
 # 
 ######################################################################################################################################################
 */
@@ -16,6 +23,7 @@ import com.gamer_iris.exception.CriticalException;
 import com.gamer_iris.exception.ErrorHandler;
 import com.gamer_iris.model.BanPlayerData;
 import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.metrics.MetricsRegistry;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.Date;
@@ -30,23 +38,24 @@ public class BanPlayerDao {
     private static final String TABLE_NAME = "ban_players";
 
     /**
-     * すべてのBANプレイヤー情報を取得
+     * すべてのBANプレイヤー情報を取得（DBに接続できない場合はローカルスナップショットから取得）
      * 
      * @return BANデータリスト
      */
     public static List<BanPlayerData> getAll() {
         List<BanPlayerData> result = new ArrayList<>();
 
-        try (Connection conn = DatabaseProvider.getConnection();
-                PreparedStatement stmt = conn.prepareStatement(
-                        "SELECT id, player_name, role, uuid, reason, update_time FROM " + TABLE_NAME);
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeDao("BanPlayerDao.getAll");
+                Connection conn = DatabaseProvider.getConnection();
+                PreparedStatement stmt = conn.prepareStatement("SELECT id, player_name, role, " + UuidColumn.columns()
+                        + ", reason, update_time FROM " + TABLE_NAME);
                 ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 int id = rs.getInt("id");
                 String name = rs.getString("player_name");
                 int role = rs.getInt("role");
-                UUID uuid = UUID.fromString(rs.getString("uuid"));
+                UUID uuid = UuidColumn.read(rs);
                 String reason = rs.getString("reason");
                 Date updateTime = rs.getTimestamp("update_time");
 
@@ -57,7 +66,86 @@ public class BanPlayerDao {
             return result;
         } catch (SQLException e) {
             LogWriter.writeError("[Greetmate] BAN情報の取得に失敗しました。", e);
-            return result;
+            List<BanPlayerData> bans = LocalSnapshotStore.getBans();
+            return bans != null ? bans : result;
+        }
+
+        return result;
+    }
+
+    /**
+     * 指定IDより後に登録されたBANプレイヤー情報をID順に取得
+     * （サーバーごとの時計のずれに影響されないよう、AUTO_INCREMENTのIDのみを基準にする）
+     * 
+     * @param afterId 基準のID（この値は含まない）
+     * @return BANデータリスト 取得失敗時null
+     */
+    public static List<BanPlayerData> getAddedSince(int afterId) {
+        List<BanPlayerData> result = new ArrayList<>();
+        String sql = "SELECT id, player_name, role, " + UuidColumn.columns() + ", reason, update_time FROM "
+                + TABLE_NAME + " WHERE id > ? ORDER BY id";
+
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeDao("BanPlayerDao.getAddedSince");
+                Connection conn = DatabaseProvider.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, afterId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    int id = rs.getInt("id");
+                    String name = rs.getString("player_name");
+                    int role = rs.getInt("role");
+                    UUID uuid = UuidColumn.read(rs);
+                    String reason = rs.getString("reason");
+                    Date updateTime = rs.getTimestamp("update_time");
+
+                    result.add(new BanPlayerData(id, name, role, uuid, reason, updateTime));
+                }
+            }
+        } catch (CriticalException e) {
+            ErrorHandler.handleCriticalError(Main.getInstance(), e.getMessage(), e);
+            return null;
+        } catch (SQLException e) {
+            LogWriter.writeError("[Greetmate] BAN情報の差分取得に失敗しました。", e);
+            return null;
+        }
+
+        return result;
+    }
+
+    /**
+     * UUID指定でBANプレイヤー情報を取得
+     * 
+     * @param uuid BANプレイヤーUUID
+     * @return BANデータリスト（0件または1件） 取得失敗時null
+     */
+    public static List<BanPlayerData> findByUuid(UUID uuid) {
+        List<BanPlayerData> result = new ArrayList<>();
+        String sql = "SELECT id, player_name, role, " + UuidColumn.columns() + ", reason, update_time FROM "
+                + TABLE_NAME + " WHERE " + UuidColumn.match();
+
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeDao("BanPlayerDao.findByUuid");
+                Connection conn = DatabaseProvider.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+            UuidColumn.bindMatch(stmt, 1, uuid);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    int id = rs.getInt("id");
+                    String name = rs.getString("player_name");
+                    int role = rs.getInt("role");
+                    String reason = rs.getString("reason");
+                    Date updateTime = rs.getTimestamp("update_time");
+
+                    result.add(new BanPlayerData(id, name, role, UuidColumn.read(rs), reason, updateTime));
+                }
+            }
+        } catch (CriticalException e) {
+            ErrorHandler.handleCriticalError(Main.getInstance(), e.getMessage(), e);
+            return null;
+        } catch (SQLException e) {
+            LogWriter.writeError("[Greetmate] BAN情報の取得に失敗しました。", e);
+            return null;
         }
 
         return result;
@@ -67,31 +155,34 @@ public class BanPlayerDao {
      * BANプレイヤー情報をDBへ登録
      * 
      * @param ban 登録対象のBANデータ
+     * @return 登録に成功した場合true
      */
-    public static void insert(BanPlayerData ban) {
+    public static boolean insert(BanPlayerData ban) {
         String sql = "INSERT INTO " + TABLE_NAME
-                + " (player_name, role, uuid, reason, update_time) VALUES (?, ?, ?, ?, ?)";
+                + " (player_name, role, " + UuidColumn.columns() + ", reason, update_time) VALUES (?, ?, "
+                + UuidColumn.values() + ", ?, ?)";
 
-        try (Connection conn = DatabaseProvider.getConnection();
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeDao("BanPlayerDao.insert");
+                Connection conn = DatabaseProvider.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setString(1, ban.getPlayerName());
             stmt.setInt(2, ban.getRole());
-            stmt.setString(3, ban.getUuid().toString());
-            stmt.setString(4, ban.getReason());
-            stmt.setTimestamp(5, new Timestamp(ban.getUpdateTime().getTime()));
+            int index = UuidColumn.bindValues(stmt, 3, ban.getUuid());
+            stmt.setString(index++, ban.getReason());
+            stmt.setTimestamp(index, new Timestamp(ban.getUpdateTime().getTime()));
             stmt.executeUpdate();
 
             LogWriter.writeInfo("[Greetmate] BANプレイヤーを登録: " + ban.getPlayerName());
         } catch (CriticalException e) {
             ErrorHandler.handleCriticalError(Main.getInstance(), e.getMessage(), e);
-            return;
+            return false;
         } catch (SQLException e) {
             LogWriter.writeError("[Greetmate] BANプレイヤーの登録に失敗しました。", e);
-            return;
+            return false;
         }
 
-        return;
+        return true;
     }
 
     /**
@@ -101,12 +192,13 @@ public class BanPlayerDao {
      * @return 削除された場合true
      */
     public static boolean delete(UUID uuid) {
-        String sql = "DELETE FROM " + TABLE_NAME + " WHERE uuid = ?";
+        String sql = "DELETE FROM " + TABLE_NAME + " WHERE " + UuidColumn.match();
 
-        try (Connection conn = DatabaseProvider.getConnection();
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeDao("BanPlayerDao.delete");
+                Connection conn = DatabaseProvider.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
 
-            stmt.setString(1, uuid.toString());
+            UuidColumn.bindMatch(stmt, 1, uuid);
             int affected = stmt.executeUpdate();
             return affected > 0;
         } catch (CriticalException e) {
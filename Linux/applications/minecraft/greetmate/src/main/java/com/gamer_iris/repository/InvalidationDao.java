@@ -0,0 +1,134 @@
+/*
+######################################################################################################################################################
+# ファイル   : InvalidationDao.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.repository;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.database.DatabaseProvider;
+import com.gamer_iris.exception.CriticalException;
+import com.gamer_iris.exception.ErrorHandler;
+import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.metrics.MetricsRegistry;
+import com.gamer_iris.model.InvalidationData;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * サーバー間で共有するキャッシュ無効化通知（変更履歴）のDB操作を担当するDAOクラス
+ */
+public class InvalidationDao {
+
+    private static final String TABLE_NAME = "greetmate_invalidations";
+
+    /**
+     * 無効化通知を登録
+     * 
+     * @param uuid   対象プレイヤーのUUID
+     * @param origin 通知元サーバーの識別子
+     * @return 登録できた場合true
+     */
+    public static boolean insert(UUID uuid, String origin) {
+        String sql = "INSERT INTO " + TABLE_NAME + " (uuid, origin, created_at) VALUES (?, ?, NOW(3))";
+
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeDao("InvalidationDao.insert");
+                Connection conn = DatabaseProvider.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, uuid.toString());
+            stmt.setString(2, origin);
+            return stmt.executeUpdate() > 0;
+        } catch (CriticalException e) {
+            ErrorHandler.handleCriticalError(Main.getInstance(), e.getMessage(), e);
+            return false;
+        } catch (SQLException e) {
+            LogWriter.writeError("[Greetmate] キャッシュ無効化通知の登録に失敗しました。", e);
+            return false;
+        }
+    }
+
+    /**
+     * 登録済みの無効化通知の最大IDを取得（起動時に過去の通知を読み飛ばすため）
+     * 
+     * @return 最大ID 未登録の場合0 取得失敗時-1
+     */
+    public static long findLatestId() {
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeDao("InvalidationDao.findLatestId");
+                Connection conn = DatabaseProvider.getConnection();
+                PreparedStatement stmt = conn.prepareStatement("SELECT COALESCE(MAX(id), 0) AS id FROM " + TABLE_NAME);
+                ResultSet rs = stmt.executeQuery()) {
+            return rs.next() ? rs.getLong("id") : 0L;
+        } catch (CriticalException e) {
+            ErrorHandler.handleCriticalError(Main.getInstance(), e.getMessage(), e);
+            return -1L;
+        } catch (SQLException e) {
+            LogWriter.writeError("[Greetmate] キャッシュ無効化通知の位置の取得に失敗しました。", e);
+            return -1L;
+        }
+    }
+
+    /**
+     * 指定IDより後の無効化通知を古い順に取得
+     * 
+     * @param afterId 基準のID
+     * @param limit   最大件数
+     * @return 無効化通知リスト 取得失敗時null
+     */
+    public static List<InvalidationData> findSince(long afterId, int limit) {
+        List<InvalidationData> result = new ArrayList<>();
+        String sql = "SELECT id, uuid, origin FROM " + TABLE_NAME + " WHERE id > ? ORDER BY id LIMIT ?";
+
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeDao("InvalidationDao.findSince");
+                Connection conn = DatabaseProvider.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setLong(1, afterId);
+            stmt.setInt(2, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    result.add(new InvalidationData(rs.getLong("id"), UUID.fromString(rs.getString("uuid")),
+                            rs.getString("origin")));
+                }
+            }
+        } catch (CriticalException e) {
+            ErrorHandler.handleCriticalError(Main.getInstance(), e.getMessage(), e);
+            return null;
+        } catch (SQLException e) {
+            LogWriter.writeError("[Greetmate] キャッシュ無効化通知の取得に失敗しました。", e);
+            return null;
+        }
+
+        return result;
+    }
+
+    /**
+     * 保持期間を過ぎた無効化通知を削除
+     * 
+     * @param retentionHours 保持期間（時間）
+     * @return 削除件数
+     */
+    public static int deleteOlderThan(int retentionHours) {
+        String sql = "DELETE FROM " + TABLE_NAME + " WHERE created_at < NOW(3) - INTERVAL ? HOUR";
+
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeDao("InvalidationDao.deleteOlderThan");
+                Connection conn = DatabaseProvider.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, retentionHours);
+            return stmt.executeUpdate();
+        } catch (CriticalException e) {
+            ErrorHandler.handleCriticalError(Main.getInstance(), e.getMessage(), e);
+            return 0;
+        } catch (SQLException e) {
+            LogWriter.writeError("[Greetmate] キャッシュ無効化通知の削除に失敗しました。", e);
+            return 0;
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+######################################################################################################################################################
+# ファイル   : LeaseDao.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.repository;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.database.DatabaseProvider;
+import com.gamer_iris.exception.CriticalException;
+import com.gamer_iris.exception.ErrorHandler;
+import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.metrics.MetricsRegistry;
+import java.sql.*;
+
+/**
+ * サーバー間で共有する期限付きの占有権（リース）のDB操作を担当するDAOクラス
+ */
+public class LeaseDao {
+
+    private static final String TABLE_NAME = "greetmate_leases";
+
+    /**
+     * リースを取得または更新し、保持者が自分かどうかを返す
+     * （未登録・期限切れ・自分が保持中の場合のみ保持者と期限を書き換える。期限はDBサーバーの時刻で判定）
+     * 
+     * @param name       リース名
+     * @param owner      保持者の識別子
+     * @param ttlSeconds 有効期間（秒）
+     * @return 自分が保持者であればtrue 取得失敗時false
+     */
+    public static boolean tryAcquire(String name, String owner, int ttlSeconds) {
+        String upsert = "INSERT INTO " + TABLE_NAME + " (name, owner, expires_at)"
+                + " VALUES (?, ?, NOW(3) + INTERVAL ? SECOND) ON DUPLICATE KEY UPDATE"
+                + " owner = IF(owner = VALUES(owner) OR expires_at < NOW(3), VALUES(owner), owner),"
+                + " expires_at = IF(owner = VALUES(owner), VALUES(expires_at), expires_at)";
+        String select = "SELECT owner FROM " + TABLE_NAME + " WHERE name = ?";
+
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeDao("LeaseDao.tryAcquire");
+                Connection conn = DatabaseProvider.getConnection();
+                PreparedStatement upsertStmt = conn.prepareStatement(upsert);
+                PreparedStatement selectStmt = conn.prepareStatement(select)) {
+            upsertStmt.setString(1, name);
+            upsertStmt.setString(2, owner);
+            upsertStmt.setInt(3, ttlSeconds);
+            upsertStmt.executeUpdate();
+
+            selectStmt.setString(1, name);
+            try (ResultSet rs = selectStmt.executeQuery()) {
+                return rs.next() && owner.equals(rs.getString("owner"));
+            }
+        } catch (CriticalException e) {
+            ErrorHandler.handleCriticalError(Main.getInstance(), e.getMessage(), e);
+            return false;
+        } catch (SQLException e) {
+            LogWriter.writeError("[Greetmate] リースの取得に失敗しました。", e);
+            return false;
+        }
+    }
+
+    /**
+     * 自分が保持しているリースを即時に失効させる
+     * 
+     * @param name  リース名
+     * @param owner 保持者の識別子
+     * @return 失効させた場合true
+     */
+    public static boolean release(String name, String owner) {
+        String sql = "UPDATE " + TABLE_NAME + " SET expires_at = NOW(3) WHERE name = ? AND owner = ?";
+
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeDao("LeaseDao.release");
+                Connection conn = DatabaseProvider.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, name);
+            stmt.setString(2, owner);
+            return stmt.executeUpdate() > 0;
+        } catch (CriticalException e) {
+            ErrorHandler.handleCriticalError(Main.getInstance(), e.getMessage(), e);
+            return false;
+        } catch (SQLException e) {
+            LogWriter.writeError("[Greetmate] リースの解放に失敗しました。", e);
+            return false;
+        }
+    }
+
+}
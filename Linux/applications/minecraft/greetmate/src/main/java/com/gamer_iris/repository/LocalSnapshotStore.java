@@ -0,0 +1,493 @@
+/*
+######################################################################################################################################################
+# ファイル   : LocalSnapshotStore.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   一時ファイルの内容をディスクへ同期してから置き換えるよう修正
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.repository;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.database.DatabaseProvider;
+import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.maintenance.PeriodicTask;
+import com.gamer_iris.model.BanPlayerData;
+import com.gamer_iris.model.PlayerData;
+import com.gamer_iris.model.RoleData;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * players・roles・ban_players テーブルの内容をローカルのバイナリファイルへ定期的に保存し、DBに接続できない間の参照を代替するクラス
+ * （DAOの参照が失敗すると縮退運転へ移り、スナップショットの内容を返す。縮退中は接続の復旧を定期的に確認し、復旧後は未反映の書き込みを反映してからDBの内容と同期する）
+ */
+public class LocalSnapshotStore {
+
+    private static final int MAGIC = 0x474D534E;
+    private static final int FORMAT_VERSION = 1;
+    private static final long NO_DATE = Long.MIN_VALUE;
+    private static final int CHECKSUM_BYTES = Long.BYTES;
+    private static final int PROBE_TIMEOUT_SECONDS = 2;
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final PeriodicTask saveTask = new PeriodicTask("ローカルスナップショットの保存", LocalSnapshotStore::save,
+            () -> ConfigManager.getLocalSnapshotSaveIntervalSeconds() * 20L);
+    private static final PeriodicTask probeTask = new PeriodicTask("DB接続の復旧確認", LocalSnapshotStore::probe,
+            () -> ConfigManager.getLocalSnapshotProbeIntervalSeconds() * 20L);
+
+    private static volatile Snapshot current;
+    private static volatile boolean degraded;
+    private static volatile Runnable onRecovered = () -> {
+    };
+
+    /**
+     * 保存済みのスナップショットを読み込み、保存と接続の復旧確認の定期実行を開始
+     * 
+     * @param listener 接続の復旧後にDBの内容と同期する処理
+     */
+    public static void start(Runnable listener) {
+        onRecovered = listener;
+        load(path());
+        saveTask.start();
+        probeTask.start();
+    }
+
+    /**
+     * 設定の再読み込みで保存間隔・復旧確認間隔が変わっていれば再スケジュール
+     */
+    public static void reschedule() {
+        saveTask.reschedule();
+        probeTask.reschedule();
+    }
+
+    /**
+     * 定期実行を停止
+     */
+    public static void stop() {
+        saveTask.cancel();
+        probeTask.cancel();
+    }
+
+    /**
+     * 縮退運転中（DBに接続できずスナップショットで参照を代替している状態）かを判定
+     * 
+     * @return 縮退運転中の場合true
+     */
+    public static boolean isDegraded() {
+        return degraded;
+    }
+
+    /**
+     * DBからの取得に失敗したプレイヤー情報をスナップショットから取得（未反映の書き込みを反映した内容を返す）
+     * 
+     * @param uuid ユーザーUUID
+     * @return PlayerData 実体 存在しなければnull
+     */
+    static PlayerData findPlayer(UUID uuid) {
+        Snapshot snapshot = enterDegraded();
+        PlayerData player = snapshot != null ? snapshot.players.get(uuid) : null;
+        PlayerWriteBehind.PendingWrite write = PlayerWriteBehind.find(uuid);
+        if (write == null) {
+            return player;
+        }
+        return switch (write.type) {
+            case UPSERT -> new PlayerData(player != null ? player.getId() : 0, write.playerName, write.role, uuid,
+                    player != null ? player.getUpdateTime() : null);
+            case UPDATE_ROLE -> player != null
+                    ? new PlayerData(player.getId(), player.getPlayerName(), write.role, uuid, player.getUpdateTime())
+                    : null;
+            case DELETE -> null;
+        };
+    }
+
+    /**
+     * DBからの取得に失敗したプレイヤー一覧をスナップショットから取得
+     * 
+     * @return PlayerData 一覧 スナップショットが無ければ空
+     */
+    static List<PlayerData> getPlayers() {
+        Snapshot snapshot = enterDegraded();
+        return snapshot != null ? new ArrayList<>(snapshot.players.values()) : new ArrayList<>();
+    }
+
+    /**
+     * DBからの取得に失敗したロール一覧をスナップショットから取得
+     * 
+     * @return RoleData 一覧 スナップショットが無ければ空
+     */
+    static List<RoleData> getRoles() {
+        Snapshot snapshot = enterDegraded();
+        return snapshot != null ? new ArrayList<>(snapshot.roles) : new ArrayList<>();
+    }
+
+    /**
+     * DBからの取得に失敗したBAN一覧をスナップショットから取得
+     * 
+     * @return BANデータリスト スナップショットが無ければnull
+     */
+    public static List<BanPlayerData> getBans() {
+        Snapshot snapshot = enterDegraded();
+        return snapshot != null ? new ArrayList<>(snapshot.bans) : null;
+    }
+
+    /**
+     * DBの内容をスナップショットとして保存（縮退運転中と、読み込み中にDBへ接続できなくなった場合は保存しない）
+     * 
+     * @return 保存した場合true
+     */
+    static boolean save() {
+        if (degraded) {
+            return false;
+        }
+        List<PlayerData> players = PlayerRoleDao.getAllPlayers();
+        List<RoleData> roles = PlayerRoleDao.getAllRoles();
+        List<BanPlayerData> bans = BanPlayerDao.getAll();
+        if (degraded) {
+            return false;
+        }
+
+        Snapshot snapshot = new Snapshot(System.currentTimeMillis(), players, roles, bans);
+        try {
+            write(path(), snapshot);
+        } catch (IOException e) {
+            LogWriter.writeWarn("[Greetmate] ローカルスナップショットを保存できませんでした: " + e.getMessage());
+            return false;
+        }
+        current = snapshot;
+        return true;
+    }
+
+    /**
+     * 縮退運転中であればDBへの接続を確認し、復旧していれば未反映の書き込みを反映してからDBの内容と同期
+     * 
+     * @return 復旧を確認した場合true
+     */
+    static boolean probe() {
+        if (!degraded) {
+            return false;
+        }
+        try (Connection conn = DatabaseProvider.getConnection()) {
+            if (!conn.isValid(PROBE_TIMEOUT_SECONDS)) {
+                return false;
+            }
+        } catch (SQLException e) {
+            return false;
+        }
+
+        degraded = false;
+        LogWriter.writeInfo("[Greetmate] DBへの接続が復旧しました。DBの内容と同期します。");
+        PlayerWriteBehind.retryNow();
+        onRecovered.run();
+        return true;
+    }
+
+    /**
+     * 指定ファイルからスナップショットを読み込み（存在しない・壊れている場合は読み込まない）
+     * 
+     * @param file スナップショットファイル
+     * @return 読み込んだ場合true
+     */
+    static boolean load(Path file) {
+        if (!Files.exists(file)) {
+            return false;
+        }
+        try {
+            Snapshot snapshot = decode(Files.readAllBytes(file));
+            current = snapshot;
+            LogWriter.writeInfo("[Greetmate] ローカルスナップショットを読み込みました（" + new Date(snapshot.createdMillis)
+                    + "時点）: プレイヤー" + snapshot.players.size() + "件、ロール" + snapshot.roles.size() + "件、BAN"
+                    + snapshot.bans.size() + "件");
+            return true;
+        } catch (IOException e) {
+            LogWriter.writeWarn("[Greetmate] ローカルスナップショットを読み込めませんでした: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * スナップショットを一時ファイルへ書き出してディスクへ同期し、既存のファイルと置き換え
+     * （同期前に置き換えると、電源断の後に中身の無いファイルが残る場合がある）
+     * 
+     * @param file     スナップショットファイル
+     * @param snapshot 保存する内容
+     * @throws IOException 書き込み失敗時
+     */
+    static void write(Path file, Snapshot snapshot) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(encode(snapshot));
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 読み込み済みのスナップショットと縮退状態を破棄（テスト用）
+     */
+    static void clear() {
+        current = null;
+        degraded = false;
+        onRecovered = () -> {
+        };
+    }
+
+    /**
+     * 縮退運転へ移行し、代替に使うスナップショットを取得（移行時のみ警告を出力）
+     * 
+     * @return 読み込み済みのスナップショット 無ければnull
+     */
+    private static synchronized Snapshot enterDegraded() {
+        Snapshot snapshot = current;
+        if (!degraded) {
+            degraded = true;
+            LogWriter.writeWarn(snapshot != null
+                    ? "[Greetmate] DBに接続できないため、ローカルスナップショット（" + new Date(snapshot.createdMillis)
+                            + "時点）の内容で動作します。"
+                    : "[Greetmate] DBに接続できず、ローカルスナップショットもありません。接続の復旧を待ちます。");
+        }
+        return snapshot;
+    }
+
+    /**
+     * 設定からスナップショットファイルのパスを取得
+     * 
+     * @return スナップショットファイル
+     */
+    private static Path path() {
+        return Main.getInstance().getDataFolder().toPath().resolve(ConfigManager.getLocalSnapshotFile());
+    }
+
+    /**
+     * スナップショットをバイナリ形式へ変換（識別子・形式バージョン・作成日時・各テーブルの件数と内容・末尾にCRC32）
+     * 
+     * @param snapshot 変換する内容
+     * @return バイナリ
+     * @throws IOException 変換失敗時（文字列が長すぎる場合など）
+     */
+    static byte[] encode(Snapshot snapshot) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(snapshot.createdMillis);
+
+        out.writeInt(snapshot.players.size());
+        for (PlayerData player : snapshot.players.values()) {
+            out.writeInt(player.getId());
+            writeUuid(out, player.getUuid());
+            writeString(out, player.getPlayerName());
+            out.writeInt(player.getRole());
+            writeDate(out, player.getUpdateTime());
+        }
+
+        out.writeInt(snapshot.roles.size());
+        for (RoleData role : snapshot.roles) {
+            out.writeInt(role.getId());
+            out.writeInt(role.getRole());
+            writeString(out, role.getRoleDetails());
+            writeString(out, role.getLoginText());
+            writeString(out, role.getLogoutText());
+            writeString(out, role.getKickText());
+            writeString(out, role.getBanText());
+            writeDate(out, role.getUpdateTime());
+        }
+
+        out.writeInt(snapshot.bans.size());
+        for (BanPlayerData ban : snapshot.bans) {
+            out.writeInt(ban.getId());
+            writeUuid(out, ban.getUuid());
+            writeString(out, ban.getPlayerName());
+            out.writeInt(ban.getRole());
+            writeString(out, ban.getReason());
+            writeDate(out, ban.getUpdateTime());
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        out.writeLong(crc.getValue());
+        return bytes.toByteArray();
+    }
+
+    /**
+     * バイナリ形式からスナップショットを復元
+     * 
+     * @param content バイナリ
+     * @return 復元した内容
+     * @throws IOException 識別子・形式バージョン・CRC32が一致しない場合や、内容が途中で終わっている場合
+     */
+    static Snapshot decode(byte[] content) throws IOException {
+        if (content.length < CHECKSUM_BYTES) {
+            throw new IOException("ファイルが短すぎます。");
+        }
+        int bodyLength = content.length - CHECKSUM_BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(content, 0, bodyLength);
+        if (crc.getValue() != ByteBuffer.wrap(content, bodyLength, CHECKSUM_BYTES).getLong()) {
+            throw new IOException("チェックサムが一致しません。");
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(content, 0, bodyLength));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("スナップショットファイルではありません。");
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("未対応の形式バージョンです: " + version);
+        }
+        long createdMillis = in.readLong();
+
+        int playerCount = in.readInt();
+        List<PlayerData> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            int id = in.readInt();
+            UUID uuid = readUuid(in);
+            players.add(new PlayerData(id, readString(in), in.readInt(), uuid, readDate(in)));
+        }
+
+        int roleCount = in.readInt();
+        List<RoleData> roles = new ArrayList<>(roleCount);
+        for (int i = 0; i < roleCount; i++) {
+            roles.add(new RoleData(in.readInt(), in.readInt(), readString(in), readString(in), readString(in),
+                    readString(in), readString(in), readDate(in)));
+        }
+
+        int banCount = in.readInt();
+        List<BanPlayerData> bans = new ArrayList<>(banCount);
+        for (int i = 0; i < banCount; i++) {
+            int id = in.readInt();
+            UUID uuid = readUuid(in);
+            bans.add(new BanPlayerData(id, readString(in), in.readInt(), uuid, readString(in), readDate(in)));
+        }
+
+        return new Snapshot(createdMillis, players, roles, bans);
+    }
+
+    /**
+     * null を許容するUUIDを書き込み
+     * 
+     * @param out  出力先
+     * @param uuid UUID
+     * @throws IOException 書き込み失敗時
+     */
+    private static void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeBoolean(uuid != null);
+        if (uuid != null) {
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        }
+    }
+
+    /**
+     * null を許容するUUIDを読み込み
+     * 
+     * @param in 入力元
+     * @return UUID
+     * @throws IOException 読み込み失敗時
+     */
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return in.readBoolean() ? new UUID(in.readLong(), in.readLong()) : null;
+    }
+
+    /**
+     * null を許容する文字列を書き込み
+     * 
+     * @param out   出力先
+     * @param value 文字列
+     * @throws IOException 書き込み失敗時
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    /**
+     * null を許容する文字列を読み込み
+     * 
+     * @param in 入力元
+     * @return 文字列
+     * @throws IOException 読み込み失敗時
+     */
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * null を許容する日時を書き込み
+     * 
+     * @param out  出力先
+     * @param date 日時
+     * @throws IOException 書き込み失敗時
+     */
+    private static void writeDate(DataOutputStream out, Date date) throws IOException {
+        out.writeLong(date != null ? date.getTime() : NO_DATE);
+    }
+
+    /**
+     * null を許容する日時を読み込み
+     * 
+     * @param in 入力元
+     * @return 日時
+     * @throws IOException 読み込み失敗時
+     */
+    private static Date readDate(DataInputStream in) throws IOException {
+        long time = in.readLong();
+        return time != NO_DATE ? new Date(time) : null;
+    }
+
+    /**
+     * スナップショット1件分の内容を保持する内部クラス
+     */
+    static final class Snapshot {
+        final long createdMillis;
+        final Map<UUID, PlayerData> players;
+        final List<RoleData> roles;
+        final List<BanPlayerData> bans;
+
+        /**
+         * 各テーブルの内容を保持（プレイヤーはUUIDで引けるよう索引化）
+         * 
+         * @param createdMillis 作成日時（エポックミリ秒）
+         * @param players       players テーブルの内容
+         * @param roles         roles テーブルの内容
+         * @param bans          ban_players テーブルの内容
+         */
+        Snapshot(long createdMillis, List<PlayerData> players, List<RoleData> roles, List<BanPlayerData> bans) {
+            this.createdMillis = createdMillis;
+            this.players = new HashMap<>();
+            players.stream().filter(player -> player.getUuid() != null)
+                    .forEach(player -> this.players.put(player.getUuid(), player));
+            this.roles = List.copyOf(roles);
+            this.bans = List.copyOf(bans);
+        }
+    }
+
+}
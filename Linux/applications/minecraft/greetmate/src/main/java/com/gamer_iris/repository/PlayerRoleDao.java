@@ -5,6 +5,19 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   コネクションプール対応（接続の確実な返却）
+# V-003      : 2026/10/18                 Gamer-Iris   ロール一覧・ロール更新日時の取得を追加
+# V-004      : 2026/10/18                 Gamer-Iris   プレイヤー情報の一括取得・一括登録を追加
+# V-005      : 2026/10/18                 Gamer-Iris   BAN済みプレイヤーの一括削除を追加
+# V-006      : 2026/10/18                 Gamer-Iris   各メソッドの実行時間の計測を追加
+# V-007      : 2026/10/18                 Gamer-Iris   UUID列の保存形式（VARCHAR(36)・BINARY(16)・移行期間の併用）に対応
+# V-008      : 2026/10/18                 Gamer-Iris   非アクティブプレイヤーの削除を件数上限付きに変更
+# V-009      : 2026/10/18                 Gamer-Iris   管理コマンドによる書き込みのバッチ反映を追加
+# V-010      : 2026/10/18                 Gamer-Iris   DBに接続できない場合のローカルスナップショットからの参照を追加
+# V-011      : 2026/10/18                 Gamer-Iris   BAN登録に該当するプレイヤーの削除範囲をIDのみで指定するよう変更
+# V-012      : 2026/10/18                 Gamer-Iris   取得失敗を例外で通知するUUID指定のプレイヤー情報取得を追加
+# V-013      : 2026/10/18                 Gamer-Iris   未使用となったロールID指定のロール取得・存在チェックを削除
+# V-014      : 2026/10/18                 Gamer-Iris   遅延書き込みへの移行で未使用となったプレイヤー情報の個別登録・ロール更新・削除を削除
 # 
 ######################################################################################################################################################
 */
@@ -15,6 +28,7 @@ import com.gamer_iris.database.DatabaseProvider;
 import com.gamer_iris.exception.CriticalException;
 import com.gamer_iris.exception.ErrorHandler;
 import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.metrics.MetricsRegistry;
 import com.gamer_iris.model.PlayerData;
 import com.gamer_iris.model.RoleData;
 import java.sql.*;
@@ -28,147 +42,209 @@ public class PlayerRoleDao {
 
     private static final String PLAYER_TABLE = "players";
     private static final String ROLE_TABLE = "roles";
+    private static final String BAN_TABLE = "ban_players";
 
     /**
-     * UUID指定でプレイヤー情報を取得
+     * UUID指定でプレイヤー情報を取得（DBに接続できない場合はローカルスナップショットから取得）
      * 
      * @param uuid ユーザーUUID
      * @return PlayerData 実体
      */
     public static PlayerData findPlayerByUUID(UUID uuid) {
-        String sql = "SELECT id, player_name, role, uuid, update_time FROM " + PLAYER_TABLE + " WHERE uuid = ?";
-        Connection conn = null;
-        PreparedStatement stmt = null;
-        ResultSet rs = null;
-
         try {
-            conn = DatabaseProvider.getConnection();
-            stmt = conn.prepareStatement(sql);
-            stmt.setString(1, uuid.toString());
-            rs = stmt.executeQuery();
-
-            if (rs.next()) {
-                int id = rs.getInt("id");
-                String name = rs.getString("player_name");
-                int role = rs.getInt("role");
-                Date updateTime = rs.getTimestamp("update_time");
-
-                return new PlayerData(id, name, role, uuid, updateTime);
-
-            }
+            return selectPlayerByUUID(uuid);
         } catch (CriticalException e) {
             ErrorHandler.handleCriticalError(Main.getInstance(), e.getMessage(), e);
             return null;
         } catch (SQLException e) {
             LogWriter.writeError("[Greetmate] プレイヤー情報の取得に失敗しました。", e);
-            return null;
+            return LocalSnapshotStore.findPlayer(uuid);
         }
-
-        return null;
     }
 
     /**
-     * プレイヤー情報を新規登録
+     * UUID指定でプレイヤー情報をDBから取得（未登録と取得失敗を区別する必要がある呼び出し元向けに、失敗時は例外を送出）
      * 
-     * @param uuid       ユーザーUUID
-     * @param playerName プレイヤー名
-     * @param role       ロールID
-     * @return 成功した場合true
+     * @param uuid ユーザーUUID
+     * @return PlayerData 実体 未登録の場合null
+     * @throws SQLException 取得失敗時
      */
-    public static boolean insertPlayer(UUID uuid, String playerName, int role) {
-        String sql = "INSERT INTO " + PLAYER_TABLE + " (player_name, role, uuid, update_time) VALUES (?, ?, ?, ?)";
+    public static PlayerData selectPlayerByUUID(UUID uuid) throws SQLException {
+        String sql = "SELECT id, player_name, role, update_time FROM " + PLAYER_TABLE + " WHERE "
+                + UuidColumn.match();
 
-        try (Connection conn = DatabaseProvider.getConnection();
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeDao("PlayerRoleDao.findPlayerByUUID");
+                Connection conn = DatabaseProvider.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+            UuidColumn.bindMatch(stmt, 1, uuid);
 
-            stmt.setString(1, playerName);
-            stmt.setInt(2, role);
-            stmt.setString(3, uuid.toString());
-            stmt.setTimestamp(4, new Timestamp(System.currentTimeMillis()));
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    int id = rs.getInt("id");
+                    String name = rs.getString("player_name");
+                    int role = rs.getInt("role");
+                    Date updateTime = rs.getTimestamp("update_time");
 
-            return stmt.executeUpdate() > 0;
-        } catch (CriticalException e) {
-            ErrorHandler.handleCriticalError(Main.getInstance(), e.getMessage(), e);
-            return false;
-        } catch (SQLException e) {
-            LogWriter.writeError("[Greetmate] プレイヤー登録に失敗しました。", e);
-            return false;
+                    return new PlayerData(id, name, role, uuid, updateTime);
+                }
+            }
         }
+
+        return null;
     }
 
     /**
-     * UUID指定でプレイヤーを削除
+     * 複数UUIDのプレイヤー情報をまとめて取得（IN句をバッチサイズ単位で分割）
      * 
-     * @param uuid ユーザーUUID
-     * @return 成功した場合true
+     * @param uuids     ユーザーUUID一覧
+     * @param batchSize 1回のSELECTで指定するUUID数
+     * @return UUIDをキーとしたPlayerData 取得失敗時null
      */
-    public static boolean deletePlayerByUUID(UUID uuid) {
-        String sql = "DELETE FROM " + PLAYER_TABLE + " WHERE uuid = ?";
-
-        try (Connection conn = DatabaseProvider.getConnection();
-                PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setString(1, uuid.toString());
-            return stmt.executeUpdate() > 0;
+    public static Map<UUID, PlayerData> findPlayersByUUIDs(Collection<UUID> uuids, int batchSize) {
+        Map<UUID, PlayerData> players = new HashMap<>();
+        List<UUID> targets = new ArrayList<>(uuids);
+
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeDao("PlayerRoleDao.findPlayersByUUIDs");
+                Connection conn = DatabaseProvider.getConnection()) {
+            for (int from = 0; from < targets.size(); from += batchSize) {
+                List<UUID> chunk = targets.subList(from, Math.min(from + batchSize, targets.size()));
+                String sql = "SELECT id, player_name, role, " + UuidColumn.columns() + ", update_time FROM "
+                        + PLAYER_TABLE + " WHERE " + UuidColumn.in(chunk.size());
+
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    UuidColumn.bindIn(stmt, 1, chunk);
+
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            UUID uuid = UuidColumn.read(rs);
+                            players.put(uuid, new PlayerData(rs.getInt("id"), rs.getString("player_name"),
+                                    rs.getInt("role"), uuid, rs.getTimestamp("update_time")));
+                        }
+                    }
+                }
+            }
         } catch (CriticalException e) {
             ErrorHandler.handleCriticalError(Main.getInstance(), e.getMessage(), e);
+            return null;
         } catch (SQLException e) {
-            LogWriter.writeError("[Greetmate] プレイヤー削除に失敗しました。", e);
+            LogWriter.writeError("[Greetmate] プレイヤー情報の一括取得に失敗しました。", e);
+            return null;
         }
 
-        return false;
+        return players;
     }
 
     /**
-     * UUIDでプレイヤーのロールを更新
+     * 複数プレイヤーをまとめて登録（既に存在する場合はプレイヤー名のみ更新）
      * 
-     * @param uuid ユーザーUUID
-     * @param role ロールID
+     * @param players   UUIDとプレイヤー名の一覧
+     * @param role      ロールID
+     * @param batchSize 1回のINSERTで登録する行数
      * @return 成功した場合true
      */
-    public static boolean updatePlayerRoleByUUID(UUID uuid, int role) {
-        String sql = "UPDATE " + PLAYER_TABLE + " SET role = ?, update_time = ? WHERE uuid = ?";
-
-        try (Connection conn = DatabaseProvider.getConnection();
-                PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setInt(1, role);
-            stmt.setTimestamp(2, new Timestamp(System.currentTimeMillis()));
-            stmt.setString(3, uuid.toString());
-
-            return stmt.executeUpdate() > 0;
+    public static boolean upsertPlayers(Map<UUID, String> players, int role, int batchSize) {
+        List<Map.Entry<UUID, String>> targets = new ArrayList<>(players.entrySet());
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeDao("PlayerRoleDao.upsertPlayers");
+                Connection conn = DatabaseProvider.getConnection()) {
+            for (int from = 0; from < targets.size(); from += batchSize) {
+                List<Map.Entry<UUID, String>> chunk = targets.subList(from,
+                        Math.min(from + batchSize, targets.size()));
+                String sql = "INSERT INTO " + PLAYER_TABLE + " (player_name, role, " + UuidColumn.columns()
+                        + ", update_time) VALUES "
+                        + placeholders(chunk.size(), "(?, ?, " + UuidColumn.values() + ", ?)")
+                        + " ON DUPLICATE KEY UPDATE player_name = VALUES(player_name)";
+
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    int index = 1;
+                    for (Map.Entry<UUID, String> player : chunk) {
+                        stmt.setString(index++, player.getValue());
+                        stmt.setInt(index++, role);
+                        index = UuidColumn.bindValues(stmt, index, player.getKey());
+                        stmt.setTimestamp(index++, now);
+                    }
+                    stmt.executeUpdate();
+                }
+            }
+            return true;
         } catch (CriticalException e) {
             ErrorHandler.handleCriticalError(Main.getInstance(), e.getMessage(), e);
             return false;
         } catch (SQLException e) {
-            LogWriter.writeError("[Greetmate] プレイヤー情報の更新に失敗しました。", e);
+            LogWriter.writeError("[Greetmate] プレイヤーの一括登録に失敗しました。", e);
             return false;
         }
     }
 
     /**
-     * roleID指定でロール情報を取得
+     * 書き込み待ちのプレイヤー情報を種類ごとのバッチで、1トランザクションとして反映
+     * （失敗時のロールバックはコネクションプールへの返却時に行われ、再試行は呼び出し元で行う）
      * 
-     * @param roleId ロールID
-     * @return RoleData 実体
+     * @param writes 書き込み内容（UUIDの重複なし）
+     * @throws SQLException 反映失敗時
      */
-    public static RoleData findRoleByRoleId(int roleId) {
-        String sql = "SELECT id, role, role_details, login_text, logout_text, kick_text, ban_text, update_time FROM "
-                + ROLE_TABLE
-                + " WHERE role = ?";
+    static void applyWrites(List<PlayerWriteBehind.PendingWrite> writes) throws SQLException {
+        String upsertSql = "INSERT INTO " + PLAYER_TABLE + " (player_name, role, " + UuidColumn.columns()
+                + ", update_time) VALUES (?, ?, " + UuidColumn.values() + ", ?)"
+                + " ON DUPLICATE KEY UPDATE player_name = VALUES(player_name), role = VALUES(role),"
+                + " update_time = VALUES(update_time)";
+        String updateSql = "UPDATE " + PLAYER_TABLE + " SET role = ?, update_time = ? WHERE " + UuidColumn.match();
+        String deleteSql = "DELETE FROM " + PLAYER_TABLE + " WHERE " + UuidColumn.match();
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeDao("PlayerRoleDao.applyWrites");
+                Connection conn = DatabaseProvider.getConnection();
+                PreparedStatement upsert = conn.prepareStatement(upsertSql);
+                PreparedStatement update = conn.prepareStatement(updateSql);
+                PreparedStatement delete = conn.prepareStatement(deleteSql)) {
+            conn.setAutoCommit(false);
+            for (PlayerWriteBehind.PendingWrite write : writes) {
+                switch (write.type) {
+                    case UPSERT -> {
+                        upsert.setString(1, write.playerName);
+                        upsert.setInt(2, write.role);
+                        int index = UuidColumn.bindValues(upsert, 3, write.uuid);
+                        upsert.setTimestamp(index, now);
+                        upsert.addBatch();
+                    }
+                    case UPDATE_ROLE -> {
+                        update.setInt(1, write.role);
+                        update.setTimestamp(2, now);
+                        UuidColumn.bindMatch(update, 3, write.uuid);
+                        update.addBatch();
+                    }
+                    case DELETE -> {
+                        UuidColumn.bindMatch(delete, 1, write.uuid);
+                        delete.addBatch();
+                    }
+                }
+            }
+            upsert.executeBatch();
+            update.executeBatch();
+            delete.executeBatch();
+            conn.commit();
+        }
+    }
 
-        Connection conn = null;
-        PreparedStatement stmt = null;
-        ResultSet rs = null;
+    /**
+     * すべてのロール情報を取得（DBに接続できない場合はローカルスナップショットから取得）
+     * 
+     * @return RoleData 一覧
+     */
+    public static List<RoleData> getAllRoles() {
+        List<RoleData> roles = new ArrayList<>();
+        String sql = "SELECT id, role, role_details, login_text, logout_text, kick_text, ban_text, update_time FROM "
+                + ROLE_TABLE;
 
-        try {
-            conn = DatabaseProvider.getConnection();
-            stmt = conn.prepareStatement(sql);
-            stmt.setInt(1, roleId);
-            rs = stmt.executeQuery();
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeDao("PlayerRoleDao.getAllRoles");
+                Connection conn = DatabaseProvider.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
-            if (rs.next()) {
+            while (rs.next()) {
                 int id = rs.getInt("id");
+                int role = rs.getInt("role");
                 String details = rs.getString("role_details");
                 String login = rs.getString("login_text");
                 String logout = rs.getString("logout_text");
@@ -176,29 +252,53 @@ public class PlayerRoleDao {
                 String ban = rs.getString("ban_text");
                 Date updateTime = rs.getTimestamp("update_time");
 
-                return new RoleData(id, roleId, details, login, logout, kick, ban, updateTime);
+                roles.add(new RoleData(id, role, details, login, logout, kick, ban, updateTime));
             }
+        } catch (CriticalException e) {
+            ErrorHandler.handleCriticalError(Main.getInstance(), e.getMessage(), e);
+            return roles;
+        } catch (SQLException e) {
+            LogWriter.writeError("[Greetmate] ロール一覧の取得に失敗しました。", e);
+            return LocalSnapshotStore.getRoles();
+        }
+
+        return roles;
+    }
+
+    /**
+     * rolesテーブルの最終更新日時（MAX(update_time)）を取得
+     * 
+     * @return 最終更新日時 取得失敗時またはデータなしの場合null
+     */
+    public static Date findRolesLastUpdated() {
+        String sql = "SELECT MAX(update_time) FROM " + ROLE_TABLE;
+
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeDao("PlayerRoleDao.findRolesLastUpdated");
+                Connection conn = DatabaseProvider.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
+
+            return rs.next() ? rs.getTimestamp(1) : null;
         } catch (CriticalException e) {
             ErrorHandler.handleCriticalError(Main.getInstance(), e.getMessage(), e);
             return null;
         } catch (SQLException e) {
-            LogWriter.writeError("[Greetmate] ロール情報の取得に失敗しました。", e);
+            LogWriter.writeError("[Greetmate] ロール最終更新日時の取得に失敗しました。", e);
             return null;
         }
-
-        return null;
     }
 
     /**
-     * すべてのプレイヤー情報を取得
+     * すべてのプレイヤー情報を取得（DBに接続できない場合はローカルスナップショットから取得）
      * 
      * @return PlayerData 一覧
      */
     public static List<PlayerData> getAllPlayers() {
         List<PlayerData> players = new ArrayList<>();
-        String sql = "SELECT id, player_name, role, uuid, update_time FROM " + PLAYER_TABLE;
+        String sql = "SELECT id, player_name, role, " + UuidColumn.columns() + ", update_time FROM " + PLAYER_TABLE;
 
-        try (Connection conn = DatabaseProvider.getConnection();
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeDao("PlayerRoleDao.getAllPlayers");
+                Connection conn = DatabaseProvider.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql);
                 ResultSet rs = stmt.executeQuery()) {
 
@@ -206,7 +306,7 @@ public class PlayerRoleDao {
                 int id = rs.getInt("id");
                 String name = rs.getString("player_name");
                 int role = rs.getInt("role");
-                UUID uuid = UUID.fromString(rs.getString("uuid"));
+                UUID uuid = UuidColumn.read(rs);
                 Date updateTime = rs.getTimestamp("update_time");
 
                 players.add(new PlayerData(id, name, role, uuid, updateTime));
@@ -216,52 +316,65 @@ public class PlayerRoleDao {
             return players;
         } catch (SQLException e) {
             LogWriter.writeError("[Greetmate] プレイヤー一覧の取得に失敗しました。", e);
-            return players;
+            return LocalSnapshotStore.getPlayers();
         }
 
         return players;
     }
 
     /**
-     * 指定されたロールIDがrolesテーブルに存在するか検証
+     * 指定範囲（ID）のBAN登録に該当するプレイヤーを1文で削除
      * 
-     * @param roleId 検証対象のロールID
-     * @return 存在すればtrue、存在しなければfalse
+     * @param afterId 範囲開始のID（この値は含まない）
+     * @param untilId 範囲終了のID（この値を含む）
+     * @return 削除したプレイヤーのUUIDとプレイヤー名 削除失敗時null
      */
-    public static boolean isValidRole(int roleId) {
-        String sql = "SELECT COUNT(*) FROM " + ROLE_TABLE + " WHERE role = ?";
-        try (
+    public static Map<UUID, String> deleteBannedPlayers(int afterId, int untilId) {
+        Map<UUID, String> deleted = new LinkedHashMap<>();
+        String key = UuidColumn.key();
+        String sql = "DELETE FROM " + PLAYER_TABLE + " WHERE " + key + " IN (SELECT " + key + " FROM " + BAN_TABLE
+                + " WHERE id > ? AND id <= ?) RETURNING " + UuidColumn.columns() + ", player_name";
+
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeDao("PlayerRoleDao.deleteBannedPlayers");
                 Connection conn = DatabaseProvider.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setInt(1, roleId);
-            ResultSet rs = stmt.executeQuery();
-            boolean result = false;
-            if (rs.next()) {
-                result = rs.getInt(1) > 0;
+            stmt.setInt(1, afterId);
+            stmt.setInt(2, untilId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    deleted.put(UuidColumn.read(rs), rs.getString("player_name"));
+                }
             }
-            rs.close();
-            return result;
         } catch (CriticalException e) {
             ErrorHandler.handleCriticalError(Main.getInstance(), e.getMessage(), e);
+            return null;
         } catch (SQLException e) {
-            LogWriter.writeError("[Greetmate] ロール存在チェックに失敗しました。", e);
+            LogWriter.writeError("[Greetmate] BANプレイヤーの一括削除に失敗しました。", e);
+            return null;
         }
-        return false;
+
+        return deleted;
     }
 
     /**
-     * 指定日数より最終更新が早いプレイヤーを削除
+     * 指定日数より最終更新が早いプレイヤーを、最終更新の古い順に指定件数まで削除
+     * （idx_players_update_time の範囲走査で済むよう update_time 順に削除し、行ロックを短時間に抑える）
      * 
      * @param thresholdDays 利用終了間阅する間隔日数
+     * @param limit         1回で削除する最大件数
      * @return 削除件数
      */
-    public static int deleteInactivePlayers(int thresholdDays) {
-        String sql = "DELETE FROM " + PLAYER_TABLE + " WHERE update_time < NOW() - INTERVAL ? DAY";
+    public static int deleteInactivePlayers(int thresholdDays, int limit) {
+        String sql = "DELETE FROM " + PLAYER_TABLE + " WHERE update_time < NOW() - INTERVAL ? DAY"
+                + " ORDER BY update_time, id LIMIT ?";
 
-        try (Connection conn = DatabaseProvider.getConnection();
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeDao("PlayerRoleDao.deleteInactivePlayers");
+                Connection conn = DatabaseProvider.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setInt(1, thresholdDays);
+            stmt.setInt(2, limit);
             return stmt.executeUpdate();
         } catch (CriticalException e) {
             ErrorHandler.handleCriticalError(Main.getInstance(), e.getMessage(), e);
@@ -272,4 +385,15 @@ public class PlayerRoleDao {
         }
     }
 
+    /**
+     * 指定数のプレースホルダーをカンマ区切りで連結
+     * 
+     * @param count       個数
+     * @param placeholder 1件分のプレースホルダー
+     * @return 連結した文字列
+     */
+    private static String placeholders(int count, String placeholder) {
+        return String.join(", ", Collections.nCopies(count, placeholder));
+    }
+
 }
@@ -0,0 +1,594 @@
+/*
+######################################################################################################################################################
+# ファイル   : PlayerWriteBehind.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   DB接続の復旧時の即時再反映と、UUID指定での未反映の書き込みの参照を追加
+# V-003      : 2026/10/18                 Gamer-Iris   停止時の通知先を差し替え可能にし、通知の失敗で停止処理が中断しないよう修正
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.repository;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.exception.CriticalException;
+import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.maintenance.PeriodicTask;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 管理コマンドによるプレイヤー情報の登録・ロール変更・削除を、ジャーナルファイルへ記録したうえでバックグラウンドでDBへ反映するクラス
+ * （同じUUIDへの未反映の書き込みは1件にまとめ、種類ごとのJDBCバッチで書き込む。失敗時は待機時間を倍増させながら再試行し、未反映分は再起動後にジャーナルから復元する）
+ */
+public class PlayerWriteBehind {
+
+    /**
+     * 書き込みの種類
+     */
+    enum Type {
+        /** 登録（登録済みの場合は名前とロールを上書き） */
+        UPSERT('U'),
+        /** ロールの変更 */
+        UPDATE_ROLE('R'),
+        /** 削除 */
+        DELETE('D');
+
+        final char code;
+
+        /**
+         * ジャーナルへ記録する1文字の種別コードを保持
+         * 
+         * @param code 種別コード
+         */
+        Type(char code) {
+            this.code = code;
+        }
+
+        /**
+         * 種別コードから種類を取得
+         * 
+         * @param code 種別コード
+         * @return 該当する種類 不正な値の場合null
+         */
+        static Type fromCode(String code) {
+            for (Type type : values()) {
+                if (code.length() == 1 && code.charAt(0) == type.code) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final long MILLIS_PER_TICK = 50L;
+    private static final Object flushLock = new Object();
+    private static final Map<UUID, PendingWrite> pending = new LinkedHashMap<>();
+    private static final PeriodicTask flushTask = new PeriodicTask("プレイヤー情報の書き込み", PlayerWriteBehind::flush,
+            () -> Math.max(ConfigManager.getPlayerWriteFlushIntervalMillis() / MILLIS_PER_TICK, 1L));
+
+    private static volatile Consumer<UUID> onWritten = _ -> {
+    };
+    private static Path journal;
+    private static FileChannel channel;
+    private static int failures;
+    private static long nextAttemptMillis;
+
+    /**
+     * ジャーナルから未反映の書き込みを復元し、DBへの反映の定期実行を開始
+     * 
+     * @param listener DBへ反映したプレイヤーのUUIDを受け取る処理（キャッシュの無効化用）
+     */
+    public static void start(Consumer<UUID> listener) {
+        open(Main.getInstance().getDataFolder().toPath().resolve(ConfigManager.getPlayerWriteJournalFile()), listener);
+        flushTask.start();
+    }
+
+    /**
+     * 設定の再読み込みで反映間隔が変わっていれば再スケジュール
+     */
+    public static void reschedule() {
+        flushTask.reschedule();
+    }
+
+    /**
+     * 定期実行を止めて未反映の書き込みを1回だけ反映し、ジャーナルを閉じる（反映できなかった分は次回起動時に再試行）
+     * 
+     * @param listener 最後の反映でDBへ反映したプレイヤーのUUIDを受け取る処理（停止中はタスクを登録できないため同期的に完結させること）
+     */
+    public static void stop(Consumer<UUID> listener) {
+        flushTask.cancel();
+        onWritten = listener;
+        synchronized (flushLock) {
+            nextAttemptMillis = 0L;
+            drain();
+        }
+
+        synchronized (PlayerWriteBehind.class) {
+            if (!pending.isEmpty()) {
+                LogWriter.writeWarn("[Greetmate] DBへ反映できなかったプレイヤー情報の書き込みが " + pending.size()
+                        + " 件あります。次回起動時に再試行します。");
+            }
+            closeChannel();
+            journal = null;
+            pending.clear();
+        }
+    }
+
+    /**
+     * プレイヤーの登録を受け付け（登録済みの場合は名前とロールを上書き）
+     * 
+     * @param uuid       ユーザーUUID
+     * @param playerName プレイヤー名
+     * @param role       ロールID
+     * @return ジャーナルへ記録できた場合true
+     */
+    public static boolean upsert(UUID uuid, String playerName, int role) {
+        return enqueue(new PendingWrite(Type.UPSERT, uuid, playerName, role));
+    }
+
+    /**
+     * プレイヤーのロール変更を受け付け
+     * 
+     * @param uuid ユーザーUUID
+     * @param role ロールID
+     * @return ジャーナルへ記録できた場合true
+     */
+    public static boolean updateRole(UUID uuid, int role) {
+        return enqueue(new PendingWrite(Type.UPDATE_ROLE, uuid, null, role));
+    }
+
+    /**
+     * プレイヤーの削除を受け付け
+     * 
+     * @param uuid ユーザーUUID
+     * @return ジャーナルへ記録できた場合true
+     */
+    public static boolean delete(UUID uuid) {
+        return enqueue(new PendingWrite(Type.DELETE, uuid, null, 0));
+    }
+
+    /**
+     * 未反映の書き込みを考慮して、プレイヤーが登録済みかを判定
+     * 
+     * @param uuid ユーザーUUID
+     * @return 登録済み（または登録を受付済み）の場合true
+     */
+    public static boolean isRegistered(UUID uuid) {
+        PendingWrite write = find(uuid);
+        if (write != null) {
+            return write.type != Type.DELETE;
+        }
+        return PlayerRoleDao.findPlayerByUUID(uuid) != null;
+    }
+
+    /**
+     * 指定プレイヤーへの未反映の書き込みを取得
+     * 
+     * @param uuid ユーザーUUID
+     * @return 未反映の書き込み 無ければnull
+     */
+    static synchronized PendingWrite find(UUID uuid) {
+        return pending.get(uuid);
+    }
+
+    /**
+     * 未反映の書き込みの件数を取得
+     * 
+     * @return 件数
+     */
+    public static synchronized int size() {
+        return pending.size();
+    }
+
+    /**
+     * 未反映の書き込みをDBへ反映（再試行の待機中は何もしない）
+     */
+    static void flush() {
+        synchronized (flushLock) {
+            if (System.currentTimeMillis() < nextAttemptMillis) {
+                return;
+            }
+            drain();
+        }
+    }
+
+    /**
+     * 再試行の待機を打ち切り、未反映の書き込みを直ちにDBへ反映（DB接続の復旧時用）
+     */
+    static void retryNow() {
+        synchronized (flushLock) {
+            nextAttemptMillis = 0L;
+            drain();
+        }
+    }
+
+    /**
+     * ジャーナルを指定して未反映の書き込みを復元
+     * 
+     * @param path     ジャーナルファイル
+     * @param listener DBへ反映したプレイヤーのUUIDを受け取る処理
+     */
+    static synchronized void open(Path path, Consumer<UUID> listener) {
+        journal = path;
+        onWritten = listener;
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        try {
+            int restored = replay(Files.readAllBytes(path));
+            writeJournal();
+            if (restored > 0) {
+                LogWriter.writeInfo("[Greetmate] 未反映のプレイヤー情報の書き込みを復元しました: " + pending.size() + "件");
+            }
+        } catch (IOException e) {
+            LogWriter.writeError("[Greetmate] プレイヤー情報の書き込みジャーナルを読み込めませんでした。", e);
+        }
+    }
+
+    /**
+     * 未反映の書き込みとジャーナルの参照を破棄（テスト用）
+     */
+    static void clear() {
+        synchronized (flushLock) {
+            failures = 0;
+            nextAttemptMillis = 0L;
+        }
+        synchronized (PlayerWriteBehind.class) {
+            closeChannel();
+            journal = null;
+            pending.clear();
+            onWritten = _ -> {
+            };
+        }
+    }
+
+    /**
+     * 同じUUIDへの未反映の書き込みと新しい書き込みを1件にまとめる
+     * 
+     * @param current 未反映の書き込み
+     * @param next    新しい書き込み
+     * @return まとめた書き込み
+     */
+    static PendingWrite coalesce(PendingWrite current, PendingWrite next) {
+        if (next.type != Type.UPDATE_ROLE) {
+            return next;
+        }
+        return switch (current.type) {
+            case UPSERT -> new PendingWrite(Type.UPSERT, current.uuid, current.playerName, next.role);
+            case UPDATE_ROLE -> next;
+            case DELETE -> current;
+        };
+    }
+
+    /**
+     * ジャーナルへ追記してから未反映の書き込みへ加える
+     * 
+     * @param write 書き込み
+     * @return ジャーナルへ記録できた場合true
+     */
+    private static synchronized boolean enqueue(PendingWrite write) {
+        try {
+            appendJournal(write);
+        } catch (IOException e) {
+            LogWriter.writeError("[Greetmate] プレイヤー情報の書き込みをジャーナルへ記録できませんでした。", e);
+            closeChannel();
+            return false;
+        }
+        pending.merge(write.uuid, write, PlayerWriteBehind::coalesce);
+        return true;
+    }
+
+    /**
+     * 未反映の書き込みを上限件数ずつ、反映に失敗するか未反映が無くなるまでDBへ反映
+     */
+    private static void drain() {
+        if (size() == 0) {
+            return;
+        }
+        int maxBatchSize = ConfigManager.getPlayerWriteMaxBatchSize();
+        while (flushBatch(maxBatchSize)) {
+            // 続きが残っている間は繰り返し
+        }
+    }
+
+    /**
+     * 未反映の書き込みを上限件数までDBへ反映
+     * 
+     * @param maxBatchSize 1回に反映する上限件数
+     * @return 上限件数を反映でき、続きが残っている可能性がある場合true
+     */
+    private static boolean flushBatch(int maxBatchSize) {
+        List<PendingWrite> batch;
+        synchronized (PlayerWriteBehind.class) {
+            batch = pending.values().stream().limit(maxBatchSize).toList();
+        }
+        if (batch.isEmpty()) {
+            return false;
+        }
+
+        try {
+            PlayerRoleDao.applyWrites(batch);
+        } catch (SQLException | CriticalException e) {
+            if (!isRejected(e) || !applyEach(batch)) {
+                scheduleRetry(e);
+            }
+            return false;
+        }
+        complete(batch);
+        return batch.size() == maxBatchSize;
+    }
+
+    /**
+     * バッチがデータ不正で拒否された場合に1件ずつ反映し、拒否された書き込みは破棄
+     * 
+     * @param batch 反映対象
+     * @return すべて反映または破棄できた場合true 接続障害などで中断した場合false
+     */
+    private static boolean applyEach(List<PendingWrite> batch) {
+        List<PendingWrite> done = new ArrayList<>();
+        try {
+            for (PendingWrite write : batch) {
+                try {
+                    PlayerRoleDao.applyWrites(List.of(write));
+                } catch (SQLException e) {
+                    if (!isRejected(e)) {
+                        throw e;
+                    }
+                    LogWriter.writeError("[Greetmate] DBに拒否されたプレイヤー情報の書き込みを破棄しました: " + write.uuid, e);
+                }
+                done.add(write);
+            }
+            return true;
+        } catch (SQLException | CriticalException e) {
+            return false;
+        } finally {
+            complete(done);
+        }
+    }
+
+    /**
+     * 反映済みの書き込みを未反映から除き、ジャーナルを書き直して通知
+     * （ジャーナルの書き直しに失敗した場合、反映済みの書き込みは次回起動時に再度反映されるが、結果は変わらない）
+     * 
+     * @param done 反映済みの書き込み
+     */
+    private static void complete(List<PendingWrite> done) {
+        if (done.isEmpty()) {
+            return;
+        }
+        synchronized (flushLock) {
+            failures = 0;
+            nextAttemptMillis = 0L;
+        }
+        synchronized (PlayerWriteBehind.class) {
+            done.forEach(write -> pending.remove(write.uuid, write));
+            try {
+                writeJournal();
+            } catch (IOException e) {
+                LogWriter.writeWarn("[Greetmate] プレイヤー情報の書き込みジャーナルを更新できませんでした: " + e.getMessage());
+            }
+        }
+        for (PendingWrite write : done) {
+            try {
+                onWritten.accept(write.uuid);
+            } catch (RuntimeException e) {
+                LogWriter.writeWarn("[Greetmate] プレイヤー情報の書き込み後の通知に失敗しました: " + write.uuid + " " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 待機時間を倍増させて次の反映を延期
+     * 
+     * @param cause 失敗の原因
+     */
+    private static void scheduleRetry(Exception cause) {
+        long delay;
+        synchronized (flushLock) {
+            failures++;
+            delay = Math.min((long) ConfigManager.getPlayerWriteRetryInitialMillis() << Math.min(failures - 1, 20),
+                    ConfigManager.getPlayerWriteRetryMaxMillis());
+            nextAttemptMillis = System.currentTimeMillis() + delay;
+        }
+        LogWriter.writeWarn("[Greetmate] プレイヤー情報の書き込みに失敗したため、" + delay + "ミリ秒後に再試行します（未反映: " + size()
+                + "件）: " + cause.getMessage());
+    }
+
+    /**
+     * 再試行しても成功しない、データ不正による拒否かを判定
+     * 
+     * @param e 発生した例外
+     * @return データ不正による拒否の場合true
+     */
+    private static boolean isRejected(Throwable e) {
+        for (Throwable current = e; current != null; current = current.getCause()) {
+            if (current instanceof SQLIntegrityConstraintViolationException || current instanceof SQLDataException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 書き込み1件をジャーナルへ追記し、ディスクへ同期
+     * 
+     * @param write 書き込み
+     * @throws IOException 書き込み失敗時
+     */
+    private static void appendJournal(PendingWrite write) throws IOException {
+        if (journal == null) {
+            throw new IOException("ジャーナルファイルが開かれていません。");
+        }
+        if (channel == null) {
+            Files.createDirectories(journal.toAbsolutePath().getParent());
+            channel = FileChannel.open(journal, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        }
+        writeFully(channel, encode(List.of(write)));
+        channel.force(false);
+    }
+
+    /**
+     * 未反映の書き込みのみを一時ファイルへ書き出し、ジャーナルと置き換え
+     * 
+     * @throws IOException 書き込み失敗時
+     */
+    private static void writeJournal() throws IOException {
+        Path temp = journal.resolveSibling(journal.getFileName() + TEMP_SUFFIX);
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(out, encode(pending.values()));
+            out.force(true);
+        }
+        closeChannel();
+        Files.move(temp, journal, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * ジャーナルの内容を未反映の書き込みへ加える（改行で終わっていない末尾の行は書き込み途中として無視）
+     * 
+     * @param content ジャーナルの内容
+     * @return 読み込んだ件数
+     */
+    private static int replay(byte[] content) {
+        String text = new String(content, StandardCharsets.UTF_8);
+        int end = text.lastIndexOf('\n');
+        if (end < 0) {
+            return 0;
+        }
+
+        int restored = 0;
+        int skipped = 0;
+        for (String line : text.substring(0, end).split("\n")) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            PendingWrite write = decode(line);
+            if (write == null) {
+                skipped++;
+                continue;
+            }
+            pending.merge(write.uuid, write, PlayerWriteBehind::coalesce);
+            restored++;
+        }
+        if (skipped > 0) {
+            LogWriter.writeWarn("[Greetmate] プレイヤー情報の書き込みジャーナルの不正な行を " + skipped + " 件読み飛ばしました。");
+        }
+        return restored;
+    }
+
+    /**
+     * 書き込みをジャーナルの行形式（種別コード・UUID・ロールID・プレイヤー名のタブ区切り）へ変換
+     * 
+     * @param writes 書き込み
+     * @return ジャーナルへ書き出す内容
+     */
+    private static byte[] encode(Collection<PendingWrite> writes) {
+        StringBuilder sb = new StringBuilder();
+        for (PendingWrite write : writes) {
+            sb.append(write.type.code).append('\t').append(write.uuid).append('\t').append(write.role).append('\t')
+                    .append(write.playerName != null ? write.playerName : "").append('\n');
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * ジャーナルの1行を書き込みへ変換
+     * 
+     * @param line ジャーナルの1行
+     * @return 書き込み 不正な行の場合null
+     */
+    private static PendingWrite decode(String line) {
+        String[] fields = line.split("\t", -1);
+        if (fields.length != 4) {
+            return null;
+        }
+        Type type = Type.fromCode(fields[0]);
+        if (type == null) {
+            return null;
+        }
+        try {
+            return new PendingWrite(type, UUID.fromString(fields[1]), fields[3].isEmpty() ? null : fields[3],
+                    Integer.parseInt(fields[2]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * バッファの内容をすべて書き込み
+     * 
+     * @param out  書き込み先
+     * @param data 書き込む内容
+     * @throws IOException 書き込み失敗時
+     */
+    private static void writeFully(FileChannel out, byte[] data) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    /**
+     * 追記用のジャーナルファイルを閉じる
+     */
+    private static void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // 破棄対象のため無視
+        }
+        channel = null;
+    }
+
+    /**
+     * DBへ未反映の書き込み1件を保持する内部クラス（同一性で未反映分の入れ替わりを判定するため不変とする）
+     */
+    static final class PendingWrite {
+        final Type type;
+        final UUID uuid;
+        final String playerName;
+        final int role;
+
+        /**
+         * 書き込み内容を保持
+         * 
+         * @param type       書き込みの種類
+         * @param uuid       ユーザーUUID
+         * @param playerName プレイヤー名（登録時のみ）
+         * @param role       ロールID（削除時は0）
+         */
+        PendingWrite(Type type, UUID uuid, String playerName, int role) {
+            this.type = type;
+            this.uuid = uuid;
+            this.playerName = playerName;
+            this.role = role;
+        }
+    }
+
+}
@@ -0,0 +1,239 @@
+/*
+######################################################################################################################################################
+# ファイル   : UuidColumn.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.repository;
+
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * players・ban_players テーブルのUUID列の保存形式に応じて、SQL断片の生成と値の変換を行うクラス
+ */
+public class UuidColumn {
+
+    /**
+     * UUID列の保存形式
+     */
+    public enum Storage {
+        /** uuid列（VARCHAR(36)）のみを使用 */
+        TEXT,
+        /** 移行期間用（uuid列とuuid_bin列の両方へ書き込み、uuid_bin列が未設定の行はuuid列から読み取る） */
+        DUAL,
+        /** uuid_bin列（BINARY(16)）のみを使用 */
+        BINARY;
+
+        /**
+         * 設定値の文字列から保存形式を取得
+         * 
+         * @param name 設定値
+         * @return 該当する保存形式 不正な値の場合null
+         */
+        public static Storage fromName(String name) {
+            for (Storage storage : values()) {
+                if (storage.name().equalsIgnoreCase(name)) {
+                    return storage;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final String TEXT_COLUMN = "uuid";
+    private static final String BINARY_COLUMN = "uuid_bin";
+
+    private static volatile Storage storage = Storage.TEXT;
+
+    /**
+     * 保存形式を設定
+     * 
+     * @param value 保存形式
+     */
+    public static void configure(Storage value) {
+        storage = value;
+    }
+
+    /**
+     * 現在の保存形式を取得
+     * 
+     * @return 保存形式
+     */
+    public static Storage getStorage() {
+        return storage;
+    }
+
+    /**
+     * SELECT・INSERT・RETURNING に列挙するUUID列
+     * 
+     * @return 列名（DUALの場合は2列）
+     */
+    static String columns() {
+        return switch (storage) {
+            case TEXT -> TEXT_COLUMN;
+            case DUAL -> TEXT_COLUMN + ", " + BINARY_COLUMN;
+            case BINARY -> BINARY_COLUMN;
+        };
+    }
+
+    /**
+     * INSERT の VALUES に並べるUUID列分のプレースホルダー
+     * 
+     * @return プレースホルダー
+     */
+    static String values() {
+        return storage == Storage.DUAL ? "?, ?" : "?";
+    }
+
+    /**
+     * テーブル間でUUIDを突き合わせる際に使う列（DUALの場合は全行に値がある uuid 列）
+     * 
+     * @return 列名
+     */
+    static String key() {
+        return storage == Storage.BINARY ? BINARY_COLUMN : TEXT_COLUMN;
+    }
+
+    /**
+     * UUIDが一致する行を絞り込む条件
+     * 
+     * @return WHERE句の条件
+     */
+    static String match() {
+        return switch (storage) {
+            case TEXT -> TEXT_COLUMN + " = ?";
+            case DUAL -> "(" + BINARY_COLUMN + " = ? OR " + TEXT_COLUMN + " = ?)";
+            case BINARY -> BINARY_COLUMN + " = ?";
+        };
+    }
+
+    /**
+     * UUIDがいずれかに一致する行を絞り込む条件
+     * 
+     * @param count UUIDの個数
+     * @return WHERE句の条件
+     */
+    static String in(int count) {
+        String placeholders = String.join(", ", Collections.nCopies(count, "?"));
+        return switch (storage) {
+            case TEXT -> TEXT_COLUMN + " IN (" + placeholders + ")";
+            case DUAL -> "(" + BINARY_COLUMN + " IN (" + placeholders + ") OR " + TEXT_COLUMN + " IN (" + placeholders
+                    + "))";
+            case BINARY -> BINARY_COLUMN + " IN (" + placeholders + ")";
+        };
+    }
+
+    /**
+     * {@link #match()} の条件へUUIDを設定
+     * 
+     * @param stmt  対象のステートメント
+     * @param index 設定開始位置
+     * @param uuid  UUID
+     * @return 次の設定位置
+     * @throws SQLException 設定失敗時
+     */
+    static int bindMatch(PreparedStatement stmt, int index, UUID uuid) throws SQLException {
+        if (storage != Storage.TEXT) {
+            stmt.setBytes(index++, toBytes(uuid));
+        }
+        if (storage != Storage.BINARY) {
+            stmt.setString(index++, uuid.toString());
+        }
+        return index;
+    }
+
+    /**
+     * {@link #in(int)} の条件へUUIDを設定
+     * 
+     * @param stmt  対象のステートメント
+     * @param index 設定開始位置
+     * @param uuids UUID一覧
+     * @return 次の設定位置
+     * @throws SQLException 設定失敗時
+     */
+    static int bindIn(PreparedStatement stmt, int index, List<UUID> uuids) throws SQLException {
+        if (storage != Storage.TEXT) {
+            for (UUID uuid : uuids) {
+                stmt.setBytes(index++, toBytes(uuid));
+            }
+        }
+        if (storage != Storage.BINARY) {
+            for (UUID uuid : uuids) {
+                stmt.setString(index++, uuid.toString());
+            }
+        }
+        return index;
+    }
+
+    /**
+     * {@link #values()} のプレースホルダーへUUIDを設定
+     * 
+     * @param stmt  対象のステートメント
+     * @param index 設定開始位置
+     * @param uuid  UUID
+     * @return 次の設定位置
+     * @throws SQLException 設定失敗時
+     */
+    static int bindValues(PreparedStatement stmt, int index, UUID uuid) throws SQLException {
+        if (storage != Storage.BINARY) {
+            stmt.setString(index++, uuid.toString());
+        }
+        if (storage != Storage.TEXT) {
+            stmt.setBytes(index++, toBytes(uuid));
+        }
+        return index;
+    }
+
+    /**
+     * 検索結果の現在行からUUIDを読み取り
+     * 
+     * @param rs 検索結果
+     * @return UUID
+     * @throws SQLException 読み取り失敗時
+     */
+    static UUID read(ResultSet rs) throws SQLException {
+        if (storage == Storage.TEXT) {
+            return UUID.fromString(rs.getString(TEXT_COLUMN));
+        }
+        byte[] bytes = rs.getBytes(BINARY_COLUMN);
+        if (bytes == null && storage == Storage.DUAL) {
+            return UUID.fromString(rs.getString(TEXT_COLUMN));
+        }
+        return fromBytes(bytes);
+    }
+
+    /**
+     * UUIDを上位・下位64bitの順に並べた16バイトへ変換（UNHEX(REPLACE(uuid, '-', '')) と同じ並び）
+     * 
+     * @param uuid UUID
+     * @return 16バイトの配列
+     */
+    static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * 16バイトの配列からUUIDを復元
+     * 
+     * @param bytes 16バイトの配列
+     * @return UUID
+     */
+    static UUID fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+}
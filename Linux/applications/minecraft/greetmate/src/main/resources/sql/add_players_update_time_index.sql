@@ -0,0 +1,3 @@
+-- クリーンアップ（最終更新日時の古いプレイヤーの分割削除）を全件走査させないためのインデックス
+-- create_players.sql の変更前に作成したテーブルに対して実行する
+ALTER TABLE players ADD INDEX idx_players_update_time (update_time);
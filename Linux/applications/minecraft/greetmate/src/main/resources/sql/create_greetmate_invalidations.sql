@@ -0,0 +1,8 @@
+CREATE TABLE greetmate_invalidations (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    uuid VARCHAR(36) NOT NULL,
+    origin VARCHAR(36) NOT NULL,
+    created_at DATETIME(3) NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_greetmate_invalidations_created_at (created_at)
+);
@@ -0,0 +1,6 @@
+CREATE TABLE greetmate_leases (
+    name VARCHAR(64) NOT NULL,
+    owner VARCHAR(100) NOT NULL,
+    expires_at DATETIME(3) NOT NULL,
+    PRIMARY KEY (name)
+);
@@ -5,5 +5,6 @@ CREATE TABLE players (
     uuid VARCHAR(36) NOT NULL,
     update_time DATETIME NOT NULL,
     PRIMARY KEY (id),
-    UNIQUE KEY uq_players_uuid (uuid)
+    UNIQUE KEY uq_players_uuid (uuid),
+    KEY idx_players_update_time (update_time)
 );
@@ -0,0 +1,17 @@
+-- UUID列の BINARY(16) 化（手順1）
+-- 1. 本スクリプトを実行し、uuid_bin 列の追加と既存行の変換を行う
+-- 2. 全サーバーの database.uuidStorage を DUAL にして再起動する
+-- 3. 全サーバーが DUAL になった後、末尾の UPDATE 文のみ再実行し、切り替え中に TEXT のサーバーが登録した行を変換する
+-- 4. 全サーバーの database.uuidStorage を BINARY にして再起動し、migrate_uuid_binary_finalize.sql を実行する
+ALTER TABLE players
+    MODIFY uuid VARCHAR(36) NULL,
+    ADD COLUMN uuid_bin BINARY(16) NULL AFTER uuid,
+    ADD UNIQUE KEY uq_players_uuid_bin (uuid_bin);
+
+ALTER TABLE ban_players
+    MODIFY uuid VARCHAR(36) NULL,
+    ADD COLUMN uuid_bin BINARY(16) NULL AFTER uuid,
+    ADD UNIQUE KEY uq_ban_players_uuid_bin (uuid_bin);
+
+UPDATE players SET uuid_bin = UNHEX(REPLACE(uuid, '-', '')) WHERE uuid_bin IS NULL AND uuid IS NOT NULL;
+UPDATE ban_players SET uuid_bin = UNHEX(REPLACE(uuid, '-', '')) WHERE uuid_bin IS NULL AND uuid IS NOT NULL;
@@ -0,0 +1,11 @@
+-- UUID列の BINARY(16) 化（手順2）
+-- 全サーバーの database.uuidStorage が BINARY になった後に実行し、VARCHAR(36) の uuid 列を削除する
+ALTER TABLE players
+    DROP KEY uq_players_uuid,
+    DROP COLUMN uuid,
+    MODIFY uuid_bin BINARY(16) NOT NULL;
+
+ALTER TABLE ban_players
+    DROP KEY uq_ban_players_uuid,
+    DROP COLUMN uuid,
+    MODIFY uuid_bin BINARY(16) NOT NULL;
@@ -5,16 +5,27 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   ロール情報の事前読み込みに対応
+# V-003      : 2026/10/18                 Gamer-Iris   管理コマンドの実行スレッドの開始に対応
+# V-004      : 2026/10/18                 Gamer-Iris   プレイヤー名索引の読み込みに対応
+# V-005      : 2026/10/18                 Gamer-Iris   ログイン判定用BAN一覧の読み込みに対応
+# V-006      : 2026/10/18                 Gamer-Iris   管理コマンドによるプレイヤー情報の遅延書き込みの開始に対応
+# V-007      : 2026/10/18                 Gamer-Iris   DB障害時のローカルスナップショットの開始に対応
 # 
 ######################################################################################################################################################
 */
 package com.gamer_iris;
 
 import be.seeseemelk.mockbukkit.MockBukkit;
+import com.gamer_iris.cache.BanRegistry;
+import com.gamer_iris.cache.PlayerNameIndex;
+import com.gamer_iris.cache.RoleRegistry;
 import com.gamer_iris.command.AdminCommandHandler;
 import com.gamer_iris.config.ConfigManager;
 import com.gamer_iris.exception.CriticalException;
 import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.repository.LocalSnapshotStore;
+import com.gamer_iris.repository.PlayerWriteBehind;
 import org.bukkit.command.PluginCommand;
 import org.junit.jupiter.api.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -52,9 +63,15 @@ class MainTest {
     void testOnEnable_NormalFlow() {
         try (
                 MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class);
+                MockedStatic<PlayerNameIndex> indexMock = mockStatic(PlayerNameIndex.class);
+                MockedStatic<BanRegistry> banMock = mockStatic(BanRegistry.class);
+                MockedStatic<PlayerWriteBehind> writerMock = mockStatic(PlayerWriteBehind.class);
+                MockedStatic<LocalSnapshotStore> snapshotMock = mockStatic(LocalSnapshotStore.class);
                 MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
 
             configMock.when(() -> ConfigManager.init(any())).thenAnswer(_ -> null);
+            configMock.when(ConfigManager::getCommandWorkerThreads).thenReturn(1);
             logMock.when(() -> LogWriter.writeInfo(any())).thenAnswer(_ -> null);
             plugin = MockBukkit.load(Main.class);
 
@@ -65,6 +82,7 @@ class MainTest {
             PluginCommand command = plugin.getCommand("greetrole");
             assertNotNull(command);
             assertTrue(command.getExecutor() instanceof AdminCommandHandler);
+            snapshotMock.verify(() -> LocalSnapshotStore.start(any()));
         }
     }
 
@@ -0,0 +1,236 @@
+/*
+######################################################################################################################################################
+# ファイル   : AdminAuthorizationCacheTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   期限切れのエントリの掃除のテストを追加
+# V-003      : 2026/10/18                 Gamer-Iris   DBの取得失敗時と参照中に削除された場合に記録されないことのテストを追加
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.cache;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.exception.CriticalException;
+import com.gamer_iris.exception.ErrorHandler;
+import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.model.PlayerData;
+import com.gamer_iris.repository.PlayerRoleDao;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import java.sql.SQLException;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * AdminAuthorizationCache のユニットテストクラス
+ */
+class AdminAuthorizationCacheTest {
+
+    private MockedStatic<ConfigManager> configMock;
+    private MockedStatic<PlayerRoleDao> daoMock;
+    private UUID uuid;
+
+    /**
+     * 各テスト前の初期化処理
+     */
+    @BeforeEach
+    void setUp() {
+        configMock = mockStatic(ConfigManager.class);
+        daoMock = mockStatic(PlayerRoleDao.class);
+        configMock.when(ConfigManager::getCommandAuthorizationTtlSeconds).thenReturn(60);
+        uuid = UUID.randomUUID();
+    }
+
+    /**
+     * 各テスト後のキャッシュ破棄とモック解放
+     */
+    @AfterEach
+    void tearDown() {
+        AdminAuthorizationCache.clear();
+        daoMock.close();
+        configMock.close();
+    }
+
+    /**
+     * コンストラクタカバレッジテスト
+     */
+    @Test
+    void testAdminAuthorizationCacheConstructor_CoverageOnly() {
+        new AdminAuthorizationCache();
+    }
+
+    /**
+     * キャッシュが無い場合にDBを参照し、以降はメモリから判定する場合
+     */
+    @Test
+    void testIsAuthorized_LoadsOnceThenUsesCache() {
+        PlayerData data = player(4);
+        daoMock.when(() -> PlayerRoleDao.selectPlayerByUUID(uuid)).thenReturn(data);
+
+        assertTrue(AdminAuthorizationCache.isAuthorized(uuid));
+        assertTrue(AdminAuthorizationCache.isAuthorized(uuid));
+
+        daoMock.verify(() -> PlayerRoleDao.selectPlayerByUUID(uuid), times(1));
+    }
+
+    /**
+     * 有効期限を過ぎた場合にDBを再参照する場合
+     */
+    @Test
+    void testIsAuthorized_ReloadsWhenExpired() {
+        configMock.when(ConfigManager::getCommandAuthorizationTtlSeconds).thenReturn(0);
+        PlayerData data = player(3);
+        daoMock.when(() -> PlayerRoleDao.selectPlayerByUUID(uuid)).thenReturn(data);
+
+        assertTrue(AdminAuthorizationCache.isAuthorized(uuid));
+        assertTrue(AdminAuthorizationCache.isAuthorized(uuid));
+
+        daoMock.verify(() -> PlayerRoleDao.selectPlayerByUUID(uuid), times(2));
+    }
+
+    /**
+     * DBの取得に失敗した場合は実行不可とし、結果を記録しない場合
+     */
+    @Test
+    void testIsAuthorized_DoesNotCacheQueryFailure() {
+        try (MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            daoMock.when(() -> PlayerRoleDao.selectPlayerByUUID(uuid)).thenThrow(new SQLException("DB down"));
+
+            assertFalse(AdminAuthorizationCache.isAuthorized(uuid));
+            assertEquals(0, AdminAuthorizationCache.size());
+            logMock.verify(() -> LogWriter.writeError(contains("実行可否の確認に失敗しました"), any()));
+        }
+
+        PlayerData data = player(4);
+        daoMock.when(() -> PlayerRoleDao.selectPlayerByUUID(uuid)).thenReturn(data);
+        assertTrue(AdminAuthorizationCache.isAuthorized(uuid));
+    }
+
+    /**
+     * DB接続で致命的なエラーが発生した場合は実行不可とし、結果を記録しない場合
+     */
+    @Test
+    void testIsAuthorized_CriticalException() {
+        Main plugin = mock(Main.class);
+
+        try (
+                MockedStatic<Main> mainMock = mockStatic(Main.class);
+                MockedStatic<ErrorHandler> errorMock = mockStatic(ErrorHandler.class)) {
+            mainMock.when(Main::getInstance).thenReturn(plugin);
+            daoMock.when(() -> PlayerRoleDao.selectPlayerByUUID(uuid)).thenThrow(new CriticalException("DB fail"));
+
+            assertFalse(AdminAuthorizationCache.isAuthorized(uuid));
+
+            assertEquals(0, AdminAuthorizationCache.size());
+            errorMock.verify(() -> ErrorHandler.handleCriticalError(eq(plugin), eq("DB fail"), any()));
+        }
+    }
+
+    /**
+     * DBの参照中に削除（無効化）された場合は参照結果を記録しない場合
+     */
+    @Test
+    void testIsAuthorized_DiscardsResultWhenRemovedDuringQuery() {
+        PlayerData stale = player(4);
+        daoMock.when(() -> PlayerRoleDao.selectPlayerByUUID(uuid)).thenAnswer(_ -> {
+            AdminAuthorizationCache.remove(uuid);
+            return stale;
+        });
+
+        assertTrue(AdminAuthorizationCache.isAuthorized(uuid));
+
+        assertEquals(0, AdminAuthorizationCache.size());
+    }
+
+    /**
+     * 登録済みの実行可否がDBを参照せずに返される場合
+     */
+    @Test
+    void testPut_UsedByIsAuthorized() {
+        assertFalse(AdminAuthorizationCache.put(uuid, player(1)));
+        assertFalse(AdminAuthorizationCache.isAuthorized(uuid));
+
+        assertTrue(AdminAuthorizationCache.put(uuid, player(3)));
+        assertTrue(AdminAuthorizationCache.isAuthorized(uuid));
+
+        daoMock.verifyNoInteractions();
+    }
+
+    /**
+     * 未登録のプレイヤーは実行できないと記録される場合
+     */
+    @Test
+    void testPut_UnregisteredPlayer() {
+        assertFalse(AdminAuthorizationCache.put(uuid, null));
+        assertFalse(AdminAuthorizationCache.isAuthorized(uuid));
+        assertEquals(1, AdminAuthorizationCache.size());
+    }
+
+    /**
+     * 削除後はDBを再参照する場合
+     */
+    @Test
+    void testRemove_ForcesReload() {
+        AdminAuthorizationCache.put(uuid, player(4));
+        PlayerData data = player(2);
+        daoMock.when(() -> PlayerRoleDao.selectPlayerByUUID(uuid)).thenReturn(data);
+
+        assertTrue(AdminAuthorizationCache.remove(uuid));
+        assertFalse(AdminAuthorizationCache.remove(uuid));
+        assertFalse(AdminAuthorizationCache.isAuthorized(uuid));
+
+        daoMock.verify(() -> PlayerRoleDao.selectPlayerByUUID(uuid));
+    }
+
+    /**
+     * 掃除で期限切れのエントリのみ削除される場合
+     */
+    @Test
+    void testSweep_RemovesExpiredEntries() {
+        UUID fresh = UUID.randomUUID();
+        configMock.when(ConfigManager::getCommandAuthorizationTtlSeconds).thenReturn(0);
+        AdminAuthorizationCache.put(uuid, null);
+        configMock.when(ConfigManager::getCommandAuthorizationTtlSeconds).thenReturn(60);
+        AdminAuthorizationCache.put(fresh, player(3));
+
+        assertEquals(1, AdminAuthorizationCache.sweep());
+
+        assertEquals(1, AdminAuthorizationCache.size());
+        assertTrue(AdminAuthorizationCache.isAuthorized(fresh));
+        daoMock.verifyNoInteractions();
+    }
+
+    /**
+     * ロール3・4のみ管理コマンドを実行できる場合
+     */
+    @Test
+    void testIsAdminRole() {
+        assertFalse(AdminAuthorizationCache.isAdminRole(2));
+        assertTrue(AdminAuthorizationCache.isAdminRole(3));
+        assertTrue(AdminAuthorizationCache.isAdminRole(4));
+        assertFalse(AdminAuthorizationCache.isAdminRole(5));
+    }
+
+    /**
+     * 指定ロールのプレイヤー情報を生成
+     * 
+     * @param roleId ロールID
+     * @return プレイヤー情報
+     */
+    private static PlayerData player(int roleId) {
+        PlayerData data = mock(PlayerData.class);
+        when(data.getRole()).thenReturn(roleId);
+        return data;
+    }
+
+}
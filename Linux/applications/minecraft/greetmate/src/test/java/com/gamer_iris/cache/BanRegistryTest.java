@@ -0,0 +1,265 @@
+/*
+######################################################################################################################################################
+# ファイル   : BanRegistryTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   起動時にDBから読み込めない場合のローカルスナップショットからの読み込みのテストを追加
+# V-003      : 2026/10/18                 Gamer-Iris   全件読み込みをID基準の取得に変更
+# V-004      : 2026/10/18                 Gamer-Iris   登録・解除・再確認・再構築でプレイヤー名索引のBAN中の名前が更新されることのテストを追加
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.cache;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.model.BanPlayerData;
+import com.gamer_iris.repository.BanPlayerDao;
+import com.gamer_iris.repository.LocalSnapshotStore;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * BanRegistry のユニットテストクラス
+ */
+class BanRegistryTest {
+
+    private MockedStatic<BanPlayerDao> daoMock;
+    private MockedStatic<LogWriter> logMock;
+    private UUID uuid;
+
+    /**
+     * 各テスト前の初期化処理
+     */
+    @BeforeEach
+    void setUp() {
+        BanRegistry.clear();
+        PlayerNameIndex.clear();
+        daoMock = mockStatic(BanPlayerDao.class);
+        logMock = mockStatic(LogWriter.class);
+        uuid = UUID.randomUUID();
+    }
+
+    /**
+     * 各テスト後のBAN一覧破棄とモック解放
+     */
+    @AfterEach
+    void tearDown() {
+        BanRegistry.clear();
+        PlayerNameIndex.clear();
+        logMock.close();
+        daoMock.close();
+    }
+
+    /**
+     * コンストラクタカバレッジテスト
+     */
+    @Test
+    void testBanRegistryConstructor_CoverageOnly() {
+        new BanRegistry();
+    }
+
+    /**
+     * 全件を読み込み、BAN中のUUIDと理由を判定できる場合
+     */
+    @Test
+    void testRebuild_LoadsAllBans() {
+        UUID noReason = UUID.randomUUID();
+        daoMock.when(() -> BanPlayerDao.getAddedSince(0)).thenReturn(List.of(
+                ban(uuid, "spam"), ban(noReason, null), ban(null, "unknown")));
+
+        assertEquals(2, BanRegistry.rebuild());
+        assertEquals(List.of("player"), PlayerNameIndex.completeBanned("", 10));
+
+        assertEquals("spam", BanRegistry.findReason(uuid));
+        assertEquals("", BanRegistry.findReason(noReason));
+        assertTrue(BanRegistry.isBanned(noReason));
+        assertFalse(BanRegistry.isBanned(UUID.randomUUID()));
+        assertEquals(2, BanRegistry.size());
+        logMock.verify(() -> LogWriter.writeInfo(contains("BAN一覧を読み込みました: 2件")));
+    }
+
+    /**
+     * 再構築で解除済みのBANが消える場合
+     */
+    @Test
+    void testRebuild_DropsRemovedBans() {
+        BanRegistry.add(uuid, "Old", "old");
+        daoMock.when(() -> BanPlayerDao.getAddedSince(anyInt())).thenReturn(List.of());
+
+        assertEquals(0, BanRegistry.rebuild());
+
+        assertFalse(BanRegistry.isBanned(uuid));
+        assertEquals(List.of(), PlayerNameIndex.completeBanned("", 10));
+    }
+
+    /**
+     * 取得に失敗した場合は既存の内容を保持する場合
+     */
+    @Test
+    void testRebuild_KeepsCurrent_WhenQueryFails() {
+        BanRegistry.add(uuid, null, "spam");
+        daoMock.when(() -> BanPlayerDao.getAddedSince(anyInt())).thenReturn(null);
+
+        assertEquals(-1, BanRegistry.rebuild());
+
+        assertTrue(BanRegistry.isBanned(uuid));
+        logMock.verify(() -> LogWriter.writeWarn(contains("既存の内容を保持します")));
+    }
+
+    /**
+     * DBの参照中に登録・解除された内容が再構築後も保たれる場合
+     */
+    @Test
+    void testRebuild_AppliesChangesDuringQuery() {
+        UUID bannedDuringQuery = UUID.randomUUID();
+        UUID unbannedDuringQuery = UUID.randomUUID();
+        daoMock.when(() -> BanPlayerDao.getAddedSince(anyInt())).thenAnswer(_ -> {
+            BanRegistry.add(bannedDuringQuery, "Newcomer", "new");
+            BanRegistry.remove(unbannedDuringQuery);
+            return List.of(ban(unbannedDuringQuery, "old"), ban(uuid, "spam"));
+        });
+
+        assertEquals(2, BanRegistry.rebuild());
+        assertEquals(List.of("Newcomer", "player"), PlayerNameIndex.completeBanned("", 10));
+
+        assertEquals("new", BanRegistry.findReason(bannedDuringQuery));
+        assertFalse(BanRegistry.isBanned(unbannedDuringQuery));
+        assertTrue(BanRegistry.isBanned(uuid));
+
+        // 再構築後の変更は次回の再構築へ持ち越されない
+        BanRegistry.remove(bannedDuringQuery);
+        assertFalse(BanRegistry.isBanned(bannedDuringQuery));
+    }
+
+    /**
+     * 登録と解除が即時に反映される場合
+     */
+    @Test
+    void testAddAndRemove() {
+        BanRegistry.add(uuid, "Griefer", null);
+        assertEquals("", BanRegistry.findReason(uuid));
+
+        BanRegistry.add(uuid, "Griefer", "spam");
+        assertEquals("spam", BanRegistry.findReason(uuid));
+        assertEquals(List.of("Griefer"), PlayerNameIndex.completeBanned("g", 10));
+
+        BanRegistry.remove(uuid);
+        assertNull(BanRegistry.findReason(uuid));
+        assertEquals(List.of(), PlayerNameIndex.completeBanned("g", 10));
+        daoMock.verifyNoInteractions();
+    }
+
+    /**
+     * 再確認でDBの内容が反映される場合
+     */
+    @Test
+    void testRecheck() {
+        daoMock.when(() -> BanPlayerDao.findByUuid(uuid)).thenReturn(List.of(ban(uuid, "remote")));
+        BanRegistry.recheck(uuid);
+        assertEquals("remote", BanRegistry.findReason(uuid));
+        assertEquals(List.of("player"), PlayerNameIndex.completeBanned("", 10));
+
+        daoMock.when(() -> BanPlayerDao.findByUuid(uuid)).thenReturn(null);
+        BanRegistry.recheck(uuid);
+        assertTrue(BanRegistry.isBanned(uuid));
+
+        daoMock.when(() -> BanPlayerDao.findByUuid(uuid)).thenReturn(List.of());
+        BanRegistry.recheck(uuid);
+        assertFalse(BanRegistry.isBanned(uuid));
+        assertEquals(List.of(), PlayerNameIndex.completeBanned("", 10));
+    }
+
+    /**
+     * 起動時に読み込みと定期再構築の登録が行われ、再読み込みで間隔が変わった場合に再スケジュールされる場合
+     */
+    @Test
+    void testStartAndReschedule() {
+        Main plugin = mock(Main.class);
+        BukkitScheduler scheduler = mock(BukkitScheduler.class);
+        BukkitTask task = mock(BukkitTask.class);
+
+        try (
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<Main> mainMock = mockStatic(Main.class);
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class)) {
+            daoMock.when(() -> BanPlayerDao.getAddedSince(anyInt())).thenReturn(List.of(ban(uuid, "spam")));
+            configMock.when(ConfigManager::getBanRebuildIntervalSeconds).thenReturn(300);
+            mainMock.when(Main::getInstance).thenReturn(plugin);
+            bukkitMock.when(Bukkit::getScheduler).thenReturn(scheduler);
+            when(scheduler.runTaskTimerAsynchronously(eq(plugin), any(Runnable.class), anyLong(), anyLong()))
+                    .thenReturn(task);
+
+            BanRegistry.start();
+
+            assertTrue(BanRegistry.isBanned(uuid));
+            ArgumentCaptor<Runnable> captured = ArgumentCaptor.forClass(Runnable.class);
+            verify(scheduler).runTaskTimerAsynchronously(eq(plugin), captured.capture(), eq(6000L), eq(6000L));
+            captured.getValue().run();
+            daoMock.verify(() -> BanPlayerDao.getAddedSince(anyInt()), times(2));
+
+            configMock.when(ConfigManager::getBanRebuildIntervalSeconds).thenReturn(60);
+            BanRegistry.reschedule();
+
+            verify(task).cancel();
+            verify(scheduler).runTaskTimerAsynchronously(eq(plugin), any(Runnable.class), eq(1200L), eq(1200L));
+        }
+    }
+
+    /**
+     * 起動時にDBから読み込めない場合はローカルスナップショットのBAN一覧を読み込む場合
+     */
+    @Test
+    void testStart_FallsBackToLocalSnapshot() {
+        Main plugin = mock(Main.class);
+        BukkitScheduler scheduler = mock(BukkitScheduler.class);
+
+        try (
+                MockedStatic<LocalSnapshotStore> snapshotMock = mockStatic(LocalSnapshotStore.class);
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<Main> mainMock = mockStatic(Main.class);
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class)) {
+            daoMock.when(() -> BanPlayerDao.getAddedSince(anyInt())).thenReturn(null);
+            snapshotMock.when(LocalSnapshotStore::getBans).thenReturn(List.of(ban(uuid, "spam")));
+            configMock.when(ConfigManager::getBanRebuildIntervalSeconds).thenReturn(300);
+            mainMock.when(Main::getInstance).thenReturn(plugin);
+            bukkitMock.when(Bukkit::getScheduler).thenReturn(scheduler);
+
+            BanRegistry.start();
+
+            assertEquals("spam", BanRegistry.findReason(uuid));
+            verify(scheduler).runTaskTimerAsynchronously(eq(plugin), any(Runnable.class), eq(6000L), eq(6000L));
+        }
+    }
+
+    /**
+     * テスト用のBanPlayerDataを生成
+     * 
+     * @param target BAN対象のUUID
+     * @param reason BAN理由
+     * @return BanPlayerData
+     */
+    private static BanPlayerData ban(UUID target, String reason) {
+        return new BanPlayerData(1, "player", 1, target, reason, new Date());
+    }
+
+}
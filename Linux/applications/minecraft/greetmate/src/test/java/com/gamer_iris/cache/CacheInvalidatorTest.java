@@ -0,0 +1,552 @@
+/*
+######################################################################################################################################################
+# ファイル   : CacheInvalidatorTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   管理コマンドの実行可否キャッシュも無効化
+# V-003      : 2026/10/18                 Gamer-Iris   無効化時にログイン判定用のBAN状態を再確認
+# V-004      : 2026/10/18                 Gamer-Iris   DB接続の復旧時の作り直し処理のテストを追加
+# V-005      : 2026/10/18                 Gamer-Iris   プラグイン停止中の変更の通知のテストを追加
+# V-006      : 2026/10/18                 Gamer-Iris   遅れてコミットされた変更履歴の読み直しと、反映済みの履歴の読み飛ばしのテストを追加
+# V-007      : 2026/10/18                 Gamer-Iris   1回の取得件数と読み直し件数を設定値から取得することのテストを追加
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.cache;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.listener.InvalidationMessageListener;
+import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.model.InvalidationData;
+import com.gamer_iris.repository.InvalidationDao;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.messaging.Messenger;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * CacheInvalidator のユニットテストクラス
+ */
+class CacheInvalidatorTest {
+
+    private MockedStatic<Bukkit> bukkitMock;
+    private MockedStatic<Main> mainMock;
+    private MockedStatic<ConfigManager> configMock;
+    private MockedStatic<InvalidationDao> daoMock;
+    private MockedStatic<UserGreetingCacheManager> cacheMock;
+    private MockedStatic<BanRegistry> banMock;
+    private MockedStatic<LogWriter> logMock;
+    private Main plugin;
+    private BukkitScheduler scheduler;
+    private BukkitTask bukkitTask;
+    private Messenger messenger;
+    private UUID uuid;
+
+    /**
+     * 各テスト前の初期化処理
+     */
+    @BeforeEach
+    void setUp() {
+        plugin = mock(Main.class);
+        scheduler = mock(BukkitScheduler.class);
+        bukkitTask = mock(BukkitTask.class);
+        messenger = mock(Messenger.class);
+        uuid = UUID.randomUUID();
+        bukkitMock = mockStatic(Bukkit.class);
+        mainMock = mockStatic(Main.class);
+        configMock = mockStatic(ConfigManager.class);
+        daoMock = mockStatic(InvalidationDao.class);
+        cacheMock = mockStatic(UserGreetingCacheManager.class);
+        banMock = mockStatic(BanRegistry.class);
+        logMock = mockStatic(LogWriter.class);
+        mainMock.when(Main::getInstance).thenReturn(plugin);
+        bukkitMock.when(Bukkit::getScheduler).thenReturn(scheduler);
+        bukkitMock.when(Bukkit::getMessenger).thenReturn(messenger);
+        bukkitMock.when(Bukkit::getOnlinePlayers).thenReturn(List.of());
+        when(scheduler.runTaskTimerAsynchronously(eq(plugin), any(Runnable.class), anyLong(), anyLong()))
+                .thenReturn(bukkitTask);
+        configMock.when(ConfigManager::getInvalidationPollSeconds).thenReturn(2);
+        configMock.when(ConfigManager::getInvalidationRetentionHours).thenReturn(24);
+        configMock.when(ConfigManager::getInvalidationPollLimit).thenReturn(500);
+        configMock.when(ConfigManager::getInvalidationRescanWindow).thenReturn(100);
+        daoMock.when(() -> InvalidationDao.findSince(anyLong(), anyInt())).thenReturn(List.of());
+    }
+
+    /**
+     * 各テスト後の停止処理とモック解放
+     */
+    @AfterEach
+    void tearDown() {
+        CacheInvalidator.stop();
+        logMock.close();
+        banMock.close();
+        cacheMock.close();
+        daoMock.close();
+        configMock.close();
+        mainMock.close();
+        bukkitMock.close();
+    }
+
+    /**
+     * コンストラクタのカバレッジ確認
+     */
+    @Test
+    void testCacheInvalidatorConstructor_CoverageOnly() {
+        new CacheInvalidator();
+    }
+
+    /**
+     * 無効化通知がすべて無効な場合
+     */
+    @Test
+    void testStart_Disabled() {
+        CacheInvalidator.start();
+
+        daoMock.verifyNoInteractions();
+        verifyNoInteractions(scheduler, messenger);
+    }
+
+    /**
+     * 変更履歴の確認を有効にして開始する場合
+     */
+    @Test
+    void testStart_TableEnabled_ReadsFromLatestId() {
+        configMock.when(ConfigManager::isInvalidationEnabled).thenReturn(true);
+        daoMock.when(InvalidationDao::findLatestId).thenReturn(7L);
+
+        CacheInvalidator.start();
+        CacheInvalidator.poll();
+
+        verify(scheduler).runTaskTimerAsynchronously(eq(plugin), any(Runnable.class), eq(40L), eq(40L));
+        daoMock.verify(() -> InvalidationDao.findSince(7L, 500));
+    }
+
+    /**
+     * 起動時に最新位置を取得できなかった場合
+     */
+    @Test
+    void testStart_TableEnabled_LatestIdUnavailable() {
+        configMock.when(ConfigManager::isInvalidationEnabled).thenReturn(true);
+        daoMock.when(InvalidationDao::findLatestId).thenReturn(-1L);
+
+        CacheInvalidator.start();
+        CacheInvalidator.poll();
+
+        daoMock.verify(() -> InvalidationDao.findSince(0L, 500));
+    }
+
+    /**
+     * プラグインメッセージを有効にして開始・停止する場合
+     */
+    @Test
+    void testStartAndStop_ProxyMessaging() {
+        configMock.when(ConfigManager::isProxyMessagingEnabled).thenReturn(true);
+
+        CacheInvalidator.start();
+        CacheInvalidator.stop();
+
+        verify(messenger).registerOutgoingPluginChannel(plugin, "BungeeCord");
+        verify(messenger).registerIncomingPluginChannel(eq(plugin), eq("BungeeCord"),
+                any(InvalidationMessageListener.class));
+        verify(messenger).unregisterIncomingPluginChannel(plugin);
+        verify(messenger).unregisterOutgoingPluginChannel(plugin);
+    }
+
+    /**
+     * 設定の再読み込みで確認間隔が変わった場合
+     */
+    @Test
+    void testReschedule_IntervalChanged() {
+        configMock.when(ConfigManager::isInvalidationEnabled).thenReturn(true);
+        CacheInvalidator.start();
+        configMock.when(ConfigManager::getInvalidationPollSeconds).thenReturn(5);
+
+        CacheInvalidator.reschedule();
+
+        verify(bukkitTask).cancel();
+        verify(scheduler).runTaskTimerAsynchronously(eq(plugin), any(Runnable.class), eq(100L), eq(100L));
+    }
+
+    /**
+     * 変更履歴とプラグインメッセージの両方で通知する場合
+     */
+    @Test
+    void testPublish_AllChannels() throws IOException {
+        configMock.when(ConfigManager::isInvalidationEnabled).thenReturn(true);
+        configMock.when(ConfigManager::isProxyMessagingEnabled).thenReturn(true);
+        Player sender = mock(Player.class);
+        bukkitMock.when(Bukkit::getOnlinePlayers).thenReturn(List.of(sender));
+        cacheMock.when(() -> UserGreetingCacheManager.remove(uuid)).thenReturn(true);
+        CacheInvalidator.start();
+
+        CacheInvalidator.publish(uuid);
+        runAsyncTask();
+
+        cacheMock.verify(() -> UserGreetingCacheManager.remove(uuid));
+        daoMock.verify(() -> InvalidationDao.insert(uuid, CacheInvalidator.ORIGIN));
+        ArgumentCaptor<byte[]> message = ArgumentCaptor.forClass(byte[].class);
+        verify(sender).sendPluginMessage(eq(plugin), eq("BungeeCord"), message.capture());
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(message.getValue()));
+        assertEquals("Forward", in.readUTF());
+        assertEquals("ALL", in.readUTF());
+        assertEquals(CacheInvalidator.SUBCHANNEL, in.readUTF());
+        byte[] payload = new byte[in.readShort()];
+        in.readFully(payload);
+        DataInputStream data = new DataInputStream(new ByteArrayInputStream(payload));
+        assertEquals(CacheInvalidator.ORIGIN, data.readUTF());
+        assertEquals(uuid.toString(), data.readUTF());
+    }
+
+    /**
+     * 他のサーバーへの通知が無効な場合
+     */
+    @Test
+    void testPublish_LocalOnly() {
+        CacheInvalidator.publish(uuid);
+        runAsyncTask();
+
+        cacheMock.verify(() -> UserGreetingCacheManager.remove(uuid));
+        daoMock.verifyNoInteractions();
+        bukkitMock.verify(Bukkit::getOnlinePlayers, never());
+    }
+
+    /**
+     * プラグインメッセージの送信に使えるプレイヤーがいない場合
+     */
+    @Test
+    void testPublish_NoPlayerToForward() {
+        configMock.when(ConfigManager::isProxyMessagingEnabled).thenReturn(true);
+        CacheInvalidator.start();
+
+        CacheInvalidator.publish(uuid);
+        runAsyncTask();
+
+        bukkitMock.verify(Bukkit::getOnlinePlayers);
+    }
+
+    /**
+     * プラグイン停止中の通知で、スケジューラを介さずに変更履歴へ登録する場合
+     */
+    @Test
+    void testPublishOnShutdown_RecordsSynchronously() {
+        configMock.when(ConfigManager::isInvalidationEnabled).thenReturn(true);
+        configMock.when(ConfigManager::isProxyMessagingEnabled).thenReturn(true);
+        CacheInvalidator.start();
+
+        CacheInvalidator.publishOnShutdown(uuid);
+
+        cacheMock.verify(() -> UserGreetingCacheManager.remove(uuid));
+        daoMock.verify(() -> InvalidationDao.insert(uuid, CacheInvalidator.ORIGIN));
+        verify(scheduler, never()).runTaskAsynchronously(any(), any(Runnable.class));
+        bukkitMock.verify(Bukkit::getOnlinePlayers, never());
+    }
+
+    /**
+     * プラグイン停止中の通知で、変更履歴テーブルが無効な場合は自サーバーのキャッシュのみ削除する場合
+     */
+    @Test
+    void testPublishOnShutdown_LocalOnly() {
+        CacheInvalidator.publishOnShutdown(uuid);
+
+        cacheMock.verify(() -> UserGreetingCacheManager.remove(uuid));
+        daoMock.verifyNoInteractions();
+    }
+
+    /**
+     * オンラインのプレイヤーのキャッシュを無効化する場合
+     */
+    @Test
+    void testInvalidate_OnlinePlayer_Rebuilds() {
+        cacheMock.when(() -> UserGreetingCacheManager.remove(uuid)).thenReturn(true);
+        bukkitMock.when(() -> Bukkit.getPlayer(uuid)).thenReturn(mock(Player.class));
+
+        CacheInvalidator.invalidate(uuid);
+
+        cacheMock.verify(() -> UserGreetingCacheManager.buildAndCache(uuid));
+    }
+
+    /**
+     * DB接続の復旧後に、ロール・BAN一覧・プレイヤー名の索引とオンラインプレイヤーのキャッシュを作り直す場合
+     */
+    @Test
+    void testResync_ReloadsFromDatabase() {
+        Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(uuid);
+        bukkitMock.when(Bukkit::getOnlinePlayers).thenAnswer(_ -> List.of(player));
+        bukkitMock.when(() -> Bukkit.getPlayer(uuid)).thenReturn(player);
+        cacheMock.when(() -> UserGreetingCacheManager.remove(uuid)).thenReturn(true);
+
+        try (
+                MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class);
+                MockedStatic<PlayerNameIndex> indexMock = mockStatic(PlayerNameIndex.class)) {
+            CacheInvalidator.resync();
+
+            registryMock.verify(RoleRegistry::load);
+            indexMock.verify(PlayerNameIndex::start);
+        }
+        banMock.verify(BanRegistry::rebuild);
+        banMock.verify(() -> BanRegistry.recheck(uuid));
+        cacheMock.verify(() -> UserGreetingCacheManager.buildAndCache(uuid));
+    }
+
+    /**
+     * オフラインのプレイヤーのキャッシュを無効化する場合
+     */
+    @Test
+    void testInvalidate_OfflinePlayer_RemovesOnly() {
+        cacheMock.when(() -> UserGreetingCacheManager.remove(uuid)).thenReturn(true);
+
+        CacheInvalidator.invalidate(uuid);
+
+        cacheMock.verify(() -> UserGreetingCacheManager.buildAndCache(any(UUID.class)), never());
+    }
+
+    /**
+     * キャッシュされていないプレイヤーを無効化する場合
+     */
+    @Test
+    void testInvalidate_NotCached() {
+        AdminAuthorizationCache.put(uuid, null);
+
+        CacheInvalidator.invalidate(uuid);
+
+        assertFalse(AdminAuthorizationCache.remove(uuid));
+        banMock.verify(() -> BanRegistry.recheck(uuid));
+
+        bukkitMock.verify(() -> Bukkit.getPlayer(any(UUID.class)), never());
+        cacheMock.verify(() -> UserGreetingCacheManager.buildAndCache(any(UUID.class)), never());
+    }
+
+    /**
+     * 他のサーバーの変更履歴のみを反映し、確認位置を進める場合
+     */
+    @Test
+    void testPoll_AppliesOtherServersAndAdvances() {
+        UUID own = UUID.randomUUID();
+        configMock.when(ConfigManager::isInvalidationEnabled).thenReturn(true);
+        daoMock.when(InvalidationDao::findLatestId).thenReturn(0L);
+        daoMock.when(() -> InvalidationDao.findSince(0L, 500)).thenReturn(List.of(
+                new InvalidationData(1L, uuid, "other-server"),
+                new InvalidationData(2L, own, CacheInvalidator.ORIGIN)));
+        CacheInvalidator.start();
+
+        CacheInvalidator.poll();
+        CacheInvalidator.poll();
+
+        cacheMock.verify(() -> UserGreetingCacheManager.remove(uuid));
+        cacheMock.verify(() -> UserGreetingCacheManager.remove(own), never());
+        daoMock.verify(() -> InvalidationDao.findSince(0L, 500), times(2));
+    }
+
+    /**
+     * 確認済みの最大IDより小さいIDの変更履歴が遅れてコミットされた場合
+     */
+    @Test
+    void testPoll_RereadsLateCommittedChanges() {
+        UUID late = UUID.randomUUID();
+        configMock.when(ConfigManager::isInvalidationEnabled).thenReturn(true);
+        daoMock.when(InvalidationDao::findLatestId).thenReturn(10L);
+        daoMock.when(() -> InvalidationDao.findSince(10L, 500)).thenReturn(
+                List.of(new InvalidationData(12L, uuid, "other-server")),
+                List.of(new InvalidationData(11L, late, "other-server"),
+                        new InvalidationData(12L, uuid, "other-server")));
+        CacheInvalidator.start();
+
+        CacheInvalidator.poll();
+        CacheInvalidator.poll();
+
+        cacheMock.verify(() -> UserGreetingCacheManager.remove(uuid));
+        cacheMock.verify(() -> UserGreetingCacheManager.remove(late));
+    }
+
+    /**
+     * 確認済みの最大IDから一定件数より前の変更履歴は読み直さない場合
+     */
+    @Test
+    void testPoll_RescanWindowFollowsLatestId() {
+        configMock.when(ConfigManager::isInvalidationEnabled).thenReturn(true);
+        daoMock.when(InvalidationDao::findLatestId).thenReturn(0L);
+        daoMock.when(() -> InvalidationDao.findSince(0L, 500)).thenReturn(List.of(
+                new InvalidationData(1L, uuid, "other-server"),
+                new InvalidationData(150L, uuid, "other-server")));
+        CacheInvalidator.start();
+
+        CacheInvalidator.poll();
+        CacheInvalidator.poll();
+
+        daoMock.verify(() -> InvalidationDao.findSince(50L, 500));
+        cacheMock.verify(() -> UserGreetingCacheManager.remove(uuid), times(2));
+    }
+
+    /**
+     * 設定した取得件数と読み直し件数で変更履歴を確認する場合
+     */
+    @Test
+    void testPoll_UsesConfiguredLimitAndWindow() {
+        configMock.when(ConfigManager::isInvalidationEnabled).thenReturn(true);
+        configMock.when(ConfigManager::getInvalidationPollLimit).thenReturn(50);
+        configMock.when(ConfigManager::getInvalidationRescanWindow).thenReturn(10);
+        daoMock.when(InvalidationDao::findLatestId).thenReturn(0L);
+        daoMock.when(() -> InvalidationDao.findSince(0L, 50)).thenReturn(List.of(
+                new InvalidationData(30L, uuid, "other-server")));
+        CacheInvalidator.start();
+
+        CacheInvalidator.poll();
+        CacheInvalidator.poll();
+
+        daoMock.verify(() -> InvalidationDao.findSince(20L, 50));
+    }
+
+    /**
+     * 変更履歴の取得に失敗した場合
+     */
+    @Test
+    void testPoll_LookupFails() {
+        daoMock.when(() -> InvalidationDao.findSince(anyLong(), anyInt())).thenReturn(null);
+
+        CacheInvalidator.poll();
+
+        cacheMock.verifyNoInteractions();
+    }
+
+    /**
+     * 変更履歴が無効な状態で古い履歴を削除する場合
+     */
+    @Test
+    void testPrune_Disabled() {
+        CacheInvalidator.prune();
+
+        daoMock.verifyNoInteractions();
+    }
+
+    /**
+     * 保持期間を過ぎた変更履歴を削除した場合
+     */
+    @Test
+    void testPrune_DeletesOldRows() {
+        configMock.when(ConfigManager::isInvalidationEnabled).thenReturn(true);
+        daoMock.when(() -> InvalidationDao.deleteOlderThan(24)).thenReturn(3);
+        CacheInvalidator.start();
+
+        CacheInvalidator.prune();
+
+        logMock.verify(() -> LogWriter.writeInfo(contains("古いキャッシュ無効化通知を削除しました。削除件数: 3")));
+    }
+
+    /**
+     * 削除対象の変更履歴が無い場合
+     */
+    @Test
+    void testPrune_NothingToDelete() {
+        configMock.when(ConfigManager::isInvalidationEnabled).thenReturn(true);
+        CacheInvalidator.start();
+
+        CacheInvalidator.prune();
+
+        daoMock.verify(() -> InvalidationDao.deleteOlderThan(24));
+        logMock.verify(() -> LogWriter.writeInfo(anyString()), never());
+    }
+
+    /**
+     * 他のサーバーからの無効化通知を解析する場合
+     */
+    @Test
+    void testDecodeForward_FromOtherServer() throws IOException {
+        assertEquals(uuid,
+                CacheInvalidator.decodeForward(received(CacheInvalidator.SUBCHANNEL, "other", uuid.toString())));
+    }
+
+    /**
+     * 自サーバーが送信した無効化通知を受信した場合
+     */
+    @Test
+    void testDecodeForward_FromSelf() throws IOException {
+        assertNull(CacheInvalidator.decodeForward(
+                received(CacheInvalidator.SUBCHANNEL, CacheInvalidator.ORIGIN, uuid.toString())));
+    }
+
+    /**
+     * 他のプラグインのメッセージを受信した場合
+     */
+    @Test
+    void testDecodeForward_OtherSubchannel() throws IOException {
+        assertNull(CacheInvalidator.decodeForward(received("PlayerCount", "other", uuid.toString())));
+        logMock.verifyNoInteractions();
+    }
+
+    /**
+     * 途中で途切れたメッセージを受信した場合
+     */
+    @Test
+    void testDecodeForward_Truncated() {
+        assertNull(CacheInvalidator.decodeForward(new byte[] { 0, 10, 'G' }));
+        logMock.verify(() -> LogWriter.writeWarn(contains("不正なキャッシュ無効化メッセージ")));
+    }
+
+    /**
+     * UUIDとして解析できないメッセージを受信した場合
+     */
+    @Test
+    void testDecodeForward_InvalidUuid() throws IOException {
+        assertNull(CacheInvalidator.decodeForward(received(CacheInvalidator.SUBCHANNEL, "other", "not-a-uuid")));
+        logMock.verify(() -> LogWriter.writeWarn(contains("不正なキャッシュ無効化メッセージ")));
+    }
+
+    /**
+     * 非同期で登録されたタスクを取得して実行
+     */
+    private void runAsyncTask() {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).runTaskAsynchronously(eq(plugin), task.capture());
+        task.getValue().run();
+    }
+
+    /**
+     * プロキシから転送されるメッセージ（サブチャンネル名・長さ付きのデータ）を生成
+     * 
+     * @param subchannel サブチャンネル名
+     * @param origin     通知元サーバーの識別子
+     * @param target     対象プレイヤーのUUID文字列
+     * @return メッセージ
+     * @throws IOException 書き込み失敗時
+     */
+    private static byte[] received(String subchannel, String origin, String target) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(payload);
+        data.writeUTF(origin);
+        data.writeUTF(target);
+
+        ByteArrayOutputStream message = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(message);
+        out.writeUTF(subchannel);
+        out.writeShort(payload.size());
+        out.write(payload.toByteArray());
+        return message.toByteArray();
+    }
+
+}
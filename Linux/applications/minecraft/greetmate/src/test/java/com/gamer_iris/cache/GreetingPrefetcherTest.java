@@ -0,0 +1,168 @@
+/*
+######################################################################################################################################################
+# ファイル   : GreetingPrefetcherTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.cache;
+
+import com.gamer_iris.Main;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * GreetingPrefetcher のユニットテストクラス
+ */
+class GreetingPrefetcherTest {
+
+    private UUID uuid;
+
+    /**
+     * UUID初期化
+     */
+    @BeforeEach
+    void setUp() {
+        uuid = UUID.randomUUID();
+    }
+
+    /**
+     * コンストラクタのカバレッジ確認
+     */
+    @Test
+    void testGreetingPrefetcherConstructor_CoverageOnly() {
+        new GreetingPrefetcher();
+    }
+
+    /**
+     * 事前取得でキャッシュが構築され、待機が即時に完了する場合
+     */
+    @Test
+    void testPrefetch_ThenAwaitCompletes() {
+        try (MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class)) {
+            cacheMock.when(() -> UserGreetingCacheManager.contains(uuid)).thenReturn(false);
+
+            GreetingPrefetcher.prefetch(uuid);
+
+            cacheMock.verify(() -> UserGreetingCacheManager.buildAndCache(uuid));
+            assertTrue(GreetingPrefetcher.awaitPrefetch(uuid, 10));
+        }
+    }
+
+    /**
+     * 既に有効なキャッシュがある場合はDBを参照しない場合
+     */
+    @Test
+    void testPrefetch_SkipsWhenCached() {
+        try (MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class)) {
+            cacheMock.when(() -> UserGreetingCacheManager.contains(uuid)).thenReturn(true);
+
+            GreetingPrefetcher.prefetch(uuid);
+
+            cacheMock.verify(() -> UserGreetingCacheManager.buildAndCache(any(UUID.class)), never());
+        }
+    }
+
+    /**
+     * 事前取得の記録がない場合はキャッシュの有無を返す場合
+     */
+    @Test
+    void testAwaitPrefetch_NoPending_ReturnsCacheState() {
+        try (MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class)) {
+            cacheMock.when(() -> UserGreetingCacheManager.contains(uuid)).thenReturn(false);
+            assertFalse(GreetingPrefetcher.awaitPrefetch(uuid, 10));
+
+            cacheMock.when(() -> UserGreetingCacheManager.contains(uuid)).thenReturn(true);
+            assertTrue(GreetingPrefetcher.awaitPrefetch(uuid, 10));
+        }
+    }
+
+    /**
+     * 事前取得が待機時間内に終わらない場合
+     */
+    @Test
+    void testAwaitPrefetch_TimesOut() {
+        AtomicBoolean result = new AtomicBoolean(true);
+
+        try (MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class)) {
+            cacheMock.when(() -> UserGreetingCacheManager.contains(uuid)).thenReturn(false);
+            cacheMock.when(() -> UserGreetingCacheManager.buildAndCache(uuid)).thenAnswer(_ -> {
+                Thread joiner = new Thread(() -> result.set(GreetingPrefetcher.awaitPrefetch(uuid, 10)));
+                joiner.start();
+                joiner.join(5000);
+                return null;
+            });
+
+            GreetingPrefetcher.prefetch(uuid);
+
+            assertFalse(result.get());
+        }
+    }
+
+    /**
+     * 待機中に割り込みが発生した場合
+     */
+    @Test
+    void testAwaitPrefetch_Interrupted() {
+        AtomicBoolean result = new AtomicBoolean(true);
+        AtomicBoolean interrupted = new AtomicBoolean(false);
+
+        try (MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class)) {
+            cacheMock.when(() -> UserGreetingCacheManager.contains(uuid)).thenReturn(false);
+            cacheMock.when(() -> UserGreetingCacheManager.buildAndCache(uuid)).thenAnswer(_ -> {
+                Thread joiner = new Thread(() -> {
+                    Thread.currentThread().interrupt();
+                    result.set(GreetingPrefetcher.awaitPrefetch(uuid, 1000));
+                    interrupted.set(Thread.currentThread().isInterrupted());
+                });
+                joiner.start();
+                joiner.join(5000);
+                return null;
+            });
+
+            GreetingPrefetcher.prefetch(uuid);
+
+            assertFalse(result.get());
+            assertTrue(interrupted.get());
+        }
+    }
+
+    /**
+     * 非同期タスクとしてキャッシュ構築が登録される場合
+     */
+    @Test
+    void testPrefetchAsync_SchedulesLoad() {
+        Main plugin = mock(Main.class);
+        BukkitScheduler scheduler = mock(BukkitScheduler.class);
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+
+        try (
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class);
+                MockedStatic<Main> mainMock = mockStatic(Main.class);
+                MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class)) {
+            bukkitMock.when(Bukkit::getScheduler).thenReturn(scheduler);
+            mainMock.when(Main::getInstance).thenReturn(plugin);
+            cacheMock.when(() -> UserGreetingCacheManager.contains(uuid)).thenReturn(false);
+
+            GreetingPrefetcher.prefetchAsync(uuid);
+
+            verify(scheduler).runTaskAsynchronously(eq(plugin), task.capture());
+            task.getValue().run();
+            cacheMock.verify(() -> UserGreetingCacheManager.buildAndCache(uuid));
+        }
+    }
+
+}
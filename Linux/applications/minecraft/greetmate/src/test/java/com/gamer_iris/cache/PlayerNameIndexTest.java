@@ -0,0 +1,241 @@
+/*
+######################################################################################################################################################
+# ファイル   : PlayerNameIndexTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   補完用の前方一致索引（登録済みの名前・BAN中の名前）を追加
+# V-003      : 2026/10/18                 Gamer-Iris   BAN中の名前をUUID単位で保持し、BAN一覧の再構築結果で差し替えるテストを追加
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.cache;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.model.BanPlayerData;
+import com.gamer_iris.model.PlayerData;
+import com.gamer_iris.repository.BanPlayerDao;
+import com.gamer_iris.repository.PlayerRoleDao;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * PlayerNameIndex のユニットテストクラス
+ */
+class PlayerNameIndexTest {
+
+    private MockedStatic<PlayerRoleDao> playerDaoMock;
+    private MockedStatic<BanPlayerDao> banDaoMock;
+    private MockedStatic<LogWriter> logMock;
+
+    /**
+     * 各テスト前の初期化処理
+     */
+    @BeforeEach
+    void setUp() {
+        PlayerNameIndex.clear();
+        playerDaoMock = mockStatic(PlayerRoleDao.class);
+        banDaoMock = mockStatic(BanPlayerDao.class);
+        logMock = mockStatic(LogWriter.class);
+        playerDaoMock.when(PlayerRoleDao::getAllPlayers).thenReturn(List.of());
+        banDaoMock.when(BanPlayerDao::getAll).thenReturn(List.of());
+    }
+
+    /**
+     * 各テスト後の索引破棄とモック解放
+     */
+    @AfterEach
+    void tearDown() {
+        PlayerNameIndex.clear();
+        logMock.close();
+        banDaoMock.close();
+        playerDaoMock.close();
+    }
+
+    /**
+     * コンストラクタカバレッジテスト
+     */
+    @Test
+    void testPlayerNameIndexConstructor_CoverageOnly() {
+        new PlayerNameIndex();
+    }
+
+    /**
+     * 大文字小文字を区別せずに検索できる場合
+     */
+    @Test
+    void testFind_CaseInsensitive() {
+        UUID uuid = UUID.randomUUID();
+        PlayerNameIndex.put(uuid, "Steve");
+
+        assertEquals(uuid, PlayerNameIndex.find("steve"));
+        assertEquals(uuid, PlayerNameIndex.find("STEVE"));
+        assertNull(PlayerNameIndex.find("Alex"));
+    }
+
+    /**
+     * 名前を変更したプレイヤーの旧名が削除される場合
+     */
+    @Test
+    void testPut_RenameRemovesOldName() {
+        UUID uuid = UUID.randomUUID();
+        PlayerNameIndex.put(uuid, "OldName");
+        PlayerNameIndex.put(uuid, "NewName");
+        PlayerNameIndex.put(uuid, "newname");
+
+        assertNull(PlayerNameIndex.find("OldName"));
+        assertEquals(uuid, PlayerNameIndex.find("NewName"));
+        assertEquals(1, PlayerNameIndex.size());
+        assertEquals(List.of(), PlayerNameIndex.complete("old", 10));
+        assertEquals(List.of("newname"), PlayerNameIndex.complete("new", 10));
+    }
+
+    /**
+     * 別のプレイヤーが使っていた名前を引き継いだ場合
+     */
+    @Test
+    void testPut_NameTakenOverByAnotherPlayer() {
+        UUID previousOwner = UUID.randomUUID();
+        UUID newOwner = UUID.randomUUID();
+        PlayerNameIndex.put(previousOwner, "Shared");
+        PlayerNameIndex.put(newOwner, "Shared");
+
+        assertEquals(newOwner, PlayerNameIndex.find("shared"));
+
+        // 以前の持ち主が別名でログインしても、引き継いだプレイヤーの対応は残る
+        PlayerNameIndex.put(previousOwner, "Renamed");
+        assertEquals(newOwner, PlayerNameIndex.find("shared"));
+        assertEquals(previousOwner, PlayerNameIndex.find("renamed"));
+        assertEquals(List.of("Renamed", "Shared"), PlayerNameIndex.complete("", 10));
+    }
+
+    /**
+     * 登録済みの名前が前方一致で補完される場合
+     */
+    @Test
+    void testComplete_ReturnsKnownNames() {
+        PlayerNameIndex.put(UUID.randomUUID(), "Steve");
+        PlayerNameIndex.put(UUID.randomUUID(), "Stella");
+        PlayerNameIndex.put(UUID.randomUUID(), "Alex");
+
+        assertEquals(List.of("Stella", "Steve"), PlayerNameIndex.complete("ST", 10));
+        assertEquals(List.of("Stella"), PlayerNameIndex.complete("st", 1));
+    }
+
+    /**
+     * BAN中の名前の登録と削除が補完へ反映される場合
+     */
+    @Test
+    void testMarkBanned_UsedByCompleteBanned() {
+        UUID griefer = UUID.randomUUID();
+        PlayerNameIndex.markBanned(griefer, "Griefer");
+        PlayerNameIndex.markBanned(UUID.randomUUID(), "Greg");
+        PlayerNameIndex.markBanned(UUID.randomUUID(), null);
+
+        assertEquals(List.of("Greg", "Griefer"), PlayerNameIndex.completeBanned("g", 10));
+
+        PlayerNameIndex.markBanned(griefer, "Grief2");
+        assertEquals(List.of("Greg", "Grief2"), PlayerNameIndex.completeBanned("g", 10));
+
+        PlayerNameIndex.unmarkBanned(griefer);
+        PlayerNameIndex.unmarkBanned(UUID.randomUUID());
+        assertEquals(List.of("Greg"), PlayerNameIndex.completeBanned("g", 10));
+        assertEquals(List.of(), PlayerNameIndex.complete("g", 10));
+
+        PlayerNameIndex.clear();
+        assertEquals(List.of(), PlayerNameIndex.completeBanned("g", 10));
+    }
+
+    /**
+     * BAN中の名前を差し替え、名前が不明なUUIDは登録済みの名前を引き継ぐ場合
+     */
+    @Test
+    void testReplaceBanned_KeepsKnownNameForUnnamedEntries() {
+        UUID kept = UUID.randomUUID();
+        UUID unbanned = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        PlayerNameIndex.markBanned(kept, "Kept");
+        PlayerNameIndex.markBanned(unbanned, "Unbanned");
+        Map<UUID, String> banned = new HashMap<>();
+        banned.put(kept, null);
+        banned.put(unknown, null);
+        banned.put(UUID.randomUUID(), "Loaded");
+
+        PlayerNameIndex.replaceBanned(banned);
+
+        assertEquals(List.of("Kept", "Loaded"), PlayerNameIndex.completeBanned("", 10));
+        PlayerNameIndex.unmarkBanned(kept);
+        assertEquals(List.of("Loaded"), PlayerNameIndex.completeBanned("", 10));
+    }
+
+    /**
+     * playersとban_playersから読み込み、playersと登録済みの対応を優先する場合
+     */
+    @Test
+    void testLoad_PrefersPlayersAndExistingEntries() {
+        UUID online = UUID.randomUUID();
+        UUID registered = UUID.randomUUID();
+        UUID banned = UUID.randomUUID();
+        UUID stale = UUID.randomUUID();
+        PlayerNameIndex.put(online, "CurrentName");
+        Date now = new Date();
+        playerDaoMock.when(PlayerRoleDao::getAllPlayers).thenReturn(List.of(
+                new PlayerData(1, "OldName", 1, online, now),
+                new PlayerData(2, "Registered", 1, registered, now),
+                new PlayerData(3, null, 1, UUID.randomUUID(), now)));
+        banDaoMock.when(BanPlayerDao::getAll).thenReturn(List.of(
+                new BanPlayerData(1, "Banned", 1, banned, "spam", now),
+                new BanPlayerData(2, "registered", 1, stale, "old", now),
+                new BanPlayerData(3, "Unknown", 1, null, "none", now)));
+
+        assertEquals(3, PlayerNameIndex.load());
+
+        assertEquals(online, PlayerNameIndex.find("CurrentName"));
+        assertNull(PlayerNameIndex.find("OldName"));
+        assertEquals(registered, PlayerNameIndex.find("Registered"));
+        assertEquals(banned, PlayerNameIndex.find("banned"));
+        assertNull(PlayerNameIndex.find("Unknown"));
+        logMock.verify(() -> LogWriter.writeInfo(contains("プレイヤー名の索引を読み込みました: 3件")));
+    }
+
+    /**
+     * 読み込みが非同期で登録される場合
+     */
+    @Test
+    void testStart_SchedulesAsyncLoad() {
+        Main plugin = mock(Main.class);
+        BukkitScheduler scheduler = mock(BukkitScheduler.class);
+
+        try (
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class);
+                MockedStatic<Main> mainMock = mockStatic(Main.class)) {
+            bukkitMock.when(Bukkit::getScheduler).thenReturn(scheduler);
+            mainMock.when(Main::getInstance).thenReturn(plugin);
+
+            PlayerNameIndex.start();
+
+            ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+            verify(scheduler).runTaskAsynchronously(eq(plugin), task.capture());
+            task.getValue().run();
+            playerDaoMock.verify(PlayerRoleDao::getAllPlayers);
+            banDaoMock.verify(BanPlayerDao::getAll);
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+######################################################################################################################################################
+# ファイル   : PrefixIndexTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PrefixIndex のユニットテストクラス
+ */
+class PrefixIndexTest {
+
+    private PrefixIndex index;
+
+    /**
+     * 各テスト前の初期化処理
+     */
+    @BeforeEach
+    void setUp() {
+        index = new PrefixIndex();
+        index.add("Steve");
+        index.add("alex");
+        index.add("Stella");
+        index.add("Notch");
+    }
+
+    /**
+     * 前方一致する名前が大文字小文字を区別せず昇順で返される場合
+     */
+    @Test
+    void testComplete_CaseInsensitivePrefix() {
+        assertEquals(List.of("Stella", "Steve"), index.complete("st", 10));
+        assertEquals(List.of("Stella", "Steve"), index.complete("ST", 10));
+        assertEquals(List.of("alex"), index.complete("A", 10));
+        assertEquals(List.of(), index.complete("z", 10));
+    }
+
+    /**
+     * 空文字の場合は全件が返される場合
+     */
+    @Test
+    void testComplete_EmptyPrefix() {
+        assertEquals(List.of("alex", "Notch", "Stella", "Steve"), index.complete("", 10));
+    }
+
+    /**
+     * 最大件数で打ち切られる場合
+     */
+    @Test
+    void testComplete_Limit() {
+        assertEquals(List.of("alex", "Notch"), index.complete("", 2));
+        assertEquals(List.of(), index.complete("s", 0));
+    }
+
+    /**
+     * 大文字小文字のみ異なる名前は後から登録した表記で上書きされる場合
+     */
+    @Test
+    void testAdd_OverwritesCaseVariant() {
+        index.add("steve");
+
+        assertEquals(List.of("steve"), index.complete("stev", 10));
+        assertEquals(4, index.size());
+    }
+
+    /**
+     * 削除した名前が返されなくなる場合
+     */
+    @Test
+    void testRemove() {
+        index.remove("STEVE");
+
+        assertEquals(List.of("Stella"), index.complete("st", 10));
+        assertEquals(3, index.size());
+    }
+
+    /**
+     * 全件を破棄した場合
+     */
+    @Test
+    void testClear() {
+        index.clear();
+
+        assertEquals(0, index.size());
+        assertEquals(List.of(), index.complete("", 10));
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+######################################################################################################################################################
+# ファイル   : RoleGreetingTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   定義済み以外の波括弧が有効となったため、不正なメッセージの例を書式指定子に変更
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.cache;
+
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.model.RoleData;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import java.util.Date;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+/**
+ * RoleGreeting のユニットテストクラス
+ */
+class RoleGreetingTest {
+
+    /**
+     * ロールの各メッセージが解析される場合
+     */
+    @Test
+    void testConstructor_CompilesRoleTexts() {
+        RoleData role = new RoleData(1, 3, "管理者", "in {player}", "out %s", "{role} kick %s", "{server} ban %s",
+                new Date());
+
+        try (MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class)) {
+            configMock.when(ConfigManager::getServerName).thenReturn("MyServer");
+
+            RoleGreeting greeting = new RoleGreeting(role);
+
+            assertSame(role, greeting.getRoleData());
+            assertEquals("in Steve", greeting.getLoginTemplate().render("Steve"));
+            assertEquals("out Steve", greeting.getLogoutTemplate().render("Steve"));
+            assertEquals("管理者 kick Steve", greeting.getKickTemplate().render("Steve"));
+            assertEquals("MyServer ban Steve", greeting.getBanTemplate().render("Steve"));
+        }
+    }
+
+    /**
+     * 未設定・不正なメッセージがデフォルトで代替される場合
+     */
+    @Test
+    void testConstructor_FallsBackToDefault() {
+        RoleData role = new RoleData(1, 2, "GM", null, "out %d", "kick %x", "ban %", new Date());
+
+        try (
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            configMock.when(ConfigManager::getDefaultLoginMessage).thenReturn("default in %s");
+            configMock.when(ConfigManager::getDefaultLogoutMessage).thenReturn("default out %s");
+            configMock.when(ConfigManager::getDefaultKickMessage).thenReturn("[{role}] default kick %s");
+            configMock.when(ConfigManager::getDefaultBanMessage).thenReturn("default ban %s");
+
+            RoleGreeting greeting = new RoleGreeting(role);
+
+            assertEquals("default in Steve", greeting.getLoginTemplate().render("Steve"));
+            assertEquals("default out Steve", greeting.getLogoutTemplate().render("Steve"));
+            assertEquals("[GM] default kick Steve", greeting.getKickTemplate().render("Steve"));
+            assertEquals("default ban Steve", greeting.getBanTemplate().render("Steve"));
+            logMock.verify(() -> LogWriter.writeWarn(contains("role=2")), times(3));
+        }
+    }
+
+}
@@ -0,0 +1,273 @@
+/*
+######################################################################################################################################################
+# ファイル   : RoleRegistryTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   挨拶メッセージをロード時に解析
+# V-003      : 2026/10/18                 Gamer-Iris   設定の再読み込み時に実行間隔の変更へ追従
+# V-004      : 2026/10/18                 Gamer-Iris   コマンド補完用にロールID一覧を保持
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.cache;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.model.RoleData;
+import com.gamer_iris.repository.PlayerRoleDao;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import java.util.Date;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * RoleRegistry のユニットテストクラス
+ */
+class RoleRegistryTest {
+
+    private static MockedStatic<ConfigManager> configMock;
+
+    /**
+     * グローバルモック設定
+     */
+    @BeforeAll
+    static void beforeAll() {
+        configMock = mockStatic(ConfigManager.class);
+        configMock.when(ConfigManager::getServerName).thenReturn("TestServer");
+        configMock.when(ConfigManager::getDefaultLoginMessage).thenReturn("default login %s");
+        configMock.when(ConfigManager::getDefaultLogoutMessage).thenReturn("default logout %s");
+        configMock.when(ConfigManager::getDefaultKickMessage).thenReturn("default kick %s");
+        configMock.when(ConfigManager::getDefaultBanMessage).thenReturn("default ban %s");
+    }
+
+    /**
+     * モック解放
+     */
+    @AfterAll
+    static void afterAll() {
+        configMock.close();
+    }
+
+    /**
+     * コンストラクタのカバレッジ確認
+     */
+    @Test
+    void testRoleRegistryConstructor_CoverageOnly() {
+        new RoleRegistry();
+    }
+
+    /**
+     * 読み込んだロールがロールIDで参照できる場合
+     */
+    @Test
+    void testLoad_IndexesByRoleId() {
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            daoMock.when(PlayerRoleDao::findRolesLastUpdated).thenReturn(new Date(1000));
+            daoMock.when(PlayerRoleDao::getAllRoles).thenReturn(List.of(role(1), role(4)));
+
+            assertTrue(RoleRegistry.load());
+
+            assertEquals(1, RoleRegistry.get(1).getRole());
+            assertEquals(4, RoleRegistry.get(4).getRole());
+            assertNull(RoleRegistry.get(2));
+            assertNull(RoleRegistry.get(5));
+            assertNull(RoleRegistry.get(-1));
+            assertTrue(RoleRegistry.isValid(4));
+            assertFalse(RoleRegistry.isValid(3));
+            assertEquals(List.of("1", "4"), RoleRegistry.getRoleIds());
+            logMock.verify(() -> LogWriter.writeInfo(contains("2件")));
+        }
+    }
+
+    /**
+     * 読み込み時に挨拶メッセージが解析済みテンプレートとして保持される場合
+     */
+    @Test
+    void testLoad_CompilesGreetingTemplates() {
+        RoleData data = new RoleData(6, 6, "管理者", "[{role}@{server}] %s", "bye {player}", "kick %d", null,
+                new Date());
+
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            daoMock.when(PlayerRoleDao::getAllRoles).thenReturn(List.of(data));
+
+            assertTrue(RoleRegistry.load());
+
+            RoleGreeting greeting = RoleRegistry.getGreeting(6);
+            assertSame(data, greeting.getRoleData());
+            assertEquals("[管理者@TestServer] Steve", greeting.getLoginTemplate().render("Steve"));
+            assertEquals("bye Steve", greeting.getLogoutTemplate().render("Steve"));
+            assertEquals("default kick Steve", greeting.getKickTemplate().render("Steve"));
+            assertEquals("default ban Steve", greeting.getBanTemplate().render("Steve"));
+            assertNull(RoleRegistry.getGreeting(7));
+            logMock.verify(() -> LogWriter.writeWarn(contains("kick_text")), times(1));
+        }
+    }
+
+    /**
+     * 負のロールIDが含まれる場合は無視される場合
+     */
+    @Test
+    void testLoad_SkipsNegativeRoleId() {
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            daoMock.when(PlayerRoleDao::getAllRoles).thenReturn(List.of(role(-1), role(0)));
+
+            assertTrue(RoleRegistry.load());
+
+            assertTrue(RoleRegistry.isValid(0));
+            logMock.verify(() -> LogWriter.writeWarn(contains("負のロールID")));
+        }
+    }
+
+    /**
+     * ロール一覧を取得できない場合は既存の内容を保持する場合
+     */
+    @Test
+    void testLoad_KeepsCurrent_WhenEmpty() {
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            daoMock.when(PlayerRoleDao::getAllRoles).thenReturn(List.of(role(2)));
+            RoleRegistry.load();
+
+            daoMock.when(PlayerRoleDao::getAllRoles).thenReturn(List.of());
+            assertFalse(RoleRegistry.load());
+
+            assertTrue(RoleRegistry.isValid(2));
+            logMock.verify(() -> LogWriter.writeWarn(contains("既存の内容を保持")));
+        }
+    }
+
+    /**
+     * 最終更新日時が変わらない場合は再読み込みしない場合
+     */
+    @Test
+    void testRefreshIfChanged_Unchanged() {
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<LogWriter> _ = mockStatic(LogWriter.class)) {
+            daoMock.when(PlayerRoleDao::findRolesLastUpdated).thenReturn(new Date(2000));
+            daoMock.when(PlayerRoleDao::getAllRoles).thenReturn(List.of(role(1)));
+            RoleRegistry.load();
+
+            assertFalse(RoleRegistry.refreshIfChanged());
+            daoMock.verify(PlayerRoleDao::getAllRoles, times(1));
+        }
+    }
+
+    /**
+     * 最終更新日時が取得できない場合は再読み込みしない場合
+     */
+    @Test
+    void testRefreshIfChanged_VersionUnavailable() {
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class)) {
+            daoMock.when(PlayerRoleDao::findRolesLastUpdated).thenReturn(null);
+
+            assertFalse(RoleRegistry.refreshIfChanged());
+            daoMock.verify(PlayerRoleDao::getAllRoles, never());
+        }
+    }
+
+    /**
+     * 最終更新日時が変わった場合は再読み込みする場合
+     */
+    @Test
+    void testRefreshIfChanged_Changed() {
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            daoMock.when(PlayerRoleDao::findRolesLastUpdated).thenReturn(new Date(3000));
+            daoMock.when(PlayerRoleDao::getAllRoles).thenReturn(List.of(role(1)));
+            RoleRegistry.load();
+
+            daoMock.when(PlayerRoleDao::findRolesLastUpdated).thenReturn(new Date(4000));
+            daoMock.when(PlayerRoleDao::getAllRoles).thenReturn(List.of(role(1), role(5)));
+
+            assertTrue(RoleRegistry.refreshIfChanged());
+            assertTrue(RoleRegistry.isValid(5));
+            logMock.verify(() -> LogWriter.writeInfo(contains("更新を検知")));
+        }
+    }
+
+    /**
+     * 起動時に読み込みと定期確認の登録が行われる場合
+     */
+    @Test
+    void testStart_LoadsAndSchedules() {
+        Main plugin = mock(Main.class);
+        BukkitScheduler scheduler = mock(BukkitScheduler.class);
+
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<Main> mainMock = mockStatic(Main.class);
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class);
+                MockedStatic<LogWriter> _ = mockStatic(LogWriter.class)) {
+            daoMock.when(PlayerRoleDao::getAllRoles).thenReturn(List.of(role(3)));
+            configMock.when(ConfigManager::getRoleRefreshIntervalSeconds).thenReturn(60);
+            mainMock.when(Main::getInstance).thenReturn(plugin);
+            bukkitMock.when(Bukkit::getScheduler).thenReturn(scheduler);
+
+            RoleRegistry.start();
+
+            assertTrue(RoleRegistry.isValid(3));
+            ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+            verify(scheduler).runTaskTimerAsynchronously(eq(plugin), task.capture(), eq(1200L), eq(1200L));
+
+            task.getValue().run();
+            daoMock.verify(PlayerRoleDao::findRolesLastUpdated, times(2));
+        }
+    }
+
+    /**
+     * 再読み込みで更新確認間隔が変わった場合
+     */
+    @Test
+    void testReschedule_WhenIntervalChanged() {
+        Main plugin = mock(Main.class);
+        BukkitScheduler scheduler = mock(BukkitScheduler.class);
+        BukkitTask task = mock(BukkitTask.class);
+
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<Main> mainMock = mockStatic(Main.class);
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class);
+                MockedStatic<LogWriter> _ = mockStatic(LogWriter.class)) {
+            daoMock.when(PlayerRoleDao::getAllRoles).thenReturn(List.of(role(3)));
+            configMock.when(ConfigManager::getRoleRefreshIntervalSeconds).thenReturn(60);
+            mainMock.when(Main::getInstance).thenReturn(plugin);
+            bukkitMock.when(Bukkit::getScheduler).thenReturn(scheduler);
+            when(scheduler.runTaskTimerAsynchronously(eq(plugin), any(Runnable.class), anyLong(), anyLong()))
+                    .thenReturn(task);
+            RoleRegistry.start();
+
+            configMock.when(ConfigManager::getRoleRefreshIntervalSeconds).thenReturn(30);
+            RoleRegistry.reschedule();
+
+            verify(task).cancel();
+            verify(scheduler).runTaskTimerAsynchronously(eq(plugin), any(Runnable.class), eq(600L), eq(600L));
+        }
+    }
+
+    /**
+     * テスト用のRoleDataを生成
+     * 
+     * @param roleId ロールID
+     * @return RoleData
+     */
+    private static RoleData role(int roleId) {
+        return new RoleData(roleId, roleId, "role" + roleId, "login", "logout", "kick", "ban", new Date());
+    }
+
+}
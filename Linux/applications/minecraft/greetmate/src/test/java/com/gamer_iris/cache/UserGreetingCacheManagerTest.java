@@ -5,6 +5,20 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   ロール情報をRoleRegistryから取得
+# V-003      : 2026/10/18                 Gamer-Iris   取得済みPlayerDataからのキャッシュ構築を追加
+# V-004      : 2026/10/18                 Gamer-Iris   解析済みテンプレートを保持
+# V-005      : 2026/10/18                 Gamer-Iris   参照結果の計測を追加
+# V-006      : 2026/10/18                 Gamer-Iris   同一UUIDの同時読み込みを1回に集約
+# V-007      : 2026/10/18                 Gamer-Iris   キャッシュ件数の上限と期限切れ・ログアウト済みエントリの定期掃除を追加
+# V-008      : 2026/10/18                 Gamer-Iris   有効期限をSystem.nanoTime基準の期限時刻で判定
+# V-009      : 2026/10/18                 Gamer-Iris   設定の再読み込み時に実行間隔の変更へ追従
+# V-010      : 2026/10/18                 Gamer-Iris   エントリはロールIDのみを保持し、挨拶メッセージはRoleRegistryの共有インスタンスを参照
+# V-011      : 2026/10/18                 Gamer-Iris   エントリ削除の有無を返却
+# V-012      : 2026/10/18                 Gamer-Iris   管理コマンドの実行可否キャッシュへの登録を追加
+# V-013      : 2026/10/18                 Gamer-Iris   削除対象の走査位置が前回の続きから再開されることのテストを追加
+# V-014      : 2026/10/18                 Gamer-Iris   定期掃除で管理コマンドの実行可否キャッシュの期限切れエントリも削除されることを確認
+# V-015      : 2026/10/18                 Gamer-Iris   playersテーブルに登録が無かった結果を一定時間保持することのテストを追加
 # 
 ######################################################################################################################################################
 */
@@ -13,15 +27,23 @@ package com.gamer_iris.cache;
 import com.gamer_iris.Main;
 import com.gamer_iris.config.ConfigManager;
 import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.metrics.MetricsRegistry;
 import com.gamer_iris.model.PlayerData;
-import com.gamer_iris.model.RoleData;
+import com.gamer_iris.notification.GreetingTemplate;
 import com.gamer_iris.repository.PlayerRoleDao;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
 import org.junit.jupiter.api.*;
 import org.mockito.MockedStatic;
 import java.io.File;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -29,9 +51,11 @@ import static org.mockito.Mockito.*;
  */
 class UserGreetingCacheManagerTest {
 
+    private static final long EXPIRE_NANOS = 60_000_000_000L;
+
     private UUID uuid;
     private PlayerData playerData;
-    private RoleData roleData;
+    private RoleGreeting greeting;
     private static MockedStatic<ConfigManager> configMock;
     private static MockedStatic<LogWriter> logMock;
     private static MockedStatic<Main> mainMock;
@@ -46,7 +70,9 @@ class UserGreetingCacheManagerTest {
         when(dummyMain.getDataFolder()).thenReturn(new File("build/tmp/test-logs"));
         mainMock.when(Main::getInstance).thenReturn(dummyMain);
         configMock = mockStatic(ConfigManager.class);
-        configMock.when(ConfigManager::getCacheExpireSeconds).thenReturn(60);
+        configMock.when(ConfigManager::getCacheExpireNanos).thenReturn(EXPIRE_NANOS);
+        configMock.when(ConfigManager::getCacheMaximumSize).thenReturn(10000);
+        configMock.when(ConfigManager::getCacheOfflineRetentionSeconds).thenReturn(600);
         logMock = mockStatic(LogWriter.class);
     }
 
@@ -61,13 +87,15 @@ class UserGreetingCacheManagerTest {
     }
 
     /**
-     * UUID初期化
+     * UUID初期化（他のテストで変更した有効期限も戻す）
      */
     @BeforeEach
     void setUp() {
+        configMock.when(ConfigManager::getCacheExpireNanos).thenReturn(EXPIRE_NANOS);
+        configMock.when(ConfigManager::getCacheNotFoundTtlSeconds).thenReturn(0);
         uuid = UUID.randomUUID();
         playerData = mock(PlayerData.class);
-        roleData = mock(RoleData.class);
+        greeting = mock(RoleGreeting.class);
     }
 
     /**
@@ -93,13 +121,14 @@ class UserGreetingCacheManagerTest {
     @Test
     void testContains_WhenEntryIsExpired() throws InterruptedException {
         UUID testUuid = UUID.randomUUID();
-        configMock.when(ConfigManager::getCacheExpireSeconds).thenReturn(0);
+        configMock.when(ConfigManager::getCacheExpireNanos).thenReturn(0L);
 
-        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class)) {
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
             when(playerData.getRole()).thenReturn(1);
-            when(roleData.getLoginText()).thenReturn("expired");
+            when(greeting.getLoginTemplate()).thenReturn(GreetingTemplate.compile("expired", null, null));
             daoMock.when(() -> PlayerRoleDao.findPlayerByUUID(testUuid)).thenReturn(playerData);
-            daoMock.when(() -> PlayerRoleDao.findRoleByRoleId(1)).thenReturn(roleData);
+            registryMock.when(() -> RoleRegistry.getGreeting(1)).thenReturn(greeting);
 
             UserGreetingCacheManager.buildAndCache(testUuid);
             Thread.sleep(1500);
@@ -114,22 +143,88 @@ class UserGreetingCacheManagerTest {
     @Test
     void testBuildAndCache_Success() {
         when(playerData.getRole()).thenReturn(1);
-        when(roleData.getLoginText()).thenReturn("ようこそ！");
-        when(roleData.getLogoutText()).thenReturn("またね！");
-        when(roleData.getKickText()).thenReturn("キックされたよ！");
-        when(roleData.getBanText()).thenReturn("BANされました。");
+        when(greeting.getLoginTemplate()).thenReturn(GreetingTemplate.compile("ようこそ！", null, null));
+        when(greeting.getLogoutTemplate()).thenReturn(GreetingTemplate.compile("またね！", null, null));
+        when(greeting.getKickTemplate()).thenReturn(GreetingTemplate.compile("キックされたよ！", null, null));
+        when(greeting.getBanTemplate()).thenReturn(GreetingTemplate.compile("BANされました。", null, null));
 
-        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class)) {
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
             daoMock.when(() -> PlayerRoleDao.findPlayerByUUID(uuid)).thenReturn(playerData);
-            daoMock.when(() -> PlayerRoleDao.findRoleByRoleId(1)).thenReturn(roleData);
+            registryMock.when(() -> RoleRegistry.getGreeting(1)).thenReturn(greeting);
 
             UserGreetingCacheManager.buildAndCache(uuid);
 
             assertTrue(UserGreetingCacheManager.contains(uuid));
-            assertEquals("ようこそ！", UserGreetingCacheManager.getLoginText(uuid));
-            assertEquals("またね！", UserGreetingCacheManager.getLogoutText(uuid));
-            assertEquals("キックされたよ！", UserGreetingCacheManager.getKickText(uuid));
-            assertEquals("BANされました。", UserGreetingCacheManager.getBanText(uuid));
+            assertTrue(AdminAuthorizationCache.remove(uuid));
+            assertEquals("ようこそ！", UserGreetingCacheManager.getLoginTemplate(uuid).render("Steve"));
+            assertEquals("またね！", UserGreetingCacheManager.getLogoutTemplate(uuid).render("Steve"));
+            assertEquals("キックされたよ！", UserGreetingCacheManager.getKickTemplate(uuid).render("Steve"));
+            assertEquals("BANされました。", UserGreetingCacheManager.getBanTemplate(uuid).render("Steve"));
+        }
+    }
+
+    /**
+     * キャッシュ後にロールの文言が変わった場合、再構築せずに新しい文言が返される場合
+     */
+    @Test
+    void testGetTemplate_ReflectsRoleUpdateWithoutRebuild() {
+        RoleGreeting updated = mock(RoleGreeting.class);
+        when(greeting.getLoginTemplate()).thenReturn(GreetingTemplate.compile("旧", null, null));
+        when(updated.getLoginTemplate()).thenReturn(GreetingTemplate.compile("新", null, null));
+        when(playerData.getUuid()).thenReturn(uuid);
+        when(playerData.getRole()).thenReturn(1);
+
+        try (MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
+            registryMock.when(() -> RoleRegistry.getGreeting(1)).thenReturn(greeting);
+            assertTrue(UserGreetingCacheManager.buildAndCache(playerData));
+            assertEquals("旧", UserGreetingCacheManager.getLoginTemplate(uuid).render("Steve"));
+
+            registryMock.when(() -> RoleRegistry.getGreeting(1)).thenReturn(updated);
+
+            assertEquals("新", UserGreetingCacheManager.getLoginTemplate(uuid).render("Steve"));
+        }
+    }
+
+    /**
+     * キャッシュ後にロールが削除された場合
+     */
+    @Test
+    void testGetTemplate_WhenRoleRemovedAfterCaching() {
+        when(playerData.getUuid()).thenReturn(uuid);
+        when(playerData.getRole()).thenReturn(1);
+
+        try (MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
+            registryMock.when(() -> RoleRegistry.getGreeting(1)).thenReturn(greeting);
+            assertTrue(UserGreetingCacheManager.buildAndCache(playerData));
+
+            registryMock.when(() -> RoleRegistry.getGreeting(1)).thenReturn(null);
+
+            assertNull(UserGreetingCacheManager.getLoginTemplate(uuid));
+            assertNull(UserGreetingCacheManager.getLogoutTemplate(uuid));
+            assertNull(UserGreetingCacheManager.getKickTemplate(uuid));
+            assertNull(UserGreetingCacheManager.getBanTemplate(uuid));
+        }
+    }
+
+    /**
+     * 取得済みのPlayerDataからDBを参照せずにキャッシュを保持できる場合
+     */
+    @Test
+    void testBuildAndCache_FromPlayerData() {
+        when(playerData.getUuid()).thenReturn(uuid);
+        when(playerData.getRole()).thenReturn(1);
+        when(greeting.getLoginTemplate()).thenReturn(GreetingTemplate.compile("取得済み", null, null));
+
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
+            registryMock.when(() -> RoleRegistry.getGreeting(1)).thenReturn(greeting);
+
+            assertTrue(UserGreetingCacheManager.buildAndCache(playerData));
+
+            assertEquals("取得済み", UserGreetingCacheManager.getLoginTemplate(uuid).render("Steve"));
+            assertTrue(AdminAuthorizationCache.remove(uuid));
+            daoMock.verifyNoInteractions();
         }
     }
 
@@ -138,16 +233,147 @@ class UserGreetingCacheManagerTest {
      */
     @Test
     void testBuildAndCache_PlayerNotFound() {
-        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class)) {
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
             daoMock.when(() -> PlayerRoleDao.findPlayerByUUID(uuid)).thenReturn(null);
 
             UserGreetingCacheManager.buildAndCache(uuid);
 
             assertFalse(UserGreetingCacheManager.contains(uuid));
+            assertTrue(AdminAuthorizationCache.remove(uuid));
             logMock.verify(() -> LogWriter.writeWarn(contains("UUIDからプレイヤーが見つかりませんでした")), times(1));
         }
     }
 
+    /**
+     * 未登録と判明したプレイヤーは保持時間内であればDBを再参照せず、削除後は再参照する場合
+     */
+    @Test
+    void testBuildAndCache_SkipsLoadWhileKnownNotFound() {
+        configMock.when(ConfigManager::getCacheNotFoundTtlSeconds).thenReturn(30);
+
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
+            daoMock.when(() -> PlayerRoleDao.findPlayerByUUID(uuid)).thenReturn(null);
+
+            UserGreetingCacheManager.buildAndCache(uuid);
+            UserGreetingCacheManager.buildAndCache(uuid);
+            daoMock.verify(() -> PlayerRoleDao.findPlayerByUUID(uuid), times(1));
+
+            UserGreetingCacheManager.remove(uuid);
+            UserGreetingCacheManager.buildAndCache(uuid);
+            daoMock.verify(() -> PlayerRoleDao.findPlayerByUUID(uuid), times(2));
+        }
+    }
+
+    /**
+     * 未登録として扱う期間を過ぎた場合はDBを再参照し、掃除で記録が削除される場合
+     */
+    @Test
+    void testBuildAndCache_ReloadsAfterNotFoundExpired() {
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
+            daoMock.when(() -> PlayerRoleDao.findPlayerByUUID(uuid)).thenReturn(null);
+
+            UserGreetingCacheManager.buildAndCache(uuid);
+            UserGreetingCacheManager.buildAndCache(uuid);
+            UserGreetingCacheManager.sweep();
+            UserGreetingCacheManager.buildAndCache(uuid);
+
+            daoMock.verify(() -> PlayerRoleDao.findPlayerByUUID(uuid), times(3));
+        }
+    }
+
+    /**
+     * 未登録と判明した後にプレイヤー情報からキャッシュを構築した場合は未登録の記録が解除される場合
+     */
+    @Test
+    void testBuildAndCache_FromPlayerDataClearsNotFound() {
+        configMock.when(ConfigManager::getCacheNotFoundTtlSeconds).thenReturn(30);
+        when(playerData.getUuid()).thenReturn(uuid);
+        when(playerData.getRole()).thenReturn(1);
+
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
+            registryMock.when(() -> RoleRegistry.getGreeting(1)).thenReturn(greeting);
+            daoMock.when(() -> PlayerRoleDao.findPlayerByUUID(uuid)).thenReturn(null);
+            UserGreetingCacheManager.buildAndCache(uuid);
+
+            UserGreetingCacheManager.buildAndCache(playerData);
+
+            assertTrue(UserGreetingCacheManager.contains(uuid));
+        }
+    }
+
+    /**
+     * 有効なキャッシュがある場合はDBを参照しない場合
+     */
+    @Test
+    void testBuildAndCache_SkipsLoadWhenCached() {
+        when(playerData.getUuid()).thenReturn(uuid);
+        when(playerData.getRole()).thenReturn(1);
+
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
+            registryMock.when(() -> RoleRegistry.getGreeting(1)).thenReturn(greeting);
+            UserGreetingCacheManager.buildAndCache(playerData);
+
+            UserGreetingCacheManager.buildAndCache(uuid);
+
+            daoMock.verifyNoInteractions();
+        }
+    }
+
+    /**
+     * 同じUUIDの読み込み中に呼ばれた場合、DBを参照せず先行する読み込みの完了を待つ場合
+     */
+    @Test
+    void testBuildAndCache_ConcurrentCallsShareSingleLoad() throws Exception {
+        when(playerData.getRole()).thenReturn(1);
+        when(greeting.getLoginTemplate()).thenReturn(GreetingTemplate.compile("共有", null, null));
+        AtomicBoolean cachedForFollower = new AtomicBoolean();
+        Thread follower = new Thread(() -> {
+            UserGreetingCacheManager.buildAndCache(uuid);
+            cachedForFollower.set(UserGreetingCacheManager.contains(uuid));
+        });
+
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
+            registryMock.when(() -> RoleRegistry.getGreeting(1)).thenReturn(greeting);
+            daoMock.when(() -> PlayerRoleDao.findPlayerByUUID(uuid)).thenAnswer(_ -> {
+                follower.start();
+                while (follower.getState() != Thread.State.WAITING) {
+                    Thread.onSpinWait();
+                }
+                return playerData;
+            });
+
+            UserGreetingCacheManager.buildAndCache(uuid);
+            follower.join(5000);
+
+            assertFalse(follower.isAlive());
+            assertTrue(cachedForFollower.get());
+            assertEquals("共有", UserGreetingCacheManager.getLoginTemplate(uuid).render("Steve"));
+            daoMock.verify(() -> PlayerRoleDao.findPlayerByUUID(uuid), times(1));
+        }
+    }
+
+    /**
+     * 読み込み中に例外が発生しても待機中の呼び出しが解放され、次回は再度読み込む場合
+     */
+    @Test
+    void testBuildAndCache_ReleasesFlightOnFailure() {
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
+            daoMock.when(() -> PlayerRoleDao.findPlayerByUUID(uuid)).thenThrow(new IllegalStateException("boom"));
+
+            assertThrows(IllegalStateException.class, () -> UserGreetingCacheManager.buildAndCache(uuid));
+            assertThrows(IllegalStateException.class, () -> UserGreetingCacheManager.buildAndCache(uuid));
+
+            daoMock.verify(() -> PlayerRoleDao.findPlayerByUUID(uuid), times(2));
+        }
+    }
+
     /**
      * ロール情報が見つからない場合
      */
@@ -155,9 +381,10 @@ class UserGreetingCacheManagerTest {
     void testBuildAndCache_RoleNotFound() {
         when(playerData.getRole()).thenReturn(99);
 
-        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class)) {
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
             daoMock.when(() -> PlayerRoleDao.findPlayerByUUID(uuid)).thenReturn(playerData);
-            daoMock.when(() -> PlayerRoleDao.findRoleByRoleId(99)).thenReturn(null);
+            registryMock.when(() -> RoleRegistry.getGreeting(99)).thenReturn(null);
 
             UserGreetingCacheManager.buildAndCache(uuid);
 
@@ -166,143 +393,402 @@ class UserGreetingCacheManagerTest {
         }
     }
 
+    /**
+     * キャッシュの参照結果がヒット・ミス・期限切れとして計上される場合
+     */
+    @Test
+    void testLookup_CountsHitMissAndExpired() {
+        when(playerData.getUuid()).thenReturn(uuid);
+        when(playerData.getRole()).thenReturn(1);
+
+        try (MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class);
+                MockedStatic<MetricsRegistry> metricsMock = mockStatic(MetricsRegistry.class)) {
+            registryMock.when(() -> RoleRegistry.getGreeting(1)).thenReturn(greeting);
+
+            assertFalse(UserGreetingCacheManager.contains(uuid));
+            UserGreetingCacheManager.buildAndCache(playerData);
+            assertTrue(UserGreetingCacheManager.contains(uuid));
+            configMock.when(ConfigManager::getCacheExpireNanos).thenReturn(-1L);
+            UserGreetingCacheManager.buildAndCache(playerData);
+            assertNull(UserGreetingCacheManager.getBanTemplate(uuid));
+
+            metricsMock.verify(() -> MetricsRegistry.countCacheLookup("miss"));
+            metricsMock.verify(() -> MetricsRegistry.countCacheLookup("hit"));
+            metricsMock.verify(() -> MetricsRegistry.countCacheLookup("expired"));
+        } finally {
+            configMock.when(ConfigManager::getCacheExpireNanos).thenReturn(EXPIRE_NANOS);
+        }
+    }
+
     /**
      * キャッシュを削除する場合
      */
     @Test
     void testRemove_RemovesCacheEntry() {
-        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class)) {
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
             when(playerData.getRole()).thenReturn(1);
-            when(roleData.getLoginText()).thenReturn("削除対象");
+            when(greeting.getLoginTemplate()).thenReturn(GreetingTemplate.compile("削除対象", null, null));
             daoMock.when(() -> PlayerRoleDao.findPlayerByUUID(uuid)).thenReturn(playerData);
-            daoMock.when(() -> PlayerRoleDao.findRoleByRoleId(1)).thenReturn(roleData);
+            registryMock.when(() -> RoleRegistry.getGreeting(1)).thenReturn(greeting);
 
             UserGreetingCacheManager.buildAndCache(uuid);
             assertTrue(UserGreetingCacheManager.contains(uuid));
 
-            UserGreetingCacheManager.remove(uuid);
+            assertTrue(UserGreetingCacheManager.remove(uuid));
             assertFalse(UserGreetingCacheManager.contains(uuid));
+            assertFalse(UserGreetingCacheManager.remove(uuid));
         }
     }
 
     /**
-     * getLoginText: キャッシュなしの場合の挙動
+     * getLoginTemplate: キャッシュなしの場合の挙動
      */
     @Test
     void testGetLoginText_WhenNoCacheEntry() {
         UUID testUuid = UUID.randomUUID();
-        assertNull(UserGreetingCacheManager.getLoginText(testUuid));
+        assertNull(UserGreetingCacheManager.getLoginTemplate(testUuid));
     }
 
     /**
-     * getLoginText: キャッシュが期限切れの場合の挙動
+     * getLoginTemplate: キャッシュが期限切れの場合の挙動
      */
     @Test
     void testGetLoginText_WhenCacheIsExpired() throws Exception {
         UUID testUuid = UUID.randomUUID();
-        configMock.when(ConfigManager::getCacheExpireSeconds).thenReturn(0);
+        configMock.when(ConfigManager::getCacheExpireNanos).thenReturn(0L);
 
-        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class)) {
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
             when(playerData.getRole()).thenReturn(1);
-            when(roleData.getLoginText()).thenReturn("expired");
+            when(greeting.getLoginTemplate()).thenReturn(GreetingTemplate.compile("expired", null, null));
             daoMock.when(() -> PlayerRoleDao.findPlayerByUUID(testUuid)).thenReturn(playerData);
-            daoMock.when(() -> PlayerRoleDao.findRoleByRoleId(1)).thenReturn(roleData);
+            registryMock.when(() -> RoleRegistry.getGreeting(1)).thenReturn(greeting);
 
             UserGreetingCacheManager.buildAndCache(testUuid);
             Thread.sleep(1500);
 
-            assertNull(UserGreetingCacheManager.getLoginText(testUuid));
+            assertNull(UserGreetingCacheManager.getLoginTemplate(testUuid));
         }
     }
 
     /**
-     * getLogoutText: キャッシュなしの場合の挙動
+     * getLogoutTemplate: キャッシュなしの場合の挙動
      */
     @Test
     void testGetLogoutText_WhenNoCacheEntry() {
         UUID testUuid = UUID.randomUUID();
-        assertNull(UserGreetingCacheManager.getLogoutText(testUuid));
+        assertNull(UserGreetingCacheManager.getLogoutTemplate(testUuid));
     }
 
     /**
-     * getLogoutText: キャッシュが期限切れの場合の挙動
+     * getLogoutTemplate: キャッシュが期限切れの場合の挙動
      */
     @Test
     void testGetLogoutText_WhenCacheIsExpired() throws Exception {
         UUID testUuid = UUID.randomUUID();
-        configMock.when(ConfigManager::getCacheExpireSeconds).thenReturn(0);
+        configMock.when(ConfigManager::getCacheExpireNanos).thenReturn(0L);
 
-        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class)) {
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
             when(playerData.getRole()).thenReturn(1);
-            when(roleData.getLogoutText()).thenReturn("expired");
+            when(greeting.getLogoutTemplate()).thenReturn(GreetingTemplate.compile("expired", null, null));
             daoMock.when(() -> PlayerRoleDao.findPlayerByUUID(testUuid)).thenReturn(playerData);
-            daoMock.when(() -> PlayerRoleDao.findRoleByRoleId(1)).thenReturn(roleData);
+            registryMock.when(() -> RoleRegistry.getGreeting(1)).thenReturn(greeting);
 
             UserGreetingCacheManager.buildAndCache(testUuid);
             Thread.sleep(1500);
 
-            assertNull(UserGreetingCacheManager.getLogoutText(testUuid));
+            assertNull(UserGreetingCacheManager.getLogoutTemplate(testUuid));
         }
     }
 
     /**
-     * getKickText: キャッシュなしの場合の挙動
+     * getKickTemplate: キャッシュなしの場合の挙動
      */
     @Test
     void testGetKickText_WhenNoCacheEntry() {
         UUID testUuid = UUID.randomUUID();
-        assertNull(UserGreetingCacheManager.getKickText(testUuid));
+        assertNull(UserGreetingCacheManager.getKickTemplate(testUuid));
     }
 
     /**
-     * getKickText: キャッシュが期限切れの場合の挙動
+     * getKickTemplate: キャッシュが期限切れの場合の挙動
      */
     @Test
     void testGetKickText_WhenCacheIsExpired() throws Exception {
         UUID testUuid = UUID.randomUUID();
-        configMock.when(ConfigManager::getCacheExpireSeconds).thenReturn(0);
+        configMock.when(ConfigManager::getCacheExpireNanos).thenReturn(0L);
 
-        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class)) {
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
             when(playerData.getRole()).thenReturn(1);
-            when(roleData.getKickText()).thenReturn("expired");
+            when(greeting.getKickTemplate()).thenReturn(GreetingTemplate.compile("expired", null, null));
             daoMock.when(() -> PlayerRoleDao.findPlayerByUUID(testUuid)).thenReturn(playerData);
-            daoMock.when(() -> PlayerRoleDao.findRoleByRoleId(1)).thenReturn(roleData);
+            registryMock.when(() -> RoleRegistry.getGreeting(1)).thenReturn(greeting);
 
             UserGreetingCacheManager.buildAndCache(testUuid);
             Thread.sleep(1500);
 
-            assertNull(UserGreetingCacheManager.getKickText(testUuid));
+            assertNull(UserGreetingCacheManager.getKickTemplate(testUuid));
         }
     }
 
     /**
-     * getBanText: キャッシュなしの場合の挙動
+     * getBanTemplate: キャッシュなしの場合の挙動
      */
     @Test
     void testGetBanText_WhenNoCacheEntry() {
         UUID testUuid = UUID.randomUUID();
-        assertNull(UserGreetingCacheManager.getBanText(testUuid));
+        assertNull(UserGreetingCacheManager.getBanTemplate(testUuid));
     }
 
     /**
-     * getBanText: キャッシュが期限切れの場合の挙動
+     * getBanTemplate: キャッシュが期限切れの場合の挙動
      */
     @Test
     void testGetBanText_WhenCacheIsExpired() throws Exception {
         UUID testUuid = UUID.randomUUID();
-        configMock.when(ConfigManager::getCacheExpireSeconds).thenReturn(0);
+        configMock.when(ConfigManager::getCacheExpireNanos).thenReturn(0L);
 
-        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class)) {
+        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
             when(playerData.getRole()).thenReturn(1);
-            when(roleData.getBanText()).thenReturn("expired");
+            when(greeting.getBanTemplate()).thenReturn(GreetingTemplate.compile("expired", null, null));
             daoMock.when(() -> PlayerRoleDao.findPlayerByUUID(testUuid)).thenReturn(playerData);
-            daoMock.when(() -> PlayerRoleDao.findRoleByRoleId(1)).thenReturn(roleData);
+            registryMock.when(() -> RoleRegistry.getGreeting(1)).thenReturn(greeting);
 
             UserGreetingCacheManager.buildAndCache(testUuid);
             Thread.sleep(1500);
 
-            assertNull(UserGreetingCacheManager.getBanText(testUuid));
+            assertNull(UserGreetingCacheManager.getBanTemplate(testUuid));
+        }
+    }
+
+    /**
+     * 定期掃除がconfigの間隔でスケジュールされる場合
+     */
+    @Test
+    void testStart_SchedulesSweep() {
+        BukkitScheduler scheduler = mock(BukkitScheduler.class);
+        configMock.when(ConfigManager::getCacheSweepIntervalSeconds).thenReturn(60);
+
+        try (MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class)) {
+            bukkitMock.when(Bukkit::getScheduler).thenReturn(scheduler);
+
+            UserGreetingCacheManager.start();
+
+            verify(scheduler).runTaskTimerAsynchronously(eq(Main.getInstance()), any(Runnable.class), eq(1200L),
+                    eq(1200L));
         }
     }
 
+    /**
+     * 再読み込みで掃除間隔が変わった場合
+     */
+    @Test
+    void testReschedule_WhenSweepIntervalChanged() {
+        BukkitScheduler scheduler = mock(BukkitScheduler.class);
+        BukkitTask task = mock(BukkitTask.class);
+        configMock.when(ConfigManager::getCacheSweepIntervalSeconds).thenReturn(60);
+
+        try (MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class)) {
+            bukkitMock.when(Bukkit::getScheduler).thenReturn(scheduler);
+            when(scheduler.runTaskTimerAsynchronously(eq(Main.getInstance()), any(Runnable.class), anyLong(),
+                    anyLong())).thenReturn(task);
+            UserGreetingCacheManager.start();
+
+            configMock.when(ConfigManager::getCacheSweepIntervalSeconds).thenReturn(30);
+            UserGreetingCacheManager.reschedule();
+
+            verify(task).cancel();
+            verify(scheduler).runTaskTimerAsynchronously(eq(Main.getInstance()), any(Runnable.class), eq(600L),
+                    eq(600L));
+        } finally {
+            configMock.when(ConfigManager::getCacheSweepIntervalSeconds).thenReturn(60);
+        }
+    }
+
+    /**
+     * 期限切れのエントリが掃除で削除される場合
+     */
+    @Test
+    void testSweep_RemovesExpiredEntries() {
+        try (MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
+            registryMock.when(() -> RoleRegistry.getGreeting(1)).thenReturn(greeting);
+            configMock.when(ConfigManager::getCacheExpireNanos).thenReturn(-1L);
+            try {
+                cache(uuid);
+                assertTrue(UserGreetingCacheManager.sweep() >= 1);
+            } finally {
+                configMock.when(ConfigManager::getCacheExpireNanos).thenReturn(EXPIRE_NANOS);
+            }
+
+            assertFalse(UserGreetingCacheManager.contains(uuid));
+            assertEquals(0, AdminAuthorizationCache.size());
+            logMock.verify(() -> LogWriter.writeInfo(contains("キャッシュを掃除しました")), atLeastOnce());
+        }
+    }
+
+    /**
+     * ログアウト後の保持時間を過ぎたエントリのみ掃除で削除される場合
+     */
+    @Test
+    void testSweep_RemovesOfflineEntriesAfterRetention() {
+        UUID online = UUID.randomUUID();
+
+        try (MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
+            registryMock.when(() -> RoleRegistry.getGreeting(1)).thenReturn(greeting);
+            configMock.when(ConfigManager::getCacheExpireNanos).thenReturn(EXPIRE_NANOS);
+            cache(uuid);
+            cache(online);
+
+            UserGreetingCacheManager.markOffline(uuid);
+            UserGreetingCacheManager.markOffline(online);
+            UserGreetingCacheManager.markOnline(online);
+            UserGreetingCacheManager.markOffline(UUID.randomUUID());
+            UserGreetingCacheManager.markOnline(UUID.randomUUID());
+
+            configMock.when(ConfigManager::getCacheOfflineRetentionSeconds).thenReturn(3600);
+            UserGreetingCacheManager.sweep();
+            assertTrue(UserGreetingCacheManager.contains(uuid));
+
+            configMock.when(ConfigManager::getCacheOfflineRetentionSeconds).thenReturn(0);
+            try {
+                UserGreetingCacheManager.sweep();
+            } finally {
+                configMock.when(ConfigManager::getCacheOfflineRetentionSeconds).thenReturn(600);
+            }
+
+            assertFalse(UserGreetingCacheManager.contains(uuid));
+            assertTrue(UserGreetingCacheManager.contains(online));
+        }
+    }
+
+    /**
+     * 削除対象が無い場合は掃除のログを出力しない場合
+     */
+    @Test
+    void testSweep_NothingToRemove() {
+        configMock.when(ConfigManager::getCacheExpireNanos).thenReturn(EXPIRE_NANOS);
+        UserGreetingCacheManager.clear();
+        logMock.clearInvocations();
+
+        assertEquals(0, UserGreetingCacheManager.sweep());
+
+        logMock.verify(() -> LogWriter.writeInfo(contains("キャッシュを掃除しました")), never());
+    }
+
+    /**
+     * 最大件数を超えた場合、参照頻度の低いエントリから削除される場合
+     */
+    @Test
+    void testEviction_PrefersLessFrequentlyUsedEntries() {
+        UUID hot = UUID.randomUUID();
+        UUID cold = UUID.randomUUID();
+        UUID added = UUID.randomUUID();
+
+        try (MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
+            registryMock.when(() -> RoleRegistry.getGreeting(1)).thenReturn(greeting);
+            configMock.when(ConfigManager::getCacheExpireNanos).thenReturn(EXPIRE_NANOS);
+            UserGreetingCacheManager.clear();
+            configMock.when(ConfigManager::getCacheMaximumSize).thenReturn(2);
+            try {
+                cache(hot);
+                cache(cold);
+                for (int i = 0; i < 5; i++) {
+                    UserGreetingCacheManager.getLoginTemplate(hot);
+                }
+
+                cache(added);
+            } finally {
+                configMock.when(ConfigManager::getCacheMaximumSize).thenReturn(10000);
+            }
+
+            assertEquals(2, UserGreetingCacheManager.size());
+            assertTrue(UserGreetingCacheManager.contains(hot));
+        }
+    }
+
+    /**
+     * 最大件数を超えた場合、ログアウト済みのエントリが優先して削除される場合
+     */
+    @Test
+    void testEviction_PrefersOfflineEntries() {
+        UUID online = UUID.randomUUID();
+        UUID offline = UUID.randomUUID();
+        UUID added = UUID.randomUUID();
+
+        try (MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
+            registryMock.when(() -> RoleRegistry.getGreeting(1)).thenReturn(greeting);
+            configMock.when(ConfigManager::getCacheExpireNanos).thenReturn(EXPIRE_NANOS);
+            UserGreetingCacheManager.clear();
+            configMock.when(ConfigManager::getCacheMaximumSize).thenReturn(2);
+            try {
+                cache(online);
+                cache(offline);
+                UserGreetingCacheManager.markOffline(offline);
+
+                cache(added);
+            } finally {
+                configMock.when(ConfigManager::getCacheMaximumSize).thenReturn(10000);
+            }
+
+            assertEquals(2, UserGreetingCacheManager.size());
+            assertFalse(UserGreetingCacheManager.contains(offline));
+            assertTrue(UserGreetingCacheManager.contains(online));
+            assertTrue(UserGreetingCacheManager.contains(added));
+        }
+    }
+
+    /**
+     * 最大件数を超えるたびに、走査位置が先頭に戻らず前回の続きから再開される場合
+     */
+    @Test
+    void testEviction_ResumesFromLastPosition() {
+        UUID hot = new UUID(0L, 1L);
+        UUID second = new UUID(0L, 2L);
+        UUID third = new UUID(0L, 3L);
+        UUID fourth = new UUID(0L, 4L);
+        UUID fifth = new UUID(0L, 5L);
+
+        try (MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
+            registryMock.when(() -> RoleRegistry.getGreeting(1)).thenReturn(greeting);
+            configMock.when(ConfigManager::getCacheExpireNanos).thenReturn(EXPIRE_NANOS);
+            UserGreetingCacheManager.clear();
+            configMock.when(ConfigManager::getCacheMaximumSize).thenReturn(2);
+            try {
+                cache(hot);
+                cache(second);
+                for (int i = 0; i < 3; i++) {
+                    UserGreetingCacheManager.getLoginTemplate(hot);
+                }
+
+                cache(third);
+                assertFalse(UserGreetingCacheManager.contains(second));
+                cache(fourth);
+                assertFalse(UserGreetingCacheManager.contains(third));
+                cache(fifth);
+            } finally {
+                configMock.when(ConfigManager::getCacheMaximumSize).thenReturn(10000);
+            }
+
+            assertEquals(2, UserGreetingCacheManager.size());
+            assertTrue(UserGreetingCacheManager.contains(hot));
+            assertFalse(UserGreetingCacheManager.contains(fourth));
+        }
+    }
+
+    /**
+     * 取得済みのプレイヤー情報からキャッシュを登録（RoleRegistry のモック内で呼ぶこと）
+     * 
+     * @param target 対象プレイヤーのUUID
+     */
+    private void cache(UUID target) {
+        PlayerData data = mock(PlayerData.class);
+        when(data.getUuid()).thenReturn(target);
+        when(data.getRole()).thenReturn(1);
+        assertTrue(UserGreetingCacheManager.buildAndCache(data));
+    }
+
 }
@@ -0,0 +1,81 @@
+/*
+######################################################################################################################################################
+# ファイル   : UuidBloomFilterTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.cache;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UuidBloomFilter のユニットテストクラス
+ */
+class UuidBloomFilterTest {
+
+    /**
+     * 登録したUUIDは必ず登録済みと判定される場合
+     */
+    @Test
+    void testMightContain_AddedUuids() {
+        UuidBloomFilter filter = new UuidBloomFilter(1000);
+        List<UUID> added = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            UUID uuid = UUID.randomUUID();
+            filter.add(uuid);
+            added.add(uuid);
+        }
+
+        added.forEach(uuid -> assertTrue(filter.mightContain(uuid)));
+    }
+
+    /**
+     * 想定件数までの登録であれば、未登録のUUIDの誤判定が十分に少ない場合
+     */
+    @Test
+    void testMightContain_FalsePositiveRate() {
+        UuidBloomFilter filter = new UuidBloomFilter(1000);
+        for (int i = 0; i < 1000; i++) {
+            filter.add(UUID.randomUUID());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    /**
+     * 何も登録していない場合は常に未登録と判定される場合
+     */
+    @Test
+    void testMightContain_Empty() {
+        UuidBloomFilter filter = new UuidBloomFilter(0);
+
+        assertFalse(filter.mightContain(UUID.randomUUID()));
+        assertFalse(filter.mightContain(new UUID(0L, 0L)));
+    }
+
+    /**
+     * ビット数が2のべき乗に切り上げられ、最小64ビットとなる場合
+     */
+    @Test
+    void testBitSize() {
+        assertEquals(64, new UuidBloomFilter(0).bitSize());
+        assertEquals(128, new UuidBloomFilter(7).bitSize());
+        assertEquals(16_384, new UuidBloomFilter(1000).bitSize());
+        assertEquals(1024, new UuidBloomFilter(102).bitSize());
+    }
+
+}
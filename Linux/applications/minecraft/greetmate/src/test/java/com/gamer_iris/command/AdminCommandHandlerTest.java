@@ -5,16 +5,45 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   ロール検証をRoleRegistryで実施
+# V-003      : 2026/10/18                 Gamer-Iris   greetmateコマンド（BAN情報の全件再同期）を追加
+# V-004      : 2026/10/18                 Gamer-Iris   greetmateコマンドに設定の再読み込みを追加
+# V-005      : 2026/10/18                 Gamer-Iris   BAN情報の全件再同期をリーダーのサーバーに限定
+# V-006      : 2026/10/18                 Gamer-Iris   ロール変更・BAN時にキャッシュを無効化し他のサーバーへ通知
+# V-007      : 2026/10/18                 Gamer-Iris   コマンドのDB処理を専用スレッドで実行し、実行者ごとの同時実行数を制限
+# V-008      : 2026/10/18                 Gamer-Iris   実行者のロール確認を実行可否キャッシュで実施
+# V-009      : 2026/10/18                 Gamer-Iris   BAN対象のUUIDをプレイヤー名索引から解決
+# V-010      : 2026/10/18                 Gamer-Iris   プレイヤー名・BAN中の名前・ロールIDのタブ補完を追加
+# V-011      : 2026/10/18                 Gamer-Iris   BAN・解除をログイン判定用のBAN一覧へ即時反映
+# V-012      : 2026/10/18                 Gamer-Iris   プレイヤー情報の登録・ロール変更・削除をジャーナル付きの遅延書き込みで反映
+# V-013      : 2026/10/18                 Gamer-Iris   DB障害時のローカルスナップショットの再スケジュールに対応
+# V-014      : 2026/10/18                 Gamer-Iris   BANのDB登録に失敗した場合に中断されることのテストを追加
+# V-015      : 2026/10/18                 Gamer-Iris   補完用のBAN中の名前の更新をBanRegistryへ集約
+# V-016      : 2026/10/18                 Gamer-Iris   ロールが不足している実行者へ成功メッセージが送られないことを確認
+# V-017      : 2026/10/18                 Gamer-Iris   削除したプレイヤー情報の個別登録・ロール更新・削除のスタブと、それらの失敗のみを確認していたテストを削除
 # 
 ######################################################################################################################################################
 */
 package com.gamer_iris.command;
 
 import com.gamer_iris.Main;
+import com.gamer_iris.cache.AdminAuthorizationCache;
+import com.gamer_iris.cache.BanRegistry;
+import com.gamer_iris.cache.CacheInvalidator;
+import com.gamer_iris.cache.PlayerNameIndex;
+import com.gamer_iris.cache.RoleRegistry;
+import com.gamer_iris.cache.UserGreetingCacheManager;
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.exception.CriticalException;
+import com.gamer_iris.logging.LogRotator;
 import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.maintenance.LeaderElection;
+import com.gamer_iris.maintenance.MaintenanceScheduler;
 import com.gamer_iris.model.PlayerData;
 import com.gamer_iris.repository.BanPlayerDao;
 import com.gamer_iris.repository.PlayerRoleDao;
+import com.gamer_iris.repository.LocalSnapshotStore;
+import com.gamer_iris.repository.PlayerWriteBehind;
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.Server;
@@ -24,6 +53,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.plugin.PluginManager;
 import org.junit.jupiter.api.*;
 import org.mockito.MockedStatic;
+import java.util.List;
 import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -39,6 +69,7 @@ class AdminCommandHandlerTest {
     private static MockedStatic<Main> mainMock;
     private static Player sender;
     private static UUID playerUUID;
+    private MockedStatic<AdminAuthorizationCache> authMock;
 
     /**
      * グローバルモック設定
@@ -61,6 +92,31 @@ class AdminCommandHandlerTest {
         playerUUID = UUID.randomUUID();
 
         when(sender.getUniqueId()).thenReturn(playerUUID);
+
+        // コマンド処理と返信を呼び出し元のスレッドで即時に実行する
+        CommandPipeline.start(Runnable::run, Runnable::run, 2);
+    }
+
+    /**
+     * プレイヤー名索引・BAN一覧を空にし、実行可否キャッシュをテストごとにモックした PlayerRoleDao の結果で判定するよう設定
+     */
+    @BeforeEach
+    void setUp() {
+        PlayerNameIndex.clear();
+        BanRegistry.clear();
+        authMock = mockStatic(AdminAuthorizationCache.class);
+        authMock.when(() -> AdminAuthorizationCache.isAuthorized(any())).thenAnswer(invocation -> {
+            PlayerData data = PlayerRoleDao.findPlayerByUUID(invocation.getArgument(0));
+            return data != null && (data.getRole() == 3 || data.getRole() == 4);
+        });
+    }
+
+    /**
+     * 実行可否キャッシュのモック解放
+     */
+    @AfterEach
+    void tearDown() {
+        authMock.close();
     }
 
     /**
@@ -68,6 +124,7 @@ class AdminCommandHandlerTest {
      */
     @AfterAll
     static void afterAll() {
+        CommandPipeline.shutdown();
         mainMock.close();
     }
 
@@ -118,15 +175,54 @@ class AdminCommandHandlerTest {
                 MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class);
                 MockedStatic<PlayerRoleDao> roleDao = mockStatic(PlayerRoleDao.class);
                 MockedStatic<BanPlayerDao> banDao = mockStatic(BanPlayerDao.class);
+                MockedStatic<CacheInvalidator> invalidator = mockStatic(CacheInvalidator.class);
+                MockedStatic<PlayerWriteBehind> writer = mockStatic(PlayerWriteBehind.class);
                 MockedStatic<LogWriter> logWriter = mockStatic(LogWriter.class)) {
 
             bukkitMock.when(() -> Bukkit.getOfflinePlayer("targetPlayer")).thenReturn(offlineTarget);
             roleDao.when(() -> PlayerRoleDao.findPlayerByUUID(any())).thenReturn(mockData);
-            roleDao.when(() -> PlayerRoleDao.deletePlayerByUUID(eq(targetUUID))).thenReturn(true);
-            banDao.when(() -> BanPlayerDao.insert(any())).thenAnswer(_ -> null);
+            writer.when(() -> PlayerWriteBehind.delete(targetUUID)).thenReturn(true);
+            banDao.when(() -> BanPlayerDao.insert(any())).thenReturn(true);
             logWriter.when(() -> LogWriter.writeInfo(anyString())).thenAnswer(_ -> null);
 
             assertTrue(handler.onCommand(sender, command, "greetban", args));
+
+            writer.verify(() -> PlayerWriteBehind.delete(targetUUID));
+            invalidator.verify(() -> CacheInvalidator.publish(targetUUID));
+        }
+    }
+
+    /**
+     * greetbanコマンドでBAN情報のDB登録に失敗した場合
+     */
+    @Test
+    void testBanCommand_InsertFailed() {
+        when(command.getName()).thenReturn("greetban");
+        when(sender.getUniqueId()).thenReturn(playerUUID);
+        when(sender.hasPermission(anyString())).thenReturn(true);
+        UUID targetUUID = UUID.randomUUID();
+        OfflinePlayer offlineTarget = mock(OfflinePlayer.class);
+        when(offlineTarget.getUniqueId()).thenReturn(targetUUID);
+        PlayerData mockData = mock(PlayerData.class);
+        when(mockData.getRole()).thenReturn(3);
+
+        try (
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class);
+                MockedStatic<PlayerRoleDao> roleDao = mockStatic(PlayerRoleDao.class);
+                MockedStatic<BanPlayerDao> banDao = mockStatic(BanPlayerDao.class);
+                MockedStatic<CacheInvalidator> invalidator = mockStatic(CacheInvalidator.class);
+                MockedStatic<PlayerWriteBehind> writer = mockStatic(PlayerWriteBehind.class)) {
+            bukkitMock.when(() -> Bukkit.getOfflinePlayer("FailedTarget")).thenReturn(offlineTarget);
+            roleDao.when(() -> PlayerRoleDao.findPlayerByUUID(any())).thenReturn(mockData);
+            banDao.when(() -> BanPlayerDao.insert(any())).thenReturn(false);
+
+            assertTrue(handler.onCommand(sender, command, "greetban", new String[] { "FailedTarget", "spam" }));
+
+            verify(sender).sendMessage("§c[Greetmate] BAN登録に失敗しました。");
+            assertFalse(BanRegistry.isBanned(targetUUID));
+            assertEquals(List.of(), PlayerNameIndex.completeBanned("failed", 10));
+            writer.verifyNoInteractions();
+            invalidator.verifyNoInteractions();
         }
     }
 
@@ -151,15 +247,17 @@ class AdminCommandHandlerTest {
                 MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class);
                 MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class);
                 MockedStatic<BanPlayerDao> ban = mockStatic(BanPlayerDao.class);
+                MockedStatic<CacheInvalidator> invalidator = mockStatic(CacheInvalidator.class);
                 MockedStatic<LogWriter> log = mockStatic(LogWriter.class)) {
             bukkit.when(() -> Bukkit.getOfflinePlayer("targetPlayer")).thenReturn(offlineTarget);
             dao.when(() -> PlayerRoleDao.findPlayerByUUID(playerUUID)).thenReturn(executorData);
             dao.when(() -> PlayerRoleDao.findPlayerByUUID(targetUUID)).thenReturn(null);
-            dao.when(() -> PlayerRoleDao.deletePlayerByUUID(targetUUID)).thenReturn(true);
-            ban.when(() -> BanPlayerDao.insert(any())).thenAnswer(_ -> null);
+            ban.when(() -> BanPlayerDao.insert(any())).thenReturn(true);
             log.when(() -> LogWriter.writeInfo(any())).thenAnswer(_ -> null);
 
             assertTrue(handler.onCommand(sender, command, "greetban", args));
+
+            invalidator.verify(() -> CacheInvalidator.publish(targetUUID));
         }
     }
 
@@ -327,27 +425,222 @@ class AdminCommandHandlerTest {
     }
 
     /**
-     * greetroleコマンドのdelでDELETEに失敗する場合
+     * greetmateコマンドでBAN情報の全件再同期が要求される場合
      */
     @Test
-    void testHandleRoleCommand_Delete_FailureToDelete() {
-        when(command.getName()).thenReturn("greetrole");
+    void testAdminCommand_ResyncBans() {
+        when(command.getName()).thenReturn("greetmate");
         when(sender.hasPermission(anyString())).thenReturn(true);
+        PlayerData mockData = mock(PlayerData.class);
+        when(mockData.getRole()).thenReturn(4);
 
-        Player target = mock(Player.class);
-        UUID uuid = UUID.randomUUID();
-        when(target.getUniqueId()).thenReturn(uuid);
-        when(target.getName()).thenReturn("target");
+        try (
+                MockedStatic<PlayerRoleDao> roleDao = mockStatic(PlayerRoleDao.class);
+                MockedStatic<MaintenanceScheduler> schedulerMock = mockStatic(MaintenanceScheduler.class);
+                MockedStatic<LogWriter> logWriter = mockStatic(LogWriter.class)) {
+            roleDao.when(() -> PlayerRoleDao.findPlayerByUUID(playerUUID)).thenReturn(mockData);
+            schedulerMock.when(MaintenanceScheduler::requestFullBanResync).thenReturn(true);
 
-        String[] args = { "del", "target" };
+            assertTrue(handler.onCommand(sender, command, "greetmate", new String[] { "resyncbans" }));
+
+            schedulerMock.verify(MaintenanceScheduler::requestFullBanResync);
+            verify(sender).sendMessage("§a[Greetmate] BAN情報の全件再同期を開始しました。");
+            logWriter.verify(() -> LogWriter.writeInfo(contains("全件再同期を要求")));
+        }
+    }
+
+    /**
+     * リーダーではないサーバーでBAN情報の全件再同期が要求される場合
+     */
+    @Test
+    void testAdminCommand_ResyncBans_WhenNotLeader() {
+        clearInvocations(sender);
+        when(command.getName()).thenReturn("greetmate");
+        when(sender.hasPermission(anyString())).thenReturn(true);
+        PlayerData mockData = mock(PlayerData.class);
+        when(mockData.getRole()).thenReturn(4);
 
         try (
-                MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class);
-                MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class)) {
-            bukkit.when(() -> Bukkit.getPlayerExact("target")).thenReturn(target);
-            dao.when(() -> PlayerRoleDao.deletePlayerByUUID(uuid)).thenReturn(false);
+                MockedStatic<PlayerRoleDao> roleDao = mockStatic(PlayerRoleDao.class);
+                MockedStatic<MaintenanceScheduler> schedulerMock = mockStatic(MaintenanceScheduler.class);
+                MockedStatic<LogWriter> logWriter = mockStatic(LogWriter.class)) {
+            roleDao.when(() -> PlayerRoleDao.findPlayerByUUID(playerUUID)).thenReturn(mockData);
+            schedulerMock.when(MaintenanceScheduler::requestFullBanResync).thenReturn(false);
 
-            assertTrue(handler.onCommand(sender, command, "greetrole", args));
+            assertTrue(handler.onCommand(sender, command, "greetmate", new String[] { "resyncbans" }));
+
+            verify(sender).sendMessage("§c[Greetmate] このサーバーはメンテナンスのリーダーではないため実行できません。");
+            verify(sender, never()).sendMessage("§a[Greetmate] BAN情報の全件再同期を開始しました。");
+            logWriter.verify(() -> LogWriter.writeInfo(contains("全件再同期を要求")), never());
+        }
+    }
+
+    /**
+     * greetmateコマンドで未定義のサブコマンドが指定された場合
+     */
+    @Test
+    void testAdminCommand_UnknownSubcommand() {
+        when(command.getName()).thenReturn("greetmate");
+        when(sender.hasPermission(anyString())).thenReturn(true);
+        PlayerData mockData = mock(PlayerData.class);
+        when(mockData.getRole()).thenReturn(3);
+
+        try (
+                MockedStatic<PlayerRoleDao> roleDao = mockStatic(PlayerRoleDao.class);
+                MockedStatic<MaintenanceScheduler> schedulerMock = mockStatic(MaintenanceScheduler.class)) {
+            roleDao.when(() -> PlayerRoleDao.findPlayerByUUID(playerUUID)).thenReturn(mockData);
+
+            assertTrue(handler.onCommand(sender, command, "greetmate", new String[] { "unknown" }));
+
+            schedulerMock.verifyNoInteractions();
+            verify(sender, atLeastOnce()).sendMessage("§e[Greetmate] 使用法: /greetmate <resyncbans|reload>");
+        }
+    }
+
+    /**
+     * greetmateコマンドで設定を再読み込みし、再起動が必要な変更が通知される場合
+     */
+    @Test
+    void testAdminCommand_Reload_Success() {
+        Player reloadSender = reloadSender();
+
+        try (
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class);
+                MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class);
+                MockedStatic<LogRotator> rotatorMock = mockStatic(LogRotator.class);
+                MockedStatic<MaintenanceScheduler> schedulerMock = mockStatic(MaintenanceScheduler.class);
+                MockedStatic<LeaderElection> leaderMock = mockStatic(LeaderElection.class);
+                MockedStatic<CacheInvalidator> invalidatorMock = mockStatic(CacheInvalidator.class);
+                MockedStatic<PlayerWriteBehind> writerMock = mockStatic(PlayerWriteBehind.class);
+                MockedStatic<LocalSnapshotStore> snapshotMock = mockStatic(LocalSnapshotStore.class);
+                MockedStatic<LogWriter> logWriter = mockStatic(LogWriter.class)) {
+            configMock.when(() -> ConfigManager.reload(Main.getInstance())).thenReturn(List.of("metrics.port"));
+
+            runReload(reloadSender);
+
+            logWriter.verify(() -> LogWriter.writeInfo(contains("設定の再読み込みを要求")));
+
+            registryMock.verify(RoleRegistry::load);
+            registryMock.verify(RoleRegistry::reschedule);
+            cacheMock.verify(UserGreetingCacheManager::reschedule);
+            rotatorMock.verify(LogRotator::reschedule);
+            schedulerMock.verify(MaintenanceScheduler::reschedule);
+            leaderMock.verify(LeaderElection::reschedule);
+            invalidatorMock.verify(CacheInvalidator::reschedule);
+            writerMock.verify(PlayerWriteBehind::reschedule);
+            snapshotMock.verify(LocalSnapshotStore::reschedule);
+            verify(reloadSender).sendMessage("§a[Greetmate] 設定を再読み込みしました。");
+            verify(reloadSender).sendMessage("§e[Greetmate] 次の設定は再起動後に反映されます: metrics.port");
+        }
+    }
+
+    /**
+     * greetmateコマンドで設定を再読み込みし、再起動が必要な変更が無い場合
+     */
+    @Test
+    void testAdminCommand_Reload_NoRestartRequired() {
+        Player reloadSender = reloadSender();
+
+        try (
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<RoleRegistry> _ = mockStatic(RoleRegistry.class);
+                MockedStatic<UserGreetingCacheManager> _ = mockStatic(UserGreetingCacheManager.class);
+                MockedStatic<LogRotator> _ = mockStatic(LogRotator.class);
+                MockedStatic<MaintenanceScheduler> _ = mockStatic(MaintenanceScheduler.class);
+                MockedStatic<LogWriter> _ = mockStatic(LogWriter.class)) {
+            configMock.when(() -> ConfigManager.reload(Main.getInstance())).thenReturn(List.of());
+
+            runReload(reloadSender);
+
+            verify(reloadSender).sendMessage("§a[Greetmate] 設定を再読み込みしました。");
+            verify(reloadSender, never()).sendMessage(startsWith("§e[Greetmate] 次の設定は再起動後に反映されます"));
+        }
+    }
+
+    /**
+     * greetmateコマンドで再読み込みした設定が不正な場合
+     */
+    @Test
+    void testAdminCommand_Reload_InvalidConfig() {
+        Player reloadSender = reloadSender();
+
+        try (
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class);
+                MockedStatic<LogWriter> logWriter = mockStatic(LogWriter.class)) {
+            configMock.when(() -> ConfigManager.reload(Main.getInstance()))
+                    .thenThrow(new CriticalException("config.yml に不整値があります。"));
+
+            runReload(reloadSender);
+
+            registryMock.verifyNoInteractions();
+            logWriter.verify(() -> LogWriter.writeWarn(contains("設定の再読み込みに失敗しました")));
+            verify(reloadSender).sendMessage("§c[Greetmate] config.yml に不正な値があるため、再読み込みを中止しました。");
+        }
+    }
+
+    /**
+     * greetmateコマンドの引数が不足している場合
+     */
+    @Test
+    void testAdminCommand_TooFewArgs() {
+        when(command.getName()).thenReturn("greetmate");
+        when(sender.hasPermission(anyString())).thenReturn(true);
+        PlayerData mockData = mock(PlayerData.class);
+        when(mockData.getRole()).thenReturn(4);
+
+        try (
+                MockedStatic<PlayerRoleDao> roleDao = mockStatic(PlayerRoleDao.class);
+                MockedStatic<MaintenanceScheduler> schedulerMock = mockStatic(MaintenanceScheduler.class)) {
+            roleDao.when(() -> PlayerRoleDao.findPlayerByUUID(playerUUID)).thenReturn(mockData);
+
+            assertTrue(handler.onCommand(sender, command, "greetmate", new String[] {}));
+
+            schedulerMock.verifyNoInteractions();
+        }
+    }
+
+    /**
+     * greetmateコマンドの実行権限がない場合
+     */
+    @Test
+    void testAdminCommand_NoPermission() {
+        when(command.getName()).thenReturn("greetmate");
+        when(sender.hasPermission("greetmate.command.greetmate")).thenReturn(false);
+
+        try (MockedStatic<MaintenanceScheduler> schedulerMock = mockStatic(MaintenanceScheduler.class)) {
+            assertTrue(handler.onCommand(sender, command, "greetmate", new String[] { "resyncbans" }));
+
+            schedulerMock.verifyNoInteractions();
+        }
+    }
+
+    /**
+     * 再読み込みを実行できる権限とロールを持つプレイヤーを生成
+     * 
+     * @return プレイヤー
+     */
+    private static Player reloadSender() {
+        Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(playerUUID);
+        when(player.hasPermission(anyString())).thenReturn(true);
+        return player;
+    }
+
+    /**
+     * ロール4のプレイヤーとして greetmate reload を実行
+     * 
+     * @param player 実行者
+     */
+    private static void runReload(Player player) {
+        when(command.getName()).thenReturn("greetmate");
+        PlayerData mockData = mock(PlayerData.class);
+        when(mockData.getRole()).thenReturn(4);
+
+        try (MockedStatic<PlayerRoleDao> roleDao = mockStatic(PlayerRoleDao.class)) {
+            roleDao.when(() -> PlayerRoleDao.findPlayerByUUID(playerUUID)).thenReturn(mockData);
+            assertTrue(handler.onCommand(player, command, "greetmate", new String[] { "reload" }));
         }
     }
 
@@ -371,7 +664,6 @@ class AdminCommandHandlerTest {
                 MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class);
                 MockedStatic<LogWriter> logWriter = mockStatic(LogWriter.class)) {
             bukkit.when(() -> Bukkit.getPlayerExact("target")).thenReturn(target);
-            dao.when(() -> PlayerRoleDao.deletePlayerByUUID(uuid)).thenReturn(true);
             logWriter.when(() -> LogWriter.writeInfo(any())).thenAnswer(_ -> null);
             assertTrue(handler.onCommand(sender, command, "greetrole", args));
         }
@@ -437,32 +729,6 @@ class AdminCommandHandlerTest {
         }
     }
 
-    /**
-     * greetroleコマンドのregisterでINSERTに失敗する場合
-     */
-    @Test
-    void testHandleRoleCommand_Register_FailureToInsert() {
-        when(command.getName()).thenReturn("greetrole");
-        when(sender.hasPermission(anyString())).thenReturn(true);
-
-        Player target = mock(Player.class);
-        UUID uuid = UUID.randomUUID();
-        when(target.getUniqueId()).thenReturn(uuid);
-        when(target.getName()).thenReturn("target");
-
-        String[] args = { "register", "target", "2" };
-
-        try (
-                MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class);
-                MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class)) {
-            bukkit.when(() -> Bukkit.getPlayerExact("target")).thenReturn(target);
-            dao.when(() -> PlayerRoleDao.findPlayerByUUID(uuid)).thenReturn(null);
-            dao.when(() -> PlayerRoleDao.insertPlayer(uuid, "target", 2)).thenReturn(false);
-
-            assertTrue(handler.onCommand(sender, command, "greetrole", args));
-        }
-    }
-
     /**
      * greetroleコマンドのregisterでロール形式が不正な場合
      */
@@ -497,40 +763,11 @@ class AdminCommandHandlerTest {
                 MockedStatic<LogWriter> logWriter = mockStatic(LogWriter.class)) {
             bukkit.when(() -> Bukkit.getPlayerExact("target")).thenReturn(target);
             dao.when(() -> PlayerRoleDao.findPlayerByUUID(uuid)).thenReturn(null);
-            dao.when(() -> PlayerRoleDao.insertPlayer(uuid, "target", 2)).thenReturn(true);
             logWriter.when(() -> LogWriter.writeInfo(any())).thenAnswer(_ -> null);
             assertTrue(handler.onCommand(sender, command, "greetrole", args));
         }
     }
 
-    /**
-     * greetroleコマンドのsetでINSERTに失敗する場合
-     */
-    @Test
-    void testHandleRoleCommand_Set_InsertFails() {
-        when(command.getName()).thenReturn("greetrole");
-        when(sender.hasPermission(anyString())).thenReturn(true);
-
-        Player target = mock(Player.class);
-        UUID uuid = UUID.randomUUID();
-        when(target.getUniqueId()).thenReturn(uuid);
-        when(target.getName()).thenReturn("target");
-
-        PlayerData existing = mock(PlayerData.class);
-        String[] args = { "set", "target", "2" };
-
-        try (
-                MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class);
-                MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class)) {
-            bukkit.when(() -> Bukkit.getPlayerExact("target")).thenReturn(target);
-            dao.when(() -> PlayerRoleDao.findPlayerByUUID(uuid)).thenReturn(existing);
-            dao.when(() -> PlayerRoleDao.deletePlayerByUUID(uuid)).thenReturn(true);
-            dao.when(() -> PlayerRoleDao.insertPlayer(uuid, "target", 2)).thenReturn(false);
-
-            assertTrue(handler.onCommand(sender, command, "greetrole", args));
-        }
-    }
-
     /**
      * greetroleコマンドのsetでロール形式が数値でない場合
      */
@@ -590,8 +827,6 @@ class AdminCommandHandlerTest {
                 MockedStatic<LogWriter> logWriter = mockStatic(LogWriter.class)) {
             bukkit.when(() -> Bukkit.getPlayerExact("target")).thenReturn(target);
             dao.when(() -> PlayerRoleDao.findPlayerByUUID(uuid)).thenReturn(existing);
-            dao.when(() -> PlayerRoleDao.deletePlayerByUUID(uuid)).thenReturn(true);
-            dao.when(() -> PlayerRoleDao.insertPlayer(uuid, "target", 2)).thenReturn(true);
             logWriter.when(() -> LogWriter.writeInfo(any())).thenAnswer(_ -> null);
             assertTrue(handler.onCommand(sender, command, "greetrole", args));
         }
@@ -642,9 +877,10 @@ class AdminCommandHandlerTest {
 
         try (
                 MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class);
-                MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class)) {
+                MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registry = mockStatic(RoleRegistry.class)) {
             bukkit.when(() -> Bukkit.getPlayerExact("target")).thenReturn(null);
-            dao.when(() -> PlayerRoleDao.isValidRole(2)).thenReturn(true);
+            registry.when(() -> RoleRegistry.isValid(2)).thenReturn(true);
             dao.when(() -> PlayerRoleDao.findPlayerByUUID(playerUUID)).thenReturn(data);
 
             assertTrue(handler.onCommand(sender, command, "greetrole", args));
@@ -669,11 +905,12 @@ class AdminCommandHandlerTest {
 
         try (
                 MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class);
-                MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class)) {
+                MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registry = mockStatic(RoleRegistry.class)) {
 
             bukkit.when(() -> Bukkit.getPlayerExact("target")).thenReturn(target);
             dao.when(() -> PlayerRoleDao.findPlayerByUUID(playerUUID)).thenReturn(data);
-            dao.when(() -> PlayerRoleDao.isValidRole(2)).thenReturn(true);
+            registry.when(() -> RoleRegistry.isValid(2)).thenReturn(true);
             dao.when(() -> PlayerRoleDao.findPlayerByUUID(uuid)).thenReturn(null);
 
             assertTrue(handler.onCommand(sender, command, "greetrole", args));
@@ -734,45 +971,22 @@ class AdminCommandHandlerTest {
 
         PlayerData executorData = mock(PlayerData.class);
         when(executorData.getRole()).thenReturn(3);
-        PlayerData targetData = mock(PlayerData.class);
 
         try (
                 MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class);
-                MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class)) {
+                MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registry = mockStatic(RoleRegistry.class);
+                MockedStatic<PlayerWriteBehind> writer = mockStatic(PlayerWriteBehind.class)) {
 
             bukkit.when(() -> Bukkit.getPlayerExact("target")).thenReturn(target);
             dao.when(() -> PlayerRoleDao.findPlayerByUUID(playerUUID)).thenReturn(executorData);
-            dao.when(() -> PlayerRoleDao.findPlayerByUUID(uuid)).thenReturn(targetData);
-            dao.when(() -> PlayerRoleDao.isValidRole(2)).thenReturn(true);
-            dao.when(() -> PlayerRoleDao.updatePlayerRoleByUUID(uuid, 2)).thenReturn(false);
+            registry.when(() -> RoleRegistry.isValid(2)).thenReturn(true);
+            writer.when(() -> PlayerWriteBehind.isRegistered(uuid)).thenReturn(true);
+            writer.when(() -> PlayerWriteBehind.updateRole(uuid, 2)).thenReturn(false);
 
             assertTrue(handler.onCommand(sender, command, "greetrole", args));
-        }
-    }
-
-    /**
-     * greetroleコマンドのsetで登録済みかつ削除に失敗する場合
-     */
-    @Test
-    void testHandleSet_UpdateFails_Registered() {
-        when(command.getName()).thenReturn("greetrole");
-        when(sender.hasPermission(anyString())).thenReturn(true);
-
-        Player target = mock(Player.class);
-        UUID uuid = UUID.randomUUID();
-        when(target.getUniqueId()).thenReturn(uuid);
-        when(target.getName()).thenReturn("target");
-
-        PlayerData existing = mock(PlayerData.class);
-        String[] args = { "set", "target", "2" };
 
-        try (
-                MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class);
-                MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class)) {
-            bukkit.when(() -> Bukkit.getPlayerExact("target")).thenReturn(target);
-            dao.when(() -> PlayerRoleDao.findPlayerByUUID(uuid)).thenReturn(existing);
-            dao.when(() -> PlayerRoleDao.deletePlayerByUUID(uuid)).thenReturn(false);
-            assertTrue(handler.onCommand(sender, command, "greetrole", args));
+            verify(sender, atLeastOnce()).sendMessage("§c[Greetmate] ロールの更新に失敗しました。");
         }
     }
 
@@ -791,21 +1005,27 @@ class AdminCommandHandlerTest {
 
         PlayerData executorData = mock(PlayerData.class);
         when(executorData.getRole()).thenReturn(4);
-        PlayerData targetData = mock(PlayerData.class);
 
         try (
                 MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class);
                 MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registry = mockStatic(RoleRegistry.class);
+                MockedStatic<CacheInvalidator> invalidator = mockStatic(CacheInvalidator.class);
+                MockedStatic<PlayerWriteBehind> writer = mockStatic(PlayerWriteBehind.class);
                 MockedStatic<LogWriter> log = mockStatic(LogWriter.class)) {
 
             bukkit.when(() -> Bukkit.getPlayerExact("target")).thenReturn(target);
             dao.when(() -> PlayerRoleDao.findPlayerByUUID(playerUUID)).thenReturn(executorData);
-            dao.when(() -> PlayerRoleDao.findPlayerByUUID(uuid)).thenReturn(targetData);
-            dao.when(() -> PlayerRoleDao.isValidRole(2)).thenReturn(true);
-            dao.when(() -> PlayerRoleDao.updatePlayerRoleByUUID(uuid, 2)).thenReturn(true);
+            registry.when(() -> RoleRegistry.isValid(2)).thenReturn(true);
+            writer.when(() -> PlayerWriteBehind.isRegistered(uuid)).thenReturn(true);
+            writer.when(() -> PlayerWriteBehind.updateRole(uuid, 2)).thenReturn(true);
             log.when(() -> LogWriter.writeInfo(any())).thenAnswer(_ -> null);
 
             assertTrue(handler.onCommand(sender, command, "greetrole", args));
+
+            writer.verify(() -> PlayerWriteBehind.updateRole(uuid, 2));
+            // キャッシュの無効化はDBへの反映後に行う
+            invalidator.verifyNoInteractions();
         }
     }
 
@@ -829,11 +1049,12 @@ class AdminCommandHandlerTest {
 
         try (
                 MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class);
-                MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class)) {
+                MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registry = mockStatic(RoleRegistry.class)) {
 
             bukkit.when(() -> Bukkit.getPlayerExact("target")).thenReturn(target);
             dao.when(() -> PlayerRoleDao.findPlayerByUUID(playerUUID)).thenReturn(data);
-            dao.when(() -> PlayerRoleDao.isValidRole(2)).thenReturn(true);
+            registry.when(() -> RoleRegistry.isValid(2)).thenReturn(true);
             dao.when(() -> PlayerRoleDao.findPlayerByUUID(uuid)).thenReturn(existing);
 
             assertTrue(handler.onCommand(sender, command, "greetrole", args));
@@ -841,7 +1062,7 @@ class AdminCommandHandlerTest {
     }
 
     /**
-     * greetroleコマンドのregisterでinsertPlayerがfalseを返す場合（カバレッジ用）
+     * greetroleコマンドのregisterで遅延書き込みへの登録に失敗する場合
      */
     @Test
     void testHandleRegister_InsertFails_Cover() {
@@ -858,15 +1079,18 @@ class AdminCommandHandlerTest {
 
         try (
                 MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class);
-                MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class)) {
+                MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registry = mockStatic(RoleRegistry.class);
+                MockedStatic<PlayerWriteBehind> writer = mockStatic(PlayerWriteBehind.class)) {
 
             bukkit.when(() -> Bukkit.getPlayerExact("target")).thenReturn(target);
             dao.when(() -> PlayerRoleDao.findPlayerByUUID(playerUUID)).thenReturn(executorData);
-            dao.when(() -> PlayerRoleDao.isValidRole(2)).thenReturn(true);
-            dao.when(() -> PlayerRoleDao.findPlayerByUUID(uuid)).thenReturn(null);
-            dao.when(() -> PlayerRoleDao.insertPlayer(uuid, "target", 2)).thenReturn(false);
+            registry.when(() -> RoleRegistry.isValid(2)).thenReturn(true);
+            writer.when(() -> PlayerWriteBehind.upsert(uuid, "target", 2)).thenReturn(false);
 
             assertTrue(handler.onCommand(sender, command, "greetrole", args));
+
+            verify(sender, atLeastOnce()).sendMessage("§c[Greetmate] プレイヤー登録に失敗しました。");
         }
     }
 
@@ -889,16 +1113,21 @@ class AdminCommandHandlerTest {
         try (
                 MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class);
                 MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registry = mockStatic(RoleRegistry.class);
+                MockedStatic<CacheInvalidator> invalidator = mockStatic(CacheInvalidator.class);
+                MockedStatic<PlayerWriteBehind> writer = mockStatic(PlayerWriteBehind.class);
                 MockedStatic<LogWriter> log = mockStatic(LogWriter.class)) {
 
             bukkit.when(() -> Bukkit.getPlayerExact("target")).thenReturn(target);
             dao.when(() -> PlayerRoleDao.findPlayerByUUID(playerUUID)).thenReturn(executorData);
-            dao.when(() -> PlayerRoleDao.findPlayerByUUID(uuid)).thenReturn(null);
-            dao.when(() -> PlayerRoleDao.isValidRole(2)).thenReturn(true);
-            dao.when(() -> PlayerRoleDao.insertPlayer(uuid, "target", 2)).thenReturn(true);
+            registry.when(() -> RoleRegistry.isValid(2)).thenReturn(true);
+            writer.when(() -> PlayerWriteBehind.upsert(uuid, "target", 2)).thenReturn(true);
             log.when(() -> LogWriter.writeInfo(any())).thenAnswer(_ -> null);
 
             assertTrue(handler.onCommand(sender, command, "greetrole", args));
+
+            writer.verify(() -> PlayerWriteBehind.upsert(uuid, "target", 2));
+            invalidator.verifyNoInteractions();
         }
     }
 
@@ -961,11 +1190,12 @@ class AdminCommandHandlerTest {
 
         try (
                 MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class);
-                MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class)) {
+                MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class);
+                MockedStatic<RoleRegistry> registry = mockStatic(RoleRegistry.class)) {
 
             bukkit.when(() -> Bukkit.getPlayerExact("target")).thenReturn(null);
             dao.when(() -> PlayerRoleDao.findPlayerByUUID(playerUUID)).thenReturn(executorData);
-            dao.when(() -> PlayerRoleDao.isValidRole(2)).thenReturn(true);
+            registry.when(() -> RoleRegistry.isValid(2)).thenReturn(true);
 
             assertTrue(handler.onCommand(sender, command, "greetrole", args));
         }
@@ -1003,15 +1233,19 @@ class AdminCommandHandlerTest {
 
         try (
                 MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class);
-                MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class)) {
+                MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class);
+                MockedStatic<PlayerWriteBehind> writer = mockStatic(PlayerWriteBehind.class)) {
             bukkit.when(() -> Bukkit.getPlayerExact("target")).thenReturn(target);
-            dao.when(() -> PlayerRoleDao.deletePlayerByUUID(uuid)).thenReturn(false);
+            writer.when(() -> PlayerWriteBehind.isRegistered(uuid)).thenReturn(true);
+            writer.when(() -> PlayerWriteBehind.delete(uuid)).thenReturn(false);
 
             PlayerData executorData = mock(PlayerData.class);
             when(executorData.getRole()).thenReturn(3);
             dao.when(() -> PlayerRoleDao.findPlayerByUUID(playerUUID)).thenReturn(executorData);
 
             assertTrue(handler.onCommand(sender, command, "greetrole", args));
+
+            verify(sender, atLeastOnce()).sendMessage("§c[Greetmate] 削除に失敗しました。");
         }
     }
 
@@ -1034,14 +1268,20 @@ class AdminCommandHandlerTest {
         try (
                 MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class);
                 MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class);
+                MockedStatic<CacheInvalidator> invalidator = mockStatic(CacheInvalidator.class);
+                MockedStatic<PlayerWriteBehind> writer = mockStatic(PlayerWriteBehind.class);
                 MockedStatic<LogWriter> log = mockStatic(LogWriter.class)) {
 
             bukkit.when(() -> Bukkit.getPlayerExact("target")).thenReturn(target);
             dao.when(() -> PlayerRoleDao.findPlayerByUUID(playerUUID)).thenReturn(executorData);
-            dao.when(() -> PlayerRoleDao.deletePlayerByUUID(uuid)).thenReturn(true);
+            writer.when(() -> PlayerWriteBehind.isRegistered(uuid)).thenReturn(true);
+            writer.when(() -> PlayerWriteBehind.delete(uuid)).thenReturn(true);
             log.when(() -> LogWriter.writeInfo(any())).thenAnswer(_ -> null);
 
             assertTrue(handler.onCommand(sender, command, "greetrole", args));
+
+            writer.verify(() -> PlayerWriteBehind.delete(uuid));
+            invalidator.verifyNoInteractions();
         }
     }
 
@@ -1149,6 +1389,229 @@ class AdminCommandHandlerTest {
         assertTrue(handler.onCommand(sender, command, "greetrole", new String[] {}));
     }
 
+    /**
+     * greetrole・greetmateコマンドで実行者のロールが不足している場合
+     */
+    @Test
+    void testRoleAndAdminCommands_InsufficientRole() {
+        when(sender.hasPermission(anyString())).thenReturn(true);
+        Player target = mock(Player.class);
+        when(target.getUniqueId()).thenReturn(UUID.randomUUID());
+        PlayerData mockData = mock(PlayerData.class);
+        when(mockData.getRole()).thenReturn(2);
+        clearInvocations(sender);
+
+        try (
+                MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class);
+                MockedStatic<RoleRegistry> registry = mockStatic(RoleRegistry.class);
+                MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class);
+                MockedStatic<MaintenanceScheduler> schedulerMock = mockStatic(MaintenanceScheduler.class)) {
+            bukkit.when(() -> Bukkit.getPlayerExact("target")).thenReturn(target);
+            registry.when(() -> RoleRegistry.isValid(2)).thenReturn(true);
+            dao.when(() -> PlayerRoleDao.findPlayerByUUID(playerUUID)).thenReturn(mockData);
+
+            when(command.getName()).thenReturn("greetrole");
+            assertTrue(handler.onCommand(sender, command, "greetrole", new String[] { "set", "target", "2" }));
+            assertTrue(handler.onCommand(sender, command, "greetrole", new String[] { "register", "target", "2" }));
+            assertTrue(handler.onCommand(sender, command, "greetrole", new String[] { "del", "target" }));
+            when(command.getName()).thenReturn("greetmate");
+            assertTrue(handler.onCommand(sender, command, "greetmate", new String[] { "resyncbans" }));
+
+            verify(sender, times(4)).sendMessage("§c[Greetmate] ロール3または4のユーザーのみ実行可能です。");
+            verify(sender, never()).sendMessage(startsWith("§a"));
+            dao.verify(() -> PlayerRoleDao.findPlayerByUUID(any()), times(4));
+            dao.verifyNoMoreInteractions();
+            schedulerMock.verifyNoInteractions();
+        }
+    }
+
+    /**
+     * 同じ実行者のコマンドが処理中のまま上限に達した場合
+     */
+    @Test
+    void testBanCommand_RejectedWhileInFlight() {
+        Player spammer = mock(Player.class);
+        when(spammer.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(spammer.hasPermission(anyString())).thenReturn(true);
+        when(command.getName()).thenReturn("greetban");
+        CommandPipeline.start(_ -> {
+        }, Runnable::run, 2);
+
+        try (MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class)) {
+            for (int i = 0; i < 3; i++) {
+                assertTrue(handler.onCommand(spammer, command, "greetban", new String[] { "target", "reason" }));
+            }
+
+            verify(spammer).sendMessage("§c[Greetmate] 処理中のコマンドがあります。完了してから再度実行してください。");
+            dao.verifyNoInteractions();
+        } finally {
+            CommandPipeline.start(Runnable::run, Runnable::run, 2);
+        }
+    }
+
+    /**
+     * 実行可否キャッシュで許可されている場合はロール確認でDBを参照しない場合
+     */
+    @Test
+    void testHasRequiredRole_UsesAuthorizationCache() {
+        when(command.getName()).thenReturn("greetmate");
+        when(sender.hasPermission(anyString())).thenReturn(true);
+        authMock.when(() -> AdminAuthorizationCache.isAuthorized(playerUUID)).thenReturn(true);
+
+        try (
+                MockedStatic<PlayerRoleDao> dao = mockStatic(PlayerRoleDao.class);
+                MockedStatic<MaintenanceScheduler> schedulerMock = mockStatic(MaintenanceScheduler.class);
+                MockedStatic<LogWriter> _ = mockStatic(LogWriter.class)) {
+            schedulerMock.when(MaintenanceScheduler::requestFullBanResync).thenReturn(true);
+
+            assertTrue(handler.onCommand(sender, command, "greetmate", new String[] { "resyncbans" }));
+
+            schedulerMock.verify(MaintenanceScheduler::requestFullBanResync);
+            dao.verifyNoInteractions();
+        }
+    }
+
+    /**
+     * プレイヤー名索引にある名前はBukkitで解決せずにBAN・BAN解除する場合
+     */
+    @Test
+    void testBanAndUnban_ResolveFromNameIndex() {
+        when(sender.hasPermission(anyString())).thenReturn(true);
+        UUID targetUUID = UUID.randomUUID();
+        PlayerNameIndex.put(targetUUID, "IndexedPlayer");
+        PlayerData mockData = mock(PlayerData.class);
+        when(mockData.getRole()).thenReturn(4);
+
+        try (
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class);
+                MockedStatic<PlayerRoleDao> roleDao = mockStatic(PlayerRoleDao.class);
+                MockedStatic<BanPlayerDao> banDao = mockStatic(BanPlayerDao.class);
+                MockedStatic<CacheInvalidator> invalidatorMock = mockStatic(CacheInvalidator.class);
+                MockedStatic<LogWriter> _ = mockStatic(LogWriter.class)) {
+            roleDao.when(() -> PlayerRoleDao.findPlayerByUUID(playerUUID)).thenReturn(mockData);
+            banDao.when(() -> BanPlayerDao.insert(any())).thenReturn(true);
+            banDao.when(() -> BanPlayerDao.delete(targetUUID)).thenReturn(true);
+
+            when(command.getName()).thenReturn("greetban");
+            assertTrue(handler.onCommand(sender, command, "greetban", new String[] { "indexedplayer", "spam" }));
+            assertEquals("spam", BanRegistry.findReason(targetUUID));
+            when(command.getName()).thenReturn("greetunban");
+            assertTrue(handler.onCommand(sender, command, "greetunban", new String[] { "INDEXEDPLAYER" }));
+            assertFalse(BanRegistry.isBanned(targetUUID));
+
+            banDao.verify(() -> BanPlayerDao.insert(argThat(ban -> ban.getUuid().equals(targetUUID))));
+            banDao.verify(() -> BanPlayerDao.delete(targetUUID));
+            invalidatorMock.verify(() -> CacheInvalidator.publish(targetUUID), times(2));
+            bukkitMock.verifyNoInteractions();
+        }
+        assertEquals(List.of(), PlayerNameIndex.completeBanned("indexed", 10));
+    }
+
+    /**
+     * Bukkitで解決してBAN登録したプレイヤー名が索引へ登録される場合
+     */
+    @Test
+    void testBanCommand_AddsResolvedNameToIndex() {
+        when(command.getName()).thenReturn("greetban");
+        when(sender.hasPermission(anyString())).thenReturn(true);
+        UUID targetUUID = UUID.randomUUID();
+        OfflinePlayer offlineTarget = mock(OfflinePlayer.class);
+        when(offlineTarget.getUniqueId()).thenReturn(targetUUID);
+        PlayerData mockData = mock(PlayerData.class);
+        when(mockData.getRole()).thenReturn(3);
+
+        try (
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class);
+                MockedStatic<PlayerRoleDao> roleDao = mockStatic(PlayerRoleDao.class);
+                MockedStatic<BanPlayerDao> banDao = mockStatic(BanPlayerDao.class);
+                MockedStatic<CacheInvalidator> _ = mockStatic(CacheInvalidator.class);
+                MockedStatic<LogWriter> _ = mockStatic(LogWriter.class)) {
+            bukkitMock.when(() -> Bukkit.getOfflinePlayer("RemotePlayer")).thenReturn(offlineTarget);
+            roleDao.when(() -> PlayerRoleDao.findPlayerByUUID(playerUUID)).thenReturn(mockData);
+            banDao.when(() -> BanPlayerDao.insert(any())).thenReturn(true);
+
+            assertTrue(handler.onCommand(sender, command, "greetban", new String[] { "RemotePlayer", "spam" }));
+
+            assertEquals(targetUUID, PlayerNameIndex.find("remoteplayer"));
+            assertEquals(List.of("RemotePlayer"), PlayerNameIndex.completeBanned("remote", 10));
+        }
+    }
+
+    /**
+     * greetbanとgreetunbanでプレイヤー名索引から補完される場合
+     */
+    @Test
+    void testTabComplete_BanAndUnban() {
+        when(sender.hasPermission(anyString())).thenReturn(true);
+        PlayerNameIndex.put(UUID.randomUUID(), "Steve");
+        PlayerNameIndex.put(UUID.randomUUID(), "Stella");
+        PlayerNameIndex.markBanned(UUID.randomUUID(), "Stan");
+
+        try (MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class)) {
+            when(command.getName()).thenReturn("greetban");
+            assertEquals(List.of("Stella", "Steve"), handler.onTabComplete(sender, command, "greetban", new String[] { "ST" }));
+            assertEquals(List.of(), handler.onTabComplete(sender, command, "greetban", new String[] { "Steve", "" }));
+
+            when(command.getName()).thenReturn("greetunban");
+            assertEquals(List.of("Stan"), handler.onTabComplete(sender, command, "greetunban", new String[] { "st" }));
+            assertEquals(List.of(), handler.onTabComplete(sender, command, "greetunban", new String[] { "Stan", "" }));
+
+            bukkitMock.verifyNoInteractions();
+        }
+    }
+
+    /**
+     * greetroleでサブコマンド・ロールIDが補完され、対象プレイヤーはBukkit既定の補完に任せる場合
+     */
+    @Test
+    void testTabComplete_RoleCommand() {
+        when(command.getName()).thenReturn("greetrole");
+        when(sender.hasPermission(anyString())).thenReturn(true);
+
+        try (MockedStatic<RoleRegistry> registryMock = mockStatic(RoleRegistry.class)) {
+            registryMock.when(RoleRegistry::getRoleIds).thenReturn(List.of("1", "3", "10"));
+
+            assertEquals(List.of("set"), handler.onTabComplete(sender, command, "greetrole", new String[] { "S" }));
+            assertEquals(List.of("set", "register", "del"), handler.onTabComplete(sender, command, "greetrole", new String[] { "" }));
+            assertNull(handler.onTabComplete(sender, command, "greetrole", new String[] { "set", "" }));
+            assertEquals(List.of("1", "10"), handler.onTabComplete(sender, command, "greetrole", new String[] { "register", "Steve", "1" }));
+            assertEquals(List.of(), handler.onTabComplete(sender, command, "greetrole", new String[] { "del", "Steve", "" }));
+            assertEquals(List.of(), handler.onTabComplete(sender, command, "greetrole", new String[] { "set", "Steve", "1", "" }));
+            assertEquals(List.of(), handler.onTabComplete(sender, command, "greetrole", new String[] { "unknown", "" }));
+        }
+    }
+
+    /**
+     * greetmateでサブコマンドが補完される場合
+     */
+    @Test
+    void testTabComplete_AdminCommand() {
+        when(command.getName()).thenReturn("greetmate");
+        when(sender.hasPermission(anyString())).thenReturn(true);
+
+        assertEquals(List.of("resyncbans", "reload"), handler.onTabComplete(sender, command, "greetmate", new String[] { "re" }));
+        assertEquals(List.of("reload"), handler.onTabComplete(sender, command, "greetmate", new String[] { "REL" }));
+        assertEquals(List.of(), handler.onTabComplete(sender, command, "greetmate", new String[] { "reload", "" }));
+    }
+
+    /**
+     * 権限が無い場合・未定義のコマンド・引数が無い場合は補完しない場合
+     */
+    @Test
+    void testTabComplete_NoCandidates() {
+        PlayerNameIndex.put(UUID.randomUUID(), "Steve");
+
+        when(command.getName()).thenReturn("greetban");
+        when(sender.hasPermission("greetmate.command.greetban")).thenReturn(false);
+        assertEquals(List.of(), handler.onTabComplete(sender, command, "greetban", new String[] { "s" }));
+
+        when(sender.hasPermission(anyString())).thenReturn(true);
+        assertEquals(List.of(), handler.onTabComplete(sender, command, "greetban", new String[] {}));
+
+        when(command.getName()).thenReturn("unknown");
+        assertEquals(List.of(), handler.onTabComplete(sender, command, "unknown", new String[] { "s" }));
+    }
+
     /**
      * getPlayerOrAbortでプレイヤーが正常に取得できる場合
      */
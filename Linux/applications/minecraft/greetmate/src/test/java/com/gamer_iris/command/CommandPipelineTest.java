@@ -0,0 +1,290 @@
+/*
+######################################################################################################################################################
+# ファイル   : CommandPipelineTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   プラグインの停止中に返信をスケジュールできない場合のテストを追加
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.command;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.logging.LogWriter;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.IllegalPluginAccessException;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.MockedStatic;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * CommandPipeline のユニットテストクラス
+ */
+class CommandPipelineTest {
+
+    private Player sender;
+    private UUID uuid;
+
+    /**
+     * 各テスト前の初期化処理
+     */
+    @BeforeEach
+    void setUp() {
+        uuid = UUID.randomUUID();
+        sender = mock(Player.class);
+        when(sender.getUniqueId()).thenReturn(uuid);
+        CommandPipeline.start(Runnable::run, Runnable::run, 2);
+    }
+
+    /**
+     * 各テスト後の停止処理
+     */
+    @AfterEach
+    void tearDown() {
+        CommandPipeline.shutdown();
+    }
+
+    /**
+     * コンストラクタカバレッジテスト
+     */
+    @Test
+    void testCommandPipelineConstructor_CoverageOnly() {
+        new CommandPipeline();
+    }
+
+    /**
+     * コマンド処理が実行され、返信が順に送信される場合
+     */
+    @Test
+    void testSubmit_RunsTaskAndSendsReplies() {
+        assertTrue(CommandPipeline.submit(sender, reply -> {
+            reply.accept("first");
+            reply.accept("second");
+        }));
+
+        InOrder order = inOrder(sender);
+        order.verify(sender).sendMessage("first");
+        order.verify(sender).sendMessage("second");
+        assertEquals(0, CommandPipeline.inFlightCount(uuid));
+    }
+
+    /**
+     * 返信が無い場合はメインスレッドへ処理を戻さない場合
+     */
+    @Test
+    void testSubmit_NoReplies_SkipsMainThread() {
+        Executor mainThread = mock(Executor.class);
+        CommandPipeline.start(Runnable::run, mainThread, 2);
+
+        assertTrue(CommandPipeline.submit(sender, _ -> {
+        }));
+
+        verifyNoInteractions(mainThread);
+    }
+
+    /**
+     * 処理中のコマンド数が上限に達している場合
+     */
+    @Test
+    void testSubmit_RejectsWhenLimitReached() {
+        List<Runnable> queued = new ArrayList<>();
+        CommandPipeline.start(queued::add, Runnable::run, 2);
+
+        assertTrue(CommandPipeline.submit(sender, reply -> reply.accept("done")));
+        assertTrue(CommandPipeline.submit(sender, reply -> reply.accept("done")));
+        assertFalse(CommandPipeline.submit(sender, reply -> reply.accept("done")));
+
+        verify(sender).sendMessage("§c[Greetmate] 処理中のコマンドがあります。完了してから再度実行してください。");
+        assertEquals(2, queued.size());
+        assertEquals(2, CommandPipeline.inFlightCount(uuid));
+
+        queued.forEach(Runnable::run);
+
+        verify(sender, times(2)).sendMessage("done");
+        assertEquals(0, CommandPipeline.inFlightCount(uuid));
+        assertTrue(CommandPipeline.submit(sender, _ -> {
+        }));
+    }
+
+    /**
+     * 上限は実行者ごとに数えられる場合
+     */
+    @Test
+    void testSubmit_LimitIsPerSender() {
+        Player other = mock(Player.class);
+        when(other.getUniqueId()).thenReturn(UUID.randomUUID());
+        CommandPipeline.start(_ -> {
+        }, Runnable::run, 1);
+
+        assertTrue(CommandPipeline.submit(sender, _ -> {
+        }));
+        assertTrue(CommandPipeline.submit(other, _ -> {
+        }));
+        assertFalse(CommandPipeline.submit(sender, _ -> {
+        }));
+    }
+
+    /**
+     * コマンド処理で例外が発生した場合
+     */
+    @Test
+    void testSubmit_TaskThrows() {
+        RuntimeException error = new IllegalStateException("boom");
+
+        try (MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            assertTrue(CommandPipeline.submit(sender, reply -> {
+                reply.accept("partial");
+                throw error;
+            }));
+
+            logMock.verify(() -> LogWriter.writeError(anyString(), eq(error)));
+        }
+        verify(sender).sendMessage("partial");
+        verify(sender).sendMessage("§c[Greetmate] コマンドの実行中にエラーが発生しました。");
+        assertEquals(0, CommandPipeline.inFlightCount(uuid));
+    }
+
+    /**
+     * プラグインの停止中で返信をメインスレッドへ戻せない場合は返信を破棄する場合
+     */
+    @Test
+    void testSubmit_DropsRepliesWhenPluginDisabled() {
+        when(sender.getName()).thenReturn("Admin");
+        CommandPipeline.start(Runnable::run, _ -> {
+            throw new IllegalPluginAccessException("Plugin attempted to register task while disabled");
+        }, 2);
+
+        try (MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            assertTrue(CommandPipeline.submit(sender, reply -> reply.accept("done")));
+
+            logMock.verify(() -> LogWriter.writeWarn("[Greetmate] プラグインの停止中のため、管理コマンドの返信を破棄しました: Admin"));
+        }
+        verify(sender, never()).sendMessage(anyString());
+        assertEquals(0, CommandPipeline.inFlightCount(uuid));
+    }
+
+    /**
+     * 実行先が受け付けを拒否した場合
+     */
+    @Test
+    void testSubmit_ExecutorRejects() {
+        CommandPipeline.start(_ -> {
+            throw new RejectedExecutionException();
+        }, Runnable::run, 2);
+
+        assertFalse(CommandPipeline.submit(sender, _ -> fail()));
+
+        verify(sender).sendMessage("§c[Greetmate] プラグインの停止中のため実行できません。");
+        assertEquals(0, CommandPipeline.inFlightCount(uuid));
+    }
+
+    /**
+     * 停止後にコマンドが実行された場合
+     */
+    @Test
+    void testSubmit_AfterShutdown() {
+        CommandPipeline.shutdown();
+
+        assertFalse(CommandPipeline.submit(sender, _ -> fail()));
+
+        verify(sender).sendMessage("§c[Greetmate] プラグインの停止中のため実行できません。");
+    }
+
+    /**
+     * 設定値でスレッドを開始し、返信がスケジューラー経由でメインスレッドへ戻される場合
+     */
+    @Test
+    void testStart_UsesConfigAndScheduler() throws Exception {
+        Main plugin = mock(Main.class);
+        BukkitScheduler scheduler = mock(BukkitScheduler.class);
+        CountDownLatch ran = new CountDownLatch(1);
+
+        try (
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<Main> mainMock = mockStatic(Main.class);
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class)) {
+            configMock.when(ConfigManager::getCommandWorkerThreads).thenReturn(1);
+            configMock.when(ConfigManager::getCommandMaxInFlightPerSender).thenReturn(1);
+            mainMock.when(Main::getInstance).thenReturn(plugin);
+            bukkitMock.when(Bukkit::getScheduler).thenReturn(scheduler);
+
+            CommandPipeline.start();
+            CommandPipeline.start();
+            configMock.verify(ConfigManager::getCommandWorkerThreads, times(1));
+
+            assertTrue(CommandPipeline.submit(sender, _ -> {
+                assertTrue(Thread.currentThread().getName().startsWith("Greetmate-Command-"));
+                ran.countDown();
+            }));
+            assertTrue(ran.await(5, TimeUnit.SECONDS));
+
+            Runnable reply = () -> {
+            };
+            mainThreadExecutor().execute(reply);
+            verify(scheduler).runTask(plugin, reply);
+        }
+    }
+
+    /**
+     * 停止の待機中に割り込まれた場合
+     */
+    @Test
+    void testShutdown_Interrupted() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class)) {
+            configMock.when(ConfigManager::getCommandWorkerThreads).thenReturn(1);
+            configMock.when(ConfigManager::getCommandMaxInFlightPerSender).thenReturn(1);
+            CommandPipeline.start();
+        }
+        assertTrue(CommandPipeline.submit(sender, _ -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        Thread.currentThread().interrupt();
+        CommandPipeline.shutdown();
+
+        assertTrue(Thread.interrupted());
+        release.countDown();
+        assertFalse(CommandPipeline.submit(sender, _ -> fail()));
+    }
+
+    /**
+     * 返信の実行先を取得
+     * 
+     * @return 返信の実行先
+     * @throws ReflectiveOperationException 取得失敗時
+     */
+    private static Executor mainThreadExecutor() throws ReflectiveOperationException {
+        Field field = CommandPipeline.class.getDeclaredField("mainThread");
+        field.setAccessible(true);
+        return (Executor) field.get(null);
+    }
+
+}
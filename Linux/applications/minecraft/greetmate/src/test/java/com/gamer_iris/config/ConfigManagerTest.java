@@ -5,6 +5,28 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   コネクションプール設定の追加
+# V-003      : 2026/10/18                 Gamer-Iris   ログイン時の事前取得待機時間の追加
+# V-004      : 2026/10/18                 Gamer-Iris   ロール更新確認間隔の追加
+# V-005      : 2026/10/18                 Gamer-Iris   非同期ログ出力設定の追加
+# V-006      : 2026/10/18                 Gamer-Iris   プレイヤー同期のバッチサイズ設定の追加
+# V-007      : 2026/10/18                 Gamer-Iris   挨拶メッセージの事前解析とサーバー名設定の追加
+# V-008      : 2026/10/18                 Gamer-Iris   メトリクス出力設定の追加
+# V-009      : 2026/10/18                 Gamer-Iris   キャッシュの上限件数と掃除設定の追加
+# V-010      : 2026/10/18                 Gamer-Iris   キャッシュ有効期限のナノ秒換算値を初期化時に保持
+# V-011      : 2026/10/18                 Gamer-Iris   設定値を不変のスナップショットとして保持し、再読み込みに対応
+# V-012      : 2026/10/18                 Gamer-Iris   UUID列の保存形式の設定を追加
+# V-013      : 2026/10/18                 Gamer-Iris   クリーンアップの分割削除設定の追加
+# V-014      : 2026/10/18                 Gamer-Iris   リーダー選出設定の追加
+# V-015      : 2026/10/18                 Gamer-Iris   キャッシュ無効化通知の設定を追加
+# V-016      : 2026/10/18                 Gamer-Iris   管理コマンドの実行スレッド設定を追加
+# V-017      : 2026/10/18                 Gamer-Iris   管理コマンドの実行可否キャッシュの有効期限設定を追加
+# V-018      : 2026/10/18                 Gamer-Iris   ログイン判定用BAN一覧の再構築間隔設定を追加
+# V-019      : 2026/10/18                 Gamer-Iris   管理コマンドによるプレイヤー情報の書き込み設定を追加
+# V-020      : 2026/10/18                 Gamer-Iris   DB障害時のローカルスナップショット設定のテストを追加
+# V-021      : 2026/10/18                 Gamer-Iris   BAN情報の差分反映の再走査幅と、全件確認の件数設定のテストを追加
+# V-022      : 2026/10/18                 Gamer-Iris   プレイヤーが見つからなかった結果を保持する時間の設定のテストを追加
+# V-023      : 2026/10/18                 Gamer-Iris   キャッシュ無効化通知の1回の取得件数と読み直し件数の設定のテストを追加
 # 
 ######################################################################################################################################################
 */
@@ -12,7 +34,9 @@ package com.gamer_iris.config;
 
 import com.gamer_iris.Main;
 import com.gamer_iris.exception.CriticalException;
+import com.gamer_iris.repository.UuidColumn.Storage;
 import java.io.File;
+import java.util.List;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -39,11 +63,53 @@ class ConfigManagerTest {
         when(pluginMock.getConfig()).thenReturn(configMock);
         when(pluginMock.getConfig().contains("cache")).thenReturn(true);
         when(configMock.getInt("cache.expireSeconds")).thenReturn(60);
+        when(configMock.getInt("cache.prefetchWaitMillis")).thenReturn(50);
+        when(configMock.getInt("cache.roleRefreshIntervalSeconds")).thenReturn(60);
+        when(configMock.getInt("cache.maximumSize")).thenReturn(5000);
+        when(configMock.getInt("cache.sweepIntervalSeconds")).thenReturn(60);
+        when(configMock.getInt("cache.offlineRetentionSeconds")).thenReturn(600);
+        when(configMock.getInt("cache.notFoundTtlSeconds")).thenReturn(30);
         when(configMock.getInt("log.rotationIntervalHours")).thenReturn(1);
         when(configMock.getInt("log.retentionDays")).thenReturn(7);
+        when(configMock.getInt("log.queueCapacity")).thenReturn(8192);
+        when(configMock.getString("log.overflowPolicy")).thenReturn("drop");
+        when(configMock.getInt("log.flushIntervalMillis")).thenReturn(500);
+        when(configMock.getInt("log.flushThresholdBytes")).thenReturn(65536);
         when(configMock.getInt("maintenance.cleanupIntervalHours")).thenReturn(2);
         when(configMock.getInt("maintenance.cleanupThresholdDays")).thenReturn(3);
+        when(configMock.getInt("maintenance.cleanupBatchSize")).thenReturn(1000);
+        when(configMock.getInt("maintenance.cleanupPauseMillis")).thenReturn(200);
+        when(configMock.getInt("maintenance.cleanupMaxRuntimeSeconds")).thenReturn(60);
         when(configMock.getInt("maintenance.syncIntervalSeconds")).thenReturn(30);
+        when(configMock.getInt("maintenance.syncBatchSize")).thenReturn(100);
+        when(configMock.getInt("maintenance.banRescanWindow")).thenReturn(100);
+        when(configMock.getInt("maintenance.banSweepBatchSize")).thenReturn(1000);
+        when(configMock.getInt("database.pool.maximumPoolSize")).thenReturn(10);
+        when(configMock.getInt("database.pool.connectionTimeoutMillis")).thenReturn(5000);
+        when(configMock.getInt("database.pool.maxLifetimeSeconds")).thenReturn(1800);
+        when(configMock.getInt("database.pool.validationIntervalSeconds")).thenReturn(30);
+        when(configMock.getString("database.uuidStorage")).thenReturn("text");
+        when(configMock.getInt("cluster.leaseTtlSeconds")).thenReturn(30);
+        when(configMock.getInt("cluster.leaseRenewSeconds")).thenReturn(10);
+        when(configMock.getInt("cluster.invalidationPollSeconds")).thenReturn(2);
+        when(configMock.getInt("cluster.invalidationRetentionHours")).thenReturn(24);
+        when(configMock.getInt("cluster.invalidationPollLimit")).thenReturn(500);
+        when(configMock.getInt("cluster.invalidationRescanWindow")).thenReturn(100);
+        when(configMock.getInt("command.workerThreads")).thenReturn(2);
+        when(configMock.getInt("command.maxInFlightPerSender")).thenReturn(2);
+        when(configMock.getInt("command.authorizationTtlSeconds")).thenReturn(60);
+        when(configMock.getInt("ban.rebuildIntervalSeconds")).thenReturn(300);
+        when(configMock.getInt("playerWrite.flushIntervalMillis")).thenReturn(500);
+        when(configMock.getInt("playerWrite.maxBatchSize")).thenReturn(500);
+        when(configMock.getInt("playerWrite.retryInitialMillis")).thenReturn(1000);
+        when(configMock.getInt("playerWrite.retryMaxMillis")).thenReturn(60000);
+        when(configMock.getString("playerWrite.journalFile")).thenReturn("player-writes.journal");
+        when(configMock.getInt("localSnapshot.saveIntervalSeconds")).thenReturn(300);
+        when(configMock.getInt("localSnapshot.probeIntervalSeconds")).thenReturn(10);
+        when(configMock.getString("localSnapshot.file")).thenReturn("greetmate-snapshot.bin");
+        when(configMock.getString("metrics.bindAddress")).thenReturn("127.0.0.1");
+        when(configMock.getInt("metrics.port")).thenReturn(9464);
+        when(configMock.getString("server.name")).thenReturn("TestServer");
         when(configMock.getString("default.loginMessage")).thenReturn("login");
         when(configMock.getString("default.logoutMessage")).thenReturn("logout");
         when(configMock.getString("default.kickMessage")).thenReturn("kick");
@@ -62,14 +128,55 @@ class ConfigManagerTest {
      * 有効な設定が読み込まれる場合
      */
     @Test
-    void testInit_ValidConfig() throws Exception {
+    void testInit_ValidConfig() {
         assertDoesNotThrow(() -> ConfigManager.init(pluginMock));
 
-        var method = ConfigManager.class.getDeclaredMethod("isValid");
-        method.setAccessible(true);
-        boolean result = (boolean) method.invoke(null);
+        assertEquals(60, ConfigManager.getCacheExpireSeconds());
+        assertEquals("TestServer", ConfigManager.getServerName());
+    }
+
+    /**
+     * 再読み込みで新しい設定値へ差し替わり、再起動が必要な変更のみ返される場合
+     */
+    @Test
+    void testReload_SwapsSnapshot() {
+        ConfigManager.init(pluginMock);
+        when(configMock.getInt("maintenance.syncIntervalSeconds")).thenReturn(45);
+        when(configMock.getInt("metrics.port")).thenReturn(9465);
+
+        List<String> restartRequired = ConfigManager.reload(pluginMock);
+
+        verify(pluginMock).reloadConfig();
+        assertEquals(45, ConfigManager.getSyncIntervalSeconds());
+        assertEquals(List.of("metrics.port"), restartRequired);
+    }
+
+    /**
+     * 再読み込みした設定が不正な場合
+     */
+    @Test
+    void testReload_InvalidConfig_KeepsPreviousSnapshot() {
+        ConfigManager.init(pluginMock);
+        when(configMock.getInt("maintenance.syncIntervalSeconds")).thenReturn(0);
 
-        assertTrue(result);
+        assertThrows(CriticalException.class, () -> ConfigManager.reload(pluginMock));
+        assertEquals(30, ConfigManager.getSyncIntervalSeconds());
+    }
+
+    /**
+     * デフォルトの挨拶メッセージが初期化時に解析される場合
+     */
+    @Test
+    void testInit_CompilesDefaultTemplates() {
+        when(configMock.getString("default.loginMessage")).thenReturn("{server}へようこそ %s");
+        when(configMock.getString("default.banMessage")).thenReturn("{player} 100%%");
+
+        ConfigManager.init(pluginMock);
+
+        assertEquals("TestServerへようこそ Steve", ConfigManager.getDefaultLoginTemplate().render("Steve"));
+        assertEquals("logout", ConfigManager.getDefaultLogoutTemplate().render("Steve"));
+        assertEquals("kick", ConfigManager.getDefaultKickTemplate().render("Steve"));
+        assertEquals("Steve 100%", ConfigManager.getDefaultBanTemplate().render("Steve"));
     }
 
     /**
@@ -114,6 +221,69 @@ class ConfigManagerTest {
         assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
     }
 
+    /**
+     * 事前取得の待機時間が負数の場合
+     */
+    @Test
+    void testIsValid_False_WhenPrefetchWaitMillisNegative() throws Exception {
+        when(configMock.getInt("cache.prefetchWaitMillis")).thenReturn(-1);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * ロール更新確認間隔が0の場合
+     */
+    @Test
+    void testIsValid_False_WhenRoleRefreshIntervalZero() throws Exception {
+        when(configMock.getInt("cache.roleRefreshIntervalSeconds")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * ログキュー容量が0の場合
+     */
+    @Test
+    void testIsValid_False_WhenLogQueueCapacityZero() throws Exception {
+        when(configMock.getInt("log.queueCapacity")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * ログキュー満杯時の動作が不正な場合
+     */
+    @Test
+    void testIsValid_False_WhenLogOverflowPolicyUnknown() throws Exception {
+        when(configMock.getString("log.overflowPolicy")).thenReturn("DISCARD");
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * ログ書き出し間隔が0の場合
+     */
+    @Test
+    void testIsValid_False_WhenLogFlushIntervalZero() throws Exception {
+        when(configMock.getInt("log.flushIntervalMillis")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * ログ書き出しバッファサイズが0の場合
+     */
+    @Test
+    void testIsValid_False_WhenLogFlushThresholdZero() throws Exception {
+        when(configMock.getInt("log.flushThresholdBytes")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * プレイヤー同期のバッチサイズが0の場合
+     */
+    @Test
+    void testIsValid_False_WhenSyncBatchSizeZero() throws Exception {
+        when(configMock.getInt("maintenance.syncBatchSize")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
     /**
      * ログローテーション時間が小さすぎる場合
      */
@@ -177,6 +347,355 @@ class ConfigManagerTest {
         assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
     }
 
+    /**
+     * プール最大接続数が小さすぎる場合
+     */
+    @Test
+    void testIsValid_False_WhenPoolMaximumSizeTooLow() throws Exception {
+        when(configMock.getInt("database.pool.maximumPoolSize")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * 接続取得待機時間が小さすぎる場合
+     */
+    @Test
+    void testIsValid_False_WhenPoolConnectionTimeoutTooLow() throws Exception {
+        when(configMock.getInt("database.pool.connectionTimeoutMillis")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * 接続の最大生存時間が小さすぎる場合
+     */
+    @Test
+    void testIsValid_False_WhenPoolMaxLifetimeTooLow() throws Exception {
+        when(configMock.getInt("database.pool.maxLifetimeSeconds")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * 接続検証間隔が負数の場合
+     */
+    @Test
+    void testIsValid_False_WhenPoolValidationIntervalNegative() throws Exception {
+        when(configMock.getInt("database.pool.validationIntervalSeconds")).thenReturn(-1);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * クリーンアップの分割削除設定を取得できる場合
+     */
+    @Test
+    void testGetCleanupChunkSettings() {
+        ConfigManager.init(pluginMock);
+
+        assertEquals(1000, ConfigManager.getCleanupBatchSize());
+        assertEquals(200, ConfigManager.getCleanupPauseMillis());
+        assertEquals(60, ConfigManager.getCleanupMaxRuntimeSeconds());
+    }
+
+    /**
+     * BAN情報の再走査幅と全件確認の件数を取得できる場合
+     */
+    @Test
+    void testGetBanReconcileSettings() {
+        ConfigManager.init(pluginMock);
+
+        assertEquals(100, ConfigManager.getBanRescanWindow());
+        assertEquals(1000, ConfigManager.getBanSweepBatchSize());
+    }
+
+    /**
+     * BAN情報の再走査幅が負数の場合
+     */
+    @Test
+    void testIsValid_False_WhenBanRescanWindowNegative() throws Exception {
+        when(configMock.getInt("maintenance.banRescanWindow")).thenReturn(-1);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * BAN情報の全件確認の件数が0の場合
+     */
+    @Test
+    void testIsValid_False_WhenBanSweepBatchSizeZero() throws Exception {
+        when(configMock.getInt("maintenance.banSweepBatchSize")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * クリーンアップの削除件数が0の場合
+     */
+    @Test
+    void testIsValid_False_WhenCleanupBatchSizeZero() throws Exception {
+        when(configMock.getInt("maintenance.cleanupBatchSize")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * クリーンアップの待機時間が負数の場合
+     */
+    @Test
+    void testIsValid_False_WhenCleanupPauseMillisNegative() throws Exception {
+        when(configMock.getInt("maintenance.cleanupPauseMillis")).thenReturn(-1);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * クリーンアップの実行時間の上限が0の場合
+     */
+    @Test
+    void testIsValid_False_WhenCleanupMaxRuntimeZero() throws Exception {
+        when(configMock.getInt("maintenance.cleanupMaxRuntimeSeconds")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * UUID列の保存形式を取得できる場合
+     */
+    @Test
+    void testGetUuidStorage() {
+        when(configMock.getString("database.uuidStorage")).thenReturn("binary");
+
+        ConfigManager.init(pluginMock);
+
+        assertEquals(Storage.BINARY, ConfigManager.getUuidStorage());
+    }
+
+    /**
+     * UUID列の保存形式が不正な場合
+     */
+    @Test
+    void testIsValid_False_WhenUuidStorageUnknown() throws Exception {
+        when(configMock.getString("database.uuidStorage")).thenReturn("varchar");
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * リーダー選出設定を取得できる場合
+     */
+    @Test
+    void testGetLeaderElectionSettings() {
+        when(configMock.getBoolean("cluster.leaderElection")).thenReturn(true);
+
+        ConfigManager.init(pluginMock);
+
+        assertTrue(ConfigManager.isLeaderElectionEnabled());
+        assertEquals(30, ConfigManager.getLeaseTtlSeconds());
+        assertEquals(10, ConfigManager.getLeaseRenewSeconds());
+    }
+
+    /**
+     * キャッシュ無効化通知の設定を取得できる場合
+     */
+    @Test
+    void testGetInvalidationSettings() {
+        when(configMock.getBoolean("cluster.invalidationEnabled")).thenReturn(true);
+        when(configMock.getBoolean("cluster.proxyMessaging")).thenReturn(true);
+
+        ConfigManager.init(pluginMock);
+
+        assertTrue(ConfigManager.isInvalidationEnabled());
+        assertEquals(2, ConfigManager.getInvalidationPollSeconds());
+        assertEquals(24, ConfigManager.getInvalidationRetentionHours());
+        assertEquals(500, ConfigManager.getInvalidationPollLimit());
+        assertEquals(100, ConfigManager.getInvalidationRescanWindow());
+        assertTrue(ConfigManager.isProxyMessagingEnabled());
+    }
+
+    /**
+     * 管理コマンドの実行スレッド設定を取得できる場合
+     */
+    @Test
+    void testGetCommandSettings() {
+        ConfigManager.init(pluginMock);
+
+        assertEquals(2, ConfigManager.getCommandWorkerThreads());
+        assertEquals(2, ConfigManager.getCommandMaxInFlightPerSender());
+        assertEquals(60, ConfigManager.getCommandAuthorizationTtlSeconds());
+    }
+
+    /**
+     * 管理コマンドの実行可否キャッシュの有効期限が0の場合
+     */
+    @Test
+    void testIsValid_False_WhenCommandAuthorizationTtlZero() throws Exception {
+        when(configMock.getInt("command.authorizationTtlSeconds")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * ログイン判定用BAN一覧の再構築間隔を取得できる場合
+     */
+    @Test
+    void testGetBanRebuildIntervalSeconds() {
+        ConfigManager.init(pluginMock);
+
+        assertEquals(300, ConfigManager.getBanRebuildIntervalSeconds());
+    }
+
+    /**
+     * ログイン判定用BAN一覧の再構築間隔が0の場合
+     */
+    @Test
+    void testIsValid_False_WhenBanRebuildIntervalZero() throws Exception {
+        when(configMock.getInt("ban.rebuildIntervalSeconds")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * プレイヤー情報の書き込み設定を取得できる場合
+     */
+    @Test
+    void testGetPlayerWriteSettings() {
+        ConfigManager.init(pluginMock);
+
+        assertEquals(500, ConfigManager.getPlayerWriteFlushIntervalMillis());
+        assertEquals(500, ConfigManager.getPlayerWriteMaxBatchSize());
+        assertEquals(1000, ConfigManager.getPlayerWriteRetryInitialMillis());
+        assertEquals(60000, ConfigManager.getPlayerWriteRetryMaxMillis());
+        assertEquals("player-writes.journal", ConfigManager.getPlayerWriteJournalFile());
+    }
+
+    /**
+     * プレイヤー情報の書き込みの反映間隔が0の場合
+     */
+    @Test
+    void testIsValid_False_WhenPlayerWriteFlushIntervalZero() throws Exception {
+        when(configMock.getInt("playerWrite.flushIntervalMillis")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * プレイヤー情報の書き込みの再試行待機時間の上限が初回より短い場合
+     */
+    @Test
+    void testIsValid_False_WhenPlayerWriteRetryMaxBelowInitial() throws Exception {
+        when(configMock.getInt("playerWrite.retryMaxMillis")).thenReturn(999);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * プレイヤー情報の書き込みジャーナルファイルが空の場合
+     */
+    @Test
+    void testIsValid_False_WhenPlayerWriteJournalFileBlank() throws Exception {
+        when(configMock.getString("playerWrite.journalFile")).thenReturn(" ");
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * ローカルスナップショットの設定を取得できる場合
+     */
+    @Test
+    void testGetLocalSnapshotSettings() {
+        ConfigManager.init(pluginMock);
+
+        assertEquals(300, ConfigManager.getLocalSnapshotSaveIntervalSeconds());
+        assertEquals(10, ConfigManager.getLocalSnapshotProbeIntervalSeconds());
+        assertEquals("greetmate-snapshot.bin", ConfigManager.getLocalSnapshotFile());
+    }
+
+    /**
+     * ローカルスナップショットの保存間隔が0の場合
+     */
+    @Test
+    void testIsValid_False_WhenLocalSnapshotSaveIntervalZero() throws Exception {
+        when(configMock.getInt("localSnapshot.saveIntervalSeconds")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * DB接続の復旧確認間隔が0の場合
+     */
+    @Test
+    void testIsValid_False_WhenLocalSnapshotProbeIntervalZero() throws Exception {
+        when(configMock.getInt("localSnapshot.probeIntervalSeconds")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * ローカルスナップショットのファイルが空の場合
+     */
+    @Test
+    void testIsValid_False_WhenLocalSnapshotFileBlank() throws Exception {
+        when(configMock.getString("localSnapshot.file")).thenReturn(" ");
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * 管理コマンドの実行スレッド数が0の場合
+     */
+    @Test
+    void testIsValid_False_WhenCommandWorkerThreadsZero() throws Exception {
+        when(configMock.getInt("command.workerThreads")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * 実行者ごとの同時実行数の上限が0の場合
+     */
+    @Test
+    void testIsValid_False_WhenCommandMaxInFlightZero() throws Exception {
+        when(configMock.getInt("command.maxInFlightPerSender")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * キャッシュ無効化通知の確認間隔が0の場合
+     */
+    @Test
+    void testIsValid_False_WhenInvalidationPollZero() throws Exception {
+        when(configMock.getInt("cluster.invalidationPollSeconds")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * キャッシュ無効化通知の保持期間が0の場合
+     */
+    @Test
+    void testIsValid_False_WhenInvalidationRetentionZero() throws Exception {
+        when(configMock.getInt("cluster.invalidationRetentionHours")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * キャッシュ無効化通知の読み直し件数が負の場合
+     */
+    @Test
+    void testIsValid_False_WhenInvalidationRescanWindowNegative() throws Exception {
+        when(configMock.getInt("cluster.invalidationRescanWindow")).thenReturn(-1);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * キャッシュ無効化通知の1回の取得件数が読み直し件数以下の場合
+     */
+    @Test
+    void testIsValid_False_WhenInvalidationPollLimitNotAboveRescanWindow() throws Exception {
+        when(configMock.getInt("cluster.invalidationPollLimit")).thenReturn(100);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * リースの更新間隔が0の場合
+     */
+    @Test
+    void testIsValid_False_WhenLeaseRenewZero() throws Exception {
+        when(configMock.getInt("cluster.leaseRenewSeconds")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * リースの有効期間が更新間隔以下の場合
+     */
+    @Test
+    void testIsValid_False_WhenLeaseTtlNotLongerThanRenew() throws Exception {
+        when(configMock.getInt("cluster.leaseTtlSeconds")).thenReturn(10);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
     /**
      * ログインメッセージがnullの場合
      */
@@ -195,6 +714,118 @@ class ConfigManagerTest {
         assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
     }
 
+    /**
+     * ログインメッセージの書式が不正な場合
+     */
+    @Test
+    void testIsValid_False_WhenDefaultLoginMessageMalformed() throws Exception {
+        when(configMock.getString("default.loginMessage")).thenReturn("%d さんがログインしました");
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * キャッシュの有効期限が初期化時にナノ秒へ換算される場合
+     */
+    @Test
+    void testGetCacheExpireNanos() {
+        ConfigManager.init(pluginMock);
+
+        assertEquals(60_000_000_000L, ConfigManager.getCacheExpireNanos());
+    }
+
+    /**
+     * キャッシュの上限件数と掃除設定を取得できる場合
+     */
+    @Test
+    void testGetCacheBoundSettings() {
+        ConfigManager.init(pluginMock);
+
+        assertEquals(5000, ConfigManager.getCacheMaximumSize());
+        assertEquals(60, ConfigManager.getCacheSweepIntervalSeconds());
+        assertEquals(600, ConfigManager.getCacheOfflineRetentionSeconds());
+        assertEquals(30, ConfigManager.getCacheNotFoundTtlSeconds());
+    }
+
+    /**
+     * キャッシュの最大件数が0の場合
+     */
+    @Test
+    void testIsValid_False_WhenCacheMaximumSizeZero() throws Exception {
+        when(configMock.getInt("cache.maximumSize")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * キャッシュの掃除間隔が0の場合
+     */
+    @Test
+    void testIsValid_False_WhenCacheSweepIntervalZero() throws Exception {
+        when(configMock.getInt("cache.sweepIntervalSeconds")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * ログアウト後のキャッシュ保持時間が負数の場合
+     */
+    @Test
+    void testIsValid_False_WhenCacheOfflineRetentionNegative() throws Exception {
+        when(configMock.getInt("cache.offlineRetentionSeconds")).thenReturn(-1);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * 未登録プレイヤーの保持時間が負数の場合
+     */
+    @Test
+    void testIsValid_False_WhenCacheNotFoundTtlNegative() throws Exception {
+        when(configMock.getInt("cache.notFoundTtlSeconds")).thenReturn(-1);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * メトリクス出力設定を取得できる場合
+     */
+    @Test
+    void testGetMetricsSettings() {
+        when(configMock.getBoolean("metrics.enabled")).thenReturn(true);
+
+        ConfigManager.init(pluginMock);
+
+        assertTrue(ConfigManager.isMetricsEnabled());
+        assertEquals("127.0.0.1", ConfigManager.getMetricsBindAddress());
+        assertEquals(9464, ConfigManager.getMetricsPort());
+    }
+
+    /**
+     * メトリクス出力の待ち受けアドレスがnullの場合
+     */
+    @Test
+    void testIsValid_False_WhenMetricsBindAddressNull() throws Exception {
+        when(configMock.getString("metrics.bindAddress")).thenReturn(null);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * メトリクス出力の待ち受けポートが範囲外の場合
+     */
+    @Test
+    void testIsValid_False_WhenMetricsPortOutOfRange() throws Exception {
+        when(configMock.getInt("metrics.port")).thenReturn(0);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+
+        when(configMock.getInt("metrics.port")).thenReturn(65536);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
+    /**
+     * サーバー名がnullの場合
+     */
+    @Test
+    void testIsValid_False_WhenServerNameNull() throws Exception {
+        when(configMock.getString("server.name")).thenReturn(null);
+        assertThrows(CriticalException.class, () -> ConfigManager.init(pluginMock));
+    }
+
     /**
      * ログアウトメッセージがnullの場合
      */
@@ -0,0 +1,165 @@
+/*
+######################################################################################################################################################
+# ファイル   : ConfigSnapshotTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   UUID列の保存形式の設定を追加
+# V-003      : 2026/10/18                 Gamer-Iris   クリーンアップの分割削除設定の追加
+# V-004      : 2026/10/18                 Gamer-Iris   リーダー選出設定の追加
+# V-005      : 2026/10/18                 Gamer-Iris   キャッシュ無効化通知の設定を追加
+# V-006      : 2026/10/18                 Gamer-Iris   管理コマンドの実行スレッド設定を追加
+# V-007      : 2026/10/18                 Gamer-Iris   管理コマンドの実行可否キャッシュの有効期限設定を追加
+# V-008      : 2026/10/18                 Gamer-Iris   ログイン判定用BAN一覧の再構築間隔設定を追加
+# V-009      : 2026/10/18                 Gamer-Iris   管理コマンドによるプレイヤー情報の書き込み設定を追加
+# V-010      : 2026/10/18                 Gamer-Iris   DB障害時のローカルスナップショット設定のテストを追加
+# V-011      : 2026/10/18                 Gamer-Iris   BAN情報の差分反映の再走査幅と、全件確認の件数設定をモックに追加
+# V-012      : 2026/10/18                 Gamer-Iris   プレイヤーが見つからなかった結果を保持する時間の設定をモックに追加
+# V-013      : 2026/10/18                 Gamer-Iris   キャッシュ無効化通知の1回の取得件数と読み直し件数の設定に対応
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.config;
+
+import com.gamer_iris.exception.CriticalException;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ConfigSnapshot のユニットテストクラス
+ */
+class ConfigSnapshotTest {
+
+    private FileConfiguration configMock;
+
+    /**
+     * 各テスト前の初期化処理
+     */
+    @BeforeEach
+    void setUp() {
+        configMock = mock(FileConfiguration.class);
+        when(configMock.getInt("cache.expireSeconds")).thenReturn(60);
+        when(configMock.getInt("cache.roleRefreshIntervalSeconds")).thenReturn(60);
+        when(configMock.getInt("cache.maximumSize")).thenReturn(5000);
+        when(configMock.getInt("cache.sweepIntervalSeconds")).thenReturn(60);
+        when(configMock.getInt("cache.notFoundTtlSeconds")).thenReturn(30);
+        when(configMock.getInt("log.rotationIntervalHours")).thenReturn(1);
+        when(configMock.getInt("log.retentionDays")).thenReturn(7);
+        when(configMock.getInt("log.queueCapacity")).thenReturn(8192);
+        when(configMock.getString("log.overflowPolicy")).thenReturn("drop");
+        when(configMock.getInt("log.flushIntervalMillis")).thenReturn(500);
+        when(configMock.getInt("log.flushThresholdBytes")).thenReturn(65536);
+        when(configMock.getInt("maintenance.cleanupIntervalHours")).thenReturn(2);
+        when(configMock.getInt("maintenance.cleanupThresholdDays")).thenReturn(3);
+        when(configMock.getInt("maintenance.cleanupBatchSize")).thenReturn(1000);
+        when(configMock.getInt("maintenance.cleanupMaxRuntimeSeconds")).thenReturn(60);
+        when(configMock.getInt("maintenance.syncIntervalSeconds")).thenReturn(30);
+        when(configMock.getInt("maintenance.syncBatchSize")).thenReturn(100);
+        when(configMock.getInt("maintenance.banRescanWindow")).thenReturn(100);
+        when(configMock.getInt("maintenance.banSweepBatchSize")).thenReturn(1000);
+        when(configMock.getInt("database.pool.maximumPoolSize")).thenReturn(10);
+        when(configMock.getInt("database.pool.connectionTimeoutMillis")).thenReturn(5000);
+        when(configMock.getInt("database.pool.maxLifetimeSeconds")).thenReturn(1800);
+        when(configMock.getInt("database.pool.validationIntervalSeconds")).thenReturn(30);
+        when(configMock.getString("database.uuidStorage")).thenReturn("TEXT");
+        when(configMock.getInt("cluster.leaseTtlSeconds")).thenReturn(30);
+        when(configMock.getInt("cluster.leaseRenewSeconds")).thenReturn(10);
+        when(configMock.getInt("cluster.invalidationPollSeconds")).thenReturn(2);
+        when(configMock.getInt("cluster.invalidationRetentionHours")).thenReturn(24);
+        when(configMock.getInt("cluster.invalidationPollLimit")).thenReturn(500);
+        when(configMock.getInt("cluster.invalidationRescanWindow")).thenReturn(100);
+        when(configMock.getInt("command.workerThreads")).thenReturn(2);
+        when(configMock.getInt("command.maxInFlightPerSender")).thenReturn(2);
+        when(configMock.getInt("command.authorizationTtlSeconds")).thenReturn(60);
+        when(configMock.getInt("ban.rebuildIntervalSeconds")).thenReturn(300);
+        when(configMock.getInt("playerWrite.flushIntervalMillis")).thenReturn(500);
+        when(configMock.getInt("playerWrite.maxBatchSize")).thenReturn(500);
+        when(configMock.getInt("playerWrite.retryInitialMillis")).thenReturn(1000);
+        when(configMock.getInt("playerWrite.retryMaxMillis")).thenReturn(60000);
+        when(configMock.getString("playerWrite.journalFile")).thenReturn("player-writes.journal");
+        when(configMock.getInt("localSnapshot.saveIntervalSeconds")).thenReturn(300);
+        when(configMock.getInt("localSnapshot.probeIntervalSeconds")).thenReturn(10);
+        when(configMock.getString("localSnapshot.file")).thenReturn("greetmate-snapshot.bin");
+        when(configMock.getString("metrics.bindAddress")).thenReturn("127.0.0.1");
+        when(configMock.getInt("metrics.port")).thenReturn(9464);
+        when(configMock.getString("server.name")).thenReturn("TestServer");
+        when(configMock.getString("default.loginMessage")).thenReturn("login");
+        when(configMock.getString("default.logoutMessage")).thenReturn("logout");
+        when(configMock.getString("default.kickMessage")).thenReturn("kick");
+        when(configMock.getString("default.banMessage")).thenReturn("ban");
+    }
+
+    /**
+     * 有効な設定から値が読み取られる場合
+     */
+    @Test
+    void testLoad_ValidConfig() {
+        ConfigSnapshot snapshot = ConfigSnapshot.load(configMock);
+
+        assertTrue(snapshot.isValid());
+        assertEquals(60_000_000_000L, snapshot.cacheExpireNanos);
+        assertEquals("login", snapshot.defaultLoginTemplate.render("Steve"));
+    }
+
+    /**
+     * 不正な値を含む設定の場合
+     */
+    @Test
+    void testLoad_InvalidConfig_ThrowsCriticalException() {
+        when(configMock.getInt("cache.expireSeconds")).thenReturn(0);
+
+        assertThrows(CriticalException.class, () -> ConfigSnapshot.load(configMock));
+    }
+
+    /**
+     * 実行中に反映できる設定のみ変更された場合
+     */
+    @Test
+    void testRestartRequiredChanges_None() {
+        ConfigSnapshot previous = ConfigSnapshot.load(configMock);
+        when(configMock.getInt("maintenance.syncIntervalSeconds")).thenReturn(45);
+        when(configMock.getString("server.name")).thenReturn("OtherServer");
+
+        assertTrue(ConfigSnapshot.load(configMock).restartRequiredChanges(previous).isEmpty());
+    }
+
+    /**
+     * 再起動が必要な設定がすべて変更された場合
+     */
+    @Test
+    void testRestartRequiredChanges_All() {
+        ConfigSnapshot previous = ConfigSnapshot.load(configMock);
+        when(configMock.getInt("log.queueCapacity")).thenReturn(1024);
+        when(configMock.getString("log.overflowPolicy")).thenReturn("block");
+        when(configMock.getInt("log.flushIntervalMillis")).thenReturn(1000);
+        when(configMock.getInt("log.flushThresholdBytes")).thenReturn(1024);
+        when(configMock.getInt("database.pool.maximumPoolSize")).thenReturn(20);
+        when(configMock.getInt("database.pool.connectionTimeoutMillis")).thenReturn(1000);
+        when(configMock.getInt("database.pool.maxLifetimeSeconds")).thenReturn(600);
+        when(configMock.getInt("database.pool.validationIntervalSeconds")).thenReturn(0);
+        when(configMock.getString("database.uuidStorage")).thenReturn("DUAL");
+        when(configMock.getBoolean("cluster.leaderElection")).thenReturn(true);
+        when(configMock.getBoolean("cluster.invalidationEnabled")).thenReturn(true);
+        when(configMock.getBoolean("cluster.proxyMessaging")).thenReturn(true);
+        when(configMock.getInt("command.workerThreads")).thenReturn(4);
+        when(configMock.getInt("command.maxInFlightPerSender")).thenReturn(1);
+        when(configMock.getString("playerWrite.journalFile")).thenReturn("other.journal");
+        when(configMock.getBoolean("metrics.enabled")).thenReturn(true);
+        when(configMock.getString("metrics.bindAddress")).thenReturn("0.0.0.0");
+        when(configMock.getInt("metrics.port")).thenReturn(9465);
+
+        List<String> changed = ConfigSnapshot.load(configMock).restartRequiredChanges(previous);
+
+        assertEquals(List.of("log.queueCapacity", "log.overflowPolicy", "log.flushIntervalMillis",
+                "log.flushThresholdBytes", "database.pool.maximumPoolSize", "database.pool.connectionTimeoutMillis",
+                "database.pool.maxLifetimeSeconds", "database.pool.validationIntervalSeconds", "database.uuidStorage",
+                "cluster.leaderElection", "cluster.invalidationEnabled", "cluster.proxyMessaging", "command.workerThreads",
+                "command.maxInFlightPerSender", "playerWrite.journalFile", "metrics.enabled", "metrics.bindAddress", "metrics.port"), changed);
+    }
+
+}
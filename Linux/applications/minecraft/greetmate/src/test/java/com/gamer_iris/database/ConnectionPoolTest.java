@@ -0,0 +1,286 @@
+/*
+######################################################################################################################################################
+# ファイル   : ConnectionPoolTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.database;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * ConnectionPool のユニットテストクラス
+ */
+class ConnectionPoolTest {
+
+    private MockedStatic<DriverManager> dmMock;
+    private Connection raw;
+
+    /**
+     * 各テスト前の初期化処理
+     */
+    @BeforeEach
+    void setUp() throws Exception {
+        raw = mock(Connection.class);
+        when(raw.getAutoCommit()).thenReturn(true);
+        dmMock = mockStatic(DriverManager.class);
+        dmMock.when(() -> DriverManager.getConnection(any(), any(), any())).thenReturn(raw);
+    }
+
+    /**
+     * 各テスト後の後処理
+     */
+    @AfterEach
+    void tearDown() {
+        dmMock.close();
+    }
+
+    /**
+     * 返却された接続が再利用される場合
+     */
+    @Test
+    void testBorrow_ReusesReturnedConnection() throws Exception {
+        ConnectionPool pool = new ConnectionPool("url", "user", "pass", 2, 100, 60, 60);
+
+        Connection first = pool.borrow();
+        first.close();
+        Connection second = pool.borrow();
+        second.close();
+
+        dmMock.verify(() -> DriverManager.getConnection("url", "user", "pass"), times(1));
+        assertEquals(1, pool.getStats().getCreated());
+        assertEquals(1, pool.getStats().getIdle());
+        assertEquals(0, pool.getStats().getActive());
+    }
+
+    /**
+     * 借用した接続の呼び出しが物理接続へ委譲される場合
+     */
+    @Test
+    void testBorrow_DelegatesToRawConnection() throws Exception {
+        PreparedStatement stmt = mock(PreparedStatement.class);
+        when(raw.prepareStatement("SELECT 1")).thenReturn(stmt);
+        ConnectionPool pool = new ConnectionPool("url", "user", "pass", 1, 100, 60, 60);
+
+        try (Connection conn = pool.borrow()) {
+            assertSame(stmt, conn.prepareStatement("SELECT 1"));
+            assertFalse(conn.isClosed());
+            assertEquals(conn, conn);
+            assertNotEquals(conn, raw);
+            assertEquals(System.identityHashCode(conn), conn.hashCode());
+            assertTrue(conn.toString().startsWith("PooledConnection["));
+        }
+        verify(raw, never()).close();
+    }
+
+    /**
+     * 物理接続が例外を送出した場合にそのまま伝播する場合
+     */
+    @Test
+    void testBorrow_PropagatesRawException() throws Exception {
+        SQLException error = new SQLException("構文エラー");
+        when(raw.prepareStatement(any())).thenThrow(error);
+        ConnectionPool pool = new ConnectionPool("url", "user", "pass", 1, 100, 60, 60);
+
+        try (Connection conn = pool.borrow()) {
+            SQLException ex = assertThrows(SQLException.class, () -> conn.prepareStatement("x"));
+            assertEquals("構文エラー", ex.getMessage());
+        }
+    }
+
+    /**
+     * 返却済みの接続を使用した場合
+     */
+    @Test
+    void testHandle_UseAfterClose_Throws() throws Exception {
+        ConnectionPool pool = new ConnectionPool("url", "user", "pass", 1, 100, 60, 60);
+
+        Connection conn = pool.borrow();
+        conn.close();
+        conn.close();
+
+        assertTrue(conn.isClosed());
+        assertThrows(SQLException.class, () -> conn.prepareStatement("SELECT 1"));
+        assertEquals(0, pool.getStats().getActive());
+    }
+
+    /**
+     * 上限到達時に待機時間を超過した場合
+     */
+    @Test
+    void testBorrow_TimesOut_WhenPoolExhausted() throws Exception {
+        ConnectionPool pool = new ConnectionPool("url", "user", "pass", 1, 50, 60, 60);
+
+        Connection held = pool.borrow();
+        assertThrows(SQLTimeoutException.class, pool::borrow);
+        assertEquals(1, pool.getStats().getTimeouts());
+        held.close();
+
+        assertDoesNotThrow(() -> pool.borrow().close());
+    }
+
+    /**
+     * 待機中に割り込みが発生した場合
+     */
+    @Test
+    void testBorrow_Interrupted() throws Exception {
+        ConnectionPool pool = new ConnectionPool("url", "user", "pass", 1, 5000, 60, 60);
+        Connection held = pool.borrow();
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(SQLException.class, pool::borrow);
+            assertTrue(Thread.interrupted());
+        } finally {
+            held.close();
+        }
+    }
+
+    /**
+     * 物理接続の生成に失敗した場合に接続枠が解放される場合
+     */
+    @Test
+    void testBorrow_ReleasesPermit_WhenCreateFails() throws Exception {
+        SQLException refused = new SQLException("接続拒否");
+        dmMock.when(() -> DriverManager.getConnection(any(), any(), any()))
+                .thenThrow(refused)
+                .thenReturn(raw);
+        ConnectionPool pool = new ConnectionPool("url", "user", "pass", 1, 50, 60, 60);
+
+        assertThrows(SQLException.class, pool::borrow);
+        assertDoesNotThrow(() -> pool.borrow().close());
+    }
+
+    /**
+     * 最大生存時間を超えた接続が破棄される場合
+     */
+    @Test
+    void testRelease_DiscardsExpiredConnection() throws Exception {
+        ConnectionPool pool = new ConnectionPool("url", "user", "pass", 1, 100, 0, 60);
+
+        pool.borrow().close();
+
+        verify(raw).close();
+        assertEquals(0, pool.getStats().getIdle());
+        assertEquals(1, pool.getStats().getClosed());
+    }
+
+    /**
+     * 自動コミットが無効のまま返却された場合にロールバックされる場合
+     */
+    @Test
+    void testRelease_RollsBackOpenTransaction() throws Exception {
+        when(raw.getAutoCommit()).thenReturn(false);
+        ConnectionPool pool = new ConnectionPool("url", "user", "pass", 1, 100, 60, 60);
+
+        pool.borrow().close();
+
+        verify(raw).rollback();
+        verify(raw).setAutoCommit(true);
+        assertEquals(1, pool.getStats().getIdle());
+    }
+
+    /**
+     * 返却時の状態確認に失敗した場合に破棄される場合
+     */
+    @Test
+    void testRelease_DiscardsOnSQLException() throws Exception {
+        SQLException disconnected = new SQLException("切断");
+        SQLException closeFailed = new SQLException("close失敗");
+        when(raw.isClosed()).thenThrow(disconnected);
+        doThrow(closeFailed).when(raw).close();
+        ConnectionPool pool = new ConnectionPool("url", "user", "pass", 1, 100, 60, 60);
+
+        pool.borrow().close();
+
+        assertEquals(0, pool.getStats().getIdle());
+        assertEquals(1, pool.getStats().getClosed());
+    }
+
+    /**
+     * 長時間アイドルの接続が検証に失敗し作り直される場合
+     */
+    @Test
+    void testBorrow_ValidatesIdleConnection() throws Exception {
+        Connection fresh = mock(Connection.class);
+        when(raw.isValid(anyInt())).thenReturn(false);
+        dmMock.when(() -> DriverManager.getConnection(any(), any(), any())).thenReturn(raw, fresh);
+        ConnectionPool pool = new ConnectionPool("url", "user", "pass", 1, 100, 60, 0);
+
+        pool.borrow().close();
+        try (Connection conn = pool.borrow()) {
+            conn.getMetaData();
+        }
+
+        verify(raw).close();
+        verify(fresh).getMetaData();
+        assertEquals(2, pool.getStats().getCreated());
+    }
+
+    /**
+     * 検証時に例外が発生した接続が破棄される場合
+     */
+    @Test
+    void testBorrow_ValidationThrows() throws Exception {
+        SQLException invalid = new SQLException("検証失敗");
+        when(raw.isValid(anyInt())).thenThrow(invalid);
+        ConnectionPool pool = new ConnectionPool("url", "user", "pass", 1, 100, 60, 0);
+
+        pool.borrow().close();
+        pool.borrow().close();
+
+        assertEquals(2, pool.getStats().getCreated());
+    }
+
+    /**
+     * 停止後の借用と返却の挙動
+     */
+    @Test
+    void testShutdown_ClosesIdleAndRejectsBorrow() throws Exception {
+        ConnectionPool pool = new ConnectionPool("url", "user", "pass", 2, 100, 60, 60);
+
+        Connection active = pool.borrow();
+        pool.borrow().close();
+        pool.shutdown();
+
+        assertThrows(SQLException.class, pool::borrow);
+        active.close();
+
+        assertEquals(0, pool.getStats().getIdle());
+        assertEquals(2, pool.getStats().getClosed());
+    }
+
+    /**
+     * 統計の文字列表現
+     */
+    @Test
+    void testStats_ToString() throws Exception {
+        ConnectionPool pool = new ConnectionPool("url", "user", "pass", 3, 100, 60, 60);
+        Connection conn = pool.borrow();
+
+        ConnectionPool.Stats stats = pool.getStats();
+        assertEquals(1, stats.getActive());
+        assertEquals(0, stats.getWaiting());
+        assertEquals(3, stats.getMaximumPoolSize());
+        assertTrue(stats.toString().contains("active=1"));
+        assertTrue(stats.toString().contains("max=3"));
+        conn.close();
+    }
+
+}
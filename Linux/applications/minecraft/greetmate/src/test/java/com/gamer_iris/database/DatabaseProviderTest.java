@@ -5,12 +5,16 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   コネクションプール対応
 # 
 ######################################################################################################################################################
 */
 package com.gamer_iris.database;
 
+import com.gamer_iris.config.ConfigManager;
 import com.gamer_iris.exception.CriticalException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import java.io.File;
@@ -23,12 +27,38 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * DatabaseProvider のユニットテストクラス
  */
 class DatabaseProviderTest {
 
+    private MockedStatic<ConfigManager> configMock;
+
+    /**
+     * プール設定のモック
+     */
+    @BeforeEach
+    void setUp() {
+        configMock = mockStatic(ConfigManager.class);
+        configMock.when(ConfigManager::getPoolMaximumSize).thenReturn(2);
+        configMock.when(ConfigManager::getPoolConnectionTimeoutMillis).thenReturn(100);
+        configMock.when(ConfigManager::getPoolMaxLifetimeSeconds).thenReturn(60);
+        configMock.when(ConfigManager::getPoolValidationIntervalSeconds).thenReturn(30);
+    }
+
+    /**
+     * プール破棄とモック解放
+     */
+    @AfterEach
+    void tearDown() {
+        DatabaseProvider.shutdown();
+        configMock.close();
+    }
+
     /**
      * コンストラクタのカバレッジ確認
      */
@@ -66,8 +96,62 @@ class DatabaseProviderTest {
                     .execute(() -> {
                         Connection conn = DatabaseProvider.getConnection();
                         assertNotNull(conn);
-                        assertEquals(mockConn, conn);
+                        conn.getMetaData();
+                        verify(mockConn).getMetaData();
+                        conn.close();
+                    });
+        }
+    }
+
+    /**
+     * 返却された接続がプールで再利用され統計に反映される場合
+     */
+    @Test
+    void testGetConnection_ReusesPooledConnection() throws Exception {
+        Connection mockConn = mock(Connection.class);
+        when(mockConn.getAutoCommit()).thenReturn(true);
+
+        try (MockedStatic<DriverManager> dmMock = mockStatic(DriverManager.class)) {
+            dmMock.when(() -> DriverManager.getConnection(any(), any(), any())).thenReturn(mockConn);
+
+            withEnvironmentVariable("MINECRAFT_DB_URL", "jdbc:mariadb://localhost/test")
+                    .and("MINECRAFT_DB_USER", "user")
+                    .and("MINECRAFT_DB_PASSWORD", "pass")
+                    .execute(() -> {
+                        assertNull(DatabaseProvider.getPoolStats());
+                        DatabaseProvider.getConnection().close();
+                        DatabaseProvider.getConnection().close();
+
+                        ConnectionPool.Stats stats = DatabaseProvider.getPoolStats();
+                        assertNotNull(stats);
+                        assertEquals(1, stats.getCreated());
+                        assertEquals(1, stats.getIdle());
+                        assertEquals(2, stats.getMaximumPoolSize());
                     });
+
+            dmMock.verify(() -> DriverManager.getConnection(any(), any(), any()), times(1));
+        }
+    }
+
+    /**
+     * プール停止時に保持している接続が破棄される場合
+     */
+    @Test
+    void testShutdown_ClosesPooledConnections() throws Exception {
+        Connection mockConn = mock(Connection.class);
+        when(mockConn.getAutoCommit()).thenReturn(true);
+
+        try (MockedStatic<DriverManager> dmMock = mockStatic(DriverManager.class)) {
+            dmMock.when(() -> DriverManager.getConnection(any(), any(), any())).thenReturn(mockConn);
+
+            withEnvironmentVariable("MINECRAFT_DB_URL", "jdbc:mariadb://localhost/test")
+                    .and("MINECRAFT_DB_USER", "user")
+                    .and("MINECRAFT_DB_PASSWORD", "pass")
+                    .execute(() -> DatabaseProvider.getConnection().close());
+
+            DatabaseProvider.shutdown();
+            verify(mockConn).close();
+            assertNull(DatabaseProvider.getPoolStats());
         }
     }
 
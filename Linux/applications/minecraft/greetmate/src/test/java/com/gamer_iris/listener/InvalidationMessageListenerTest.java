@@ -0,0 +1,79 @@
+/*
+######################################################################################################################################################
+# ファイル   : InvalidationMessageListenerTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.listener;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.cache.CacheInvalidator;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import java.util.UUID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * InvalidationMessageListener のユニットテストクラス
+ */
+class InvalidationMessageListenerTest {
+
+    private final InvalidationMessageListener listener = new InvalidationMessageListener();
+
+    /**
+     * 他のサーバーからの無効化通知を受信した場合
+     */
+    @Test
+    void testOnPluginMessageReceived_InvalidatesAsync() {
+        UUID uuid = UUID.randomUUID();
+        byte[] message = new byte[] { 1 };
+        Main plugin = mock(Main.class);
+        BukkitScheduler scheduler = mock(BukkitScheduler.class);
+
+        try (
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class);
+                MockedStatic<Main> mainMock = mockStatic(Main.class);
+                MockedStatic<CacheInvalidator> invalidatorMock = mockStatic(CacheInvalidator.class)) {
+            bukkitMock.when(Bukkit::getScheduler).thenReturn(scheduler);
+            mainMock.when(Main::getInstance).thenReturn(plugin);
+            invalidatorMock.when(() -> CacheInvalidator.decodeForward(message)).thenReturn(uuid);
+
+            listener.onPluginMessageReceived("BungeeCord", mock(Player.class), message);
+
+            invalidatorMock.verify(() -> CacheInvalidator.invalidate(any(UUID.class)), never());
+            ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+            verify(scheduler).runTaskAsynchronously(eq(plugin), task.capture());
+            task.getValue().run();
+            invalidatorMock.verify(() -> CacheInvalidator.invalidate(uuid));
+        }
+    }
+
+    /**
+     * 無効化通知ではないメッセージを受信した場合
+     */
+    @Test
+    void testOnPluginMessageReceived_IgnoresOtherMessages() {
+        BukkitScheduler scheduler = mock(BukkitScheduler.class);
+
+        try (
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class);
+                MockedStatic<CacheInvalidator> invalidatorMock = mockStatic(CacheInvalidator.class)) {
+            bukkitMock.when(Bukkit::getScheduler).thenReturn(scheduler);
+
+            listener.onPluginMessageReceived("BungeeCord", mock(Player.class), new byte[0]);
+
+            verifyNoInteractions(scheduler);
+        }
+    }
+
+}
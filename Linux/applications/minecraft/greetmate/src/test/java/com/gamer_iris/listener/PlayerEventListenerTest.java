@@ -5,15 +5,26 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   ログイン前の非同期事前取得に対応
+# V-003      : 2026/10/18                 Gamer-Iris   ログイン・ログアウト状態をキャッシュへ通知
+# V-004      : 2026/10/18                 Gamer-Iris   ログアウト時に管理コマンドの実行可否キャッシュを削除
+# V-005      : 2026/10/18                 Gamer-Iris   ログイン時にプレイヤー名索引を更新
+# V-006      : 2026/10/18                 Gamer-Iris   ログイン前にBAN中のプレイヤーを拒否
 # 
 ######################################################################################################################################################
 */
 package com.gamer_iris.listener;
 
+import com.gamer_iris.cache.AdminAuthorizationCache;
+import com.gamer_iris.cache.BanRegistry;
+import com.gamer_iris.cache.GreetingPrefetcher;
+import com.gamer_iris.cache.PlayerNameIndex;
 import com.gamer_iris.cache.UserGreetingCacheManager;
+import com.gamer_iris.config.ConfigManager;
 import com.gamer_iris.logging.LogWriter;
 import com.gamer_iris.notification.NotificationDispatcher;
 import org.bukkit.entity.Player;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerKickEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
@@ -48,39 +59,126 @@ class PlayerEventListenerTest {
     }
 
     /**
-     * キャッシュが存在しない状態でログインイベントが発生した場合
+     * BAN中のプレイヤーのログインが理由付きで拒否される場合
      */
     @Test
-    void testOnPlayerJoin_WhenCacheMissing() {
+    void testOnAsyncPlayerPreLoginBanCheck_DisallowsBanned() {
+        AsyncPlayerPreLoginEvent event = mock(AsyncPlayerPreLoginEvent.class);
+        when(event.getLoginResult()).thenReturn(AsyncPlayerPreLoginEvent.Result.ALLOWED);
+        when(event.getUniqueId()).thenReturn(uuid);
+        when(event.getName()).thenReturn(name);
+
+        try (
+                MockedStatic<BanRegistry> banMock = mockStatic(BanRegistry.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            banMock.when(() -> BanRegistry.findReason(uuid)).thenReturn("spam");
+            listener.onAsyncPlayerPreLoginBanCheck(event);
+            verify(event).disallow(eq(AsyncPlayerPreLoginEvent.Result.KICK_BANNED), contains("理由: spam"));
+            logMock.verify(() -> LogWriter.writeInfo(contains("ログインを拒否しました: " + name)));
+        }
+    }
+
+    /**
+     * BANされていないプレイヤーのログインは拒否しない場合
+     */
+    @Test
+    void testOnAsyncPlayerPreLoginBanCheck_AllowsNotBanned() {
+        AsyncPlayerPreLoginEvent event = mock(AsyncPlayerPreLoginEvent.class);
+        when(event.getLoginResult()).thenReturn(AsyncPlayerPreLoginEvent.Result.ALLOWED);
+        when(event.getUniqueId()).thenReturn(uuid);
+
+        try (MockedStatic<BanRegistry> banMock = mockStatic(BanRegistry.class)) {
+            listener.onAsyncPlayerPreLoginBanCheck(event);
+            banMock.verify(() -> BanRegistry.findReason(uuid));
+            verify(event, never()).disallow(any(), anyString());
+        }
+    }
+
+    /**
+     * 既にログインが拒否されている場合はBAN判定しない場合
+     */
+    @Test
+    void testOnAsyncPlayerPreLoginBanCheck_SkipsWhenDisallowed() {
+        AsyncPlayerPreLoginEvent event = mock(AsyncPlayerPreLoginEvent.class);
+        when(event.getLoginResult()).thenReturn(AsyncPlayerPreLoginEvent.Result.KICK_WHITELIST);
+
+        try (MockedStatic<BanRegistry> banMock = mockStatic(BanRegistry.class)) {
+            listener.onAsyncPlayerPreLoginBanCheck(event);
+            banMock.verifyNoInteractions();
+        }
+    }
+
+    /**
+     * ログイン前イベントで事前取得が実行される場合
+     */
+    @Test
+    void testOnAsyncPlayerPreLogin_Prefetches() {
+        AsyncPlayerPreLoginEvent event = mock(AsyncPlayerPreLoginEvent.class);
+        when(event.getLoginResult()).thenReturn(AsyncPlayerPreLoginEvent.Result.ALLOWED);
+        when(event.getUniqueId()).thenReturn(uuid);
+
+        try (MockedStatic<GreetingPrefetcher> prefetchMock = mockStatic(GreetingPrefetcher.class)) {
+            listener.onAsyncPlayerPreLogin(event);
+            prefetchMock.verify(() -> GreetingPrefetcher.prefetch(uuid));
+        }
+    }
+
+    /**
+     * ログインが拒否されている場合は事前取得しない場合
+     */
+    @Test
+    void testOnAsyncPlayerPreLogin_SkipsWhenDisallowed() {
+        AsyncPlayerPreLoginEvent event = mock(AsyncPlayerPreLoginEvent.class);
+        when(event.getLoginResult()).thenReturn(AsyncPlayerPreLoginEvent.Result.KICK_BANNED);
+
+        try (MockedStatic<GreetingPrefetcher> prefetchMock = mockStatic(GreetingPrefetcher.class)) {
+            listener.onAsyncPlayerPreLogin(event);
+            prefetchMock.verifyNoInteractions();
+        }
+    }
+
+    /**
+     * 事前取得が間に合わなかった状態でログインイベントが発生した場合
+     */
+    @Test
+    void testOnPlayerJoin_WhenPrefetchNotCompleted() {
         PlayerJoinEvent event = mock(PlayerJoinEvent.class);
         when(event.getPlayer()).thenReturn(player);
 
         try (
-                MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class);
+                MockedStatic<GreetingPrefetcher> prefetchMock = mockStatic(GreetingPrefetcher.class);
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
                 MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class);
                 MockedStatic<NotificationDispatcher> notifyMock = mockStatic(NotificationDispatcher.class)) {
-            cacheMock.when(() -> UserGreetingCacheManager.contains(uuid)).thenReturn(false);
+            configMock.when(ConfigManager::getPrefetchWaitMillis).thenReturn(50);
+            prefetchMock.when(() -> GreetingPrefetcher.awaitPrefetch(uuid, 50L)).thenReturn(false);
             listener.onPlayerJoin(event);
-            cacheMock.verify(() -> UserGreetingCacheManager.buildAndCache(uuid));
-            logMock.verify(() -> LogWriter.writeInfo(contains("キャッシュ構築")));
+            prefetchMock.verify(() -> GreetingPrefetcher.prefetchAsync(uuid));
+            logMock.verify(() -> LogWriter.writeInfo(contains("キャッシュを非同期構築")));
             notifyMock.verify(() -> NotificationDispatcher.broadcastLoginMessage(uuid, name));
         }
     }
 
     /**
-     * キャッシュが存在する状態でログインイベントが発生した場合
+     * 事前取得が完了している状態でログインイベントが発生した場合
      */
     @Test
-    void testOnPlayerJoin_WhenCacheExists() {
+    void testOnPlayerJoin_WhenPrefetchCompleted() {
         PlayerJoinEvent event = mock(PlayerJoinEvent.class);
         when(event.getPlayer()).thenReturn(player);
 
         try (
+                MockedStatic<GreetingPrefetcher> prefetchMock = mockStatic(GreetingPrefetcher.class);
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
                 MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class);
+                MockedStatic<PlayerNameIndex> indexMock = mockStatic(PlayerNameIndex.class);
                 MockedStatic<NotificationDispatcher> notifyMock = mockStatic(NotificationDispatcher.class)) {
-            cacheMock.when(() -> UserGreetingCacheManager.contains(uuid)).thenReturn(true);
+            configMock.when(ConfigManager::getPrefetchWaitMillis).thenReturn(50);
+            prefetchMock.when(() -> GreetingPrefetcher.awaitPrefetch(uuid, 50L)).thenReturn(true);
             listener.onPlayerJoin(event);
-            cacheMock.verify(() -> UserGreetingCacheManager.buildAndCache(uuid), never());
+            prefetchMock.verify(() -> GreetingPrefetcher.prefetchAsync(uuid), never());
+            cacheMock.verify(() -> UserGreetingCacheManager.markOnline(uuid));
+            indexMock.verify(() -> PlayerNameIndex.put(uuid, name));
             notifyMock.verify(() -> NotificationDispatcher.broadcastLoginMessage(uuid, name));
         }
     }
@@ -93,9 +191,13 @@ class PlayerEventListenerTest {
         PlayerQuitEvent event = mock(PlayerQuitEvent.class);
         when(event.getPlayer()).thenReturn(player);
 
-        try (MockedStatic<NotificationDispatcher> notifyMock = mockStatic(NotificationDispatcher.class)) {
+        try (MockedStatic<NotificationDispatcher> notifyMock = mockStatic(NotificationDispatcher.class);
+                MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class);
+                MockedStatic<AdminAuthorizationCache> authMock = mockStatic(AdminAuthorizationCache.class)) {
             listener.onPlayerQuit(event);
             notifyMock.verify(() -> NotificationDispatcher.broadcastLogoutMessage(uuid, name));
+            cacheMock.verify(() -> UserGreetingCacheManager.markOffline(uuid));
+            authMock.verify(() -> AdminAuthorizationCache.remove(uuid));
         }
     }
 
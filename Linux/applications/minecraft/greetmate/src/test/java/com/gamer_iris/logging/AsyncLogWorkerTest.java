@@ -0,0 +1,234 @@
+/*
+######################################################################################################################################################
+# ファイル   : AsyncLogWorkerTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   キュー滞留件数の取得を追加
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.logging;
+
+import com.gamer_iris.logging.AsyncLogWorker.OverflowPolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import static com.github.stefanbirkner.systemlambda.SystemLambda.tapSystemErr;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AsyncLogWorker のユニットテストクラス
+ */
+class AsyncLogWorkerTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * 設定値から動作を取得する場合
+     */
+    @Test
+    void testOverflowPolicy_FromName() {
+        assertEquals(OverflowPolicy.DROP, OverflowPolicy.fromName("drop"));
+        assertEquals(OverflowPolicy.CALLER_RUNS, OverflowPolicy.fromName("CALLER_RUNS"));
+        assertNull(OverflowPolicy.fromName("DISCARD"));
+        assertNull(OverflowPolicy.fromName(null));
+    }
+
+    /**
+     * 各レベルのログがそれぞれのファイルへ書き出される場合
+     */
+    @Test
+    void testStartAndStop_WritesEachLevel() throws Exception {
+        AsyncLogWorker worker = new AsyncLogWorker(tempDir, 64, OverflowPolicy.DROP, 60_000, 65536);
+        worker.start();
+
+        assertTrue(worker.submit(entry(LogWriter.Level.INFO, "info")));
+        assertTrue(worker.submit(entry(LogWriter.Level.WARN, "warn")));
+        assertTrue(worker.submit(new LogWriter.Entry(LogWriter.Level.ERROR, "error", new IllegalStateException("原因"))));
+        worker.stop();
+
+        assertTrue(read("info.log").get(0).endsWith("[INFO] info"));
+        assertTrue(read("warn.log").get(0).endsWith("[WARN] warn"));
+        List<String> error = read("error.log");
+        assertTrue(error.get(0).endsWith("[ERROR] error"));
+        assertEquals("Caused by: java.lang.IllegalStateException: 原因", error.get(1));
+    }
+
+    /**
+     * 停止後の登録が拒否される場合
+     */
+    @Test
+    void testSubmit_AfterStop_ReturnsFalse() {
+        AsyncLogWorker worker = new AsyncLogWorker(tempDir, 2, OverflowPolicy.DROP, 60_000, 65536);
+        worker.stop();
+
+        assertFalse(worker.submit(entry(LogWriter.Level.INFO, "late")));
+    }
+
+    /**
+     * キュー満杯時に破棄され、破棄件数がWARNへ出力される場合
+     */
+    @Test
+    void testSubmit_Drop_ReportsDroppedCount() throws Exception {
+        AsyncLogWorker worker = new AsyncLogWorker(tempDir, 2, OverflowPolicy.DROP, 60_000, 65536);
+
+        assertTrue(worker.submit(entry(LogWriter.Level.INFO, "1")));
+        assertTrue(worker.submit(entry(LogWriter.Level.INFO, "2")));
+        assertTrue(worker.submit(entry(LogWriter.Level.INFO, "3")));
+        worker.stop();
+
+        assertEquals(2, read("info.log").size());
+        assertTrue(read("warn.log").get(0).contains("1 件のログを破棄しました"));
+    }
+
+    /**
+     * キュー満杯時に呼び出し元での書き込みを要求する場合
+     */
+    @Test
+    void testSubmit_CallerRuns_ReturnsFalseWhenFull() {
+        AsyncLogWorker worker = new AsyncLogWorker(tempDir, 2, OverflowPolicy.CALLER_RUNS, 60_000, 65536);
+
+        assertTrue(worker.submit(entry(LogWriter.Level.INFO, "1")));
+        assertTrue(worker.submit(entry(LogWriter.Level.INFO, "2")));
+        assertFalse(worker.submit(entry(LogWriter.Level.INFO, "3")));
+        assertEquals(2, worker.getQueueSize());
+        worker.stop();
+    }
+
+    /**
+     * キュー満杯時に空きができるまで待機する場合
+     */
+    @Test
+    void testSubmit_Block_WaitsForSpace() throws Exception {
+        AsyncLogWorker worker = new AsyncLogWorker(tempDir, 2, OverflowPolicy.BLOCK, 60_000, 65536);
+        worker.submit(entry(LogWriter.Level.INFO, "1"));
+        worker.submit(entry(LogWriter.Level.INFO, "2"));
+
+        AtomicBoolean accepted = new AtomicBoolean();
+        Thread producer = new Thread(() -> accepted.set(worker.submit(entry(LogWriter.Level.INFO, "3"))));
+        producer.start();
+        producer.join(100);
+        assertTrue(producer.isAlive());
+
+        worker.start();
+        producer.join(5_000);
+        worker.stop();
+
+        assertFalse(producer.isAlive());
+        assertTrue(accepted.get());
+        assertEquals(3, read("info.log").size());
+    }
+
+    /**
+     * バッファサイズの閾値を超えた時点で書き出される場合
+     */
+    @Test
+    void testFlush_WhenThresholdExceeded() throws Exception {
+        AsyncLogWorker worker = new AsyncLogWorker(tempDir, 2, OverflowPolicy.DROP, 60_000, 1);
+        worker.start();
+        try {
+            worker.submit(entry(LogWriter.Level.INFO, "即時"));
+            assertTrue(waitForLines("info.log", 1));
+        } finally {
+            worker.stop();
+        }
+    }
+
+    /**
+     * 書き出し間隔の経過で書き出される場合
+     */
+    @Test
+    void testFlush_WhenIntervalElapsed() throws Exception {
+        AsyncLogWorker worker = new AsyncLogWorker(tempDir, 64, OverflowPolicy.DROP, 20, 65536);
+        worker.start();
+        try {
+            worker.submit(entry(LogWriter.Level.INFO, "定期"));
+            assertTrue(waitForLines("info.log", 1));
+        } finally {
+            worker.stop();
+        }
+    }
+
+    /**
+     * ローテーション後に新しいファイルへ書き出される場合
+     */
+    @Test
+    void testRequestReopen_WritesToNewFile() throws Exception {
+        AsyncLogWorker worker = new AsyncLogWorker(tempDir, 2, OverflowPolicy.DROP, 60_000, 1);
+        worker.start();
+
+        worker.submit(entry(LogWriter.Level.INFO, "旧"));
+        assertTrue(waitForLines("info.log", 1));
+        Files.move(tempDir.resolve("info.log"), tempDir.resolve("info_rotated.log"));
+        worker.requestReopen();
+        Thread.sleep(200);
+        worker.submit(entry(LogWriter.Level.INFO, "新"));
+        worker.stop();
+
+        assertTrue(read("info_rotated.log").get(0).endsWith("旧"));
+        List<String> current = read("info.log");
+        assertEquals(1, current.size());
+        assertTrue(current.get(0).endsWith("新"));
+    }
+
+    /**
+     * 出力先を作成できない場合に失敗が通知される場合
+     */
+    @Test
+    void testFlush_IOException_Reported() throws Exception {
+        Path notDirectory = Files.createFile(tempDir.resolve("logs"));
+        AsyncLogWorker worker = new AsyncLogWorker(notDirectory, 2, OverflowPolicy.DROP, 60_000, 65536);
+        worker.submit(entry(LogWriter.Level.INFO, "失敗"));
+
+        String err = tapSystemErr(worker::stop);
+
+        assertTrue(err.contains("ログの書き込みに失敗しました"));
+    }
+
+    /**
+     * テスト用のログ1件を生成
+     * 
+     * @param level   レベル
+     * @param message メッセージ
+     * @return ログ1件
+     */
+    private static LogWriter.Entry entry(LogWriter.Level level, String message) {
+        return new LogWriter.Entry(level, message, null);
+    }
+
+    /**
+     * 出力ファイルを読み込み
+     * 
+     * @param fileName ファイル名
+     * @return 行一覧
+     */
+    private List<String> read(String fileName) throws Exception {
+        return Files.readAllLines(tempDir.resolve(fileName));
+    }
+
+    /**
+     * 指定行数が書き出されるまで待機
+     * 
+     * @param fileName ファイル名
+     * @param lines    期待する行数
+     * @return 期限内に書き出された場合true
+     */
+    private boolean waitForLines(String fileName, int lines) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            Path file = tempDir.resolve(fileName);
+            if (Files.exists(file) && Files.readAllLines(file).size() >= lines) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+######################################################################################################################################################
+# ファイル   : LogRingBufferTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.logging;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LogRingBuffer のユニットテストクラス
+ */
+class LogRingBufferTest {
+
+    /**
+     * 容量が2のべき乗へ切り上げられる場合
+     */
+    @Test
+    void testCapacity_RoundsUpToPowerOfTwo() {
+        assertEquals(2, new LogRingBuffer<String>(0).capacity());
+        assertEquals(4, new LogRingBuffer<String>(3).capacity());
+        assertEquals(1024, new LogRingBuffer<String>(1024).capacity());
+    }
+
+    /**
+     * 追加順に取り出され、満杯と空を判定できる場合
+     */
+    @Test
+    void testOfferAndPoll_Fifo() {
+        LogRingBuffer<String> buffer = new LogRingBuffer<>(2);
+
+        assertNull(buffer.poll());
+        assertTrue(buffer.offer("a"));
+        assertTrue(buffer.offer("b"));
+        assertFalse(buffer.offer("c"));
+        assertEquals(2, buffer.size());
+
+        assertEquals("a", buffer.poll());
+        assertTrue(buffer.offer("c"));
+        assertEquals("b", buffer.poll());
+        assertEquals("c", buffer.poll());
+        assertNull(buffer.poll());
+        assertEquals(0, buffer.size());
+    }
+
+    /**
+     * 複数スレッドから同時に追加しても欠落・重複しない場合
+     */
+    @Test
+    void testConcurrentProducers() throws Exception {
+        int producers = 4;
+        int perProducer = 20_000;
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(256);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int p = 0; p < producers; p++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 1; i <= perProducer; i++) {
+                    while (!buffer.offer(i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        AtomicLong sum = new AtomicLong();
+        long received = 0;
+        long expected = (long) producers * perProducer;
+        while (received < expected) {
+            Integer value = buffer.poll();
+            if (value == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            sum.addAndGet(value);
+            received++;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(producers * ((long) perProducer * (perProducer + 1) / 2), sum.get());
+        assertNull(buffer.poll());
+    }
+
+}
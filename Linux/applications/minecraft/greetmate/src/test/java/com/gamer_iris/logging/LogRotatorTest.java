@@ -5,6 +5,8 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   ローテーション後のログファイル再オープンを追加
+# V-003      : 2026/10/18                 Gamer-Iris   設定の再読み込み時に実行間隔の変更へ追従
 # 
 ######################################################################################################################################################
 */
@@ -14,6 +16,7 @@ import com.gamer_iris.Main;
 import com.gamer_iris.config.ConfigManager;
 import org.bukkit.Bukkit;
 import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.MockedStatic;
@@ -26,6 +29,7 @@ import java.nio.file.Path;
 import java.util.logging.Logger;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -68,6 +72,35 @@ class LogRotatorTest {
         }
     }
 
+    /**
+     * 再読み込みでローテーション間隔が変わった場合
+     */
+    @Test
+    void testReschedule_WhenIntervalChanged() {
+        Main plugin = mock(Main.class);
+        BukkitScheduler scheduler = mock(BukkitScheduler.class);
+        BukkitTask task = mock(BukkitTask.class);
+
+        try (
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class);
+                MockedStatic<Main> mainMock = mockStatic(Main.class);
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<LogWriter> _ = mockStatic(LogWriter.class)) {
+            mainMock.when(Main::getInstance).thenReturn(plugin);
+            bukkitMock.when(Bukkit::getScheduler).thenReturn(scheduler);
+            when(scheduler.runTaskTimerAsynchronously(eq(plugin), any(Runnable.class), anyLong(), anyLong()))
+                    .thenReturn(task);
+            configMock.when(ConfigManager::getLogRotationHours).thenReturn(1);
+            LogRotator.start();
+
+            configMock.when(ConfigManager::getLogRotationHours).thenReturn(2);
+            LogRotator.reschedule();
+
+            verify(task).cancel();
+            verify(scheduler).runTaskTimerAsynchronously(eq(plugin), any(Runnable.class), eq(144000L), eq(144000L));
+        }
+    }
+
     /**
      * ログディレクトリが存在しない場合
      */
@@ -117,6 +150,7 @@ class LogRotatorTest {
             assertFalse(infoLog.exists());
 
             logWriterMock.verify(() -> LogWriter.writeInfo(contains("info.log をローテートしました")));
+            logWriterMock.verify(LogWriter::reopen);
         }
     }
 
@@ -5,24 +5,27 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   書き込みスレッドによる非同期出力に対応
+# V-003      : 2026/10/18                 Gamer-Iris   書き込み待ちログ件数の取得を追加
 # 
 ######################################################################################################################################################
 */
 package com.gamer_iris.logging;
 
 import com.gamer_iris.Main;
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.logging.AsyncLogWorker.OverflowPolicy;
 import org.bukkit.plugin.PluginLogger;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.io.TempDir;
-import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.logging.Logger;
+import static com.github.stefanbirkner.systemlambda.SystemLambda.tapSystemErr;
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.Mockito.*;
 
@@ -122,22 +125,20 @@ class LogWriterTest {
      */
     @Test
     void testWriteError_WhenIOExceptionOccurs() throws Exception {
-        MockedConstruction<FileWriter> mockedConstruction = mockConstruction(FileWriter.class, (mock, _) -> {
-            doThrow(new IOException("強制エラー")).when(mock).write(anyString());
-        });
+        File brokenFolder = new File(dataFolder, "broken");
+        brokenFolder.mkdirs();
+        new File(brokenFolder, "logs").createNewFile();
 
         try (MockedStatic<Main> mainMock = mockStatic(Main.class)) {
             Main pluginMock = mock(Main.class);
             Logger logger = mock(Logger.class);
             when(pluginMock.getLogger()).thenReturn(logger);
-            when(pluginMock.getDataFolder()).thenReturn(tempDir.toFile());
+            when(pluginMock.getDataFolder()).thenReturn(brokenFolder);
             mainMock.when(Main::getInstance).thenReturn(pluginMock);
 
             LogWriter.writeError("IOExceptionテスト", null);
 
             verify(logger).severe(contains("ログの書き込みに失敗しました"));
-        } finally {
-            mockedConstruction.close();
         }
     }
 
@@ -145,17 +146,51 @@ class LogWriterTest {
      * IOException発生時にMainがnullの場合
      */
     @Test
-    void testWriteError_WhenIOExceptionOccursAndMainIsNull() throws Exception {
-        MockedConstruction<FileWriter> mockedConstruction = mockConstruction(FileWriter.class, (mock, _) -> {
-            doThrow(new IOException("テスト用IOException")).when(mock).write(anyString());
-        });
-
+    void testReportFailure_WhenMainIsNull() throws Exception {
         try (MockedStatic<Main> mainMock = mockStatic(Main.class)) {
             mainMock.when(Main::getInstance).thenReturn(null);
 
-            LogWriter.writeError("IOException & null Main テスト", null);
-        } finally {
-            mockedConstruction.close();
+            String err = tapSystemErr(() -> LogWriter.reportFailure(new IOException("テスト用IOException")));
+
+            assertTrue(err.contains("テスト用IOException"));
+        }
+    }
+
+    /**
+     * 書き込みスレッド開始後のログが停止時にすべて書き出される場合
+     */
+    @Test
+    void testStartAndShutdown_WritesQueuedLogs() throws IOException {
+        File asyncFolder = new File(dataFolder, "async");
+
+        try (MockedStatic<Main> mainMock = mockStatic(Main.class);
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class)) {
+            Main pluginMock = mock(Main.class);
+            when(pluginMock.getDataFolder()).thenReturn(asyncFolder);
+            mainMock.when(Main::getInstance).thenReturn(pluginMock);
+            configMock.when(ConfigManager::getLogQueueCapacity).thenReturn(1024);
+            configMock.when(ConfigManager::getLogOverflowPolicy).thenReturn(OverflowPolicy.DROP);
+            configMock.when(ConfigManager::getLogFlushIntervalMillis).thenReturn(60_000);
+            configMock.when(ConfigManager::getLogFlushThresholdBytes).thenReturn(65536);
+
+            LogWriter.start();
+            LogWriter.start();
+            for (int i = 0; i < 100; i++) {
+                LogWriter.writeInfo("非同期INFO " + i);
+            }
+            LogWriter.writeWarn("非同期WARN");
+            LogWriter.reopen();
+            assertTrue(LogWriter.getQueueDepth() >= 0);
+            LogWriter.shutdown();
+            LogWriter.shutdown();
+            LogWriter.reopen();
+            assertEquals(0, LogWriter.getQueueDepth());
+
+            List<String> info = Files.readAllLines(new File(asyncFolder, "logs/info.log").toPath());
+            assertEquals(100, info.size());
+            assertTrue(info.get(99).contains("[INFO] 非同期INFO 99"));
+            List<String> warn = Files.readAllLines(new File(asyncFolder, "logs/warn.log").toPath());
+            assertTrue(warn.get(0).contains("[WARN] 非同期WARN"));
         }
     }
 
@@ -0,0 +1,219 @@
+/*
+######################################################################################################################################################
+# ファイル   : LeaderElectionTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.maintenance;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.repository.LeaseDao;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+/**
+ * LeaderElection のユニットテストクラス
+ */
+class LeaderElectionTest {
+
+    private MockedStatic<Bukkit> bukkitMock;
+    private MockedStatic<Main> mainMock;
+    private MockedStatic<ConfigManager> configMock;
+    private MockedStatic<LeaseDao> leaseMock;
+    private MockedStatic<LogWriter> logMock;
+    private Main plugin;
+    private BukkitScheduler scheduler;
+    private BukkitTask bukkitTask;
+
+    /**
+     * 各テスト前の初期化処理
+     */
+    @BeforeEach
+    void setUp() {
+        plugin = mock(Main.class);
+        scheduler = mock(BukkitScheduler.class);
+        bukkitTask = mock(BukkitTask.class);
+        bukkitMock = mockStatic(Bukkit.class);
+        mainMock = mockStatic(Main.class);
+        configMock = mockStatic(ConfigManager.class);
+        leaseMock = mockStatic(LeaseDao.class);
+        logMock = mockStatic(LogWriter.class);
+        mainMock.when(Main::getInstance).thenReturn(plugin);
+        bukkitMock.when(Bukkit::getScheduler).thenReturn(scheduler);
+        when(scheduler.runTaskTimerAsynchronously(eq(plugin), any(Runnable.class), anyLong(), anyLong()))
+                .thenReturn(bukkitTask);
+        configMock.when(ConfigManager::isLeaderElectionEnabled).thenReturn(true);
+        configMock.when(ConfigManager::getServerName).thenReturn("server-a");
+        configMock.when(ConfigManager::getLeaseTtlSeconds).thenReturn(30);
+        configMock.when(ConfigManager::getLeaseRenewSeconds).thenReturn(10);
+    }
+
+    /**
+     * 各テスト後のリース解放とモック解放
+     */
+    @AfterEach
+    void tearDown() {
+        LeaderElection.stop();
+        logMock.close();
+        leaseMock.close();
+        configMock.close();
+        mainMock.close();
+        bukkitMock.close();
+    }
+
+    /**
+     * コンストラクタのカバレッジ確認
+     */
+    @Test
+    void testLeaderElectionConstructor_CoverageOnly() {
+        new LeaderElection();
+    }
+
+    /**
+     * リーダー選出が無効な場合
+     */
+    @Test
+    void testStart_Disabled() {
+        configMock.when(ConfigManager::isLeaderElectionEnabled).thenReturn(false);
+
+        LeaderElection.start();
+
+        assertTrue(LeaderElection.isLeader());
+        leaseMock.verifyNoInteractions();
+        verify(scheduler, never()).runTaskTimerAsynchronously(eq(plugin), any(Runnable.class), anyLong(), anyLong());
+    }
+
+    /**
+     * 起動時にリースを取得できた場合
+     */
+    @Test
+    void testStart_Acquired() {
+        leaseMock.when(() -> LeaseDao.tryAcquire(eq(LeaderElection.LEASE_NAME), startsWith("server-a/"), eq(30)))
+                .thenReturn(true);
+
+        LeaderElection.start();
+
+        assertTrue(LeaderElection.isLeader());
+        verify(scheduler).runTaskTimerAsynchronously(eq(plugin), any(Runnable.class), eq(200L), eq(200L));
+        logMock.verify(() -> LogWriter.writeInfo(contains("メンテナンスのリーダーになりました: server-a/")));
+    }
+
+    /**
+     * 他のサーバーがリースを保持している場合
+     */
+    @Test
+    void testStart_Follower() {
+        leaseMock.when(() -> LeaseDao.tryAcquire(anyString(), anyString(), anyInt())).thenReturn(false);
+
+        LeaderElection.start();
+
+        assertFalse(LeaderElection.isLeader());
+        logMock.verify(() -> LogWriter.writeInfo(contains("リーダー")), never());
+    }
+
+    /**
+     * 更新時にリースを失った場合
+     */
+    @Test
+    void testRenew_LosesLeadership() {
+        leaseMock.when(() -> LeaseDao.tryAcquire(anyString(), anyString(), anyInt())).thenReturn(true, false);
+        LeaderElection.start();
+
+        LeaderElection.renew();
+
+        assertFalse(LeaderElection.isLeader());
+        logMock.verify(() -> LogWriter.writeInfo(contains("メンテナンスのリーダーではなくなりました: server-a/")));
+    }
+
+    /**
+     * 更新時にリースを維持できた場合
+     */
+    @Test
+    void testRenew_KeepsLeadership() {
+        leaseMock.when(() -> LeaseDao.tryAcquire(anyString(), anyString(), anyInt())).thenReturn(true);
+        LeaderElection.start();
+
+        LeaderElection.renew();
+
+        assertTrue(LeaderElection.isLeader());
+        logMock.verify(() -> LogWriter.writeInfo(contains("リーダーになりました")), times(1));
+    }
+
+    /**
+     * 更新されないままリースの有効期間を過ぎた場合
+     */
+    @Test
+    void testIsLeader_LeaseExpiredLocally() {
+        configMock.when(ConfigManager::getLeaseTtlSeconds).thenReturn(0);
+        leaseMock.when(() -> LeaseDao.tryAcquire(anyString(), anyString(), anyInt())).thenReturn(true);
+
+        LeaderElection.start();
+
+        assertFalse(LeaderElection.isLeader());
+    }
+
+    /**
+     * 設定の再読み込みで更新間隔が変わった場合
+     */
+    @Test
+    void testReschedule_IntervalChanged() {
+        leaseMock.when(() -> LeaseDao.tryAcquire(anyString(), anyString(), anyInt())).thenReturn(true);
+        LeaderElection.start();
+        configMock.when(ConfigManager::getLeaseRenewSeconds).thenReturn(5);
+
+        LeaderElection.reschedule();
+
+        verify(bukkitTask).cancel();
+        verify(scheduler).runTaskTimerAsynchronously(eq(plugin), any(Runnable.class), eq(100L), eq(100L));
+    }
+
+    /**
+     * リーダーとして停止する場合
+     */
+    @Test
+    void testStop_ReleasesLease() {
+        leaseMock.when(() -> LeaseDao.tryAcquire(anyString(), anyString(), anyInt())).thenReturn(true);
+        LeaderElection.start();
+
+        LeaderElection.stop();
+
+        verify(bukkitTask).cancel();
+        leaseMock.verify(() -> LeaseDao.release(eq(LeaderElection.LEASE_NAME), startsWith("server-a/")), times(1));
+        assertTrue(LeaderElection.isLeader());
+    }
+
+    /**
+     * リーダーではない状態で停止する場合
+     */
+    @Test
+    void testStop_Follower() {
+        leaseMock.when(() -> LeaseDao.tryAcquire(anyString(), anyString(), anyInt())).thenReturn(false);
+        LeaderElection.start();
+
+        LeaderElection.stop();
+
+        verify(bukkitTask).cancel();
+        leaseMock.verify(() -> LeaseDao.release(anyString(), anyString()), never());
+    }
+
+}
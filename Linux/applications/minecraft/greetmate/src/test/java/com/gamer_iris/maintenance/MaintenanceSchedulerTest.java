@@ -5,12 +5,22 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   オンラインプレイヤー同期の一括処理化
+# V-003      : 2026/10/18                 Gamer-Iris   BAN情報の差分反映と全件再同期を追加
+# V-004      : 2026/10/18                 Gamer-Iris   設定の再読み込み時に実行間隔の変更へ追従
+# V-005      : 2026/10/18                 Gamer-Iris   クリーンアップを件数上限付きの分割削除とし、実行時間の上限を追加
+# V-006      : 2026/10/18                 Gamer-Iris   BAN処理とクリーンアップをリーダーのサーバーのみで実行
+# V-007      : 2026/10/18                 Gamer-Iris   BAN・クリーンアップ時にキャッシュ無効化を他のサーバーへ通知
+# V-008      : 2026/10/18                 Gamer-Iris   BAN情報の反映済み位置をIDのみとした再走査と、再登録されたBANプレイヤーの巡回削除のテストを追加
+# V-009      : 2026/10/18                 Gamer-Iris   削除したBANプレイヤーの名前が補完用のBAN中の名前へ登録されることを確認
 # 
 ######################################################################################################################################################
 */
 package com.gamer_iris.maintenance;
 
 import com.gamer_iris.Main;
+import com.gamer_iris.cache.CacheInvalidator;
+import com.gamer_iris.cache.PlayerNameIndex;
 import com.gamer_iris.cache.UserGreetingCacheManager;
 import com.gamer_iris.config.ConfigManager;
 import com.gamer_iris.logging.LogWriter;
@@ -24,12 +34,19 @@ import org.bukkit.Server;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.PluginManager;
 import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
@@ -40,6 +57,14 @@ import static org.mockito.Mockito.*;
  */
 class MaintenanceSchedulerTest {
 
+    /**
+     * 各テスト前の初期化処理（BAN情報の反映済み位置を先頭に戻す）
+     */
+    @BeforeEach
+    void setUp() {
+        MaintenanceScheduler.resetBanWatermark();
+    }
+
     /**
      * コンストラクタのカバレッジ確認
      */
@@ -72,6 +97,38 @@ class MaintenanceSchedulerTest {
         }
     }
 
+    /**
+     * 再読み込みで同期間隔のみ変わった場合
+     */
+    @Test
+    void testReschedule_WhenSyncIntervalChanged() {
+        Main mainMock = mock(Main.class);
+        BukkitScheduler scheduler = mock(BukkitScheduler.class);
+        BukkitTask task = mock(BukkitTask.class);
+
+        try (
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class);
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<Main> mainStaticMock = mockStatic(Main.class);
+                MockedStatic<LogWriter> _ = mockStatic(LogWriter.class)) {
+            mainStaticMock.when(Main::getInstance).thenReturn(mainMock);
+            bukkitMock.when(Bukkit::getScheduler).thenReturn(scheduler);
+            when(scheduler.runTaskTimerAsynchronously(eq(mainMock), any(Runnable.class), anyLong(), anyLong()))
+                    .thenReturn(task);
+            configMock.when(ConfigManager::getSyncIntervalSeconds).thenReturn(10);
+            configMock.when(ConfigManager::getCleanupIntervalHours).thenReturn(1);
+            MaintenanceScheduler.start();
+
+            configMock.when(ConfigManager::getSyncIntervalSeconds).thenReturn(20);
+            MaintenanceScheduler.reschedule();
+
+            verify(task).cancel();
+            verify(scheduler).runTaskTimerAsynchronously(eq(mainMock), any(Runnable.class), eq(400L), eq(400L));
+            verify(scheduler, times(3)).runTaskTimerAsynchronously(eq(mainMock), any(Runnable.class), anyLong(),
+                    anyLong());
+        }
+    }
+
     /**
      * メンテナンス実行時にBAN対象プレイヤーを処理する場合
      */
@@ -84,7 +141,7 @@ class MaintenanceSchedulerTest {
         when(player.getUniqueId()).thenReturn(uuid);
         when(player.getName()).thenReturn(name);
 
-        BanPlayerData ban = new BanPlayerData(1, name, 0, uuid, "reason", null);
+        BanPlayerData ban = new BanPlayerData(1, name, 0, uuid, "reason", new Date());
 
         try (
                 MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class);
@@ -92,19 +149,30 @@ class MaintenanceSchedulerTest {
                 MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class);
                 MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class);
                 MockedStatic<BanPlayerDao> banDaoMock = mockStatic(BanPlayerDao.class);
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<CacheInvalidator> invalidatorMock = mockStatic(CacheInvalidator.class);
+                MockedStatic<PlayerNameIndex> nameIndexMock = mockStatic(PlayerNameIndex.class);
                 MockedStatic<NotificationDispatcher> dispatcherMock = mockStatic(NotificationDispatcher.class)) {
             bukkitMock.when(Bukkit::getOnlinePlayers).thenReturn(List.of(player));
-            roleDaoMock.when(() -> PlayerRoleDao.findPlayerByUUID(uuid)).thenReturn(null);
-            roleDaoMock.when(() -> PlayerRoleDao.insertPlayer(uuid, name, 0)).thenReturn(true);
+            configMock.when(ConfigManager::getSyncBatchSize).thenReturn(100);
+            roleDaoMock.when(() -> PlayerRoleDao.findPlayersByUUIDs(any(), eq(100))).thenReturn(new HashMap<>());
+            roleDaoMock.when(() -> PlayerRoleDao.upsertPlayers(Map.of(uuid, name), 0, 100)).thenReturn(true);
             cacheMock.when(() -> UserGreetingCacheManager.contains(uuid)).thenReturn(false);
-            banDaoMock.when(BanPlayerDao::getAll).thenReturn(List.of(ban));
-            roleDaoMock.when(() -> PlayerRoleDao.deletePlayerByUUID(uuid)).thenReturn(true);
+            cacheMock.when(() -> UserGreetingCacheManager.buildAndCache(any(PlayerData.class))).thenReturn(true);
+            configMock.when(ConfigManager::getBanRescanWindow).thenReturn(100);
+            banDaoMock.when(() -> BanPlayerDao.getAddedSince(0)).thenReturn(List.of(ban));
+            roleDaoMock.when(() -> PlayerRoleDao.deleteBannedPlayers(0, 1)).thenReturn(Map.of(uuid, name));
 
             MaintenanceSchedulerTestable.runMaintenance();
 
             logMock.verify(() -> LogWriter.writeInfo(contains("定期メンテナンス処理を開始")));
             logMock.verify(() -> LogWriter.writeInfo(contains("新規登録しました")));
+            logMock.verify(() -> LogWriter.writeInfo(contains("キャッシュ情報を投入しました")));
+            roleDaoMock.verify(() -> PlayerRoleDao.findPlayerByUUID(any()), never());
             dispatcherMock.verify(() -> NotificationDispatcher.broadcastBanMessage(uuid, name));
+            cacheMock.verify(() -> UserGreetingCacheManager.remove(uuid));
+            invalidatorMock.verify(() -> CacheInvalidator.publish(uuid));
+            nameIndexMock.verify(() -> PlayerNameIndex.markBanned(uuid, name));
         }
     }
 
@@ -120,9 +188,11 @@ class MaintenanceSchedulerTest {
 
         when(player.getUniqueId()).thenReturn(uuid);
         when(player.getName()).thenReturn(name);
+        when(existingData.getUuid()).thenReturn(uuid);
 
         try (
                 MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class);
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
                 MockedStatic<Main> mainMock = mockStatic(Main.class);
                 MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
                 MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class);
@@ -135,52 +205,274 @@ class MaintenanceSchedulerTest {
             when(serverMock.getPluginManager()).thenReturn(pluginManagerMock);
 
             bukkitMock.when(Bukkit::getOnlinePlayers).thenReturn(List.of(player));
-            daoMock.when(() -> PlayerRoleDao.findPlayerByUUID(uuid)).thenReturn(existingData);
+            configMock.when(ConfigManager::getSyncBatchSize).thenReturn(100);
+            daoMock.when(() -> PlayerRoleDao.findPlayersByUUIDs(any(), eq(100)))
+                    .thenReturn(new HashMap<>(Map.of(uuid, existingData)));
             cacheMock.when(() -> UserGreetingCacheManager.contains(uuid)).thenReturn(true);
 
             MaintenanceSchedulerTestable.runMaintenance();
 
             logMock.verify(() -> LogWriter.writeInfo(contains("定期メンテナンス処理を開始")), atLeastOnce());
+            daoMock.verify(() -> PlayerRoleDao.upsertPlayers(any(), anyInt(), anyInt()), never());
+            cacheMock.verify(() -> UserGreetingCacheManager.buildAndCache(any(PlayerData.class)), never());
+        }
+    }
+
+    /**
+     * 登録済みプレイヤーの一括取得に失敗した場合は同期を中断する場合
+     */
+    @Test
+    void testPerformMaintenance_WhenLookupFails() {
+        Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(player.getName()).thenReturn("LookupFail");
+
+        try (
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class);
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class);
+                MockedStatic<BanPlayerDao> banMock = mockStatic(BanPlayerDao.class);
+                MockedStatic<LogWriter> _ = mockStatic(LogWriter.class)) {
+            bukkitMock.when(Bukkit::getOnlinePlayers).thenReturn(List.of(player));
+            configMock.when(ConfigManager::getSyncBatchSize).thenReturn(100);
+            daoMock.when(() -> PlayerRoleDao.findPlayersByUUIDs(any(), anyInt())).thenReturn(null);
+            banMock.when(() -> BanPlayerDao.getAddedSince(anyInt())).thenReturn(List.of());
+
+            MaintenanceSchedulerTestable.runMaintenance();
+
+            daoMock.verify(() -> PlayerRoleDao.upsertPlayers(any(), anyInt(), anyInt()), never());
+            daoMock.verify(() -> PlayerRoleDao.deleteBannedPlayers(anyInt(), anyInt()), never());
+            cacheMock.verifyNoInteractions();
+        }
+    }
+
+    /**
+     * 未登録プレイヤーの一括登録に失敗した場合はキャッシュを作成しない場合
+     */
+    @Test
+    void testPerformMaintenance_WhenUpsertFails() {
+        Player player = mock(Player.class);
+        UUID uuid = UUID.randomUUID();
+        when(player.getUniqueId()).thenReturn(uuid);
+        when(player.getName()).thenReturn("UpsertFail");
+
+        try (
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class);
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class);
+                MockedStatic<BanPlayerDao> banMock = mockStatic(BanPlayerDao.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            bukkitMock.when(Bukkit::getOnlinePlayers).thenReturn(List.of(player));
+            configMock.when(ConfigManager::getSyncBatchSize).thenReturn(100);
+            daoMock.when(() -> PlayerRoleDao.findPlayersByUUIDs(any(), anyInt())).thenReturn(new HashMap<>());
+            daoMock.when(() -> PlayerRoleDao.upsertPlayers(any(), anyInt(), anyInt())).thenReturn(false);
+            banMock.when(() -> BanPlayerDao.getAddedSince(anyInt())).thenReturn(null);
+
+            MaintenanceSchedulerTestable.runMaintenance();
+
+            daoMock.verify(() -> PlayerRoleDao.deleteBannedPlayers(anyInt(), anyInt()), never());
+            cacheMock.verify(() -> UserGreetingCacheManager.buildAndCache(any(PlayerData.class)), never());
+            logMock.verify(() -> LogWriter.writeInfo(contains("新規登録しました")), never());
         }
     }
 
     /**
-     * BANプレイヤー削除に失敗する場合（通知は行わない）
+     * BANプレイヤー削除に失敗する場合（通知せず、反映済み位置も進めない）
      */
     @Test
     void testPerformMaintenance_WhenBanPlayerDeleteFails() {
         UUID uuid = UUID.randomUUID();
-        String name = "BanFailPlayer";
+        BanPlayerData ban = new BanPlayerData(41, "BanFailPlayer", 0, uuid, "reason", new Date());
+
+        try (
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class);
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<BanPlayerDao> banMock = mockStatic(BanPlayerDao.class);
+                MockedStatic<LogWriter> _ = mockStatic(LogWriter.class);
+                MockedStatic<NotificationDispatcher> dispatcherMock = mockStatic(NotificationDispatcher.class)) {
+            bukkitMock.when(Bukkit::getOnlinePlayers).thenReturn(List.of());
+            configMock.when(ConfigManager::getBanRescanWindow).thenReturn(10);
+            banMock.when(() -> BanPlayerDao.getAddedSince(anyInt())).thenReturn(List.of(ban));
+            daoMock.when(() -> PlayerRoleDao.deleteBannedPlayers(anyInt(), anyInt())).thenReturn(null);
+
+            MaintenanceSchedulerTestable.runMaintenance();
+            MaintenanceSchedulerTestable.runMaintenance();
+
+            dispatcherMock.verifyNoInteractions();
+            banMock.verify(() -> BanPlayerDao.getAddedSince(0), times(2));
+            daoMock.verify(() -> PlayerRoleDao.deleteBannedPlayers(0, 41), times(2));
+        }
+    }
+
+    /**
+     * 反映済みのBAN登録は再走査幅より前のIDが次回以降の取得対象外となり、再登録されたBANプレイヤーは巡回で削除される場合
+     */
+    @Test
+    void testPerformMaintenance_AdvancesBanWatermarkAndSweeps() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        List<BanPlayerData> bans = List.of(
+                new BanPlayerData(3, "First", 0, first, "reason", new Date()),
+                new BanPlayerData(7, "Second", 0, second, "reason", new Date()));
+
+        try (
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class);
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<BanPlayerDao> banMock = mockStatic(BanPlayerDao.class);
+                MockedStatic<UserGreetingCacheManager> _ = mockStatic(UserGreetingCacheManager.class);
+                MockedStatic<CacheInvalidator> _ = mockStatic(CacheInvalidator.class);
+                MockedStatic<LogWriter> _ = mockStatic(LogWriter.class);
+                MockedStatic<NotificationDispatcher> dispatcherMock = mockStatic(NotificationDispatcher.class)) {
+            bukkitMock.when(Bukkit::getOnlinePlayers).thenReturn(List.of());
+            configMock.when(ConfigManager::getBanRescanWindow).thenReturn(2);
+            configMock.when(ConfigManager::getBanSweepBatchSize).thenReturn(5);
+            banMock.when(() -> BanPlayerDao.getAddedSince(0)).thenReturn(bans);
+            banMock.when(() -> BanPlayerDao.getAddedSince(5)).thenReturn(List.of());
+            daoMock.when(() -> PlayerRoleDao.deleteBannedPlayers(0, 7)).thenReturn(Map.of(second, "Second"));
+            daoMock.when(() -> PlayerRoleDao.deleteBannedPlayers(0, 5)).thenReturn(Map.of());
+            daoMock.when(() -> PlayerRoleDao.deleteBannedPlayers(5, 7)).thenReturn(Map.of(first, "First"));
 
-        BanPlayerData ban = new BanPlayerData(1, name, 0, uuid, "reason", null);
+            MaintenanceSchedulerTestable.runMaintenance();
+            MaintenanceSchedulerTestable.runMaintenance();
+            MaintenanceSchedulerTestable.runMaintenance();
+
+            banMock.verify(() -> BanPlayerDao.getAddedSince(5), times(2));
+            daoMock.verify(() -> PlayerRoleDao.deleteBannedPlayers(0, 5), times(2));
+            daoMock.verify(() -> PlayerRoleDao.deleteBannedPlayers(5, 7));
+            dispatcherMock.verify(() -> NotificationDispatcher.broadcastBanMessage(second, "Second"));
+            dispatcherMock.verify(() -> NotificationDispatcher.broadcastBanMessage(first, "First"));
+        }
+    }
+
+    /**
+     * 巡回での削除に失敗した場合は巡回位置を進めない場合
+     */
+    @Test
+    void testPerformMaintenance_WhenBanSweepFails() {
+        BanPlayerData ban = new BanPlayerData(9, "Banned", 0, UUID.randomUUID(), "reason", new Date());
 
         try (
                 MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class);
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
                 MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class);
                 MockedStatic<BanPlayerDao> banMock = mockStatic(BanPlayerDao.class);
+                MockedStatic<LogWriter> _ = mockStatic(LogWriter.class);
                 MockedStatic<NotificationDispatcher> dispatcherMock = mockStatic(NotificationDispatcher.class)) {
             bukkitMock.when(Bukkit::getOnlinePlayers).thenReturn(List.of());
-            banMock.when(BanPlayerDao::getAll).thenReturn(List.of(ban));
-            daoMock.when(() -> PlayerRoleDao.deletePlayerByUUID(uuid)).thenReturn(false);
+            configMock.when(ConfigManager::getBanSweepBatchSize).thenReturn(4);
+            banMock.when(() -> BanPlayerDao.getAddedSince(anyInt())).thenReturn(List.of(ban), List.of());
+            daoMock.when(() -> PlayerRoleDao.deleteBannedPlayers(0, 9)).thenReturn(Map.of());
+            daoMock.when(() -> PlayerRoleDao.deleteBannedPlayers(0, 4)).thenReturn(null);
 
+            MaintenanceSchedulerTestable.runMaintenance();
             MaintenanceSchedulerTestable.runMaintenance();
 
+            daoMock.verify(() -> PlayerRoleDao.deleteBannedPlayers(0, 4), times(2));
+            daoMock.verify(() -> PlayerRoleDao.deleteBannedPlayers(4, 8), never());
             dispatcherMock.verifyNoInteractions();
         }
     }
 
     /**
-     * deleteFromDatabaseで削除に失敗する場合
+     * BAN情報の全件再同期を要求した場合
      */
     @Test
-    void testDeleteFromDatabase_WhenDeleteFails() {
+    void testRequestFullBanResync_ResetsWatermarkAndSchedules() {
+        Main mainMock = mock(Main.class);
+        BukkitScheduler scheduler = mock(BukkitScheduler.class);
+
+        try (
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class);
+                MockedStatic<Main> mainStaticMock = mockStatic(Main.class);
+                MockedStatic<ConfigManager> _ = mockStatic(ConfigManager.class);
+                MockedStatic<BanPlayerDao> banMock = mockStatic(BanPlayerDao.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            mainStaticMock.when(Main::getInstance).thenReturn(mainMock);
+            bukkitMock.when(Bukkit::getScheduler).thenReturn(scheduler);
+            banMock.when(() -> BanPlayerDao.getAddedSince(anyInt())).thenReturn(List.of());
+
+            assertTrue(MaintenanceScheduler.requestFullBanResync());
+
+            ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+            verify(scheduler).runTaskAsynchronously(eq(mainMock), task.capture());
+            task.getValue().run();
+
+            banMock.verify(() -> BanPlayerDao.getAddedSince(0));
+            logMock.verify(() -> LogWriter.writeInfo(contains("全件再同期")));
+        }
+    }
+
+    /**
+     * リーダーではないサーバーで全件再同期を要求した場合
+     */
+    @Test
+    void testRequestFullBanResync_WhenNotLeader() {
+        BukkitScheduler scheduler = mock(BukkitScheduler.class);
+
+        try (
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class);
+                MockedStatic<LeaderElection> leaderMock = mockStatic(LeaderElection.class)) {
+            bukkitMock.when(Bukkit::getScheduler).thenReturn(scheduler);
+            leaderMock.when(LeaderElection::isLeader).thenReturn(false);
+
+            assertFalse(MaintenanceScheduler.requestFullBanResync());
+
+            verifyNoInteractions(scheduler);
+        }
+    }
+
+    /**
+     * リーダーではないサーバーでメンテナンスを実行する場合
+     */
+    @Test
+    void testPerformMaintenance_WhenNotLeader() {
+        Player player = mock(Player.class);
         UUID uuid = UUID.randomUUID();
+        when(player.getUniqueId()).thenReturn(uuid);
+        when(player.getName()).thenReturn("TestPlayer");
+        PlayerData data = new PlayerData(1, "TestPlayer", 0, uuid, new Date());
+
+        try (
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class);
+                MockedStatic<PlayerRoleDao> roleDaoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class);
+                MockedStatic<BanPlayerDao> banDaoMock = mockStatic(BanPlayerDao.class);
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<LeaderElection> leaderMock = mockStatic(LeaderElection.class);
+                MockedStatic<LogWriter> _ = mockStatic(LogWriter.class)) {
+            bukkitMock.when(Bukkit::getOnlinePlayers).thenReturn(List.of(player));
+            configMock.when(ConfigManager::getSyncBatchSize).thenReturn(100);
+            roleDaoMock.when(() -> PlayerRoleDao.findPlayersByUUIDs(any(), eq(100)))
+                    .thenReturn(new HashMap<>(Map.of(uuid, data)));
+            leaderMock.when(LeaderElection::isLeader).thenReturn(false);
 
-        try (MockedStatic<PlayerRoleDao> daoMock = mockStatic(PlayerRoleDao.class)) {
-            daoMock.when(() -> PlayerRoleDao.deletePlayerByUUID(uuid)).thenReturn(false);
+            MaintenanceSchedulerTestable.runMaintenance();
 
-            boolean result = MaintenanceSchedulerTestable.callDeleteFromDatabase(uuid);
-            assertFalse(result);
+            cacheMock.verify(() -> UserGreetingCacheManager.buildAndCache(data));
+            banDaoMock.verifyNoInteractions();
+            roleDaoMock.verify(() -> PlayerRoleDao.deleteBannedPlayers(anyInt(), anyInt()), never());
+        }
+    }
+
+    /**
+     * リーダーではないサーバーでクリーンアップを実行する場合
+     */
+    @Test
+    void testPerformCleanup_WhenNotLeader() {
+        try (
+                MockedStatic<PlayerRoleDao> roleDaoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<LeaderElection> leaderMock = mockStatic(LeaderElection.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            leaderMock.when(LeaderElection::isLeader).thenReturn(false);
+
+            MaintenanceSchedulerTestable.runCleanup();
+
+            roleDaoMock.verifyNoInteractions();
+            logMock.verify(() -> LogWriter.writeInfo(contains("クリーンアップをスキップします")));
         }
     }
 
@@ -191,15 +483,90 @@ class MaintenanceSchedulerTest {
     void testPerformCleanup() {
         try (
                 MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<CacheInvalidator> invalidatorMock = mockStatic(CacheInvalidator.class);
                 MockedStatic<PlayerRoleDao> roleDaoMock = mockStatic(PlayerRoleDao.class);
                 MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
             configMock.when(ConfigManager::getCleanupThresholdDays).thenReturn(30);
-            roleDaoMock.when(() -> PlayerRoleDao.deleteInactivePlayers(30)).thenReturn(5);
+            configMock.when(ConfigManager::getCleanupBatchSize).thenReturn(100);
+            configMock.when(ConfigManager::getCleanupMaxRuntimeSeconds).thenReturn(60);
+            roleDaoMock.when(() -> PlayerRoleDao.deleteInactivePlayers(30, 100)).thenReturn(5);
 
             MaintenanceSchedulerTestable.runCleanup();
 
             logMock.verify(() -> LogWriter.writeInfo(contains("クリーンアップを開始")));
-            logMock.verify(() -> LogWriter.writeInfo(contains("削除件数: 5")));
+            logMock.verify(() -> LogWriter.writeInfo(contains("クリーンアップ完了。削除件数: 5")));
+            roleDaoMock.verify(() -> PlayerRoleDao.deleteInactivePlayers(30, 100), times(1));
+            invalidatorMock.verify(CacheInvalidator::prune);
+        }
+    }
+
+    /**
+     * 削除件数が上限に達する間は分割して削除を繰り返す場合
+     */
+    @Test
+    void testPerformCleanup_DeletesInChunks() {
+        try (
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<PlayerRoleDao> roleDaoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            configMock.when(ConfigManager::getCleanupThresholdDays).thenReturn(30);
+            configMock.when(ConfigManager::getCleanupBatchSize).thenReturn(100);
+            configMock.when(ConfigManager::getCleanupPauseMillis).thenReturn(0);
+            configMock.when(ConfigManager::getCleanupMaxRuntimeSeconds).thenReturn(60);
+            roleDaoMock.when(() -> PlayerRoleDao.deleteInactivePlayers(30, 100)).thenReturn(100, 100, 40);
+
+            MaintenanceSchedulerTestable.runCleanup();
+
+            roleDaoMock.verify(() -> PlayerRoleDao.deleteInactivePlayers(30, 100), times(3));
+            logMock.verify(() -> LogWriter.writeInfo("[Greetmate] クリーンアップ実行中。削除件数: 100"));
+            logMock.verify(() -> LogWriter.writeInfo("[Greetmate] クリーンアップ実行中。削除件数: 200"));
+            logMock.verify(() -> LogWriter.writeInfo("[Greetmate] クリーンアップ完了。削除件数: 240"));
+        }
+    }
+
+    /**
+     * 実行時間の上限に達し、残りを次回へ持ち越す場合
+     */
+    @Test
+    void testPerformCleanup_StopsAtRuntimeBudget() {
+        try (
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<PlayerRoleDao> roleDaoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            configMock.when(ConfigManager::getCleanupThresholdDays).thenReturn(30);
+            configMock.when(ConfigManager::getCleanupBatchSize).thenReturn(100);
+            configMock.when(ConfigManager::getCleanupMaxRuntimeSeconds).thenReturn(0);
+            roleDaoMock.when(() -> PlayerRoleDao.deleteInactivePlayers(30, 100)).thenReturn(100);
+
+            MaintenanceSchedulerTestable.runCleanup();
+
+            roleDaoMock.verify(() -> PlayerRoleDao.deleteInactivePlayers(30, 100), times(1));
+            logMock.verify(() -> LogWriter.writeWarn(contains("クリーンアップを中断しました")));
+            logMock.verify(() -> LogWriter.writeInfo(contains("クリーンアップ完了")), never());
+        }
+    }
+
+    /**
+     * 分割削除の待機中に割り込まれた場合
+     */
+    @Test
+    void testPerformCleanup_StopsWhenInterrupted() {
+        try (
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<PlayerRoleDao> roleDaoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            configMock.when(ConfigManager::getCleanupThresholdDays).thenReturn(30);
+            configMock.when(ConfigManager::getCleanupBatchSize).thenReturn(100);
+            configMock.when(ConfigManager::getCleanupPauseMillis).thenReturn(1000);
+            configMock.when(ConfigManager::getCleanupMaxRuntimeSeconds).thenReturn(60);
+            roleDaoMock.when(() -> PlayerRoleDao.deleteInactivePlayers(30, 100)).thenReturn(100);
+
+            Thread.currentThread().interrupt();
+            MaintenanceSchedulerTestable.runCleanup();
+
+            assertTrue(Thread.interrupted());
+            roleDaoMock.verify(() -> PlayerRoleDao.deleteInactivePlayers(30, 100), times(1));
+            logMock.verify(() -> LogWriter.writeWarn(contains("クリーンアップを中断しました")));
         }
     }
 
@@ -234,22 +601,6 @@ class MaintenanceSchedulerTest {
             }
         }
 
-        /**
-         * deleteFromDatabase をリフレクションで実行する場合
-         * 
-         * @param uuid 削除対象のUUID
-         * @return 削除成功時は true、失敗時は false
-         */
-        static boolean callDeleteFromDatabase(UUID uuid) {
-            try {
-                var method = MaintenanceScheduler.class.getDeclaredMethod("deleteFromDatabase", UUID.class);
-                method.setAccessible(true);
-                return (boolean) method.invoke(null, uuid);
-            } catch (Exception e) {
-                throw new RuntimeException("Failed to call deleteFromDatabase via reflection", e);
-            }
-        }
-
     }
 
 }
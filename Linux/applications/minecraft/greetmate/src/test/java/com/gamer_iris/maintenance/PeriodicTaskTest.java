@@ -0,0 +1,163 @@
+/*
+######################################################################################################################################################
+# ファイル   : PeriodicTaskTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.maintenance;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.logging.LogWriter;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * PeriodicTask のユニットテストクラス
+ */
+class PeriodicTaskTest {
+
+    private MockedStatic<Bukkit> bukkitMock;
+    private MockedStatic<Main> mainMock;
+    private MockedStatic<LogWriter> logMock;
+    private Main plugin;
+    private BukkitScheduler scheduler;
+    private BukkitTask bukkitTask;
+    private AtomicLong interval;
+    private Runnable action;
+    private PeriodicTask task;
+
+    /**
+     * 各テスト前の初期化処理
+     */
+    @BeforeEach
+    void setUp() {
+        plugin = mock(Main.class);
+        scheduler = mock(BukkitScheduler.class);
+        bukkitTask = mock(BukkitTask.class);
+        bukkitMock = mockStatic(Bukkit.class);
+        mainMock = mockStatic(Main.class);
+        logMock = mockStatic(LogWriter.class);
+        mainMock.when(Main::getInstance).thenReturn(plugin);
+        bukkitMock.when(Bukkit::getScheduler).thenReturn(scheduler);
+        when(scheduler.runTaskTimerAsynchronously(eq(plugin), any(Runnable.class), anyLong(), anyLong()))
+                .thenReturn(bukkitTask);
+
+        interval = new AtomicLong(100L);
+        action = () -> {
+        };
+        task = new PeriodicTask("テスト", action, interval::get);
+    }
+
+    /**
+     * 各テスト後のモック解放
+     */
+    @AfterEach
+    void tearDown() {
+        logMock.close();
+        mainMock.close();
+        bukkitMock.close();
+    }
+
+    /**
+     * 初回実行を実行間隔の経過後として開始する場合
+     */
+    @Test
+    void testStart_DelaysByInterval() {
+        task.start();
+
+        verify(scheduler).runTaskTimerAsynchronously(plugin, action, 100L, 100L);
+    }
+
+    /**
+     * 初回実行までの待機時間を指定して開始する場合
+     */
+    @Test
+    void testStart_WithDelay() {
+        task.start(0L);
+
+        verify(scheduler).runTaskTimerAsynchronously(plugin, action, 0L, 100L);
+    }
+
+    /**
+     * 開始済みのタスクを再度開始する場合
+     */
+    @Test
+    void testStart_CancelsPreviousTask() {
+        task.start();
+        task.start();
+
+        verify(bukkitTask).cancel();
+        verify(scheduler, times(2)).runTaskTimerAsynchronously(plugin, action, 100L, 100L);
+    }
+
+    /**
+     * 実行間隔が変わっていない場合
+     */
+    @Test
+    void testReschedule_Unchanged() {
+        task.start();
+
+        assertFalse(task.reschedule());
+
+        verify(bukkitTask, never()).cancel();
+        verify(scheduler, times(1)).runTaskTimerAsynchronously(eq(plugin), any(Runnable.class), anyLong(), anyLong());
+    }
+
+    /**
+     * 実行間隔が変わった場合
+     */
+    @Test
+    void testReschedule_Changed() {
+        task.start();
+        interval.set(200L);
+
+        assertTrue(task.reschedule());
+
+        verify(bukkitTask).cancel();
+        verify(scheduler).runTaskTimerAsynchronously(plugin, action, 200L, 200L);
+        logMock.verify(() -> LogWriter.writeInfo(contains("テストの実行間隔を変更しました: 200 tick")));
+    }
+
+    /**
+     * 開始前に再スケジュールが要求された場合
+     */
+    @Test
+    void testReschedule_NotStarted() {
+        interval.set(200L);
+
+        assertFalse(task.reschedule());
+
+        verifyNoInteractions(scheduler);
+    }
+
+    /**
+     * 停止後は再スケジュールされない場合
+     */
+    @Test
+    void testCancel() {
+        task.start();
+        task.cancel();
+        task.cancel();
+        interval.set(200L);
+
+        assertFalse(task.reschedule());
+        verify(bukkitTask, times(1)).cancel();
+    }
+
+}
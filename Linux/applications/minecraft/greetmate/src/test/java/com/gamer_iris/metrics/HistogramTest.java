@@ -0,0 +1,60 @@
+/*
+######################################################################################################################################################
+# ファイル   : HistogramTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.metrics;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Histogram のユニットテストクラス
+ */
+class HistogramTest {
+
+    /**
+     * 記録値が該当バケットへ累積で出力される場合
+     */
+    @Test
+    void testObserve_WritesCumulativeBuckets() {
+        Histogram histogram = new Histogram();
+        histogram.observe(400_000L);
+        histogram.observe(1_000_000L);
+        histogram.observe(30_000_000L);
+        histogram.observe(20_000_000_000L);
+
+        StringBuilder sb = new StringBuilder();
+        histogram.writeTo(sb, "test_seconds", "method=\"m\"");
+        String out = sb.toString();
+
+        assertEquals(4, histogram.getCount());
+        assertTrue(out.contains("test_seconds_bucket{method=\"m\",le=\"5.0E-4\"} 1\n"));
+        assertTrue(out.contains("test_seconds_bucket{method=\"m\",le=\"0.001\"} 2\n"));
+        assertTrue(out.contains("test_seconds_bucket{method=\"m\",le=\"0.025\"} 2\n"));
+        assertTrue(out.contains("test_seconds_bucket{method=\"m\",le=\"0.05\"} 3\n"));
+        assertTrue(out.contains("test_seconds_bucket{method=\"m\",le=\"10.0\"} 3\n"));
+        assertTrue(out.contains("test_seconds_bucket{method=\"m\",le=\"+Inf\"} 4\n"));
+        assertTrue(out.contains("test_seconds_sum{method=\"m\"} 20.0314\n"));
+        assertTrue(out.contains("test_seconds_count{method=\"m\"} 4\n"));
+    }
+
+    /**
+     * 記録がない場合
+     */
+    @Test
+    void testWriteTo_Empty() {
+        Histogram histogram = new Histogram();
+        StringBuilder sb = new StringBuilder();
+        histogram.writeTo(sb, "empty_seconds", "task=\"t\"");
+
+        assertEquals(0, histogram.getCount());
+        assertTrue(sb.toString().contains("empty_seconds_count{task=\"t\"} 0\n"));
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+######################################################################################################################################################
+# ファイル   : MetricsExporterTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.metrics;
+
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.logging.LogWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+/**
+ * MetricsExporter のユニットテストクラス
+ */
+class MetricsExporterTest {
+
+    /**
+     * 各テスト後にHTTPサーバーを停止
+     */
+    @AfterEach
+    void tearDown() {
+        MetricsExporter.stop();
+    }
+
+    /**
+     * コンストラクタのカバレッジ確認
+     */
+    @Test
+    void testMetricsExporterConstructor_CoverageOnly() {
+        new MetricsExporter();
+    }
+
+    /**
+     * 設定が無効な場合は起動しない場合
+     */
+    @Test
+    void testStart_Disabled() {
+        try (MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class)) {
+            configMock.when(ConfigManager::isMetricsEnabled).thenReturn(false);
+
+            MetricsExporter.start();
+
+            assertEquals(-1, MetricsExporter.getPort());
+            assertFalse(MetricsRegistry.isEnabled());
+        }
+    }
+
+    /**
+     * 起動後に /metrics から集計値を取得できる場合
+     */
+    @Test
+    void testStart_ServesMetrics() throws Exception {
+        try (MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            configMock.when(ConfigManager::isMetricsEnabled).thenReturn(true);
+            configMock.when(ConfigManager::getMetricsBindAddress).thenReturn("127.0.0.1");
+            configMock.when(ConfigManager::getMetricsPort).thenReturn(0);
+
+            MetricsExporter.start();
+            MetricsExporter.start();
+
+            assertTrue(MetricsRegistry.isEnabled());
+            URI uri = URI.create("http://127.0.0.1:" + MetricsExporter.getPort() + "/metrics");
+            HttpClient client = HttpClient.newHttpClient();
+
+            HttpResponse<String> get = client.send(HttpRequest.newBuilder(uri).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, get.statusCode());
+            assertTrue(get.headers().firstValue("Content-Type").orElse("").startsWith("text/plain; version=0.0.4"));
+            assertTrue(get.body().contains("greetmate_log_queue_depth"));
+
+            HttpResponse<String> post = client.send(
+                    HttpRequest.newBuilder(uri).POST(HttpRequest.BodyPublishers.noBody()).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(405, post.statusCode());
+
+            logMock.verify(() -> LogWriter.writeInfo(contains("メトリクス出力を開始しました")), times(1));
+        }
+
+        MetricsExporter.stop();
+        assertEquals(-1, MetricsExporter.getPort());
+        assertFalse(MetricsRegistry.isEnabled());
+    }
+
+    /**
+     * ポートが使用中で起動に失敗する場合
+     */
+    @Test
+    void testStart_BindFails() throws IOException {
+        try (ServerSocket occupied = new ServerSocket(0);
+                MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            configMock.when(ConfigManager::isMetricsEnabled).thenReturn(true);
+            configMock.when(ConfigManager::getMetricsBindAddress).thenReturn("127.0.0.1");
+            configMock.when(ConfigManager::getMetricsPort).thenReturn(occupied.getLocalPort());
+
+            MetricsExporter.start();
+
+            assertEquals(-1, MetricsExporter.getPort());
+            assertFalse(MetricsRegistry.isEnabled());
+            logMock.verify(() -> LogWriter.writeError(contains("メトリクス出力の開始に失敗しました"), any()));
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+######################################################################################################################################################
+# ファイル   : MetricsRegistryTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   キャッシュの削除件数と件数の出力を追加
+# V-003      : 2026/10/18                 Gamer-Iris   メンテナンスのリーダー状態の出力を追加
+# V-004      : 2026/10/18                 Gamer-Iris   プレイヤー情報の未反映の書き込み件数の出力を追加
+# V-005      : 2026/10/18                 Gamer-Iris   DB障害による縮退運転中かの出力のテストを追加
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.metrics;
+
+import com.gamer_iris.database.ConnectionPool;
+import com.gamer_iris.database.DatabaseProvider;
+import com.gamer_iris.logging.LogWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * MetricsRegistry のユニットテストクラス
+ */
+class MetricsRegistryTest {
+
+    /**
+     * 各テスト後に計測を無効へ戻す
+     */
+    @AfterEach
+    void tearDown() {
+        MetricsRegistry.setEnabled(false);
+    }
+
+    /**
+     * コンストラクタのカバレッジ確認
+     */
+    @Test
+    void testMetricsRegistryConstructor_CoverageOnly() {
+        new MetricsRegistry();
+    }
+
+    /**
+     * 無効時は計測も計上もしない場合
+     */
+    @Test
+    void testDisabled_RecordsNothing() {
+        assertFalse(MetricsRegistry.isEnabled());
+
+        try (MetricsRegistry.Timer timer = MetricsRegistry.timeDao("Disabled.method")) {
+            assertSame(MetricsRegistry.Timer.NOOP, timer);
+        }
+        MetricsRegistry.countCacheLookup("disabled");
+        MetricsRegistry.countCacheEviction("disabled");
+
+        String out = MetricsRegistry.scrape();
+        assertFalse(out.contains("Disabled.method"));
+        assertFalse(out.contains("result=\"disabled\""));
+        assertFalse(out.contains("cause=\"disabled\""));
+    }
+
+    /**
+     * 有効時に各計測値が出力される場合
+     */
+    @Test
+    void testEnabled_ScrapeContainsRecordedValues() {
+        MetricsRegistry.setEnabled(true);
+
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeDao("Enabled.method")) {
+            assertTrue(MetricsRegistry.isEnabled());
+        }
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeMaintenance("enabled-task")) {
+            assertTrue(MetricsRegistry.isEnabled());
+        }
+        try (MetricsRegistry.Timer _ = MetricsRegistry.timeListener("enabled-event")) {
+            assertTrue(MetricsRegistry.isEnabled());
+        }
+        MetricsRegistry.countCacheLookup("enabled");
+        MetricsRegistry.countCacheLookup("enabled");
+        MetricsRegistry.countCacheEviction("enabled");
+
+        try (MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class);
+                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
+            logMock.when(LogWriter::getQueueDepth).thenReturn(7);
+            dbMock.when(DatabaseProvider::getPoolStats).thenReturn(null);
+
+            String out = MetricsRegistry.scrape();
+
+            assertTrue(out.contains("# TYPE greetmate_dao_duration_seconds histogram\n"));
+            assertTrue(out.contains("greetmate_dao_duration_seconds_count{method=\"Enabled.method\"} 1\n"));
+            assertTrue(out.contains("greetmate_maintenance_duration_seconds_count{task=\"enabled-task\"} 1\n"));
+            assertTrue(out.contains("greetmate_listener_duration_seconds_count{event=\"enabled-event\"} 1\n"));
+            assertTrue(out.contains("greetmate_cache_lookups_total{result=\"enabled\"} 2\n"));
+            assertTrue(out.contains("greetmate_cache_evictions_total{cause=\"enabled\"} 1\n"));
+            assertTrue(out.contains("# TYPE greetmate_cache_size gauge\n"));
+            assertTrue(out.contains("greetmate_log_queue_depth 7\n"));
+            assertTrue(out.contains("greetmate_player_write_pending 0\n"));
+            assertTrue(out.contains("greetmate_db_degraded 0\n"));
+            assertTrue(out.contains("greetmate_maintenance_leader 1\n"));
+            assertFalse(out.contains("greetmate_db_pool_connections"));
+        }
+    }
+
+    /**
+     * コネクションプールの状態が出力される場合
+     */
+    @Test
+    void testScrape_IncludesPoolStats() {
+        ConnectionPool.Stats stats = mock(ConnectionPool.Stats.class);
+        when(stats.getActive()).thenReturn(3);
+        when(stats.getIdle()).thenReturn(5);
+        when(stats.getWaiting()).thenReturn(1);
+
+        try (MockedStatic<LogWriter> _ = mockStatic(LogWriter.class);
+                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
+            dbMock.when(DatabaseProvider::getPoolStats).thenReturn(stats);
+
+            String out = MetricsRegistry.scrape();
+
+            assertTrue(out.contains("greetmate_db_pool_connections{state=\"active\"} 3\n"));
+            assertTrue(out.contains("greetmate_db_pool_connections{state=\"idle\"} 5\n"));
+            assertTrue(out.contains("greetmate_db_pool_waiting 1\n"));
+        }
+    }
+
+}
@@ -0,0 +1,35 @@
+/*
+######################################################################################################################################################
+# ファイル   : InvalidationDataTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.model;
+
+import org.junit.jupiter.api.Test;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * InvalidationData のユニットテストクラス
+ */
+class InvalidationDataTest {
+
+    /**
+     * 各getterが正常に値を返す場合
+     */
+    @Test
+    void testInvalidationData_Getters() {
+        UUID uuid = UUID.randomUUID();
+        InvalidationData data = new InvalidationData(42L, uuid, "origin-1");
+
+        assertEquals(42L, data.getId());
+        assertEquals(uuid, data.getUuid());
+        assertEquals("origin-1", data.getOrigin());
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+######################################################################################################################################################
+# ファイル   : GreetingTemplateTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   定義済み以外の波括弧が文字列として出力されることのテストに変更
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.notification;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GreetingTemplate のユニットテストクラス
+ */
+class GreetingTemplateTest {
+
+    /**
+     * 従来の %s 形式のメッセージにプレイヤー名が差し込まれる場合
+     */
+    @Test
+    void testRender_PositionalPlaceholder() {
+        GreetingTemplate template = GreetingTemplate.compile("【管理者】%s さんがログインしました。", "管理者", "MyServer");
+        assertEquals("【管理者】Steve さんがログインしました。", template.render("Steve"));
+    }
+
+    /**
+     * 名前付きプレースホルダが展開される場合
+     */
+    @Test
+    void testRender_NamedPlaceholders() {
+        GreetingTemplate template = GreetingTemplate.compile("{server}: [{role}] {player} / %s", "管理者", "MyServer");
+        assertEquals("MyServer: [管理者] Alex / Alex", template.render("Alex"));
+    }
+
+    /**
+     * エスケープした記号がそのまま出力される場合
+     */
+    @Test
+    void testRender_EscapedSymbols() {
+        GreetingTemplate template = GreetingTemplate.compile("100%% {{player} {player}", null, null);
+        assertEquals("100% {player} Steve", template.render("Steve"));
+    }
+
+    /**
+     * プレースホルダを含まないメッセージの場合
+     */
+    @Test
+    void testRender_NoPlaceholder() {
+        GreetingTemplate template = GreetingTemplate.compile("ようこそ！", null, null);
+        assertEquals("ようこそ！", template.render("Steve"));
+    }
+
+    /**
+     * ロール名・サーバー名・プレイヤー名がnullの場合
+     */
+    @Test
+    void testRender_NullValues() {
+        GreetingTemplate template = GreetingTemplate.compile("[{role}{server}] %s", null, null);
+        assertEquals("[] null", template.render(null));
+    }
+
+    /**
+     * メッセージがnullの場合
+     */
+    @Test
+    void testCompile_NullText() {
+        assertThrows(IllegalArgumentException.class, () -> GreetingTemplate.compile(null, null, null));
+    }
+
+    /**
+     * 未対応の書式指定子を含む場合
+     */
+    @Test
+    void testCompile_UnsupportedConversion() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> GreetingTemplate.compile("%d さん", null, null));
+        assertTrue(e.getMessage().contains("位置=0"));
+    }
+
+    /**
+     * 末尾が % で終わる場合
+     */
+    @Test
+    void testCompile_TrailingPercent() {
+        assertThrows(IllegalArgumentException.class, () -> GreetingTemplate.compile("%s 100%", null, null));
+    }
+
+    /**
+     * 閉じられていない波括弧が文字列として出力される場合
+     */
+    @Test
+    void testRender_UnclosedBraceIsLiteral() {
+        assertEquals("{player さん Steve", GreetingTemplate.compile("{player さん %s", null, null).render("Steve"));
+        assertEquals("末尾{", GreetingTemplate.compile("末尾{", null, null).render("Steve"));
+    }
+
+    /**
+     * 未定義の名前の波括弧が文字列として出力される場合
+     */
+    @Test
+    void testRender_UnknownPlaceholderIsLiteral() {
+        GreetingTemplate template = GreetingTemplate.compile("{world} の {:-)} %s {}", "管理者", null);
+        assertEquals("{world} の {:-)} Steve {}", template.render("Steve"));
+    }
+
+    /**
+     * 解析可否を判定する場合
+     */
+    @Test
+    void testIsValid() {
+        assertTrue(GreetingTemplate.isValid("{player} さん"));
+        assertTrue(GreetingTemplate.isValid("{world} さん"));
+        assertFalse(GreetingTemplate.isValid("%1$s さん"));
+        assertFalse(GreetingTemplate.isValid(null));
+    }
+
+}
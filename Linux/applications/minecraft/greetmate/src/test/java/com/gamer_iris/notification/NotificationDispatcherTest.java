@@ -5,11 +5,16 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   ログイン通知をメモリ参照のみに変更
+# V-003      : 2026/10/18                 Gamer-Iris   PlayerData指定のキャッシュ構築追加に伴う修正
+# V-004      : 2026/10/18                 Gamer-Iris   解析済みテンプレートによるメッセージ生成に変更
+# V-005      : 2026/10/18                 Gamer-Iris   ログアウト・キック・BAN通知をメモリ参照のみとし、キャッシュが無い場合は非同期で読み込むよう変更
 # 
 ######################################################################################################################################################
 */
 package com.gamer_iris.notification;
 
+import com.gamer_iris.cache.GreetingPrefetcher;
 import com.gamer_iris.cache.UserGreetingCacheManager;
 import com.gamer_iris.config.ConfigManager;
 import org.bukkit.Bukkit;
@@ -20,6 +25,7 @@ import org.mockito.MockedStatic;
 import java.util.Collections;
 import java.util.Set;
 import java.util.UUID;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 /**
@@ -58,7 +64,7 @@ class NotificationDispatcherTest {
                 MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class);
                 MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class)) {
 
-            cacheMock.when(() -> UserGreetingCacheManager.getLoginText(uuid)).thenReturn("ようこそ %s！");
+            cacheMock.when(() -> UserGreetingCacheManager.getLoginTemplate(uuid)).thenReturn(GreetingTemplate.compile("ようこそ %s！", null, null));
             bukkitMock.when(Bukkit::getOnlinePlayers).thenReturn(Set.of(playerMock));
 
             NotificationDispatcher.broadcastLoginMessage(uuid, name);
@@ -68,28 +74,7 @@ class NotificationDispatcherTest {
     }
 
     /**
-     * ログインメッセージが再構築後に取得できる場合
-     */
-    @Test
-    void testBroadcastLoginMessage_RebuildCacheSuccess() {
-        try (
-                MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class);
-                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class)) {
-
-            cacheMock.when(() -> UserGreetingCacheManager.getLoginText(uuid))
-                    .thenReturn(null)
-                    .thenReturn("再構築ようこそ %s！");
-            cacheMock.when(() -> UserGreetingCacheManager.buildAndCache(uuid)).then(_ -> null);
-            bukkitMock.when(Bukkit::getOnlinePlayers).thenReturn(Set.of(playerMock));
-
-            NotificationDispatcher.broadcastLoginMessage(uuid, name);
-
-            verify(playerMock).sendMessage("再構築ようこそ テストユーザー！");
-        }
-    }
-
-    /**
-     * ログインメッセージがデフォルトにフォールバックされる場合
+     * ログインメッセージがデフォルトにフォールバックされる場合（DBは参照しない）
      */
     @Test
     void testBroadcastLoginMessage_UsesDefaultMessage() {
@@ -98,16 +83,14 @@ class NotificationDispatcherTest {
                 MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
                 MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class)) {
 
-            cacheMock.when(() -> UserGreetingCacheManager.getLoginText(uuid))
-                    .thenReturn(null)
-                    .thenReturn(null);
-            cacheMock.when(() -> UserGreetingCacheManager.buildAndCache(uuid)).then(_ -> null);
-            configMock.when(ConfigManager::getDefaultLoginMessage).thenReturn("デフォルトようこそ %s！");
+            cacheMock.when(() -> UserGreetingCacheManager.getLoginTemplate(uuid)).thenReturn(null);
+            configMock.when(ConfigManager::getDefaultLoginTemplate).thenReturn(GreetingTemplate.compile("デフォルトようこそ %s！", null, null));
             bukkitMock.when(Bukkit::getOnlinePlayers).thenReturn(Set.of(playerMock));
 
             NotificationDispatcher.broadcastLoginMessage(uuid, name);
 
             verify(playerMock).sendMessage("デフォルトようこそ テストユーザー！");
+            cacheMock.verify(() -> UserGreetingCacheManager.buildAndCache(any(UUID.class)), never());
         }
     }
 
@@ -120,7 +103,7 @@ class NotificationDispatcherTest {
                 MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class);
                 MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class)) {
 
-            cacheMock.when(() -> UserGreetingCacheManager.getLogoutText(uuid)).thenReturn("さようなら %s");
+            cacheMock.when(() -> UserGreetingCacheManager.getLogoutTemplate(uuid)).thenReturn(GreetingTemplate.compile("さようなら %s", null, null));
             bukkitMock.when(Bukkit::getOnlinePlayers).thenReturn(Set.of(playerMock));
 
             NotificationDispatcher.broadcastLogoutMessage(uuid, name);
@@ -130,46 +113,25 @@ class NotificationDispatcherTest {
     }
 
     /**
-     * ログアウトメッセージが再構築後に取得できる場合
-     */
-    @Test
-    void testBroadcastLogoutMessage_RebuildCacheSuccess() {
-        try (
-                MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class);
-                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class)) {
-
-            cacheMock.when(() -> UserGreetingCacheManager.getLogoutText(uuid))
-                    .thenReturn(null)
-                    .thenReturn("再構築さようなら %s");
-            cacheMock.when(() -> UserGreetingCacheManager.buildAndCache(uuid)).then(_ -> null);
-            bukkitMock.when(Bukkit::getOnlinePlayers).thenReturn(Set.of(playerMock));
-
-            NotificationDispatcher.broadcastLogoutMessage(uuid, name);
-
-            verify(playerMock).sendMessage("再構築さようなら テストユーザー");
-        }
-    }
-
-    /**
-     * ログアウトメッセージがデフォルトにフォールバックされる場合
+     * ログアウトメッセージがデフォルトにフォールバックされる場合（DBは参照せず非同期で読み込む）
      */
     @Test
     void testBroadcastLogoutMessage_UsesDefaultMessage() {
         try (
                 MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class);
                 MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<GreetingPrefetcher> prefetchMock = mockStatic(GreetingPrefetcher.class);
                 MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class)) {
 
-            cacheMock.when(() -> UserGreetingCacheManager.getLogoutText(uuid))
-                    .thenReturn(null)
-                    .thenReturn(null);
-            cacheMock.when(() -> UserGreetingCacheManager.buildAndCache(uuid)).then(_ -> null);
-            configMock.when(ConfigManager::getDefaultLogoutMessage).thenReturn("デフォルトさようなら %s");
+            cacheMock.when(() -> UserGreetingCacheManager.getLogoutTemplate(uuid)).thenReturn(null);
+            configMock.when(ConfigManager::getDefaultLogoutTemplate).thenReturn(GreetingTemplate.compile("デフォルトさようなら %s", null, null));
             bukkitMock.when(Bukkit::getOnlinePlayers).thenReturn(Set.of(playerMock));
 
             NotificationDispatcher.broadcastLogoutMessage(uuid, name);
 
             verify(playerMock).sendMessage("デフォルトさようなら テストユーザー");
+            prefetchMock.verify(() -> GreetingPrefetcher.prefetchAsync(uuid));
+            cacheMock.verify(() -> UserGreetingCacheManager.buildAndCache(any(UUID.class)), never());
         }
     }
 
@@ -182,7 +144,7 @@ class NotificationDispatcherTest {
                 MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class);
                 MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class)) {
 
-            cacheMock.when(() -> UserGreetingCacheManager.getKickText(uuid)).thenReturn("キックされた %s");
+            cacheMock.when(() -> UserGreetingCacheManager.getKickTemplate(uuid)).thenReturn(GreetingTemplate.compile("キックされた %s", null, null));
             bukkitMock.when(Bukkit::getOnlinePlayers).thenReturn(Set.of(playerMock));
 
             NotificationDispatcher.broadcastKickMessage(uuid, name);
@@ -192,46 +154,25 @@ class NotificationDispatcherTest {
     }
 
     /**
-     * キックメッセージが再構築後に取得できる場合
-     */
-    @Test
-    void testBroadcastKickMessage_RebuildCacheSuccess() {
-        try (
-                MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class);
-                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class)) {
-
-            cacheMock.when(() -> UserGreetingCacheManager.getKickText(uuid))
-                    .thenReturn(null)
-                    .thenReturn("再構築キック %s");
-            cacheMock.when(() -> UserGreetingCacheManager.buildAndCache(uuid)).then(_ -> null);
-            bukkitMock.when(Bukkit::getOnlinePlayers).thenReturn(Set.of(playerMock));
-
-            NotificationDispatcher.broadcastKickMessage(uuid, name);
-
-            verify(playerMock).sendMessage("再構築キック テストユーザー");
-        }
-    }
-
-    /**
-     * キックメッセージがデフォルトにフォールバックされる場合
+     * キックメッセージがデフォルトにフォールバックされる場合（DBは参照せず非同期で読み込む）
      */
     @Test
     void testBroadcastKickMessage_UsesDefaultMessage() {
         try (
                 MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class);
                 MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<GreetingPrefetcher> prefetchMock = mockStatic(GreetingPrefetcher.class);
                 MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class)) {
 
-            cacheMock.when(() -> UserGreetingCacheManager.getKickText(uuid))
-                    .thenReturn(null)
-                    .thenReturn(null);
-            cacheMock.when(() -> UserGreetingCacheManager.buildAndCache(uuid)).then(_ -> null);
-            configMock.when(ConfigManager::getDefaultKickMessage).thenReturn("デフォルトキック %s");
+            cacheMock.when(() -> UserGreetingCacheManager.getKickTemplate(uuid)).thenReturn(null);
+            configMock.when(ConfigManager::getDefaultKickTemplate).thenReturn(GreetingTemplate.compile("デフォルトキック %s", null, null));
             bukkitMock.when(Bukkit::getOnlinePlayers).thenReturn(Set.of(playerMock));
 
             NotificationDispatcher.broadcastKickMessage(uuid, name);
 
             verify(playerMock).sendMessage("デフォルトキック テストユーザー");
+            prefetchMock.verify(() -> GreetingPrefetcher.prefetchAsync(uuid));
+            cacheMock.verify(() -> UserGreetingCacheManager.buildAndCache(any(UUID.class)), never());
         }
     }
 
@@ -244,7 +185,7 @@ class NotificationDispatcherTest {
                 MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class);
                 MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class)) {
 
-            cacheMock.when(() -> UserGreetingCacheManager.getBanText(uuid)).thenReturn("BANされた %s");
+            cacheMock.when(() -> UserGreetingCacheManager.getBanTemplate(uuid)).thenReturn(GreetingTemplate.compile("BANされた %s", null, null));
             bukkitMock.when(Bukkit::getOnlinePlayers).thenReturn(Set.of(playerMock));
 
             NotificationDispatcher.broadcastBanMessage(uuid, name);
@@ -254,46 +195,25 @@ class NotificationDispatcherTest {
     }
 
     /**
-     * BANメッセージが再構築後に取得できる場合
-     */
-    @Test
-    void testBroadcastBanMessage_RebuildCacheSuccess() {
-        try (
-                MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class);
-                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class)) {
-
-            cacheMock.when(() -> UserGreetingCacheManager.getBanText(uuid))
-                    .thenReturn(null)
-                    .thenReturn("再構築BAN %s");
-            cacheMock.when(() -> UserGreetingCacheManager.buildAndCache(uuid)).then(_ -> null);
-            bukkitMock.when(Bukkit::getOnlinePlayers).thenReturn(Set.of(playerMock));
-
-            NotificationDispatcher.broadcastBanMessage(uuid, name);
-
-            verify(playerMock).sendMessage("再構築BAN テストユーザー");
-        }
-    }
-
-    /**
-     * BANメッセージがデフォルトにフォールバックされる場合
+     * BANメッセージがデフォルトにフォールバックされる場合（DBは参照せず非同期で読み込む）
      */
     @Test
     void testBroadcastBanMessage_UsesDefaultMessage() {
         try (
                 MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class);
                 MockedStatic<ConfigManager> configMock = mockStatic(ConfigManager.class);
+                MockedStatic<GreetingPrefetcher> prefetchMock = mockStatic(GreetingPrefetcher.class);
                 MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class)) {
 
-            cacheMock.when(() -> UserGreetingCacheManager.getBanText(uuid))
-                    .thenReturn(null)
-                    .thenReturn(null);
-            cacheMock.when(() -> UserGreetingCacheManager.buildAndCache(uuid)).then(_ -> null);
-            configMock.when(ConfigManager::getDefaultBanMessage).thenReturn("デフォルトBAN %s");
+            cacheMock.when(() -> UserGreetingCacheManager.getBanTemplate(uuid)).thenReturn(null);
+            configMock.when(ConfigManager::getDefaultBanTemplate).thenReturn(GreetingTemplate.compile("デフォルトBAN %s", null, null));
             bukkitMock.when(Bukkit::getOnlinePlayers).thenReturn(Set.of(playerMock));
 
             NotificationDispatcher.broadcastBanMessage(uuid, name);
 
             verify(playerMock).sendMessage("デフォルトBAN テストユーザー");
+            prefetchMock.verify(() -> GreetingPrefetcher.prefetchAsync(uuid));
+            cacheMock.verify(() -> UserGreetingCacheManager.buildAndCache(any(UUID.class)), never());
         }
     }
 
@@ -307,7 +227,7 @@ class NotificationDispatcherTest {
                 MockedStatic<UserGreetingCacheManager> cacheMock = mockStatic(UserGreetingCacheManager.class)) {
 
             bukkitMock.when(Bukkit::getOnlinePlayers).thenReturn(Collections.emptySet());
-            cacheMock.when(() -> UserGreetingCacheManager.getLoginText(uuid)).thenReturn("ようこそ %s！");
+            cacheMock.when(() -> UserGreetingCacheManager.getLoginTemplate(uuid)).thenReturn(GreetingTemplate.compile("ようこそ %s！", null, null));
 
             NotificationDispatcher.broadcastLoginMessage(uuid, name);
         }
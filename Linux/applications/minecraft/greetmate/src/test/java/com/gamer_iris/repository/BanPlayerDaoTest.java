@@ -5,6 +5,12 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   更新日時・ID基準の差分取得を追加
+# V-003      : 2026/10/18                 Gamer-Iris   UUID列の保存形式（VARCHAR(36)・BINARY(16)・移行期間の併用）に対応
+# V-004      : 2026/10/18                 Gamer-Iris   UUID指定のBAN情報取得を追加
+# V-005      : 2026/10/18                 Gamer-Iris   DBに接続できない場合のローカルスナップショットからの参照のテストを追加
+# V-006      : 2026/10/18                 Gamer-Iris   差分取得の基準点をIDのみに変更
+# V-007      : 2026/10/18                 Gamer-Iris   登録の成否を返却
 # 
 ######################################################################################################################################################
 */
@@ -16,6 +22,8 @@ import com.gamer_iris.exception.CriticalException;
 import com.gamer_iris.exception.ErrorHandler;
 import com.gamer_iris.logging.LogWriter;
 import com.gamer_iris.model.BanPlayerData;
+import com.gamer_iris.repository.UuidColumn.Storage;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
@@ -52,6 +60,15 @@ class BanPlayerDaoTest {
         banData = new BanPlayerData(1, "BannedPlayer", 2, uuid, "TestReason", new Date());
     }
 
+    /**
+     * UUID列の保存形式を既定値へ戻す
+     */
+    @AfterEach
+    void tearDown() {
+        UuidColumn.configure(Storage.TEXT);
+        LocalSnapshotStore.clear();
+    }
+
     /**
      * コンストラクタのカバレッジ確認
      */
@@ -121,6 +138,155 @@ class BanPlayerDaoTest {
         }
     }
 
+    /**
+     * DBに接続できない場合はBAN情報をローカルスナップショットから取得する場合
+     */
+    @Test
+    void testGetAll_FallsBackToLocalSnapshot() {
+        try (
+                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<LocalSnapshotStore> snapshotMock = mockStatic(LocalSnapshotStore.class);
+                MockedStatic<LogWriter> _ = mockStatic(LogWriter.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenThrow(new SQLTransientConnectionException("down"));
+            snapshotMock.when(LocalSnapshotStore::getBans).thenReturn(List.of(banData));
+
+            assertEquals(List.of(banData), BanPlayerDao.getAll());
+        }
+    }
+
+    /**
+     * 指定位置より後のBAN情報を取得できる場合
+     */
+    @Test
+    void testGetAddedSince_ReturnsList() throws Exception {
+        when(conn.prepareStatement(any())).thenReturn(stmt);
+        when(stmt.executeQuery()).thenReturn(rs);
+        when(rs.next()).thenReturn(true, false);
+        when(rs.getInt("id")).thenReturn(banData.getId());
+        when(rs.getString("player_name")).thenReturn(banData.getPlayerName());
+        when(rs.getInt("role")).thenReturn(banData.getRole());
+        when(rs.getString("uuid")).thenReturn(banData.getUuid().toString());
+        when(rs.getString("reason")).thenReturn(banData.getReason());
+        when(rs.getTimestamp("update_time")).thenReturn(new Timestamp(banData.getUpdateTime().getTime()));
+
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
+            List<BanPlayerData> result = BanPlayerDao.getAddedSince(5);
+            assertEquals(1, result.size());
+            assertEquals(uuid, result.get(0).getUuid());
+
+            verify(conn).prepareStatement(contains("WHERE id > ? ORDER BY id"));
+            verify(stmt).setInt(1, 5);
+        }
+    }
+
+    /**
+     * BAN情報の差分取得時にCriticalExceptionが発生する場合
+     */
+    @Test
+    void testGetAddedSince_CriticalException() {
+        try (
+                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<ErrorHandler> errorMock = mockStatic(ErrorHandler.class);
+                MockedStatic<Main> mainMock = mockStatic(Main.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenThrow(new CriticalException("diff failed"));
+            mainMock.when(Main::getInstance).thenReturn(mock(Main.class));
+
+            assertNull(BanPlayerDao.getAddedSince(0));
+
+            errorMock.verify(() -> ErrorHandler.handleCriticalError(any(), eq("diff failed"), any()), times(1));
+        }
+    }
+
+    /**
+     * BAN情報の差分取得時にSQLExceptionが発生する場合
+     */
+    @Test
+    void testGetAddedSince_SQLException() {
+        try (
+                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenThrow(new SQLException("DB error"));
+
+            assertNull(BanPlayerDao.getAddedSince(0));
+
+            logMock.verify(() -> LogWriter.writeError(contains("BAN情報の差分取得に失敗しました。"), any()), times(1));
+        }
+    }
+
+    /**
+     * UUID指定でBAN情報を取得できる場合
+     */
+    @Test
+    void testFindByUuid_ReturnsList() throws Exception {
+        when(conn.prepareStatement(any())).thenReturn(stmt);
+        when(stmt.executeQuery()).thenReturn(rs);
+        when(rs.next()).thenReturn(true, false);
+        when(rs.getInt("id")).thenReturn(banData.getId());
+        when(rs.getString("player_name")).thenReturn(banData.getPlayerName());
+        when(rs.getString("uuid")).thenReturn(uuid.toString());
+        when(rs.getString("reason")).thenReturn(banData.getReason());
+
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
+            List<BanPlayerData> result = BanPlayerDao.findByUuid(uuid);
+            assertEquals(1, result.size());
+            assertEquals("TestReason", result.get(0).getReason());
+
+            verify(conn).prepareStatement(contains("WHERE uuid = ?"));
+            verify(stmt).setString(1, uuid.toString());
+        }
+    }
+
+    /**
+     * UUID指定のBAN情報が存在しない場合
+     */
+    @Test
+    void testFindByUuid_NotFound() throws Exception {
+        when(conn.prepareStatement(any())).thenReturn(stmt);
+        when(stmt.executeQuery()).thenReturn(rs);
+        when(rs.next()).thenReturn(false);
+
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
+            assertTrue(BanPlayerDao.findByUuid(uuid).isEmpty());
+        }
+    }
+
+    /**
+     * UUID指定のBAN情報取得時にCriticalExceptionが発生する場合
+     */
+    @Test
+    void testFindByUuid_CriticalException() {
+        try (
+                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<ErrorHandler> errorMock = mockStatic(ErrorHandler.class);
+                MockedStatic<Main> mainMock = mockStatic(Main.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenThrow(new CriticalException("find failed"));
+            mainMock.when(Main::getInstance).thenReturn(mock(Main.class));
+
+            assertNull(BanPlayerDao.findByUuid(uuid));
+
+            errorMock.verify(() -> ErrorHandler.handleCriticalError(any(), eq("find failed"), any()), times(1));
+        }
+    }
+
+    /**
+     * UUID指定のBAN情報取得時にSQLExceptionが発生する場合
+     */
+    @Test
+    void testFindByUuid_SQLException() {
+        try (
+                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenThrow(new SQLException("DB error"));
+
+            assertNull(BanPlayerDao.findByUuid(uuid));
+
+            logMock.verify(() -> LogWriter.writeError(contains("BAN情報の取得に失敗しました。"), any()), times(1));
+        }
+    }
+
     /**
      * BAN情報を正常に登録できる場合
      */
@@ -134,13 +300,57 @@ class BanPlayerDaoTest {
                 MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
             dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
 
-            BanPlayerDao.insert(banData);
+            assertTrue(BanPlayerDao.insert(banData));
 
             verify(stmt).executeUpdate();
             logMock.verify(() -> LogWriter.writeInfo(contains("BANプレイヤーを登録")), times(1));
         }
     }
 
+    /**
+     * DUAL形式で登録時に両方のUUID列へ書き込む場合
+     */
+    @Test
+    void testInsert_DualStorage() throws Exception {
+        UuidColumn.configure(Storage.DUAL);
+        when(conn.prepareStatement(any())).thenReturn(stmt);
+
+        try (
+                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<LogWriter> _ = mockStatic(LogWriter.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
+
+            BanPlayerDao.insert(banData);
+
+            verify(conn).prepareStatement(contains("(player_name, role, uuid, uuid_bin, reason, update_time)"));
+            verify(stmt).setString(3, uuid.toString());
+            verify(stmt).setBytes(4, UuidColumn.toBytes(uuid));
+            verify(stmt).setString(5, "TestReason");
+            verify(stmt).setTimestamp(eq(6), any(Timestamp.class));
+        }
+    }
+
+    /**
+     * BINARY形式でuuid_bin列からUUIDを読み取る場合
+     */
+    @Test
+    void testGetAll_BinaryStorage() throws Exception {
+        UuidColumn.configure(Storage.BINARY);
+        when(conn.prepareStatement(any())).thenReturn(stmt);
+        when(stmt.executeQuery()).thenReturn(rs);
+        when(rs.next()).thenReturn(true, false);
+        when(rs.getBytes("uuid_bin")).thenReturn(UuidColumn.toBytes(uuid));
+
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
+
+            List<BanPlayerData> result = BanPlayerDao.getAll();
+
+            assertEquals(uuid, result.get(0).getUuid());
+            verify(conn).prepareStatement(contains("SELECT id, player_name, role, uuid_bin, reason"));
+        }
+    }
+
     /**
      * BAN情報登録時にCriticalExceptionが発生する場合
      */
@@ -153,7 +363,7 @@ class BanPlayerDaoTest {
             dbMock.when(DatabaseProvider::getConnection).thenThrow(new CriticalException("DB fail"));
             mainMock.when(Main::getInstance).thenReturn(mock(Main.class));
 
-            BanPlayerDao.insert(banData);
+            assertFalse(BanPlayerDao.insert(banData));
             errorMock.verify(() -> ErrorHandler.handleCriticalError(any(), eq("DB fail"), any()), times(1));
         }
     }
@@ -171,7 +381,7 @@ class BanPlayerDaoTest {
             dbMock.when(DatabaseProvider::getConnection).thenReturn(mockConn);
             when(mockConn.prepareStatement(any())).thenThrow(new SQLException("Statement failed"));
 
-            BanPlayerDao.insert(banData);
+            assertFalse(BanPlayerDao.insert(banData));
             logMock.verify(() -> LogWriter.writeError(contains("BANプレイヤーの登録に失敗しました。"), any()), times(1));
         }
     }
@@ -0,0 +1,300 @@
+/*
+######################################################################################################################################################
+# ファイル   : InvalidationDaoTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.repository;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.database.DatabaseProvider;
+import com.gamer_iris.exception.CriticalException;
+import com.gamer_iris.exception.ErrorHandler;
+import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.model.InvalidationData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import java.sql.*;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * InvalidationDao のユニットテストクラス
+ */
+class InvalidationDaoTest {
+
+    private Connection conn;
+    private PreparedStatement stmt;
+    private ResultSet rs;
+    private UUID uuid;
+
+    /**
+     * 各テスト前の初期化処理
+     */
+    @BeforeEach
+    void setup() throws Exception {
+        conn = mock(Connection.class);
+        stmt = mock(PreparedStatement.class);
+        rs = mock(ResultSet.class);
+        uuid = UUID.randomUUID();
+        when(conn.prepareStatement(any())).thenReturn(stmt);
+        when(stmt.executeQuery()).thenReturn(rs);
+    }
+
+    /**
+     * コンストラクタのカバレッジ確認
+     */
+    @Test
+    void testInvalidationDaoConstructor_CoverageOnly() {
+        new InvalidationDao();
+    }
+
+    /**
+     * 無効化通知を登録できる場合
+     */
+    @Test
+    void testInsert_Success() throws Exception {
+        when(stmt.executeUpdate()).thenReturn(1);
+
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
+
+            assertTrue(InvalidationDao.insert(uuid, "origin-1"));
+
+            verify(stmt).setString(1, uuid.toString());
+            verify(stmt).setString(2, "origin-1");
+        }
+    }
+
+    /**
+     * 無効化通知の登録件数が0件の場合
+     */
+    @Test
+    void testInsert_NoRows() throws Exception {
+        when(stmt.executeUpdate()).thenReturn(0);
+
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
+
+            assertFalse(InvalidationDao.insert(uuid, "origin-1"));
+        }
+    }
+
+    /**
+     * 無効化通知の登録時にCriticalExceptionが発生する場合
+     */
+    @Test
+    void testInsert_CriticalException() {
+        try (
+                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<ErrorHandler> errorMock = mockStatic(ErrorHandler.class);
+                MockedStatic<Main> mainMock = mockStatic(Main.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenThrow(new CriticalException("insert failed"));
+            mainMock.when(Main::getInstance).thenReturn(mock(Main.class));
+
+            assertFalse(InvalidationDao.insert(uuid, "origin-1"));
+
+            errorMock.verify(() -> ErrorHandler.handleCriticalError(any(), eq("insert failed"), any()), times(1));
+        }
+    }
+
+    /**
+     * 無効化通知の登録時にSQLExceptionが発生する場合
+     */
+    @Test
+    void testInsert_SQLException() {
+        try (
+                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenThrow(new SQLException("DB error"));
+
+            assertFalse(InvalidationDao.insert(uuid, "origin-1"));
+
+            logMock.verify(() -> LogWriter.writeError(contains("キャッシュ無効化通知の登録に失敗しました。"), any()), times(1));
+        }
+    }
+
+    /**
+     * 最大IDを取得できる場合
+     */
+    @Test
+    void testFindLatestId_ReturnsMaxId() throws Exception {
+        when(rs.next()).thenReturn(true);
+        when(rs.getLong("id")).thenReturn(128L);
+
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
+
+            assertEquals(128L, InvalidationDao.findLatestId());
+        }
+    }
+
+    /**
+     * 集計結果の行が返らない場合
+     */
+    @Test
+    void testFindLatestId_NoRow() throws Exception {
+        when(rs.next()).thenReturn(false);
+
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
+
+            assertEquals(0L, InvalidationDao.findLatestId());
+        }
+    }
+
+    /**
+     * 最大IDの取得時にCriticalExceptionが発生する場合
+     */
+    @Test
+    void testFindLatestId_CriticalException() {
+        try (
+                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<ErrorHandler> errorMock = mockStatic(ErrorHandler.class);
+                MockedStatic<Main> mainMock = mockStatic(Main.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenThrow(new CriticalException("latest failed"));
+            mainMock.when(Main::getInstance).thenReturn(mock(Main.class));
+
+            assertEquals(-1L, InvalidationDao.findLatestId());
+
+            errorMock.verify(() -> ErrorHandler.handleCriticalError(any(), eq("latest failed"), any()), times(1));
+        }
+    }
+
+    /**
+     * 最大IDの取得時にSQLExceptionが発生する場合
+     */
+    @Test
+    void testFindLatestId_SQLException() {
+        try (
+                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenThrow(new SQLException("DB error"));
+
+            assertEquals(-1L, InvalidationDao.findLatestId());
+
+            logMock.verify(() -> LogWriter.writeError(contains("キャッシュ無効化通知の位置の取得に失敗しました。"), any()),
+                    times(1));
+        }
+    }
+
+    /**
+     * 指定IDより後の無効化通知を取得できる場合
+     */
+    @Test
+    void testFindSince_ReturnsList() throws Exception {
+        when(rs.next()).thenReturn(true, false);
+        when(rs.getLong("id")).thenReturn(11L);
+        when(rs.getString("uuid")).thenReturn(uuid.toString());
+        when(rs.getString("origin")).thenReturn("origin-2");
+
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
+
+            List<InvalidationData> result = InvalidationDao.findSince(10L, 500);
+
+            assertEquals(1, result.size());
+            assertEquals(11L, result.get(0).getId());
+            assertEquals(uuid, result.get(0).getUuid());
+            assertEquals("origin-2", result.get(0).getOrigin());
+            verify(conn).prepareStatement(contains("WHERE id > ? ORDER BY id LIMIT ?"));
+            verify(stmt).setLong(1, 10L);
+            verify(stmt).setInt(2, 500);
+        }
+    }
+
+    /**
+     * 無効化通知の取得時にCriticalExceptionが発生する場合
+     */
+    @Test
+    void testFindSince_CriticalException() {
+        try (
+                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<ErrorHandler> errorMock = mockStatic(ErrorHandler.class);
+                MockedStatic<Main> mainMock = mockStatic(Main.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenThrow(new CriticalException("since failed"));
+            mainMock.when(Main::getInstance).thenReturn(mock(Main.class));
+
+            assertNull(InvalidationDao.findSince(10L, 500));
+
+            errorMock.verify(() -> ErrorHandler.handleCriticalError(any(), eq("since failed"), any()), times(1));
+        }
+    }
+
+    /**
+     * 無効化通知の取得時にSQLExceptionが発生する場合
+     */
+    @Test
+    void testFindSince_SQLException() {
+        try (
+                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenThrow(new SQLException("DB error"));
+
+            assertNull(InvalidationDao.findSince(10L, 500));
+
+            logMock.verify(() -> LogWriter.writeError(contains("キャッシュ無効化通知の取得に失敗しました。"), any()), times(1));
+        }
+    }
+
+    /**
+     * 保持期間を過ぎた無効化通知を削除できる場合
+     */
+    @Test
+    void testDeleteOlderThan_ReturnsCount() throws Exception {
+        when(stmt.executeUpdate()).thenReturn(3);
+
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
+
+            assertEquals(3, InvalidationDao.deleteOlderThan(24));
+
+            verify(stmt).setInt(1, 24);
+        }
+    }
+
+    /**
+     * 無効化通知の削除時にCriticalExceptionが発生する場合
+     */
+    @Test
+    void testDeleteOlderThan_CriticalException() {
+        try (
+                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<ErrorHandler> errorMock = mockStatic(ErrorHandler.class);
+                MockedStatic<Main> mainMock = mockStatic(Main.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenThrow(new CriticalException("delete failed"));
+            mainMock.when(Main::getInstance).thenReturn(mock(Main.class));
+
+            assertEquals(0, InvalidationDao.deleteOlderThan(24));
+
+            errorMock.verify(() -> ErrorHandler.handleCriticalError(any(), eq("delete failed"), any()), times(1));
+        }
+    }
+
+    /**
+     * 無効化通知の削除時にSQLExceptionが発生する場合
+     */
+    @Test
+    void testDeleteOlderThan_SQLException() {
+        try (
+                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenThrow(new SQLException("DB error"));
+
+            assertEquals(0, InvalidationDao.deleteOlderThan(24));
+
+            logMock.verify(() -> LogWriter.writeError(contains("キャッシュ無効化通知の削除に失敗しました。"), any()), times(1));
+        }
+    }
+
+}
@@ -0,0 +1,215 @@
+/*
+######################################################################################################################################################
+# ファイル   : LeaseDaoTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.repository;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.database.DatabaseProvider;
+import com.gamer_iris.exception.CriticalException;
+import com.gamer_iris.exception.ErrorHandler;
+import com.gamer_iris.logging.LogWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import java.sql.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+/**
+ * LeaseDao のユニットテストクラス
+ */
+class LeaseDaoTest {
+
+    private Connection conn;
+    private PreparedStatement upsertStmt;
+    private PreparedStatement selectStmt;
+    private ResultSet rs;
+
+    /**
+     * 各テスト前の初期化処理
+     */
+    @BeforeEach
+    void setup() throws Exception {
+        conn = mock(Connection.class);
+        upsertStmt = mock(PreparedStatement.class);
+        selectStmt = mock(PreparedStatement.class);
+        rs = mock(ResultSet.class);
+        when(conn.prepareStatement(startsWith("INSERT"))).thenReturn(upsertStmt);
+        when(conn.prepareStatement(startsWith("SELECT"))).thenReturn(selectStmt);
+        when(selectStmt.executeQuery()).thenReturn(rs);
+    }
+
+    /**
+     * コンストラクタのカバレッジ確認
+     */
+    @Test
+    void testLeaseDaoConstructor_CoverageOnly() {
+        new LeaseDao();
+    }
+
+    /**
+     * 自分がリースの保持者になった場合
+     */
+    @Test
+    void testTryAcquire_Acquired() throws Exception {
+        when(rs.next()).thenReturn(true);
+        when(rs.getString("owner")).thenReturn("server-a/1");
+
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
+
+            assertTrue(LeaseDao.tryAcquire("maintenance", "server-a/1", 30));
+
+            verify(conn).prepareStatement(contains("expires_at < NOW(3)"));
+            verify(upsertStmt).setString(1, "maintenance");
+            verify(upsertStmt).setString(2, "server-a/1");
+            verify(upsertStmt).setInt(3, 30);
+            verify(upsertStmt).executeUpdate();
+            verify(selectStmt).setString(1, "maintenance");
+        }
+    }
+
+    /**
+     * 他のサーバーがリースを保持している場合
+     */
+    @Test
+    void testTryAcquire_HeldByOther() throws Exception {
+        when(rs.next()).thenReturn(true);
+        when(rs.getString("owner")).thenReturn("server-b/2");
+
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
+
+            assertFalse(LeaseDao.tryAcquire("maintenance", "server-a/1", 30));
+        }
+    }
+
+    /**
+     * リースの行を取得できなかった場合
+     */
+    @Test
+    void testTryAcquire_NoRow() throws Exception {
+        when(rs.next()).thenReturn(false);
+
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
+
+            assertFalse(LeaseDao.tryAcquire("maintenance", "server-a/1", 30));
+        }
+    }
+
+    /**
+     * リース取得時にCriticalExceptionが発生する場合
+     */
+    @Test
+    void testTryAcquire_CriticalException() {
+        try (
+                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<ErrorHandler> errorMock = mockStatic(ErrorHandler.class);
+                MockedStatic<Main> mainMock = mockStatic(Main.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenThrow(new CriticalException("acquire failed"));
+            mainMock.when(Main::getInstance).thenReturn(mock(Main.class));
+
+            assertFalse(LeaseDao.tryAcquire("maintenance", "server-a/1", 30));
+
+            errorMock.verify(() -> ErrorHandler.handleCriticalError(any(), eq("acquire failed"), any()), times(1));
+        }
+    }
+
+    /**
+     * リース取得時にSQLExceptionが発生する場合
+     */
+    @Test
+    void testTryAcquire_SQLException() {
+        try (
+                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenThrow(new SQLException("DB error"));
+
+            assertFalse(LeaseDao.tryAcquire("maintenance", "server-a/1", 30));
+
+            logMock.verify(() -> LogWriter.writeError(contains("リースの取得に失敗しました。"), any()), times(1));
+        }
+    }
+
+    /**
+     * 保持しているリースを解放できた場合
+     */
+    @Test
+    void testRelease_Released() throws Exception {
+        PreparedStatement stmt = mock(PreparedStatement.class);
+        when(conn.prepareStatement(startsWith("UPDATE"))).thenReturn(stmt);
+        when(stmt.executeUpdate()).thenReturn(1);
+
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
+
+            assertTrue(LeaseDao.release("maintenance", "server-a/1"));
+
+            verify(stmt).setString(1, "maintenance");
+            verify(stmt).setString(2, "server-a/1");
+        }
+    }
+
+    /**
+     * リースを保持していなかった場合
+     */
+    @Test
+    void testRelease_NotOwner() throws Exception {
+        PreparedStatement stmt = mock(PreparedStatement.class);
+        when(conn.prepareStatement(startsWith("UPDATE"))).thenReturn(stmt);
+        when(stmt.executeUpdate()).thenReturn(0);
+
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
+
+            assertFalse(LeaseDao.release("maintenance", "server-a/1"));
+        }
+    }
+
+    /**
+     * リース解放時にCriticalExceptionが発生する場合
+     */
+    @Test
+    void testRelease_CriticalException() {
+        try (
+                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<ErrorHandler> errorMock = mockStatic(ErrorHandler.class);
+                MockedStatic<Main> mainMock = mockStatic(Main.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenThrow(new CriticalException("release failed"));
+            mainMock.when(Main::getInstance).thenReturn(mock(Main.class));
+
+            assertFalse(LeaseDao.release("maintenance", "server-a/1"));
+
+            errorMock.verify(() -> ErrorHandler.handleCriticalError(any(), eq("release failed"), any()), times(1));
+        }
+    }
+
+    /**
+     * リース解放時にSQLExceptionが発生する場合
+     */
+    @Test
+    void testRelease_SQLException() {
+        try (
+                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenThrow(new SQLException("DB error"));
+
+            assertFalse(LeaseDao.release("maintenance", "server-a/1"));
+
+            logMock.verify(() -> LogWriter.writeError(contains("リースの解放に失敗しました。"), any()), times(1));
+        }
+    }
+
+}
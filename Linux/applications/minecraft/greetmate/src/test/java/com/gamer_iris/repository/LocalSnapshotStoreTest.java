@@ -0,0 +1,477 @@
+/*
+######################################################################################################################################################
+# ファイル   : LocalSnapshotStoreTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   前回の書き出しで残った一時ファイルを上書きして置き換えるテストを追加
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.repository;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.database.DatabaseProvider;
+import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.model.BanPlayerData;
+import com.gamer_iris.model.PlayerData;
+import com.gamer_iris.model.RoleData;
+import com.gamer_iris.repository.LocalSnapshotStore.Snapshot;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * LocalSnapshotStore のユニットテストクラス
+ */
+class LocalSnapshotStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private MockedStatic<ConfigManager> configMock;
+    private MockedStatic<LogWriter> logMock;
+    private Path file;
+    private UUID uuid;
+
+    /**
+     * 各テスト前の初期化処理（スナップショットを一時ディレクトリに作成）
+     */
+    @BeforeEach
+    void setUp() {
+        LocalSnapshotStore.clear();
+        PlayerWriteBehind.clear();
+        configMock = mockStatic(ConfigManager.class);
+        logMock = mockStatic(LogWriter.class);
+        file = tempDir.resolve("data").resolve("greetmate-snapshot.bin");
+        uuid = UUID.randomUUID();
+    }
+
+    /**
+     * 各テスト後のスナップショット・縮退状態の破棄とモック解放
+     */
+    @AfterEach
+    void tearDown() {
+        LocalSnapshotStore.clear();
+        PlayerWriteBehind.clear();
+        logMock.close();
+        configMock.close();
+    }
+
+    /**
+     * コンストラクタカバレッジテスト
+     */
+    @Test
+    void testLocalSnapshotStoreConstructor_CoverageOnly() {
+        new LocalSnapshotStore();
+    }
+
+    /**
+     * バイナリ形式への変換と復元で、null を含む各テーブルの内容が保たれる場合
+     */
+    @Test
+    void testEncodeAndDecode_RoundTrip() throws Exception {
+        Date updated = new Date(1_700_000_000_000L);
+        Snapshot snapshot = new Snapshot(1_700_000_100_000L,
+                List.of(new PlayerData(1, "Steve", 2, uuid, updated), new PlayerData(2, null, 0, UUID.randomUUID(), null),
+                        new PlayerData(3, "NoUuid", 1, null, updated)),
+                List.of(new RoleData(1, 2, "管理者", "login", "logout", "kick", "ban", updated),
+                        new RoleData(2, 0, null, null, null, null, null, null)),
+                List.of(new BanPlayerData(1, "Alex", 1, uuid, "spam", updated),
+                        new BanPlayerData(2, null, 0, null, null, null)));
+
+        Snapshot decoded = LocalSnapshotStore.decode(LocalSnapshotStore.encode(snapshot));
+
+        assertEquals(1_700_000_100_000L, decoded.createdMillis);
+        assertEquals(2, decoded.players.size());
+        PlayerData player = decoded.players.get(uuid);
+        assertEquals(1, player.getId());
+        assertEquals("Steve", player.getPlayerName());
+        assertEquals(2, player.getRole());
+        assertEquals(updated, player.getUpdateTime());
+
+        assertEquals(2, decoded.roles.size());
+        RoleData role = decoded.roles.get(0);
+        assertEquals(List.of("管理者", "login", "logout", "kick", "ban"), List.of(role.getRoleDetails(),
+                role.getLoginText(), role.getLogoutText(), role.getKickText(), role.getBanText()));
+        assertEquals(2, role.getRole());
+        assertNull(decoded.roles.get(1).getLoginText());
+        assertNull(decoded.roles.get(1).getUpdateTime());
+
+        assertEquals(2, decoded.bans.size());
+        assertEquals(uuid, decoded.bans.get(0).getUuid());
+        assertEquals("spam", decoded.bans.get(0).getReason());
+        assertEquals("Alex", decoded.bans.get(0).getPlayerName());
+        assertNull(decoded.bans.get(1).getUuid());
+        assertNull(decoded.bans.get(1).getReason());
+    }
+
+    /**
+     * 短すぎる・チェックサム不一致・識別子不一致・未対応バージョン・途中で終わる内容を復元できない場合
+     */
+    @Test
+    void testDecode_RejectsInvalidContent() throws Exception {
+        byte[] valid = LocalSnapshotStore.encode(new Snapshot(0L, List.of(), List.of(), List.of()));
+        byte[] corrupted = valid.clone();
+        corrupted[0] ^= 1;
+
+        assertEquals("ファイルが短すぎます。",
+                assertThrows(IOException.class, () -> LocalSnapshotStore.decode(new byte[3])).getMessage());
+        assertEquals("チェックサムが一致しません。",
+                assertThrows(IOException.class, () -> LocalSnapshotStore.decode(corrupted)).getMessage());
+        assertEquals("スナップショットファイルではありません。",
+                assertThrows(IOException.class, () -> LocalSnapshotStore.decode(withChecksum(0, 1))).getMessage());
+        assertEquals("未対応の形式バージョンです: 2", assertThrows(IOException.class,
+                () -> LocalSnapshotStore.decode(withChecksum(0x474D534E, 2))).getMessage());
+        assertThrows(IOException.class,
+                () -> LocalSnapshotStore.decode(withChecksum(0x474D534E, 1))); // 作成日時以降が無い
+        assertThrows(IOException.class,
+                () -> LocalSnapshotStore.decode(Arrays.copyOf(valid, valid.length - 1)));
+    }
+
+    /**
+     * 一時ファイル経由で書き出し、読み込んだ内容で参照を代替できる場合
+     */
+    @Test
+    void testWriteAndLoad() throws Exception {
+        LocalSnapshotStore.write(file, snapshotOf(new PlayerData(1, "Steve", 2, uuid, new Date())));
+
+        assertTrue(LocalSnapshotStore.load(file));
+
+        assertFalse(Files.exists(file.resolveSibling("greetmate-snapshot.bin.tmp")));
+        assertEquals("Steve", LocalSnapshotStore.findPlayer(uuid).getPlayerName());
+        logMock.verify(() -> LogWriter.writeInfo(contains("プレイヤー1件、ロール1件、BAN1件")));
+    }
+
+    /**
+     * 前回の書き出しで残った一時ファイルがある場合も、内容を切り詰めて上書きしてから置き換える場合
+     */
+    @Test
+    void testWrite_OverwritesLeftoverTempFile() throws Exception {
+        Files.createDirectories(file.getParent());
+        Files.write(file.resolveSibling("greetmate-snapshot.bin.tmp"), new byte[64 * 1024]);
+
+        LocalSnapshotStore.write(file, snapshotOf(new PlayerData(1, "Steve", 2, uuid, new Date())));
+
+        assertTrue(LocalSnapshotStore.load(file));
+        assertFalse(Files.exists(file.resolveSibling("greetmate-snapshot.bin.tmp")));
+        assertEquals("Steve", LocalSnapshotStore.findPlayer(uuid).getPlayerName());
+    }
+
+    /**
+     * ファイルが存在しない・壊れている場合は読み込まない場合
+     */
+    @Test
+    void testLoad_MissingOrBroken() throws Exception {
+        assertFalse(LocalSnapshotStore.load(file));
+
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9 });
+        assertFalse(LocalSnapshotStore.load(file));
+
+        logMock.verify(() -> LogWriter.writeWarn(contains("読み込めませんでした: チェックサムが一致しません。")));
+        assertNull(LocalSnapshotStore.getBans());
+    }
+
+    /**
+     * スナップショットが無い状態で参照を代替した場合は縮退運転へ移り、空の内容を返す場合
+     */
+    @Test
+    void testFallback_WithoutSnapshot() {
+        assertFalse(LocalSnapshotStore.isDegraded());
+
+        assertNull(LocalSnapshotStore.findPlayer(uuid));
+        assertTrue(LocalSnapshotStore.getPlayers().isEmpty());
+        assertTrue(LocalSnapshotStore.getRoles().isEmpty());
+        assertNull(LocalSnapshotStore.getBans());
+
+        assertTrue(LocalSnapshotStore.isDegraded());
+        logMock.verify(() -> LogWriter.writeWarn(contains("ローカルスナップショットもありません")), times(1));
+    }
+
+    /**
+     * スナップショットの内容で参照を代替し、縮退運転への移行は1回だけ通知される場合
+     */
+    @Test
+    void testFallback_WithSnapshot() throws Exception {
+        LocalSnapshotStore.write(file, snapshotOf(new PlayerData(1, "Steve", 2, uuid, new Date())));
+        LocalSnapshotStore.load(file);
+
+        assertEquals(2, LocalSnapshotStore.findPlayer(uuid).getRole());
+        assertNull(LocalSnapshotStore.findPlayer(UUID.randomUUID()));
+        assertEquals(uuid, LocalSnapshotStore.getPlayers().get(0).getUuid());
+        assertEquals(2, LocalSnapshotStore.getRoles().get(0).getRole());
+        assertEquals("spam", LocalSnapshotStore.getBans().get(0).getReason());
+
+        logMock.verify(() -> LogWriter.writeWarn(contains("の内容で動作します")), times(1));
+    }
+
+    /**
+     * プレイヤー情報の代替で、未反映の書き込みが反映された内容を返す場合
+     */
+    @Test
+    void testFindPlayer_AppliesPendingWrites() throws Exception {
+        UUID upserted = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        UUID renamed = UUID.randomUUID();
+        LocalSnapshotStore.write(file, snapshotOf(new PlayerData(1, "Steve", 2, uuid, new Date(5L)),
+                new PlayerData(2, "Alex", 1, deleted, new Date()), new PlayerData(3, "Old", 1, renamed, new Date(7L))));
+        LocalSnapshotStore.load(file);
+        PlayerWriteBehind.open(tempDir.resolve("player-writes.journal"), _ -> {
+        });
+        PlayerWriteBehind.updateRole(uuid, 5);
+        PlayerWriteBehind.updateRole(unknown, 5);
+        PlayerWriteBehind.upsert(upserted, "Notch", 3);
+        PlayerWriteBehind.upsert(renamed, "New", 4);
+        PlayerWriteBehind.delete(deleted);
+
+        PlayerData updated = LocalSnapshotStore.findPlayer(uuid);
+        assertEquals(5, updated.getRole());
+        assertEquals("Steve", updated.getPlayerName());
+        assertEquals(new Date(5L), updated.getUpdateTime());
+        assertNull(LocalSnapshotStore.findPlayer(unknown));
+        PlayerData inserted = LocalSnapshotStore.findPlayer(upserted);
+        assertEquals("Notch", inserted.getPlayerName());
+        assertEquals(3, inserted.getRole());
+        assertNull(inserted.getUpdateTime());
+        PlayerData overwritten = LocalSnapshotStore.findPlayer(renamed);
+        assertEquals(3, overwritten.getId());
+        assertEquals("New", overwritten.getPlayerName());
+        assertEquals(new Date(7L), overwritten.getUpdateTime());
+        assertNull(LocalSnapshotStore.findPlayer(deleted));
+    }
+
+    /**
+     * DBの内容を保存し、以降の代替に使われる場合
+     */
+    @Test
+    void testSave_WritesDatabaseContent() {
+        try (
+                MockedStatic<Main> _ = mockMain();
+                MockedStatic<PlayerRoleDao> playerDaoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<BanPlayerDao> banDaoMock = mockStatic(BanPlayerDao.class)) {
+            playerDaoMock.when(PlayerRoleDao::getAllPlayers)
+                    .thenReturn(List.of(new PlayerData(1, "Steve", 2, uuid, new Date())));
+            playerDaoMock.when(PlayerRoleDao::getAllRoles).thenReturn(List.of());
+            banDaoMock.when(BanPlayerDao::getAll).thenReturn(List.of());
+
+            assertTrue(LocalSnapshotStore.save());
+
+            assertTrue(Files.exists(file));
+            assertEquals("Steve", LocalSnapshotStore.findPlayer(uuid).getPlayerName());
+            assertTrue(LocalSnapshotStore.load(file));
+        }
+    }
+
+    /**
+     * 縮退運転中と、読み込み中にDBへ接続できなくなった場合は保存しない場合
+     */
+    @Test
+    void testSave_SkipsWhileDegraded() {
+        try (
+                MockedStatic<PlayerRoleDao> playerDaoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<BanPlayerDao> banDaoMock = mockStatic(BanPlayerDao.class)) {
+            playerDaoMock.when(PlayerRoleDao::getAllPlayers).thenAnswer(_ -> LocalSnapshotStore.getPlayers());
+            playerDaoMock.when(PlayerRoleDao::getAllRoles).thenReturn(List.of());
+            banDaoMock.when(BanPlayerDao::getAll).thenReturn(List.of());
+
+            assertFalse(LocalSnapshotStore.save());
+            assertFalse(LocalSnapshotStore.save());
+
+            playerDaoMock.verify(PlayerRoleDao::getAllPlayers, times(1));
+            assertFalse(Files.exists(file));
+        }
+    }
+
+    /**
+     * 書き出しに失敗した場合は警告して既存の内容を保持する場合
+     */
+    @Test
+    void testSave_WriteFailure() throws Exception {
+        Files.write(tempDir.resolve("data"), new byte[0]);
+        try (
+                MockedStatic<Main> _ = mockMain();
+                MockedStatic<PlayerRoleDao> playerDaoMock = mockStatic(PlayerRoleDao.class);
+                MockedStatic<BanPlayerDao> banDaoMock = mockStatic(BanPlayerDao.class)) {
+            playerDaoMock.when(PlayerRoleDao::getAllPlayers).thenReturn(List.of());
+            playerDaoMock.when(PlayerRoleDao::getAllRoles).thenReturn(List.of());
+            banDaoMock.when(BanPlayerDao::getAll).thenReturn(List.of());
+
+            assertFalse(LocalSnapshotStore.save());
+
+            logMock.verify(() -> LogWriter.writeWarn(contains("ローカルスナップショットを保存できませんでした")));
+            assertNull(LocalSnapshotStore.getBans());
+        }
+    }
+
+    /**
+     * 縮退運転中でなければ接続を確認しない場合
+     */
+    @Test
+    void testProbe_NotDegraded() {
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
+            assertFalse(LocalSnapshotStore.probe());
+
+            dbMock.verifyNoInteractions();
+        }
+    }
+
+    /**
+     * 接続できない・接続が無効な間は縮退運転を続ける場合
+     */
+    @Test
+    void testProbe_StillUnreachable() throws Exception {
+        Connection conn = mock(Connection.class);
+        LocalSnapshotStore.getRoles();
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenThrow(new SQLException("down"));
+            assertFalse(LocalSnapshotStore.probe());
+
+            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
+            when(conn.isValid(anyInt())).thenReturn(false);
+            assertFalse(LocalSnapshotStore.probe());
+
+            assertTrue(LocalSnapshotStore.isDegraded());
+            verify(conn).close();
+        }
+    }
+
+    /**
+     * 接続の復旧を確認した場合は縮退運転を終え、未反映の書き込みを反映してからDBの内容と同期する場合
+     */
+    @Test
+    void testProbe_Recovered() throws Exception {
+        Connection conn = mock(Connection.class);
+        List<String> events = new ArrayList<>();
+        when(conn.isValid(2)).thenReturn(true);
+        PlayerWriteBehind.open(tempDir.resolve("player-writes.journal"), _ -> events.add("written"));
+        PlayerWriteBehind.updateRole(uuid, 2);
+        configMock.when(ConfigManager::getPlayerWriteMaxBatchSize).thenReturn(500);
+
+        try (
+                MockedStatic<Main> _ = mockMain();
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class);
+                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<PlayerRoleDao> _ = mockStatic(PlayerRoleDao.class)) {
+            bukkitMock.when(Bukkit::getScheduler).thenReturn(mock(BukkitScheduler.class));
+            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
+            LocalSnapshotStore.start(() -> events.add("resync"));
+            LocalSnapshotStore.getRoles();
+
+            assertTrue(LocalSnapshotStore.probe());
+
+            assertFalse(LocalSnapshotStore.isDegraded());
+            assertEquals(List.of("written", "resync"), events);
+            assertEquals(0, PlayerWriteBehind.size());
+            logMock.verify(() -> LogWriter.writeInfo(contains("DBへの接続が復旧しました")));
+        }
+    }
+
+    /**
+     * 起動時に読み込みと定期実行の登録が行われ、再読み込みで間隔が変わった場合に再スケジュールされ、停止で取り消される場合
+     */
+    @Test
+    void testStartRescheduleAndStop() throws Exception {
+        LocalSnapshotStore.write(file, snapshotOf(new PlayerData(1, "Steve", 2, uuid, new Date())));
+        BukkitScheduler scheduler = mock(BukkitScheduler.class);
+        BukkitTask task = mock(BukkitTask.class);
+
+        try (
+                MockedStatic<Main> _ = mockMain();
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class)) {
+            bukkitMock.when(Bukkit::getScheduler).thenReturn(scheduler);
+            when(scheduler.runTaskTimerAsynchronously(any(Main.class), any(Runnable.class), anyLong(), anyLong()))
+                    .thenReturn(task);
+            configMock.when(ConfigManager::getLocalSnapshotSaveIntervalSeconds).thenReturn(300);
+            configMock.when(ConfigManager::getLocalSnapshotProbeIntervalSeconds).thenReturn(10);
+
+            LocalSnapshotStore.start(() -> {
+            });
+
+            assertEquals("Steve", LocalSnapshotStore.findPlayer(uuid).getPlayerName());
+            verify(scheduler).runTaskTimerAsynchronously(any(Main.class), any(Runnable.class), eq(6000L), eq(6000L));
+            verify(scheduler).runTaskTimerAsynchronously(any(Main.class), any(Runnable.class), eq(200L), eq(200L));
+
+            configMock.when(ConfigManager::getLocalSnapshotProbeIntervalSeconds).thenReturn(5);
+            LocalSnapshotStore.reschedule();
+            verify(scheduler).runTaskTimerAsynchronously(any(Main.class), any(Runnable.class), eq(100L), eq(100L));
+
+            LocalSnapshotStore.stop();
+            verify(task, times(3)).cancel();
+        }
+    }
+
+    /**
+     * データフォルダとスナップショットファイルの設定をモック化
+     * 
+     * @return Main のモック
+     */
+    private MockedStatic<Main> mockMain() {
+        Main plugin = mock(Main.class);
+        when(plugin.getDataFolder()).thenReturn(tempDir.toFile());
+        configMock.when(ConfigManager::getLocalSnapshotFile).thenReturn("data/greetmate-snapshot.bin");
+        MockedStatic<Main> mainMock = mockStatic(Main.class);
+        mainMock.when(Main::getInstance).thenReturn(plugin);
+        return mainMock;
+    }
+
+    /**
+     * 指定プレイヤーと、ロール・BANを1件ずつ含むスナップショットを生成
+     * 
+     * @param players プレイヤー情報
+     * @return スナップショット
+     */
+    private Snapshot snapshotOf(PlayerData... players) {
+        return new Snapshot(System.currentTimeMillis(), List.of(players),
+                List.of(new RoleData(1, 2, "管理者", "login", "logout", "kick", "ban", new Date())),
+                List.of(new BanPlayerData(1, "Alex", 1, UUID.randomUUID(), "spam", new Date())));
+    }
+
+    /**
+     * 識別子と形式バージョンのみの内容に、正しいCRC32を付けたバイナリを生成
+     * 
+     * @param magic   識別子
+     * @param version 形式バージョン
+     * @return バイナリ
+     * @throws IOException 生成失敗時
+     */
+    private static byte[] withChecksum(int magic, int version) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(magic);
+        out.writeInt(version);
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        out.writeLong(crc.getValue());
+        return bytes.toByteArray();
+    }
+
+}
@@ -5,6 +5,17 @@
 #-----------------------------------------------------------------------------------------------------------------------------------------------------
 # [修正履歴]
 # V-001      : 2025/05/25                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   ロール一覧・ロール更新日時の取得を追加
+# V-003      : 2026/10/18                 Gamer-Iris   プレイヤー情報の一括取得・一括登録を追加
+# V-004      : 2026/10/18                 Gamer-Iris   BAN済みプレイヤーの一括削除を追加
+# V-005      : 2026/10/18                 Gamer-Iris   UUID列の保存形式（VARCHAR(36)・BINARY(16)・移行期間の併用）に対応
+# V-006      : 2026/10/18                 Gamer-Iris   非アクティブプレイヤーの削除を件数上限付きに変更
+# V-007      : 2026/10/18                 Gamer-Iris   管理コマンドによる書き込みのバッチ反映を追加
+# V-008      : 2026/10/18                 Gamer-Iris   DBに接続できない場合のローカルスナップショットからの参照のテストを追加
+# V-009      : 2026/10/18                 Gamer-Iris   BAN登録に該当するプレイヤーの削除範囲をIDのみで指定するよう変更
+# V-010      : 2026/10/18                 Gamer-Iris   取得失敗を例外で通知するUUID指定のプレイヤー情報取得のテストを追加
+# V-011      : 2026/10/18                 Gamer-Iris   未使用となったロールID指定のロール取得・存在チェックのテストを削除
+# V-012      : 2026/10/18                 Gamer-Iris   未使用となったプレイヤー情報の個別登録・ロール更新・削除のテストを削除
 # 
 ######################################################################################################################################################
 */
@@ -17,17 +28,25 @@ import com.gamer_iris.exception.ErrorHandler;
 import com.gamer_iris.logging.LogWriter;
 import com.gamer_iris.model.PlayerData;
 import com.gamer_iris.model.RoleData;
+import com.gamer_iris.repository.UuidColumn.Storage;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.MockedStatic;
 import java.sql.*;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.*;
 
 /**
@@ -51,6 +70,15 @@ class PlayerRoleDaoTest {
         uuid = UUID.randomUUID();
     }
 
+    /**
+     * UUID列の保存形式を既定値へ戻す
+     */
+    @AfterEach
+    void tearDown() {
+        UuidColumn.configure(Storage.TEXT);
+        LocalSnapshotStore.clear();
+    }
+
     /**
      * コンストラクタのカバレッジ確認
      */
@@ -113,6 +141,22 @@ class PlayerRoleDaoTest {
         }
     }
 
+    /**
+     * 例外で通知するUUID検索で、SQLExceptionがローカルスナップショットを参照せずに送出される場合
+     */
+    @Test
+    void testSelectPlayerByUUID_ThrowsSQLException() {
+        try (
+                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<LocalSnapshotStore> snapshotMock = mockStatic(LocalSnapshotStore.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenThrow(new SQLException("DB Error"));
+
+            assertThrows(SQLException.class, () -> PlayerRoleDao.selectPlayerByUUID(uuid));
+
+            snapshotMock.verifyNoInteractions();
+        }
+    }
+
     /**
      * UUID検索時にCriticalExceptionが発生する場合
      */
@@ -130,403 +174,401 @@ class PlayerRoleDaoTest {
     }
 
     /**
-     * プレイヤーの登録に成功する場合
+     * 複数UUIDの一括取得がバッチサイズ単位で分割される場合
      */
     @Test
-    void testInsertPlayer_Success() throws Exception {
+    void testFindPlayersByUUIDs_SplitsIntoBatches() throws Exception {
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
         when(conn.prepareStatement(any())).thenReturn(stmt);
-        when(stmt.executeUpdate()).thenReturn(1);
+        when(stmt.executeQuery()).thenReturn(rs);
+        when(rs.next()).thenReturn(true, false, false);
+        when(rs.getString("uuid")).thenReturn(uuid.toString());
+        when(rs.getString("player_name")).thenReturn("P1");
+        when(rs.getInt("role")).thenReturn(2);
 
         try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
             dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
-            boolean result = PlayerRoleDao.insertPlayer(uuid, "TestInsert", 3);
-            assertTrue(result);
-        }
-    }
 
-    /**
-     * プレイヤーの登録に失敗する場合
-     */
-    @Test
-    void testInsertPlayer_Failure() throws Exception {
-        when(conn.prepareStatement(any())).thenReturn(stmt);
-        when(stmt.executeUpdate()).thenReturn(0);
+            Map<UUID, PlayerData> result = PlayerRoleDao.findPlayersByUUIDs(List.of(uuid, second, third), 2);
 
-        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
-            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
-            boolean result = PlayerRoleDao.insertPlayer(uuid, "Test", 1);
-            assertFalse(result);
+            assertEquals(1, result.size());
+            assertEquals(2, result.get(uuid).getRole());
+            verify(conn).prepareStatement(contains("WHERE uuid IN (?, ?)"));
+            verify(conn).prepareStatement(contains("WHERE uuid IN (?)"));
+            verify(stmt).setString(1, third.toString());
+            verify(conn).close();
         }
     }
 
     /**
-     * プレイヤー登録時にSQLExceptionが発生する場合
+     * 複数UUIDの一括取得時にSQLExceptionが発生する場合
      */
     @Test
-    void testInsertPlayer_SQLException() throws Exception {
-        UUID uuid = UUID.randomUUID();
-        Connection mockConn = mock(Connection.class);
+    void testFindPlayersByUUIDs_SQLException() throws Exception {
+        when(conn.prepareStatement(any())).thenThrow(new SQLException("Simulated error"));
 
-        try (
-                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
-                MockedStatic<ErrorHandler> errorHandlerMock = mockStatic(ErrorHandler.class)) {
-            dbMock.when(DatabaseProvider::getConnection).thenReturn(mockConn);
-            when(mockConn.prepareStatement(any())).thenThrow(new SQLException("Insert error"));
-            errorHandlerMock.when(() -> ErrorHandler.handleCriticalError(any(), any(), any())).thenAnswer(_ -> null);
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
 
-            boolean result = PlayerRoleDao.insertPlayer(uuid, "target", 2);
-            assertFalse(result);
+            assertNull(PlayerRoleDao.findPlayersByUUIDs(List.of(uuid), 10));
+            logMock.verify(() -> LogWriter.writeError(contains("一括取得"), any()));
         }
     }
 
     /**
-     * プレイヤー登録時にCriticalExceptionが発生する場合
+     * 複数UUIDの一括取得時にCriticalExceptionが発生する場合
      */
     @Test
-    void testInsertPlayer_CriticalException() throws Exception {
-        try (
-                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
-                MockedStatic<ErrorHandler> errorMock = mockStatic(ErrorHandler.class);
-                MockedStatic<Main> mainMock = mockStatic(Main.class)) {
-            dbMock.when(DatabaseProvider::getConnection).thenThrow(new CriticalException("DB fail"));
-            mainMock.when(Main::getInstance).thenReturn(mock(Main.class));
+    void testFindPlayersByUUIDs_CriticalException() throws Exception {
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<ErrorHandler> errorMock = mockStatic(ErrorHandler.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenThrow(new CriticalException("error"));
+            errorMock.when(() -> ErrorHandler.handleCriticalError(any(), anyString(), any())).thenAnswer(_ -> null);
 
-            boolean result = PlayerRoleDao.insertPlayer(uuid, "X", 1);
-            assertFalse(result);
-            errorMock.verify(() -> ErrorHandler.handleCriticalError(any(), eq("DB fail"), any()), times(1));
+            assertNull(PlayerRoleDao.findPlayersByUUIDs(List.of(uuid), 10));
         }
     }
 
     /**
-     * UUID指定でプレイヤー削除に成功する場合
+     * 複数プレイヤーの一括登録が複数行INSERTで実行される場合
      */
     @Test
-    void testDeletePlayerByUUID_Success() throws Exception {
+    void testUpsertPlayers_MultiRowInsert() throws Exception {
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        Map<UUID, String> players = new LinkedHashMap<>();
+        players.put(uuid, "P1");
+        players.put(second, "P2");
+        players.put(third, "P3");
         when(conn.prepareStatement(any())).thenReturn(stmt);
-        when(stmt.executeUpdate()).thenReturn(1);
 
         try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
             dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
-            boolean result = PlayerRoleDao.deletePlayerByUUID(uuid);
-            assertTrue(result);
-        }
-    }
 
-    /**
-     * UUID指定でプレイヤー削除に失敗する場合
-     */
-    @Test
-    void testDeletePlayerByUUID_Failure() throws Exception {
-        when(conn.prepareStatement(any())).thenReturn(stmt);
-        when(stmt.executeUpdate()).thenReturn(0);
+            assertTrue(PlayerRoleDao.upsertPlayers(players, 0, 2));
 
-        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
-            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
-            boolean result = PlayerRoleDao.deletePlayerByUUID(uuid);
-            assertFalse(result);
+            verify(conn).prepareStatement(
+                    contains("VALUES (?, ?, ?, ?), (?, ?, ?, ?) ON DUPLICATE KEY UPDATE player_name = VALUES(player_name)"));
+            verify(conn).prepareStatement(contains("VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE"));
+            verify(stmt).setString(7, second.toString());
+            verify(stmt, times(2)).executeUpdate();
         }
     }
 
     /**
-     * プレイヤー削除時にSQLExceptionが発生する場合
+     * 複数プレイヤーの一括登録時にSQLExceptionが発生する場合
      */
     @Test
-    void testDeletePlayerByUUID_SQLException() throws Exception {
-        UUID uuid = UUID.randomUUID();
-        Connection mockConn = mock(Connection.class);
+    void testUpsertPlayers_SQLException() throws Exception {
+        when(conn.prepareStatement(any())).thenThrow(new SQLException("Simulated error"));
 
-        try (
-                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
-                MockedStatic<ErrorHandler> errorHandlerMock = mockStatic(ErrorHandler.class)) {
-            dbMock.when(DatabaseProvider::getConnection).thenReturn(mockConn);
-            when(mockConn.prepareStatement(any())).thenThrow(new SQLException("Delete error"));
-            errorHandlerMock.when(() -> ErrorHandler.handleCriticalError(any(), any(), any())).thenAnswer(_ -> null);
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
 
-            boolean result = PlayerRoleDao.deletePlayerByUUID(uuid);
-            assertFalse(result);
+            assertFalse(PlayerRoleDao.upsertPlayers(Map.of(uuid, "P1"), 0, 10));
+            logMock.verify(() -> LogWriter.writeError(contains("一括登録"), any()));
         }
     }
 
     /**
-     * プレイヤー削除時にCriticalExceptionが発生する場合
+     * 複数プレイヤーの一括登録時にCriticalExceptionが発生する場合
      */
     @Test
-    void testDeletePlayerByUUID_CriticalException() throws Exception {
-        UUID uuid = UUID.randomUUID();
-
+    void testUpsertPlayers_CriticalException() throws Exception {
         try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
                 MockedStatic<ErrorHandler> errorMock = mockStatic(ErrorHandler.class)) {
             dbMock.when(DatabaseProvider::getConnection).thenThrow(new CriticalException("error"));
             errorMock.when(() -> ErrorHandler.handleCriticalError(any(), anyString(), any())).thenAnswer(_ -> null);
 
-            assertFalse(PlayerRoleDao.deletePlayerByUUID(uuid));
+            assertFalse(PlayerRoleDao.upsertPlayers(Map.of(uuid, "P1"), 0, 10));
         }
     }
 
     /**
-     * プレイヤーのロール更新に成功する場合
+     * 書き込み待ちのプレイヤー情報が種類ごとのバッチで1トランザクションとして反映される場合
      */
     @Test
-    void testUpdatePlayerRoleByUUID_Success() throws Exception {
-        when(conn.prepareStatement(any())).thenReturn(stmt);
-        when(stmt.executeUpdate()).thenReturn(1);
+    void testApplyWrites_BatchesByTypeInOneTransaction() throws Exception {
+        PreparedStatement update = mock(PreparedStatement.class);
+        PreparedStatement delete = mock(PreparedStatement.class);
+        UUID updated = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        when(conn.prepareStatement(startsWith("INSERT"))).thenReturn(stmt);
+        when(conn.prepareStatement(startsWith("UPDATE"))).thenReturn(update);
+        when(conn.prepareStatement(startsWith("DELETE"))).thenReturn(delete);
 
         try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
             dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
-            boolean result = PlayerRoleDao.updatePlayerRoleByUUID(uuid, 4);
-            assertTrue(result);
+
+            PlayerRoleDao.applyWrites(List.of(
+                    new PlayerWriteBehind.PendingWrite(PlayerWriteBehind.Type.UPSERT, uuid, "P1", 2),
+                    new PlayerWriteBehind.PendingWrite(PlayerWriteBehind.Type.UPDATE_ROLE, updated, null, 3),
+                    new PlayerWriteBehind.PendingWrite(PlayerWriteBehind.Type.DELETE, deleted, null, 0)));
+
+            verify(conn).prepareStatement(contains("ON DUPLICATE KEY UPDATE player_name = VALUES(player_name), "
+                    + "role = VALUES(role), update_time = VALUES(update_time)"));
+            verify(stmt).setString(1, "P1");
+            verify(stmt).setInt(2, 2);
+            verify(stmt).setString(3, uuid.toString());
+            verify(update).setInt(1, 3);
+            verify(update).setString(3, updated.toString());
+            verify(delete).setString(1, deleted.toString());
+
+            InOrder order = inOrder(conn, stmt, update, delete);
+            order.verify(conn).setAutoCommit(false);
+            order.verify(stmt).executeBatch();
+            order.verify(update).executeBatch();
+            order.verify(delete).executeBatch();
+            order.verify(conn).commit();
         }
     }
 
     /**
-     * プレイヤーのロール更新に失敗する場合
+     * 書き込み待ちのプレイヤー情報の反映に失敗した場合は例外が呼び出し元へ伝わる場合
      */
     @Test
-    void testUpdatePlayerRoleByUUID_Failure() throws Exception {
+    void testApplyWrites_SQLException() throws Exception {
         when(conn.prepareStatement(any())).thenReturn(stmt);
-        when(stmt.executeUpdate()).thenReturn(0);
+        when(stmt.executeBatch()).thenThrow(new SQLException("Simulated error"));
 
         try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
             dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
-            boolean result = PlayerRoleDao.updatePlayerRoleByUUID(uuid, 4);
-            assertFalse(result);
+
+            assertThrows(SQLException.class, () -> PlayerRoleDao.applyWrites(List.of(
+                    new PlayerWriteBehind.PendingWrite(PlayerWriteBehind.Type.DELETE, uuid, null, 0))));
+            verify(conn, never()).commit();
         }
     }
 
     /**
-     * プレイヤーのロール更新時にSQLExceptionが発生する場合
+     * BAN済みプレイヤーを一括削除し削除結果を取得できる場合
      */
     @Test
-    void testUpdatePlayerRoleByUUID_SQLException() throws Exception {
-        try (
-                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
-                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+    void testDeleteBannedPlayers_ReturnsDeleted() throws Exception {
+        when(conn.prepareStatement(any())).thenReturn(stmt);
+        when(stmt.executeQuery()).thenReturn(rs);
+        when(rs.next()).thenReturn(true, false);
+        when(rs.getString("uuid")).thenReturn(uuid.toString());
+        when(rs.getString("player_name")).thenReturn("Banned");
+
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
             dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
-            when(conn.prepareStatement(any())).thenThrow(new SQLException("update failed"));
 
-            logMock.when(() -> LogWriter.writeError(anyString(), any())).thenAnswer(_ -> null);
+            Map<UUID, String> result = PlayerRoleDao.deleteBannedPlayers(2, 9);
+            assertEquals(Map.of(uuid, "Banned"), result);
 
-            boolean result = PlayerRoleDao.updatePlayerRoleByUUID(uuid, 4);
-            assertFalse(result);
-            logMock.verify(() -> LogWriter.writeError(contains("プレイヤー情報の更新に失敗"), any()), times(1));
+            verify(conn).prepareStatement(contains("WHERE id > ? AND id <= ?) RETURNING uuid, player_name"));
+            verify(stmt).setInt(1, 2);
+            verify(stmt).setInt(2, 9);
         }
     }
 
     /**
-     * プレイヤーのロール更新時にCriticalExceptionが発生する場合
+     * BINARY形式でBAN済みプレイヤーをuuid_bin列で突き合わせて一括削除する場合
      */
     @Test
-    void testUpdatePlayerRoleByUUID_CriticalException() throws Exception {
-        try (
-                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
-                MockedStatic<ErrorHandler> errorMock = mockStatic(ErrorHandler.class);
-                MockedStatic<Main> mainMock = mockStatic(Main.class)) {
-            dbMock.when(DatabaseProvider::getConnection).thenThrow(new CriticalException("critical update error"));
-            mainMock.when(Main::getInstance).thenReturn(mock(Main.class));
-            errorMock.when(() -> ErrorHandler.handleCriticalError(any(), anyString(), any())).thenAnswer(_ -> null);
+    void testDeleteBannedPlayers_BinaryStorage() throws Exception {
+        UuidColumn.configure(Storage.BINARY);
+        when(conn.prepareStatement(any())).thenReturn(stmt);
+        when(stmt.executeQuery()).thenReturn(rs);
+        when(rs.next()).thenReturn(true, false);
+        when(rs.getBytes("uuid_bin")).thenReturn(UuidColumn.toBytes(uuid));
+        when(rs.getString("player_name")).thenReturn("Banned");
+
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
+
+            Map<UUID, String> result = PlayerRoleDao.deleteBannedPlayers(2, 9);
+            assertEquals(Map.of(uuid, "Banned"), result);
 
-            boolean result = PlayerRoleDao.updatePlayerRoleByUUID(uuid, 4);
-            assertFalse(result);
-            errorMock.verify(() -> ErrorHandler.handleCriticalError(any(), eq("critical update error"), any()),
-                    times(1));
+            verify(conn).prepareStatement(contains("WHERE uuid_bin IN (SELECT uuid_bin FROM ban_players"));
+            verify(conn).prepareStatement(contains("RETURNING uuid_bin, player_name"));
         }
     }
 
     /**
-     * 指定ロール検証時に該当ロールが存在する場合
+     * BINARY形式でUUIDを16バイトのまま検索条件に設定する場合
      */
     @Test
-    void testIsValidRole_ReturnsTrue() throws Exception {
+    void testFindPlayerByUUID_BinaryStorage() throws Exception {
+        UuidColumn.configure(Storage.BINARY);
         when(conn.prepareStatement(any())).thenReturn(stmt);
         when(stmt.executeQuery()).thenReturn(rs);
-        when(rs.next()).thenReturn(true);
-        when(rs.getInt(1)).thenReturn(1);
+        when(rs.next()).thenReturn(false);
 
         try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
             dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
-            boolean result = PlayerRoleDao.isValidRole(2);
-            assertTrue(result);
+
+            assertNull(PlayerRoleDao.findPlayerByUUID(uuid));
+
+            verify(conn).prepareStatement(contains("WHERE uuid_bin = ?"));
+            verify(stmt).setBytes(1, UuidColumn.toBytes(uuid));
+            verify(stmt, never()).setString(anyInt(), anyString());
         }
     }
 
     /**
-     * 指定ロール検証時に該当ロールが存在しない場合
+     * DUAL形式で一括登録時に両方のUUID列へ書き込む場合
      */
     @Test
-    void testIsValidRole_ReturnsFalse() throws Exception {
+    void testUpsertPlayers_DualStorage() throws Exception {
+        UuidColumn.configure(Storage.DUAL);
         when(conn.prepareStatement(any())).thenReturn(stmt);
-        when(stmt.executeQuery()).thenReturn(rs);
-        when(rs.next()).thenReturn(true);
-        when(rs.getInt(1)).thenReturn(0);
 
         try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
             dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
-            boolean result = PlayerRoleDao.isValidRole(99);
-            assertFalse(result);
+
+            assertTrue(PlayerRoleDao.upsertPlayers(Map.of(uuid, "P1"), 0, 10));
+
+            verify(conn).prepareStatement(contains("(player_name, role, uuid, uuid_bin, update_time) VALUES (?, ?, ?, ?, ?)"));
+            verify(stmt).setString(3, uuid.toString());
+            verify(stmt).setBytes(4, UuidColumn.toBytes(uuid));
+            verify(stmt).setTimestamp(eq(5), any(Timestamp.class));
         }
     }
 
     /**
-     * 指定ロール検証時にResultSetが空の場合
+     * BAN済みプレイヤーの一括削除時にSQLExceptionが発生する場合
      */
     @Test
-    void testIsValidRole_ResultSetEmpty() throws Exception {
-        when(conn.prepareStatement(any())).thenReturn(stmt);
-        when(stmt.executeQuery()).thenReturn(rs);
-        when(rs.next()).thenReturn(false);
+    void testDeleteBannedPlayers_SQLException() throws Exception {
+        when(conn.prepareStatement(any())).thenThrow(new SQLException("Simulated error"));
 
-        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
             dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
-            boolean result = PlayerRoleDao.isValidRole(100);
-            assertFalse(result);
+
+            assertNull(PlayerRoleDao.deleteBannedPlayers(0, 1));
+            logMock.verify(() -> LogWriter.writeError(contains("一括削除"), any()));
         }
     }
 
     /**
-     * 指定ロール検証時にSQLExceptionが発生する場合
+     * BAN済みプレイヤーの一括削除時にCriticalExceptionが発生する場合
      */
     @Test
-    void testIsValidRole_SQLExceptionThrown() throws Exception {
-        try (
-                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
-                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
-            dbMock.when(DatabaseProvider::getConnection)
-                    .thenThrow(new SQLException("simulate"));
-
-            logMock.when(() -> LogWriter.writeError(anyString(), any()))
-                    .thenAnswer(_ -> null);
+    void testDeleteBannedPlayers_CriticalException() throws Exception {
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<ErrorHandler> errorMock = mockStatic(ErrorHandler.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenThrow(new CriticalException("error"));
+            errorMock.when(() -> ErrorHandler.handleCriticalError(any(), anyString(), any())).thenAnswer(_ -> null);
 
-            boolean result = PlayerRoleDao.isValidRole(1);
-            assertFalse(result);
-            logMock.verify(() -> LogWriter.writeError(contains("ロール存在チェックに失敗"), any()), times(1));
+            assertNull(PlayerRoleDao.deleteBannedPlayers(0, 1));
         }
     }
 
     /**
-     * 指定ロール検証時にSQLExceptionが発生する場合
+     * 全ロール取得に成功する場合
      */
     @Test
-    void testIsValidRole_SQLException() throws Exception {
-        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
-            Connection mockConn = mock(Connection.class);
-            dbMock.when(DatabaseProvider::getConnection).thenReturn(mockConn);
-            when(mockConn.prepareStatement(any())).thenThrow(new SQLException("Simulated error"));
+    void testGetAllRoles_ReturnsList() throws Exception {
+        when(conn.prepareStatement(any())).thenReturn(stmt);
+        when(stmt.executeQuery()).thenReturn(rs);
+        when(rs.next()).thenReturn(true, true, false);
+        when(rs.getInt("role")).thenReturn(1, 2);
+        when(rs.getString("login_text")).thenReturn("ようこそ %s");
+        when(rs.getTimestamp("update_time")).thenReturn(new Timestamp(System.currentTimeMillis()));
 
-            boolean result = PlayerRoleDao.isValidRole(1);
-            assertFalse(result);
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
+            List<RoleData> roles = PlayerRoleDao.getAllRoles();
+            assertEquals(2, roles.size());
+            assertEquals(2, roles.get(1).getRole());
         }
     }
 
     /**
-     * 指定ロール検証時にCriticalExceptionが発生する場合（パターン①）
+     * 全ロール取得時にSQLExceptionが発生する場合
      */
     @Test
-    void testIsValidRole_CriticalExceptionThrown() throws Exception {
-        try (
-                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
-                MockedStatic<ErrorHandler> errMock = mockStatic(ErrorHandler.class);
-                MockedStatic<Main> mainMock = mockStatic(Main.class)) {
-            dbMock.when(DatabaseProvider::getConnection)
-                    .thenThrow(new CriticalException("critical"));
-
-            Main dummyMain = mock(Main.class);
-            mainMock.when(Main::getInstance).thenReturn(dummyMain);
-            errMock.when(() -> ErrorHandler.handleCriticalError(any(), anyString(), any()))
-                    .thenAnswer(_ -> null);
+    void testGetAllRoles_SQLException() throws Exception {
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
+            Connection mockConn = mock(Connection.class);
+            dbMock.when(DatabaseProvider::getConnection).thenReturn(mockConn);
+            when(mockConn.prepareStatement(any())).thenThrow(new SQLException("Simulated error"));
 
-            boolean result = PlayerRoleDao.isValidRole(1);
-            assertFalse(result);
-            errMock.verify(() -> ErrorHandler.handleCriticalError(any(), anyString(), any()), times(1));
+            assertTrue(PlayerRoleDao.getAllRoles().isEmpty());
+            logMock.verify(() -> LogWriter.writeError(contains("ロール一覧"), any()));
         }
     }
 
     /**
-     * 指定ロール検証時にCriticalExceptionが発生する場合（パターン②）
+     * 全ロール取得時にCriticalExceptionが発生する場合
      */
     @Test
-    void testIsValidRole_CriticalException() throws Exception {
-        try (
-                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+    void testGetAllRoles_CriticalException() throws Exception {
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
                 MockedStatic<ErrorHandler> errorMock = mockStatic(ErrorHandler.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenThrow(new CriticalException("error"));
+            errorMock.when(() -> ErrorHandler.handleCriticalError(any(), anyString(), any())).thenAnswer(_ -> null);
 
-            dbMock.when(DatabaseProvider::getConnection)
-                    .thenThrow(new CriticalException("Critical error"));
-            errorMock.when(() -> ErrorHandler.handleCriticalError(any(), anyString(), any()))
-                    .thenAnswer(_ -> null);
-
-            boolean result = PlayerRoleDao.isValidRole(5);
-            assertFalse(result);
+            assertTrue(PlayerRoleDao.getAllRoles().isEmpty());
         }
     }
 
     /**
-     * ロールIDからRoleDataが取得できる場合
+     * ロール最終更新日時が取得できる場合
      */
     @Test
-    void testFindRoleByRoleId_ReturnsRoleData() throws Exception {
+    void testFindRolesLastUpdated_ReturnsTimestamp() throws Exception {
+        Timestamp latest = new Timestamp(1_700_000_000_000L);
         when(conn.prepareStatement(any())).thenReturn(stmt);
         when(stmt.executeQuery()).thenReturn(rs);
         when(rs.next()).thenReturn(true);
-        when(rs.getInt("id")).thenReturn(10);
-        when(rs.getString("role_details")).thenReturn("特別な権限");
-        when(rs.getString("login_text")).thenReturn("ようこそ %s");
-        when(rs.getString("logout_text")).thenReturn("さようなら %s");
-        when(rs.getString("kick_text")).thenReturn("%s がキックされました");
-        when(rs.getString("ban_text")).thenReturn("%s がBANされました");
-        when(rs.getTimestamp("update_time")).thenReturn(new Timestamp(System.currentTimeMillis()));
+        when(rs.getTimestamp(1)).thenReturn(latest);
 
         try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
             dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
-            RoleData role = PlayerRoleDao.findRoleByRoleId(99);
-            assertNotNull(role);
-            assertEquals("特別な権限", role.getRoleDetails());
+            assertEquals(latest, PlayerRoleDao.findRolesLastUpdated());
         }
     }
 
     /**
-     * ロールIDからRoleDataが見つからない場合
+     * ロール最終更新日時の結果行がない場合
      */
     @Test
-    void testFindRoleByRoleId_NotFound() throws Exception {
-        Connection conn = mock(Connection.class);
-        PreparedStatement stmt = mock(PreparedStatement.class);
-        ResultSet rs = mock(ResultSet.class);
-
+    void testFindRolesLastUpdated_NoRow() throws Exception {
         when(conn.prepareStatement(any())).thenReturn(stmt);
         when(stmt.executeQuery()).thenReturn(rs);
         when(rs.next()).thenReturn(false);
 
         try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
             dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
-            assertNull(PlayerRoleDao.findRoleByRoleId(1));
+            assertNull(PlayerRoleDao.findRolesLastUpdated());
         }
     }
 
     /**
-     * ロール検索時にSQLExceptionが発生する場合
+     * ロール最終更新日時の取得時にSQLExceptionが発生する場合
      */
     @Test
-    void testFindRoleByRoleId_SQLException() throws Exception {
-        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
+    void testFindRolesLastUpdated_SQLException() throws Exception {
+        try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<LogWriter> logMock = mockStatic(LogWriter.class)) {
             Connection mockConn = mock(Connection.class);
             dbMock.when(DatabaseProvider::getConnection).thenReturn(mockConn);
             when(mockConn.prepareStatement(any())).thenThrow(new SQLException("Simulated error"));
 
-            assertNull(PlayerRoleDao.findRoleByRoleId(1));
+            assertNull(PlayerRoleDao.findRolesLastUpdated());
+            logMock.verify(() -> LogWriter.writeError(contains("ロール最終更新日時"), any()));
         }
     }
 
     /**
-     * ロール検索時にCriticalExceptionが発生する場合
+     * ロール最終更新日時の取得時にCriticalExceptionが発生する場合
      */
     @Test
-    void testFindRoleByRoleId_CriticalException() throws Exception {
+    void testFindRolesLastUpdated_CriticalException() throws Exception {
         try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
                 MockedStatic<ErrorHandler> errorMock = mockStatic(ErrorHandler.class)) {
             dbMock.when(DatabaseProvider::getConnection).thenThrow(new CriticalException("error"));
             errorMock.when(() -> ErrorHandler.handleCriticalError(any(), anyString(), any())).thenAnswer(_ -> null);
 
-            assertNull(PlayerRoleDao.findRoleByRoleId(1));
+            assertNull(PlayerRoleDao.findRolesLastUpdated());
         }
     }
 
@@ -567,6 +609,28 @@ class PlayerRoleDaoTest {
         }
     }
 
+    /**
+     * DBに接続できない場合はプレイヤー情報・ロール一覧・プレイヤー一覧をローカルスナップショットから取得する場合
+     */
+    @Test
+    void testReads_FallBackToLocalSnapshot() {
+        PlayerData player = new PlayerData(1, "Steve", 2, uuid, new Date());
+        RoleData role = new RoleData(1, 2, "管理者", "login", "logout", "kick", "ban", new Date());
+        try (
+                MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class);
+                MockedStatic<LocalSnapshotStore> snapshotMock = mockStatic(LocalSnapshotStore.class);
+                MockedStatic<LogWriter> _ = mockStatic(LogWriter.class)) {
+            dbMock.when(DatabaseProvider::getConnection).thenThrow(new SQLTransientConnectionException("down"));
+            snapshotMock.when(() -> LocalSnapshotStore.findPlayer(uuid)).thenReturn(player);
+            snapshotMock.when(LocalSnapshotStore::getRoles).thenReturn(List.of(role));
+            snapshotMock.when(LocalSnapshotStore::getPlayers).thenReturn(List.of(player));
+
+            assertSame(player, PlayerRoleDao.findPlayerByUUID(uuid));
+            assertEquals(List.of(role), PlayerRoleDao.getAllRoles());
+            assertEquals(List.of(player), PlayerRoleDao.getAllPlayers());
+        }
+    }
+
     /**
      * 全プレイヤー取得時にCriticalExceptionが発生する場合
      */
@@ -593,8 +657,12 @@ class PlayerRoleDaoTest {
 
         try (MockedStatic<DatabaseProvider> dbMock = mockStatic(DatabaseProvider.class)) {
             dbMock.when(DatabaseProvider::getConnection).thenReturn(conn);
-            int result = PlayerRoleDao.deleteInactivePlayers(30);
+            int result = PlayerRoleDao.deleteInactivePlayers(30, 100);
             assertEquals(2, result);
+
+            verify(conn).prepareStatement(contains("ORDER BY update_time, id LIMIT ?"));
+            verify(stmt).setInt(1, 30);
+            verify(stmt).setInt(2, 100);
         }
     }
 
@@ -608,7 +676,7 @@ class PlayerRoleDaoTest {
             dbMock.when(DatabaseProvider::getConnection).thenReturn(mockConn);
             when(mockConn.prepareStatement(any())).thenThrow(new SQLException("Simulated error"));
 
-            int result = PlayerRoleDao.deleteInactivePlayers(30);
+            int result = PlayerRoleDao.deleteInactivePlayers(30, 100);
             assertEquals(0, result);
         }
     }
@@ -623,7 +691,7 @@ class PlayerRoleDaoTest {
             dbMock.when(DatabaseProvider::getConnection).thenThrow(new CriticalException("error"));
             errorMock.when(() -> ErrorHandler.handleCriticalError(any(), anyString(), any())).thenAnswer(_ -> null);
 
-            int deleted = PlayerRoleDao.deleteInactivePlayers(30);
+            int deleted = PlayerRoleDao.deleteInactivePlayers(30, 100);
             assertEquals(0, deleted);
         }
     }
@@ -0,0 +1,527 @@
+/*
+######################################################################################################################################################
+# ファイル   : PlayerWriteBehindTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# V-002      : 2026/10/18                 Gamer-Iris   DB接続の復旧時の即時再反映と、UUID指定での未反映の書き込みの参照のテストを追加
+# V-003      : 2026/10/18                 Gamer-Iris   停止時の通知先の差し替えと、通知の失敗で停止処理が中断しないことのテストを追加
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.repository;
+
+import com.gamer_iris.Main;
+import com.gamer_iris.config.ConfigManager;
+import com.gamer_iris.exception.CriticalException;
+import com.gamer_iris.logging.LogWriter;
+import com.gamer_iris.model.PlayerData;
+import com.gamer_iris.repository.PlayerWriteBehind.PendingWrite;
+import com.gamer_iris.repository.PlayerWriteBehind.Type;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * PlayerWriteBehind のユニットテストクラス
+ */
+class PlayerWriteBehindTest {
+
+    @TempDir
+    Path tempDir;
+
+    private MockedStatic<PlayerRoleDao> daoMock;
+    private MockedStatic<ConfigManager> configMock;
+    private MockedStatic<LogWriter> logMock;
+    private Path journal;
+    private List<List<PendingWrite>> applied;
+    private List<UUID> written;
+    private UUID uuid;
+
+    /**
+     * 各テスト前の初期化処理（DBへの反映内容を記録し、ジャーナルを一時ディレクトリに作成）
+     */
+    @BeforeEach
+    void setUp() {
+        PlayerWriteBehind.clear();
+        daoMock = mockStatic(PlayerRoleDao.class);
+        configMock = mockStatic(ConfigManager.class);
+        logMock = mockStatic(LogWriter.class);
+        configMock.when(ConfigManager::getPlayerWriteMaxBatchSize).thenReturn(500);
+        configMock.when(ConfigManager::getPlayerWriteRetryInitialMillis).thenReturn(1000);
+        configMock.when(ConfigManager::getPlayerWriteRetryMaxMillis).thenReturn(60000);
+
+        applied = new ArrayList<>();
+        written = new ArrayList<>();
+        daoMock.when(() -> PlayerRoleDao.applyWrites(any())).thenAnswer(invocation -> {
+            applied.add(List.copyOf(invocation.<List<PendingWrite>>getArgument(0)));
+            return null;
+        });
+        journal = tempDir.resolve("data").resolve("player-writes.journal");
+        PlayerWriteBehind.open(journal, written::add);
+        uuid = UUID.randomUUID();
+    }
+
+    /**
+     * 各テスト後の未反映分の破棄とモック解放
+     */
+    @AfterEach
+    void tearDown() {
+        PlayerWriteBehind.clear();
+        logMock.close();
+        configMock.close();
+        daoMock.close();
+    }
+
+    /**
+     * コンストラクタカバレッジテスト
+     */
+    @Test
+    void testPlayerWriteBehindConstructor_CoverageOnly() {
+        new PlayerWriteBehind();
+    }
+
+    /**
+     * 受け付けた書き込みがバッチでDBへ反映され、ジャーナルが空になり通知される場合
+     */
+    @Test
+    void testFlush_AppliesPendingWrites() throws Exception {
+        UUID other = UUID.randomUUID();
+        assertTrue(PlayerWriteBehind.upsert(uuid, "Steve", 2));
+        assertTrue(PlayerWriteBehind.delete(other));
+        assertEquals(2, Files.readAllLines(journal).size());
+
+        PlayerWriteBehind.flush();
+
+        assertEquals(1, applied.size());
+        assertEquals(List.of(uuid, other), applied.get(0).stream().map(write -> write.uuid).toList());
+        assertEquals(0, PlayerWriteBehind.size());
+        assertEquals(List.of(uuid, other), written);
+        assertEquals(0, Files.size(journal));
+    }
+
+    /**
+     * 未反映の書き込みが無い場合はDBへアクセスしない場合
+     */
+    @Test
+    void testFlush_Empty() {
+        PlayerWriteBehind.flush();
+
+        daoMock.verifyNoInteractions();
+        configMock.verify(ConfigManager::getPlayerWriteMaxBatchSize, never());
+    }
+
+    /**
+     * 同じUUIDへの書き込みが最新の1件にまとめられる場合
+     */
+    @Test
+    void testEnqueue_CoalescesSameUuid() {
+        UUID updated = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        UUID reRegistered = UUID.randomUUID();
+
+        PlayerWriteBehind.upsert(uuid, "Steve", 1);
+        PlayerWriteBehind.updateRole(uuid, 3);
+        PlayerWriteBehind.updateRole(updated, 1);
+        PlayerWriteBehind.updateRole(updated, 2);
+        PlayerWriteBehind.updateRole(deleted, 1);
+        PlayerWriteBehind.delete(deleted);
+        PlayerWriteBehind.updateRole(deleted, 2);
+        PlayerWriteBehind.delete(reRegistered);
+        PlayerWriteBehind.upsert(reRegistered, "Alex", 4);
+        assertEquals(4, PlayerWriteBehind.size());
+
+        PlayerWriteBehind.flush();
+
+        List<PendingWrite> batch = applied.get(0);
+        assertWrite(batch.get(0), Type.UPSERT, uuid, "Steve", 3);
+        assertWrite(batch.get(1), Type.UPDATE_ROLE, updated, null, 2);
+        assertWrite(batch.get(2), Type.DELETE, deleted, null, 0);
+        assertWrite(batch.get(3), Type.UPSERT, reRegistered, "Alex", 4);
+    }
+
+    /**
+     * 上限件数ごとに分けて反映される場合
+     */
+    @Test
+    void testFlush_SplitsByMaxBatchSize() {
+        configMock.when(ConfigManager::getPlayerWriteMaxBatchSize).thenReturn(2);
+        for (int i = 0; i < 5; i++) {
+            PlayerWriteBehind.updateRole(UUID.randomUUID(), 1);
+        }
+
+        PlayerWriteBehind.flush();
+
+        assertEquals(List.of(2, 2, 1), applied.stream().map(List::size).toList());
+        assertEquals(0, PlayerWriteBehind.size());
+    }
+
+    /**
+     * 反映中に同じUUIDへ新しい書き込みがあった場合は新しい書き込みが残る場合
+     */
+    @Test
+    void testFlush_KeepsWriteQueuedDuringApply() {
+        PlayerWriteBehind.updateRole(uuid, 1);
+        daoMock.when(() -> PlayerRoleDao.applyWrites(any())).thenAnswer(_ -> {
+            PlayerWriteBehind.updateRole(uuid, 2);
+            return null;
+        });
+
+        PlayerWriteBehind.flush();
+
+        assertEquals(1, PlayerWriteBehind.size());
+        assertEquals(List.of(uuid), written);
+    }
+
+    /**
+     * 反映に失敗した場合は書き込みを保持し、待機時間を倍増させながら再試行する場合
+     */
+    @Test
+    void testFlush_RetriesWithBackoff() throws Exception {
+        configMock.when(ConfigManager::getPlayerWriteRetryInitialMillis).thenReturn(1);
+        configMock.when(ConfigManager::getPlayerWriteRetryMaxMillis).thenReturn(4);
+        daoMock.when(() -> PlayerRoleDao.applyWrites(any())).thenThrow(new SQLTransientConnectionException("down"));
+        PlayerWriteBehind.upsert(uuid, "Steve", 2);
+
+        for (int i = 0; i < 4; i++) {
+            PlayerWriteBehind.flush();
+            Thread.sleep(10);
+        }
+
+        assertEquals(1, PlayerWriteBehind.size());
+        assertTrue(written.isEmpty());
+        logMock.verify(() -> LogWriter.writeWarn(contains("1ミリ秒後に再試行")));
+        logMock.verify(() -> LogWriter.writeWarn(contains("2ミリ秒後に再試行")));
+        logMock.verify(() -> LogWriter.writeWarn(contains("4ミリ秒後に再試行")), times(2));
+        assertEquals(1, Files.readAllLines(journal).size());
+    }
+
+    /**
+     * 再試行の待機中はDBへアクセスしない場合
+     */
+    @Test
+    void testFlush_SkipsWhileWaitingForRetry() {
+        daoMock.when(() -> PlayerRoleDao.applyWrites(any())).thenThrow(new CriticalException("no env"));
+        PlayerWriteBehind.delete(uuid);
+
+        PlayerWriteBehind.flush();
+        PlayerWriteBehind.flush();
+
+        daoMock.verify(() -> PlayerRoleDao.applyWrites(any()), times(1));
+        logMock.verify(() -> LogWriter.writeWarn(contains("1000ミリ秒後に再試行します（未反映: 1件）")));
+    }
+
+    /**
+     * DB接続の復旧時は再試行の待機を打ち切って直ちに反映する場合
+     */
+    @Test
+    void testRetryNow_IgnoresBackoff() {
+        daoMock.when(() -> PlayerRoleDao.applyWrites(any())).thenThrow(new SQLTransientConnectionException("down"));
+        PlayerWriteBehind.upsert(uuid, "Steve", 2);
+        PlayerWriteBehind.flush();
+        daoMock.when(() -> PlayerRoleDao.applyWrites(any())).thenAnswer(_ -> null);
+
+        PlayerWriteBehind.flush();
+        assertEquals(1, PlayerWriteBehind.size());
+        PlayerWriteBehind.retryNow();
+
+        assertEquals(0, PlayerWriteBehind.size());
+        assertEquals(List.of(uuid), written);
+    }
+
+    /**
+     * バッチがデータ不正で拒否された場合は1件ずつ反映し、拒否された書き込みのみ破棄する場合
+     */
+    @Test
+    void testFlush_DropsRejectedWrite() {
+        UUID rejected = UUID.randomUUID();
+        daoMock.when(() -> PlayerRoleDao.applyWrites(any())).thenAnswer(invocation -> {
+            List<PendingWrite> writes = invocation.getArgument(0);
+            if (writes.stream().anyMatch(write -> write.uuid.equals(rejected))) {
+                throw new SQLException("batch", new SQLIntegrityConstraintViolationException("duplicate"));
+            }
+            applied.add(List.copyOf(writes));
+            return null;
+        });
+        PlayerWriteBehind.upsert(uuid, "Steve", 2);
+        PlayerWriteBehind.upsert(rejected, "Steve", 2);
+
+        PlayerWriteBehind.flush();
+
+        assertEquals(List.of(List.of(uuid)), applied.stream().map(b -> b.stream().map(w -> w.uuid).toList()).toList());
+        assertEquals(0, PlayerWriteBehind.size());
+        assertEquals(List.of(uuid, rejected), written);
+        logMock.verify(() -> LogWriter.writeError(contains("破棄しました: " + rejected), any()));
+    }
+
+    /**
+     * 1件ずつの反映中に接続障害が起きた場合は残りを保持して再試行を待つ場合
+     */
+    @Test
+    void testFlush_StopsIndividualApplyOnTransientFailure() {
+        UUID rejected = UUID.randomUUID();
+        UUID pendingUuid = UUID.randomUUID();
+        daoMock.when(() -> PlayerRoleDao.applyWrites(any())).thenAnswer(invocation -> {
+            List<PendingWrite> writes = invocation.getArgument(0);
+            if (writes.size() > 1 || writes.get(0).uuid.equals(rejected)) {
+                throw new SQLIntegrityConstraintViolationException("duplicate");
+            }
+            if (writes.get(0).uuid.equals(pendingUuid)) {
+                throw new SQLTransientConnectionException("down");
+            }
+            return null;
+        });
+        PlayerWriteBehind.updateRole(uuid, 1);
+        PlayerWriteBehind.updateRole(rejected, 1);
+        PlayerWriteBehind.updateRole(pendingUuid, 1);
+
+        PlayerWriteBehind.flush();
+
+        assertEquals(1, PlayerWriteBehind.size());
+        assertEquals(List.of(uuid, rejected), written);
+        logMock.verify(() -> LogWriter.writeWarn(contains("再試行します（未反映: 1件）")));
+    }
+
+    /**
+     * 未反映の書き込みを考慮して登録済みかを判定する場合
+     */
+    @Test
+    void testIsRegistered() {
+        UUID deleted = UUID.randomUUID();
+        UUID stored = UUID.randomUUID();
+        daoMock.when(() -> PlayerRoleDao.findPlayerByUUID(stored)).thenReturn(mock(PlayerData.class));
+        PlayerWriteBehind.upsert(uuid, "Steve", 2);
+        PlayerWriteBehind.delete(deleted);
+
+        assertTrue(PlayerWriteBehind.isRegistered(uuid));
+        assertFalse(PlayerWriteBehind.isRegistered(deleted));
+        assertTrue(PlayerWriteBehind.isRegistered(stored));
+        assertFalse(PlayerWriteBehind.isRegistered(UUID.randomUUID()));
+        daoMock.verify(() -> PlayerRoleDao.findPlayerByUUID(uuid), never());
+    }
+
+    /**
+     * UUID指定で、同じUUIDへの書き込みをまとめた未反映の内容を参照できる場合
+     */
+    @Test
+    void testFind() {
+        PlayerWriteBehind.upsert(uuid, "Steve", 2);
+        PlayerWriteBehind.updateRole(uuid, 3);
+
+        PendingWrite write = PlayerWriteBehind.find(uuid);
+
+        assertEquals(Type.UPSERT, write.type);
+        assertEquals("Steve", write.playerName);
+        assertEquals(3, write.role);
+        assertNull(PlayerWriteBehind.find(UUID.randomUUID()));
+    }
+
+    /**
+     * 再起動後にジャーナルから未反映の書き込みが復元される場合
+     */
+    @Test
+    void testOpen_RestoresFromJournal() throws Exception {
+        PlayerWriteBehind.upsert(uuid, "Steve", 1);
+        PlayerWriteBehind.updateRole(uuid, 4);
+        PlayerWriteBehind.clear();
+
+        PlayerWriteBehind.open(journal, written::add);
+
+        assertEquals(1, PlayerWriteBehind.size());
+        assertEquals(1, Files.readAllLines(journal).size());
+        logMock.verify(() -> LogWriter.writeInfo(contains("復元しました: 1件")));
+        PlayerWriteBehind.flush();
+        assertWrite(applied.get(0).get(0), Type.UPSERT, uuid, "Steve", 4);
+    }
+
+    /**
+     * ジャーナルの不正な行と書き込み途中の末尾の行が読み飛ばされる場合
+     */
+    @Test
+    void testOpen_SkipsInvalidAndTruncatedLines() throws Exception {
+        PlayerWriteBehind.clear();
+        Files.createDirectories(journal.getParent());
+        Files.writeString(journal, String.join("\n",
+                "D\t" + uuid + "\t0\t",
+                "X\t" + uuid + "\t0\t",
+                "R\tnot-a-uuid\t1\t",
+                "R\t" + uuid + "\t1",
+                "U\t" + UUID.randomUUID() + "\t2\tSte"), StandardCharsets.UTF_8);
+
+        PlayerWriteBehind.open(journal, written::add);
+
+        assertEquals(1, PlayerWriteBehind.size());
+        assertFalse(PlayerWriteBehind.isRegistered(uuid));
+        logMock.verify(() -> LogWriter.writeWarn(contains("不正な行を 3 件読み飛ばしました")));
+        assertEquals(List.of("D\t" + uuid + "\t0\t"), Files.readAllLines(journal));
+    }
+
+    /**
+     * 改行を含まないジャーナルの場合は何も復元しない場合
+     */
+    @Test
+    void testOpen_NoCompleteLine() throws Exception {
+        PlayerWriteBehind.clear();
+        Files.createDirectories(journal.getParent());
+        Files.writeString(journal, "D\t" + uuid, StandardCharsets.UTF_8);
+
+        PlayerWriteBehind.open(journal, written::add);
+
+        assertEquals(0, PlayerWriteBehind.size());
+        logMock.verify(() -> LogWriter.writeInfo(any()), never());
+    }
+
+    /**
+     * ジャーナルを読み込めない場合はエラーを出力する場合
+     */
+    @Test
+    void testOpen_ReadFailure() throws Exception {
+        PlayerWriteBehind.clear();
+        Files.createDirectories(journal);
+
+        PlayerWriteBehind.open(journal, written::add);
+
+        logMock.verify(() -> LogWriter.writeError(contains("ジャーナルを読み込めませんでした"), any()));
+    }
+
+    /**
+     * ジャーナルを開いていない場合は書き込みを受け付けない場合
+     */
+    @Test
+    void testEnqueue_FailsWithoutJournal() {
+        PlayerWriteBehind.clear();
+
+        assertFalse(PlayerWriteBehind.updateRole(uuid, 2));
+        assertEquals(0, PlayerWriteBehind.size());
+        logMock.verify(() -> LogWriter.writeError(contains("ジャーナルへ記録できませんでした"), any()));
+    }
+
+    /**
+     * ジャーナルの書き直しに失敗しても反映済みの書き込みは除かれる場合
+     */
+    @Test
+    void testFlush_JournalRewriteFailure() throws Exception {
+        PlayerWriteBehind.delete(uuid);
+        Files.createDirectories(journal.resolveSibling(journal.getFileName() + ".tmp").resolve("blocker"));
+
+        PlayerWriteBehind.flush();
+
+        assertEquals(0, PlayerWriteBehind.size());
+        logMock.verify(() -> LogWriter.writeWarn(contains("ジャーナルを更新できませんでした")));
+    }
+
+    /**
+     * 起動時に定期反映が登録され、停止時に未反映分が反映されてジャーナルが閉じられる場合
+     */
+    @Test
+    void testStartAndStop() {
+        PlayerWriteBehind.clear();
+        Main plugin = mock(Main.class);
+        BukkitScheduler scheduler = mock(BukkitScheduler.class);
+        BukkitTask task = mock(BukkitTask.class);
+        when(plugin.getDataFolder()).thenReturn(tempDir.toFile());
+
+        try (
+                MockedStatic<Main> mainMock = mockStatic(Main.class);
+                MockedStatic<Bukkit> bukkitMock = mockStatic(Bukkit.class)) {
+            mainMock.when(Main::getInstance).thenReturn(plugin);
+            bukkitMock.when(Bukkit::getScheduler).thenReturn(scheduler);
+            configMock.when(ConfigManager::getPlayerWriteJournalFile).thenReturn("player-writes.journal");
+            configMock.when(ConfigManager::getPlayerWriteFlushIntervalMillis).thenReturn(500);
+            when(scheduler.runTaskTimerAsynchronously(eq(plugin), any(Runnable.class), anyLong(), anyLong()))
+                    .thenReturn(task);
+
+            List<UUID> notified = new ArrayList<>();
+            PlayerWriteBehind.start(notified::add);
+            assertTrue(PlayerWriteBehind.upsert(uuid, "Steve", 2));
+            assertTrue(Files.exists(tempDir.resolve("player-writes.journal")));
+            verify(scheduler).runTaskTimerAsynchronously(eq(plugin), any(Runnable.class), eq(10L), eq(10L));
+
+            configMock.when(ConfigManager::getPlayerWriteFlushIntervalMillis).thenReturn(10);
+            PlayerWriteBehind.reschedule();
+            verify(scheduler).runTaskTimerAsynchronously(eq(plugin), any(Runnable.class), eq(1L), eq(1L));
+
+            PlayerWriteBehind.stop(written::add);
+
+            verify(task, times(2)).cancel();
+            assertTrue(notified.isEmpty());
+            assertEquals(List.of(uuid), written);
+            assertFalse(PlayerWriteBehind.delete(uuid));
+        }
+    }
+
+    /**
+     * 停止時に反映できなかった書き込みはジャーナルに残る場合
+     */
+    @Test
+    void testStop_KeepsUnwrittenInJournal() throws Exception {
+        daoMock.when(() -> PlayerRoleDao.applyWrites(any())).thenThrow(new SQLTransientConnectionException("down"));
+        PlayerWriteBehind.updateRole(uuid, 2);
+
+        PlayerWriteBehind.stop(written::add);
+
+        logMock.verify(() -> LogWriter.writeWarn(contains("反映できなかったプレイヤー情報の書き込みが 1 件あります")));
+        assertEquals(0, PlayerWriteBehind.size());
+        assertEquals(List.of("R\t" + uuid + "\t2\t"), Files.readAllLines(journal));
+    }
+
+    /**
+     * 停止時の通知が失敗しても残りの通知と停止処理が続行される場合
+     */
+    @Test
+    void testStop_ListenerFailure_ContinuesShutdown() throws Exception {
+        UUID other = UUID.randomUUID();
+        PlayerWriteBehind.updateRole(uuid, 2);
+        PlayerWriteBehind.updateRole(other, 3);
+
+        PlayerWriteBehind.stop(target -> {
+            if (target.equals(uuid)) {
+                throw new IllegalStateException("scheduler closed");
+            }
+            written.add(target);
+        });
+
+        logMock.verify(() -> LogWriter.writeWarn(contains("書き込み後の通知に失敗しました: " + uuid + " scheduler closed")));
+        assertEquals(List.of(other), written);
+        assertEquals(0, PlayerWriteBehind.size());
+        assertEquals(0, Files.size(journal));
+    }
+
+    /**
+     * 書き込み内容を検証
+     * 
+     * @param write      書き込み
+     * @param type       期待する種類
+     * @param target     期待するUUID
+     * @param playerName 期待するプレイヤー名
+     * @param role       期待するロールID
+     */
+    private static void assertWrite(PendingWrite write, Type type, UUID target, String playerName, int role) {
+        assertEquals(type, write.type);
+        assertEquals(target, write.uuid);
+        assertEquals(playerName, write.playerName);
+        assertEquals(role, write.role);
+    }
+
+}
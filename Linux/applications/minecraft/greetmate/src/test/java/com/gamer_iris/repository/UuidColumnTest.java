@@ -0,0 +1,185 @@
+/*
+######################################################################################################################################################
+# ファイル   : UuidColumnTest.java
+# 
+#-----------------------------------------------------------------------------------------------------------------------------------------------------
+# [修正履歴]
+# V-001      : 2026/10/18                 Gamer-Iris   新規作成
+# 
+######################################################################################################################################################
+*/
+package com.gamer_iris.repository;
+
+import com.gamer_iris.repository.UuidColumn.Storage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * UuidColumn のユニットテストクラス
+ */
+class UuidColumnTest {
+
+    private static final UUID UUID_1 = UUID.fromString("0f8fad5b-d9cb-469f-a165-70867728950e");
+    private static final UUID UUID_2 = UUID.fromString("7c9e6679-7425-40de-944b-e07fc1f90ae7");
+
+    private PreparedStatement stmt;
+    private ResultSet rs;
+
+    /**
+     * 各テスト前の初期化処理
+     */
+    @BeforeEach
+    void setUp() {
+        stmt = mock(PreparedStatement.class);
+        rs = mock(ResultSet.class);
+    }
+
+    /**
+     * 保存形式を既定値へ戻す
+     */
+    @AfterEach
+    void tearDown() {
+        UuidColumn.configure(Storage.TEXT);
+    }
+
+    /**
+     * コンストラクタのカバレッジ確認
+     */
+    @Test
+    void testUuidColumnConstructor_CoverageOnly() {
+        new UuidColumn();
+    }
+
+    /**
+     * 設定値の文字列から保存形式を取得する場合
+     */
+    @Test
+    void testStorageFromName() {
+        assertEquals(Storage.TEXT, Storage.fromName("text"));
+        assertEquals(Storage.DUAL, Storage.fromName("Dual"));
+        assertEquals(Storage.BINARY, Storage.fromName("BINARY"));
+        assertNull(Storage.fromName("varchar"));
+        assertNull(Storage.fromName(null));
+    }
+
+    /**
+     * 16バイトへの変換がMariaDBの UNHEX(REPLACE(uuid, '-', '')) と同じ並びになる場合
+     */
+    @Test
+    void testToBytesAndFromBytes() {
+        byte[] bytes = UuidColumn.toBytes(UUID_1);
+
+        assertEquals("0f8fad5bd9cb469fa16570867728950e", HexFormat.of().formatHex(bytes));
+        assertEquals(UUID_1, UuidColumn.fromBytes(bytes));
+    }
+
+    /**
+     * TEXT形式の場合、uuid列のみを文字列で扱う場合
+     */
+    @Test
+    void testTextStorage() throws Exception {
+        UuidColumn.configure(Storage.TEXT);
+        when(rs.getString("uuid")).thenReturn(UUID_1.toString());
+
+        assertEquals(Storage.TEXT, UuidColumn.getStorage());
+        assertEquals("uuid", UuidColumn.columns());
+        assertEquals("?", UuidColumn.values());
+        assertEquals("uuid", UuidColumn.key());
+        assertEquals("uuid = ?", UuidColumn.match());
+        assertEquals("uuid IN (?, ?)", UuidColumn.in(2));
+        assertEquals(2, UuidColumn.bindMatch(stmt, 1, UUID_1));
+        assertEquals(4, UuidColumn.bindIn(stmt, 2, List.of(UUID_1, UUID_2)));
+        assertEquals(5, UuidColumn.bindValues(stmt, 4, UUID_2));
+        assertEquals(UUID_1, UuidColumn.read(rs));
+
+        verify(stmt).setString(1, UUID_1.toString());
+        verify(stmt).setString(2, UUID_1.toString());
+        verify(stmt).setString(3, UUID_2.toString());
+        verify(stmt).setString(4, UUID_2.toString());
+        verify(stmt, never()).setBytes(anyInt(), any());
+    }
+
+    /**
+     * BINARY形式の場合、uuid_bin列のみを16バイトで扱う場合
+     */
+    @Test
+    void testBinaryStorage() throws Exception {
+        UuidColumn.configure(Storage.BINARY);
+        when(rs.getBytes("uuid_bin")).thenReturn(UuidColumn.toBytes(UUID_2));
+
+        assertEquals("uuid_bin", UuidColumn.columns());
+        assertEquals("?", UuidColumn.values());
+        assertEquals("uuid_bin", UuidColumn.key());
+        assertEquals("uuid_bin = ?", UuidColumn.match());
+        assertEquals("uuid_bin IN (?)", UuidColumn.in(1));
+        assertEquals(2, UuidColumn.bindMatch(stmt, 1, UUID_1));
+        assertEquals(3, UuidColumn.bindIn(stmt, 2, List.of(UUID_2)));
+        assertEquals(4, UuidColumn.bindValues(stmt, 3, UUID_1));
+        assertEquals(UUID_2, UuidColumn.read(rs));
+
+        verify(stmt).setBytes(1, UuidColumn.toBytes(UUID_1));
+        verify(stmt).setBytes(2, UuidColumn.toBytes(UUID_2));
+        verify(stmt).setBytes(3, UuidColumn.toBytes(UUID_1));
+        verify(stmt, never()).setString(anyInt(), any());
+        verify(rs, never()).getString(any());
+    }
+
+    /**
+     * DUAL形式の場合、両方の列へ書き込み、両方の列で検索する場合
+     */
+    @Test
+    void testDualStorage() throws Exception {
+        UuidColumn.configure(Storage.DUAL);
+
+        assertEquals("uuid, uuid_bin", UuidColumn.columns());
+        assertEquals("?, ?", UuidColumn.values());
+        assertEquals("uuid", UuidColumn.key());
+        assertEquals("(uuid_bin = ? OR uuid = ?)", UuidColumn.match());
+        assertEquals("(uuid_bin IN (?, ?) OR uuid IN (?, ?))", UuidColumn.in(2));
+        assertEquals(3, UuidColumn.bindMatch(stmt, 1, UUID_1));
+        assertEquals(7, UuidColumn.bindIn(stmt, 3, List.of(UUID_1, UUID_2)));
+        assertEquals(9, UuidColumn.bindValues(stmt, 7, UUID_2));
+
+        verify(stmt).setBytes(1, UuidColumn.toBytes(UUID_1));
+        verify(stmt).setString(2, UUID_1.toString());
+        verify(stmt).setBytes(3, UuidColumn.toBytes(UUID_1));
+        verify(stmt).setBytes(4, UuidColumn.toBytes(UUID_2));
+        verify(stmt).setString(5, UUID_1.toString());
+        verify(stmt).setString(6, UUID_2.toString());
+        verify(stmt).setString(7, UUID_2.toString());
+        verify(stmt).setBytes(8, UuidColumn.toBytes(UUID_2));
+    }
+
+    /**
+     * DUAL形式でuuid_bin列が設定済みの行を読み取る場合
+     */
+    @Test
+    void testDualStorage_ReadsBinaryColumn() throws Exception {
+        UuidColumn.configure(Storage.DUAL);
+        when(rs.getBytes("uuid_bin")).thenReturn(UuidColumn.toBytes(UUID_1));
+
+        assertEquals(UUID_1, UuidColumn.read(rs));
+        verify(rs, never()).getString(any());
+    }
+
+    /**
+     * DUAL形式でuuid_bin列が未変換の行を読み取る場合
+     */
+    @Test
+    void testDualStorage_FallsBackToTextColumn() throws Exception {
+        UuidColumn.configure(Storage.DUAL);
+        when(rs.getBytes("uuid_bin")).thenReturn(null);
+        when(rs.getString("uuid")).thenReturn(UUID_2.toString());
+
+        assertEquals(UUID_2, UuidColumn.read(rs));
+    }
+
+}